@@ -33,11 +33,7 @@ module HighScoreService
         if input[:id].to_s.empty?
           raise ArgumentError, "HTTP label :id cannot be nil or empty."
         end
-        http_req.append_path(format(
-            '/high_scores/%<id>s',
-            id: Hearth::HTTP.uri_escape(input[:id].to_s)
-          )
-        )
+        http_req.append_path("/high_scores/#{Hearth::HTTP.uri_escape(input[:id].to_s)}")
         params = Hearth::Query::ParamList.new
         http_req.append_query_params(params)
       end
@@ -50,11 +46,7 @@ module HighScoreService
         if input[:id].to_s.empty?
           raise ArgumentError, "HTTP label :id cannot be nil or empty."
         end
-        http_req.append_path(format(
-            '/high_scores/%<id>s',
-            id: Hearth::HTTP.uri_escape(input[:id].to_s)
-          )
-        )
+        http_req.append_path("/high_scores/#{Hearth::HTTP.uri_escape(input[:id].to_s)}")
         params = Hearth::Query::ParamList.new
         http_req.append_query_params(params)
       end
@@ -87,11 +79,7 @@ module HighScoreService
         if input[:id].to_s.empty?
           raise ArgumentError, "HTTP label :id cannot be nil or empty."
         end
-        http_req.append_path(format(
-            '/high_scores/%<id>s',
-            id: Hearth::HTTP.uri_escape(input[:id].to_s)
-          )
-        )
+        http_req.append_path("/high_scores/#{Hearth::HTTP.uri_escape(input[:id].to_s)}")
         params = Hearth::Query::ParamList.new
         http_req.append_query_params(params)
 
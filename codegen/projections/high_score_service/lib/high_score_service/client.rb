@@ -34,6 +34,25 @@ module HighScoreService
       @stubs = Hearth::Stubbing::Stubs.new
       @retry_quota = Hearth::Retry::RetryQuota.new
       @client_rate_limiter = Hearth::Retry::ClientRateLimiter.new
+      @transport_client = transport_client({})
+      @operation_constants = {
+        create_high_score: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 201, errors: Set[Errors::UnprocessableEntityError].freeze)
+        }.freeze,
+        delete_high_score: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        get_high_score: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        list_high_scores: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        update_high_score: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[Errors::UnprocessableEntityError].freeze)
+        }.freeze
+      }.freeze
+      @middleware_stacks = {}
     end
 
     # Create a new high score
@@ -67,38 +86,41 @@ module HighScoreService
     #   resp.data.location #=> String
     #
     def create_high_score(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::CreateHighScoreInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::CreateHighScoreInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::CreateHighScore
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 201, errors: [Errors::UnprocessableEntityError]),
-        data_parser: Parsers::CreateHighScore
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::CreateHighScore,
-        stubs: @stubs,
-        params_class: Params::CreateHighScoreOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:create_high_score, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::CreateHighScoreInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::CreateHighScore
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::CreateHighScore,
+          error_parser: @operation_constants[:create_high_score][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::CreateHighScore,
+          stubs: @stubs,
+          params_class: Params::CreateHighScoreOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -135,38 +157,41 @@ module HighScoreService
     #   resp.data #=> Types::DeleteHighScoreOutput
     #
     def delete_high_score(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::DeleteHighScoreInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::DeleteHighScoreInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::DeleteHighScore
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::DeleteHighScore
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::DeleteHighScore,
-        stubs: @stubs,
-        params_class: Params::DeleteHighScoreOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:delete_high_score, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::DeleteHighScoreInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::DeleteHighScore
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::DeleteHighScore,
+          error_parser: @operation_constants[:delete_high_score][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::DeleteHighScore,
+          stubs: @stubs,
+          params_class: Params::DeleteHighScoreOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -209,38 +234,41 @@ module HighScoreService
     #   resp.data.high_score.updated_at #=> Time
     #
     def get_high_score(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::GetHighScoreInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::GetHighScoreInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::GetHighScore
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::GetHighScore
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::GetHighScore,
-        stubs: @stubs,
-        params_class: Params::GetHighScoreOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:get_high_score, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::GetHighScoreInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::GetHighScore
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::GetHighScore,
+          error_parser: @operation_constants[:get_high_score][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::GetHighScore,
+          stubs: @stubs,
+          params_class: Params::GetHighScoreOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -279,38 +307,41 @@ module HighScoreService
     #   resp.data.high_scores[0].updated_at #=> Time
     #
     def list_high_scores(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::ListHighScoresInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::ListHighScoresInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::ListHighScores
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::ListHighScores
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::ListHighScores,
-        stubs: @stubs,
-        params_class: Params::ListHighScoresOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:list_high_scores, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::ListHighScoresInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::ListHighScores
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::ListHighScores,
+          error_parser: @operation_constants[:list_high_scores][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::ListHighScores,
+          stubs: @stubs,
+          params_class: Params::ListHighScoresOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -360,38 +391,41 @@ module HighScoreService
     #   resp.data.high_score.updated_at #=> Time
     #
     def update_high_score(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::UpdateHighScoreInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::UpdateHighScoreInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::UpdateHighScore
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: [Errors::UnprocessableEntityError]),
-        data_parser: Parsers::UpdateHighScore
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::UpdateHighScore,
-        stubs: @stubs,
-        params_class: Params::UpdateHighScoreOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:update_high_score, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::UpdateHighScoreInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::UpdateHighScore
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::UpdateHighScore,
+          error_parser: @operation_constants[:update_high_score][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::UpdateHighScore,
+          stubs: @stubs,
+          params_class: Params::UpdateHighScoreOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -409,6 +443,27 @@ module HighScoreService
 
     private
 
+    def operation_stack(operation, options)
+      cacheable = options.each_key.all?(:output_stream)
+      version = Client.middleware.version
+      cached = @middleware_stacks[operation] if cacheable
+      return cached.last if cached && cached.first == version
+
+      stack = Hearth::MiddlewareStack.new
+      yield stack
+      apply_middleware(stack, options[:middleware])
+      return stack unless cacheable
+
+      @middleware_stacks[operation] = [version, stack.freeze]
+      stack
+    end
+
+    def transport_client(options)
+      return @transport_client if @transport_client && !options.key?(:http_wire_trace)
+
+      Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace), http_max_connections: @config.http_max_connections, http_idle_timeout: @config.http_idle_timeout)
+    end
+
     def apply_middleware(middleware_stack, middleware)
       Client.middleware.apply(middleware_stack)
       @middleware.apply(middleware_stack)
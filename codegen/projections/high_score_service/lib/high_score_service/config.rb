@@ -18,9 +18,18 @@ module HighScoreService
   #   @option args [String] :endpoint
   #     Endpoint of the service
   #
+  #   @option args [Numeric] :http_idle_timeout (5)
+  #     Number of seconds an idle connection is kept open for reuse.
+  #
+  #   @option args [Integer] :http_max_connections (10)
+  #     The maximum number of idle connections kept open per endpoint for reuse by later requests. Set to 0 to open a new connection for every request.
+  #
   #   @option args [Boolean] :http_wire_trace (false)
   #     Enable debug wire trace on http requests.
   #
+  #   @option args [Symbol] :json_engine (:stdlib)
+  #     The engine used to parse and serialize JSON. Supported engines are `:stdlib` (the json standard library) and `:oj` (requires the oj gem).
+  #
   #   @option args [Symbol] :log_level (:info)
   #     Default log level to use
   #
@@ -50,9 +59,18 @@ module HighScoreService
   # @!attribute endpoint
   #   @return [String]
   #
+  # @!attribute http_idle_timeout
+  #   @return [Numeric]
+  #
+  # @!attribute http_max_connections
+  #   @return [Integer]
+  #
   # @!attribute http_wire_trace
   #   @return [Boolean]
   #
+  # @!attribute json_engine
+  #   @return [Symbol]
+  #
   # @!attribute log_level
   #   @return [Symbol]
   #
@@ -75,7 +93,10 @@ module HighScoreService
     :adaptive_retry_wait_to_fill,
     :disable_host_prefix,
     :endpoint,
+    :http_idle_timeout,
+    :http_max_connections,
     :http_wire_trace,
+    :json_engine,
     :log_level,
     :logger,
     :max_attempts,
@@ -92,7 +113,10 @@ module HighScoreService
       Hearth::Validator.validate_types!(adaptive_retry_wait_to_fill, TrueClass, FalseClass, context: 'options[:adaptive_retry_wait_to_fill]')
       Hearth::Validator.validate_types!(disable_host_prefix, TrueClass, FalseClass, context: 'options[:disable_host_prefix]')
       Hearth::Validator.validate_types!(endpoint, String, context: 'options[:endpoint]')
+      Hearth::Validator.validate_types!(http_idle_timeout, Numeric, context: 'options[:http_idle_timeout]')
+      Hearth::Validator.validate_types!(http_max_connections, Integer, context: 'options[:http_max_connections]')
       Hearth::Validator.validate_types!(http_wire_trace, TrueClass, FalseClass, context: 'options[:http_wire_trace]')
+      Hearth::Validator.validate_types!(json_engine, Symbol, context: 'options[:json_engine]')
       Hearth::Validator.validate_types!(log_level, Symbol, context: 'options[:log_level]')
       Hearth::Validator.validate_types!(logger, Logger, context: 'options[:logger]')
       Hearth::Validator.validate_types!(max_attempts, Integer, context: 'options[:max_attempts]')
@@ -106,7 +130,10 @@ module HighScoreService
         adaptive_retry_wait_to_fill: [true],
         disable_host_prefix: [false],
         endpoint: [proc { |cfg| cfg[:stub_responses] ? 'http://localhost' : nil } ],
+        http_idle_timeout: [5],
+        http_max_connections: [10],
         http_wire_trace: [false],
+        json_engine: [:stdlib],
         log_level: [:info],
         logger: [proc { |cfg| Logger.new($stdout, level: cfg[:log_level]) } ],
         max_attempts: [3],
@@ -96,5 +96,10 @@ module HighScoreService
       attr_reader :data
     end
 
+    # @api private
+    ERROR_CLASSES = {
+      'UnprocessableEntityError' => UnprocessableEntityError
+    }.freeze
+
   end
 end
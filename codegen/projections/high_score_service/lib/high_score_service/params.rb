@@ -16,7 +16,7 @@ module HighScoreService
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = ErrorMessages.build(value, context: "#{context}[:#{key}]") unless value.nil?
+          data[key] = ErrorMessages.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
         data
       end
@@ -26,7 +26,7 @@ module HighScoreService
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::CreateHighScoreInput, context: context)
         type = Types::CreateHighScoreInput.new
-        type.high_score = HighScoreParams.build(params[:high_score], context: "#{context}[:high_score]") unless params[:high_score].nil?
+        type.high_score = HighScoreParams.build(params[:high_score], context: Hearth::Validator::Path.new(context, :high_score)) unless params[:high_score].nil?
         type
       end
     end
@@ -35,7 +35,7 @@ module HighScoreService
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::CreateHighScoreOutput, context: context)
         type = Types::CreateHighScoreOutput.new
-        type.high_score = HighScoreAttributes.build(params[:high_score], context: "#{context}[:high_score]") unless params[:high_score].nil?
+        type.high_score = HighScoreAttributes.build(params[:high_score], context: Hearth::Validator::Path.new(context, :high_score)) unless params[:high_score].nil?
         type.location = params[:location]
         type
       end
@@ -82,7 +82,7 @@ module HighScoreService
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::GetHighScoreOutput, context: context)
         type = Types::GetHighScoreOutput.new
-        type.high_score = HighScoreAttributes.build(params[:high_score], context: "#{context}[:high_score]") unless params[:high_score].nil?
+        type.high_score = HighScoreAttributes.build(params[:high_score], context: Hearth::Validator::Path.new(context, :high_score)) unless params[:high_score].nil?
         type
       end
     end
@@ -115,7 +115,7 @@ module HighScoreService
         Hearth::Validator.validate_types!(params, ::Array, context: context)
         data = []
         params.each_with_index do |element, index|
-          data << HighScoreAttributes.build(element, context: "#{context}[#{index}]") unless element.nil?
+          data << HighScoreAttributes.build(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
         data
       end
@@ -133,7 +133,7 @@ module HighScoreService
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::ListHighScoresOutput, context: context)
         type = Types::ListHighScoresOutput.new
-        type.high_scores = HighScores.build(params[:high_scores], context: "#{context}[:high_scores]") unless params[:high_scores].nil?
+        type.high_scores = HighScores.build(params[:high_scores], context: Hearth::Validator::Path.new(context, :high_scores)) unless params[:high_scores].nil?
         type
       end
     end
@@ -142,7 +142,7 @@ module HighScoreService
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::UnprocessableEntityError, context: context)
         type = Types::UnprocessableEntityError.new
-        type.errors = AttributeErrors.build(params[:errors], context: "#{context}[:errors]") unless params[:errors].nil?
+        type.errors = AttributeErrors.build(params[:errors], context: Hearth::Validator::Path.new(context, :errors)) unless params[:errors].nil?
         type
       end
     end
@@ -152,7 +152,7 @@ module HighScoreService
         Hearth::Validator.validate_types!(params, ::Hash, Types::UpdateHighScoreInput, context: context)
         type = Types::UpdateHighScoreInput.new
         type.id = params[:id]
-        type.high_score = HighScoreParams.build(params[:high_score], context: "#{context}[:high_score]") unless params[:high_score].nil?
+        type.high_score = HighScoreParams.build(params[:high_score], context: Hearth::Validator::Path.new(context, :high_score)) unless params[:high_score].nil?
         type
       end
     end
@@ -161,7 +161,7 @@ module HighScoreService
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::UpdateHighScoreOutput, context: context)
         type = Types::UpdateHighScoreOutput.new
-        type.high_score = HighScoreAttributes.build(params[:high_score], context: "#{context}[:high_score]") unless params[:high_score].nil?
+        type.high_score = HighScoreAttributes.build(params[:high_score], context: Hearth::Validator::Path.new(context, :high_score)) unless params[:high_score].nil?
         type
       end
     end
@@ -65,8 +65,8 @@ module HighScoreService
         data.id = map['id']
         data.game = map['game']
         data.score = map['score']
-        data.created_at = Time.parse(map['created_at']) if map['created_at']
-        data.updated_at = Time.parse(map['updated_at']) if map['updated_at']
+        data.created_at = Hearth::TimeHelper.from_date_time(map['created_at']) if map['created_at']
+        data.updated_at = Hearth::TimeHelper.from_date_time(map['updated_at']) if map['updated_at']
         return data
       end
     end
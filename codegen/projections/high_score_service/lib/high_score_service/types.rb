@@ -22,6 +22,14 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:high_score] = self.high_score.to_h unless self.high_score.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # Output structure for CreateHighScore
@@ -42,6 +50,15 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:high_score] = self.high_score.to_h unless self.high_score.nil?
+        hash[:location] = self.location unless self.location.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # Input structure for DeleteHighScore
@@ -56,6 +73,14 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:id] = self.id unless self.id.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # Output structure for DeleteHighScore
@@ -65,6 +90,11 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # Input structure for GetHighScore
@@ -79,6 +109,14 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:id] = self.id unless self.id.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # Output structure for GetHighScore
@@ -93,6 +131,14 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:high_score] = self.high_score.to_h unless self.high_score.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # Modeled attributes for a High Score
@@ -129,6 +175,18 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:id] = self.id unless self.id.nil?
+        hash[:game] = self.game unless self.game.nil?
+        hash[:score] = self.score unless self.score.nil?
+        hash[:created_at] = self.created_at unless self.created_at.nil?
+        hash[:updated_at] = self.updated_at unless self.updated_at.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # Permitted params for a High Score
@@ -149,6 +207,15 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:game] = self.game unless self.game.nil?
+        hash[:score] = self.score unless self.score.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     ListHighScoresInput = ::Struct.new(
@@ -156,6 +223,11 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # Output structure for ListHighScores
@@ -170,6 +242,14 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:high_scores] = super(self.high_scores) unless self.high_scores.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute errors
@@ -181,6 +261,14 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:errors] = super(self.errors) unless self.errors.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # Input structure for UpdateHighScore
@@ -201,6 +289,15 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:id] = self.id unless self.id.nil?
+        hash[:high_score] = self.high_score.to_h unless self.high_score.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # Output structure for UpdateHighScore
@@ -215,6 +312,14 @@ module HighScoreService
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:high_score] = self.high_score.to_h unless self.high_score.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
   end
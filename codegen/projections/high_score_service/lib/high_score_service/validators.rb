@@ -17,8 +17,8 @@ module HighScoreService
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          ErrorMessages.validate!(value, context: "#{context}[:#{key}]") unless value.nil?
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          ErrorMessages.validate!(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
       end
     end
@@ -26,24 +26,24 @@ module HighScoreService
     class CreateHighScoreInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::CreateHighScoreInput, context: context)
-        Hearth::Validator.validate_required!(input[:high_score], context: "#{context}[:high_score]")
-        HighScoreParams.validate!(input[:high_score], context: "#{context}[:high_score]") unless input[:high_score].nil?
+        Hearth::Validator.validate_required!(input[:high_score], context: Hearth::Validator::Path.new(context, :high_score))
+        HighScoreParams.validate!(input[:high_score], context: Hearth::Validator::Path.new(context, :high_score)) unless input[:high_score].nil?
       end
     end
 
     class CreateHighScoreOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::CreateHighScoreOutput, context: context)
-        HighScoreAttributes.validate!(input[:high_score], context: "#{context}[:high_score]") unless input[:high_score].nil?
-        Hearth::Validator.validate_types!(input[:location], ::String, context: "#{context}[:location]")
+        HighScoreAttributes.validate!(input[:high_score], context: Hearth::Validator::Path.new(context, :high_score)) unless input[:high_score].nil?
+        Hearth::Validator.validate_types!(input[:location], ::String, context: Hearth::Validator::Path.new(context, :location))
       end
     end
 
     class DeleteHighScoreInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::DeleteHighScoreInput, context: context)
-        Hearth::Validator.validate_required!(input[:id], context: "#{context}[:id]")
-        Hearth::Validator.validate_types!(input[:id], ::String, context: "#{context}[:id]")
+        Hearth::Validator.validate_required!(input[:id], context: Hearth::Validator::Path.new(context, :id))
+        Hearth::Validator.validate_types!(input[:id], ::String, context: Hearth::Validator::Path.new(context, :id))
       end
     end
 
@@ -57,7 +57,7 @@ module HighScoreService
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::String, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::String, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -65,34 +65,34 @@ module HighScoreService
     class GetHighScoreInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetHighScoreInput, context: context)
-        Hearth::Validator.validate_required!(input[:id], context: "#{context}[:id]")
-        Hearth::Validator.validate_types!(input[:id], ::String, context: "#{context}[:id]")
+        Hearth::Validator.validate_required!(input[:id], context: Hearth::Validator::Path.new(context, :id))
+        Hearth::Validator.validate_types!(input[:id], ::String, context: Hearth::Validator::Path.new(context, :id))
       end
     end
 
     class GetHighScoreOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetHighScoreOutput, context: context)
-        HighScoreAttributes.validate!(input[:high_score], context: "#{context}[:high_score]") unless input[:high_score].nil?
+        HighScoreAttributes.validate!(input[:high_score], context: Hearth::Validator::Path.new(context, :high_score)) unless input[:high_score].nil?
       end
     end
 
     class HighScoreAttributes
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HighScoreAttributes, context: context)
-        Hearth::Validator.validate_types!(input[:id], ::String, context: "#{context}[:id]")
-        Hearth::Validator.validate_types!(input[:game], ::String, context: "#{context}[:game]")
-        Hearth::Validator.validate_types!(input[:score], ::Integer, context: "#{context}[:score]")
-        Hearth::Validator.validate_types!(input[:created_at], ::Time, context: "#{context}[:created_at]")
-        Hearth::Validator.validate_types!(input[:updated_at], ::Time, context: "#{context}[:updated_at]")
+        Hearth::Validator.validate_types!(input[:id], ::String, context: Hearth::Validator::Path.new(context, :id))
+        Hearth::Validator.validate_types!(input[:game], ::String, context: Hearth::Validator::Path.new(context, :game))
+        Hearth::Validator.validate_types!(input[:score], ::Integer, context: Hearth::Validator::Path.new(context, :score))
+        Hearth::Validator.validate_types!(input[:created_at], ::Time, context: Hearth::Validator::Path.new(context, :created_at))
+        Hearth::Validator.validate_types!(input[:updated_at], ::Time, context: Hearth::Validator::Path.new(context, :updated_at))
       end
     end
 
     class HighScoreParams
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HighScoreParams, context: context)
-        Hearth::Validator.validate_types!(input[:game], ::String, context: "#{context}[:game]")
-        Hearth::Validator.validate_types!(input[:score], ::Integer, context: "#{context}[:score]")
+        Hearth::Validator.validate_types!(input[:game], ::String, context: Hearth::Validator::Path.new(context, :game))
+        Hearth::Validator.validate_types!(input[:score], ::Integer, context: Hearth::Validator::Path.new(context, :score))
       end
     end
 
@@ -100,7 +100,7 @@ module HighScoreService
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          HighScoreAttributes.validate!(element, context: "#{context}[#{index}]") unless element.nil?
+          HighScoreAttributes.validate!(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
       end
     end
@@ -114,30 +114,30 @@ module HighScoreService
     class ListHighScoresOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::ListHighScoresOutput, context: context)
-        HighScores.validate!(input[:high_scores], context: "#{context}[:high_scores]") unless input[:high_scores].nil?
+        HighScores.validate!(input[:high_scores], context: Hearth::Validator::Path.new(context, :high_scores)) unless input[:high_scores].nil?
       end
     end
 
     class UnprocessableEntityError
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::UnprocessableEntityError, context: context)
-        AttributeErrors.validate!(input[:errors], context: "#{context}[:errors]") unless input[:errors].nil?
+        AttributeErrors.validate!(input[:errors], context: Hearth::Validator::Path.new(context, :errors)) unless input[:errors].nil?
       end
     end
 
     class UpdateHighScoreInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::UpdateHighScoreInput, context: context)
-        Hearth::Validator.validate_required!(input[:id], context: "#{context}[:id]")
-        Hearth::Validator.validate_types!(input[:id], ::String, context: "#{context}[:id]")
-        HighScoreParams.validate!(input[:high_score], context: "#{context}[:high_score]") unless input[:high_score].nil?
+        Hearth::Validator.validate_required!(input[:id], context: Hearth::Validator::Path.new(context, :id))
+        Hearth::Validator.validate_types!(input[:id], ::String, context: Hearth::Validator::Path.new(context, :id))
+        HighScoreParams.validate!(input[:high_score], context: Hearth::Validator::Path.new(context, :high_score)) unless input[:high_score].nil?
       end
     end
 
     class UpdateHighScoreOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::UpdateHighScoreOutput, context: context)
-        HighScoreAttributes.validate!(input[:high_score], context: "#{context}[:high_score]") unless input[:high_score].nil?
+        HighScoreAttributes.validate!(input[:high_score], context: Hearth::Validator::Path.new(context, :high_score)) unless input[:high_score].nil?
       end
     end
 
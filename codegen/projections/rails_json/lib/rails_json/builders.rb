@@ -93,10 +93,8 @@ module RailsJson
     class ConstantAndVariableQueryString
       def self.build(http_req, input:)
         http_req.http_method = 'GET'
-        CGI.parse('foo=bar').each do |k,v|
-          v.each { |q_v| http_req.append_query_param(k, q_v) }
-        end
         http_req.append_path('/ConstantAndVariableQueryString')
+        http_req.append_query_string('foo=bar')
         params = Hearth::Query::ParamList.new
         params['baz'] = input[:baz].to_s unless input[:baz].nil?
         params['maybeSet'] = input[:maybe_set].to_s unless input[:maybe_set].nil?
@@ -108,17 +106,11 @@ module RailsJson
     class ConstantQueryString
       def self.build(http_req, input:)
         http_req.http_method = 'GET'
-        CGI.parse('foo=bar&hello').each do |k,v|
-          v.each { |q_v| http_req.append_query_param(k, q_v) }
-        end
         if input[:hello].to_s.empty?
           raise ArgumentError, "HTTP label :hello cannot be nil or empty."
         end
-        http_req.append_path(format(
-            '/ConstantQueryString/%<hello>s',
-            hello: Hearth::HTTP.uri_escape(input[:hello].to_s)
-          )
-        )
+        http_req.append_path("/ConstantQueryString/#{Hearth::HTTP.uri_escape(input[:hello].to_s)}")
+        http_req.append_query_string('foo=bar&hello')
         params = Hearth::Query::ParamList.new
         http_req.append_query_params(params)
       end
@@ -386,12 +378,7 @@ module RailsJson
         if input[:double].to_s.empty?
           raise ArgumentError, "HTTP label :double cannot be nil or empty."
         end
-        http_req.append_path(format(
-            '/FloatHttpLabels/%<float>s/%<double>s',
-            float: Hearth::HTTP.uri_escape(input[:float].to_s),
-            double: Hearth::HTTP.uri_escape(input[:double].to_s)
-          )
-        )
+        http_req.append_path("/FloatHttpLabels/#{Hearth::HTTP.uri_escape(input[:float].to_s)}/#{Hearth::HTTP.uri_escape(input[:double].to_s)}")
         params = Hearth::Query::ParamList.new
         http_req.append_query_params(params)
       end
@@ -407,12 +394,7 @@ module RailsJson
         if input[:baz].to_s.empty?
           raise ArgumentError, "HTTP label :baz cannot be nil or empty."
         end
-        http_req.append_path(format(
-            '/HttpRequestWithGreedyLabelInPath/foo/%<foo>s/baz/%<baz>s',
-            foo: Hearth::HTTP.uri_escape(input[:foo].to_s),
-            baz: (input[:baz].to_s).split('/').map { |s| Hearth::HTTP.uri_escape(s) }.join('/')
-          )
-        )
+        http_req.append_path("/HttpRequestWithGreedyLabelInPath/foo/#{Hearth::HTTP.uri_escape(input[:foo].to_s)}/baz/#{Hearth::HTTP.uri_escape_path(input[:baz].to_s)}")
         params = Hearth::Query::ParamList.new
         http_req.append_query_params(params)
       end
@@ -446,18 +428,7 @@ module RailsJson
         if Hearth::TimeHelper.to_date_time(input[:timestamp]).empty?
           raise ArgumentError, "HTTP label :timestamp cannot be nil or empty."
         end
-        http_req.append_path(format(
-            '/HttpRequestWithLabels/%<string>s/%<short>s/%<integer>s/%<long>s/%<float>s/%<double>s/%<boolean>s/%<timestamp>s',
-            string: Hearth::HTTP.uri_escape(input[:string].to_s),
-            short: Hearth::HTTP.uri_escape(input[:short].to_s),
-            integer: Hearth::HTTP.uri_escape(input[:integer].to_s),
-            long: Hearth::HTTP.uri_escape(input[:long].to_s),
-            float: Hearth::HTTP.uri_escape(input[:float].to_s),
-            double: Hearth::HTTP.uri_escape(input[:double].to_s),
-            boolean: Hearth::HTTP.uri_escape(input[:boolean].to_s),
-            timestamp: Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_date_time(input[:timestamp]))
-          )
-        )
+        http_req.append_path("/HttpRequestWithLabels/#{Hearth::HTTP.uri_escape(input[:string].to_s)}/#{Hearth::HTTP.uri_escape(input[:short].to_s)}/#{Hearth::HTTP.uri_escape(input[:integer].to_s)}/#{Hearth::HTTP.uri_escape(input[:long].to_s)}/#{Hearth::HTTP.uri_escape(input[:float].to_s)}/#{Hearth::HTTP.uri_escape(input[:double].to_s)}/#{Hearth::HTTP.uri_escape(input[:boolean].to_s)}/#{Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_date_time(input[:timestamp]))}")
         params = Hearth::Query::ParamList.new
         http_req.append_query_params(params)
       end
@@ -488,17 +459,7 @@ module RailsJson
         if Hearth::TimeHelper.to_date_time(input[:target_date_time]).empty?
           raise ArgumentError, "HTTP label :target_date_time cannot be nil or empty."
         end
-        http_req.append_path(format(
-            '/HttpRequestWithLabelsAndTimestampFormat/%<memberEpochSeconds>s/%<memberHttpDate>s/%<memberDateTime>s/%<defaultFormat>s/%<targetEpochSeconds>s/%<targetHttpDate>s/%<targetDateTime>s',
-            memberEpochSeconds: Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_epoch_seconds(input[:member_epoch_seconds]).to_i.to_s),
-            memberHttpDate: Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_http_date(input[:member_http_date])),
-            memberDateTime: Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_date_time(input[:member_date_time])),
-            defaultFormat: Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_date_time(input[:default_format])),
-            targetEpochSeconds: Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_epoch_seconds(input[:target_epoch_seconds]).to_i.to_s),
-            targetHttpDate: Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_http_date(input[:target_http_date])),
-            targetDateTime: Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_date_time(input[:target_date_time]))
-          )
-        )
+        http_req.append_path("/HttpRequestWithLabelsAndTimestampFormat/#{Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_epoch_seconds(input[:member_epoch_seconds]).to_i.to_s)}/#{Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_http_date(input[:member_http_date]))}/#{Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_date_time(input[:member_date_time]))}/#{Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_date_time(input[:default_format]))}/#{Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_epoch_seconds(input[:target_epoch_seconds]).to_i.to_s)}/#{Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_http_date(input[:target_http_date]))}/#{Hearth::HTTP.uri_escape(Hearth::TimeHelper.to_date_time(input[:target_date_time]))}")
         params = Hearth::Query::ParamList.new
         http_req.append_query_params(params)
       end
@@ -975,6 +936,21 @@ module RailsJson
       end
     end
 
+    # Operation Builder for PaginatedListOperation
+    class PaginatedListOperation
+      def self.build(http_req, input:)
+        http_req.http_method = 'POST'
+        http_req.append_path('/PaginatedListOperation')
+        params = Hearth::Query::ParamList.new
+        http_req.append_query_params(params)
+
+        http_req.headers['Content-Type'] = 'application/json'
+        data = {}
+        data[:next_token] = input[:next_token] unless input[:next_token].nil?
+        http_req.body = StringIO.new(Hearth::JSON.dump(data))
+      end
+    end
+
     # Operation Builder for QueryIdempotencyTokenAutoFill
     class QueryIdempotencyTokenAutoFill
       def self.build(http_req, input:)
@@ -1191,11 +1167,7 @@ module RailsJson
         if input[:member___123abc].to_s.empty?
           raise ArgumentError, "HTTP label :member___123abc cannot be nil or empty."
         end
-        http_req.append_path(format(
-            '/BadName/%<__123abc>s',
-            __123abc: Hearth::HTTP.uri_escape(input[:member___123abc].to_s)
-          )
-        )
+        http_req.append_path("/BadName/#{Hearth::HTTP.uri_escape(input[:member___123abc].to_s)}")
         params = Hearth::Query::ParamList.new
         http_req.append_query_params(params)
 
@@ -33,6 +33,121 @@ module RailsJson
       @stubs = Hearth::Stubbing::Stubs.new
       @retry_quota = Hearth::Retry::RetryQuota.new
       @client_rate_limiter = Hearth::Retry::ClientRateLimiter.new
+      @transport_client = transport_client({})
+      @operation_constants = {
+        all_query_string_types: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        constant_and_variable_query_string: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        constant_query_string: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        document_type: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        document_type_as_payload: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        empty_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        endpoint_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        endpoint_with_host_label_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        greeting_with_errors: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[Errors::InvalidGreeting, Errors::ComplexError].freeze)
+        }.freeze,
+        http_payload_traits: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        http_payload_traits_with_media_type: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        http_payload_with_structure: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        http_prefix_headers: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        http_prefix_headers_in_response: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        http_request_with_float_labels: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        http_request_with_greedy_label_in_path: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        http_request_with_labels: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        http_request_with_labels_and_timestamp_format: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        http_response_code: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        ignore_query_params_in_response: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        input_and_output_with_headers: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        json_enums: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        json_maps: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        json_unions: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        kitchen_sink_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[Errors::ErrorWithMembers, Errors::ErrorWithoutMembers].freeze)
+        }.freeze,
+        media_type_header: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        nested_attributes_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        null_and_empty_headers_client: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        null_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        omits_null_serializes_empty_string: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        operation_with_optional_input_output: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        paginated_list_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        query_idempotency_token_auto_fill: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        query_params_as_string_list_map: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        streaming_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        timestamp_format_headers: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        operation____789_bad_name: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze
+      }.freeze
+      @middleware_stacks = {}
     end
 
     # This example uses all query string types.
@@ -89,38 +204,41 @@ module RailsJson
     #   resp.data #=> Types::AllQueryStringTypesOutput
     #
     def all_query_string_types(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::AllQueryStringTypesInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::AllQueryStringTypesInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::AllQueryStringTypes
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::AllQueryStringTypes
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::AllQueryStringTypes,
-        stubs: @stubs,
-        params_class: Params::AllQueryStringTypesOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:all_query_string_types, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::AllQueryStringTypesInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::AllQueryStringTypes
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::AllQueryStringTypes,
+          error_parser: @operation_constants[:all_query_string_types][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::AllQueryStringTypes,
+          stubs: @stubs,
+          params_class: Params::AllQueryStringTypesOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -157,38 +275,41 @@ module RailsJson
     #   resp.data #=> Types::ConstantAndVariableQueryStringOutput
     #
     def constant_and_variable_query_string(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::ConstantAndVariableQueryStringInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::ConstantAndVariableQueryStringInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::ConstantAndVariableQueryString
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::ConstantAndVariableQueryString
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::ConstantAndVariableQueryString,
-        stubs: @stubs,
-        params_class: Params::ConstantAndVariableQueryStringOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:constant_and_variable_query_string, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::ConstantAndVariableQueryStringInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::ConstantAndVariableQueryString
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::ConstantAndVariableQueryString,
+          error_parser: @operation_constants[:constant_and_variable_query_string][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::ConstantAndVariableQueryString,
+          stubs: @stubs,
+          params_class: Params::ConstantAndVariableQueryStringOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -225,38 +346,41 @@ module RailsJson
     #   resp.data #=> Types::ConstantQueryStringOutput
     #
     def constant_query_string(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::ConstantQueryStringInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::ConstantQueryStringInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::ConstantQueryString
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::ConstantQueryString
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::ConstantQueryString,
-        stubs: @stubs,
-        params_class: Params::ConstantQueryStringOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:constant_query_string, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::ConstantQueryStringInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::ConstantQueryString
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::ConstantQueryString,
+          error_parser: @operation_constants[:constant_query_string][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::ConstantQueryString,
+          stubs: @stubs,
+          params_class: Params::ConstantQueryStringOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -300,38 +424,41 @@ module RailsJson
     #   resp.data.document_value #=> Hash,Array,String,Boolean,Numeric
     #
     def document_type(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::DocumentTypeInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::DocumentTypeInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::DocumentType
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::DocumentType
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::DocumentType,
-        stubs: @stubs,
-        params_class: Params::DocumentTypeOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:document_type, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::DocumentTypeInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::DocumentType
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::DocumentType,
+          error_parser: @operation_constants[:document_type][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::DocumentType,
+          stubs: @stubs,
+          params_class: Params::DocumentTypeOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -373,38 +500,41 @@ module RailsJson
     #   resp.data.document_value #=> Hash,Array,String,Boolean,Numeric
     #
     def document_type_as_payload(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::DocumentTypeAsPayloadInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::DocumentTypeAsPayloadInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::DocumentTypeAsPayload
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::DocumentTypeAsPayload
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::DocumentTypeAsPayload,
-        stubs: @stubs,
-        params_class: Params::DocumentTypeAsPayloadOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:document_type_as_payload, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::DocumentTypeAsPayloadInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::DocumentTypeAsPayload
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::DocumentTypeAsPayload,
+          error_parser: @operation_constants[:document_type_as_payload][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::DocumentTypeAsPayload,
+          stubs: @stubs,
+          params_class: Params::DocumentTypeAsPayloadOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -434,38 +564,41 @@ module RailsJson
     #   resp.data #=> Types::EmptyOperationOutput
     #
     def empty_operation(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::EmptyOperationInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::EmptyOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::EmptyOperation
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::EmptyOperation
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::EmptyOperation,
-        stubs: @stubs,
-        params_class: Params::EmptyOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:empty_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::EmptyOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::EmptyOperation
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::EmptyOperation,
+          error_parser: @operation_constants[:empty_operation][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::EmptyOperation,
+          stubs: @stubs,
+          params_class: Params::EmptyOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -495,42 +628,45 @@ module RailsJson
     #   resp.data #=> Types::EndpointOperationOutput
     #
     def endpoint_operation(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::EndpointOperationInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::EndpointOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::HostPrefix,
-        host_prefix: "foo.",
-        disable_host_prefix: @config.disable_host_prefix
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::EndpointOperation
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::EndpointOperation
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::EndpointOperation,
-        stubs: @stubs,
-        params_class: Params::EndpointOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:endpoint_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::EndpointOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::HostPrefix,
+          host_prefix: "foo.",
+          disable_host_prefix: @config.disable_host_prefix
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::EndpointOperation
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::EndpointOperation,
+          error_parser: @operation_constants[:endpoint_operation][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::EndpointOperation,
+          stubs: @stubs,
+          params_class: Params::EndpointOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -562,42 +698,45 @@ module RailsJson
     #   resp.data #=> Types::EndpointWithHostLabelOperationOutput
     #
     def endpoint_with_host_label_operation(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::EndpointWithHostLabelOperationInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::EndpointWithHostLabelOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::HostPrefix,
-        host_prefix: "foo.{label_member}.",
-        disable_host_prefix: @config.disable_host_prefix
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::EndpointWithHostLabelOperation
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::EndpointWithHostLabelOperation
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::EndpointWithHostLabelOperation,
-        stubs: @stubs,
-        params_class: Params::EndpointWithHostLabelOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:endpoint_with_host_label_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::EndpointWithHostLabelOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::HostPrefix,
+          host_prefix: "foo.{label_member}.",
+          disable_host_prefix: @config.disable_host_prefix
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::EndpointWithHostLabelOperation
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::EndpointWithHostLabelOperation,
+          error_parser: @operation_constants[:endpoint_with_host_label_operation][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::EndpointWithHostLabelOperation,
+          stubs: @stubs,
+          params_class: Params::EndpointWithHostLabelOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -637,38 +776,41 @@ module RailsJson
     #   resp.data.greeting #=> String
     #
     def greeting_with_errors(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::GreetingWithErrorsInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::GreetingWithErrorsInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::GreetingWithErrors
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: [Errors::InvalidGreeting, Errors::ComplexError]),
-        data_parser: Parsers::GreetingWithErrors
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::GreetingWithErrors,
-        stubs: @stubs,
-        params_class: Params::GreetingWithErrorsOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:greeting_with_errors, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::GreetingWithErrorsInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::GreetingWithErrors
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::GreetingWithErrors,
+          error_parser: @operation_constants[:greeting_with_errors][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::GreetingWithErrors,
+          stubs: @stubs,
+          params_class: Params::GreetingWithErrorsOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -708,38 +850,41 @@ module RailsJson
     #   resp.data.blob #=> String
     #
     def http_payload_traits(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::HttpPayloadTraitsInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::HttpPayloadTraitsInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::HttpPayloadTraits
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::HttpPayloadTraits
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::HttpPayloadTraits,
-        stubs: @stubs,
-        params_class: Params::HttpPayloadTraitsOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:http_payload_traits, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::HttpPayloadTraitsInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::HttpPayloadTraits
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::HttpPayloadTraits,
+          error_parser: @operation_constants[:http_payload_traits][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::HttpPayloadTraits,
+          stubs: @stubs,
+          params_class: Params::HttpPayloadTraitsOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -777,38 +922,41 @@ module RailsJson
     #   resp.data.blob #=> String
     #
     def http_payload_traits_with_media_type(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::HttpPayloadTraitsWithMediaTypeInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::HttpPayloadTraitsWithMediaTypeInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::HttpPayloadTraitsWithMediaType
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::HttpPayloadTraitsWithMediaType
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::HttpPayloadTraitsWithMediaType,
-        stubs: @stubs,
-        params_class: Params::HttpPayloadTraitsWithMediaTypeOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:http_payload_traits_with_media_type, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::HttpPayloadTraitsWithMediaTypeInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::HttpPayloadTraitsWithMediaType
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::HttpPayloadTraitsWithMediaType,
+          error_parser: @operation_constants[:http_payload_traits_with_media_type][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::HttpPayloadTraitsWithMediaType,
+          stubs: @stubs,
+          params_class: Params::HttpPayloadTraitsWithMediaTypeOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -851,38 +999,41 @@ module RailsJson
     #   resp.data.nested.name #=> String
     #
     def http_payload_with_structure(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::HttpPayloadWithStructureInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::HttpPayloadWithStructureInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::HttpPayloadWithStructure
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::HttpPayloadWithStructure
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::HttpPayloadWithStructure,
-        stubs: @stubs,
-        params_class: Params::HttpPayloadWithStructureOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:http_payload_with_structure, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::HttpPayloadWithStructureInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::HttpPayloadWithStructure
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::HttpPayloadWithStructure,
+          error_parser: @operation_constants[:http_payload_with_structure][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::HttpPayloadWithStructure,
+          stubs: @stubs,
+          params_class: Params::HttpPayloadWithStructureOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -924,38 +1075,41 @@ module RailsJson
     #   resp.data.foo_map['key'] #=> String
     #
     def http_prefix_headers(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::HttpPrefixHeadersInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::HttpPrefixHeadersInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::HttpPrefixHeaders
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::HttpPrefixHeaders
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::HttpPrefixHeaders,
-        stubs: @stubs,
-        params_class: Params::HttpPrefixHeadersOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:http_prefix_headers, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::HttpPrefixHeadersInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::HttpPrefixHeaders
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::HttpPrefixHeaders,
+          error_parser: @operation_constants[:http_prefix_headers][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::HttpPrefixHeaders,
+          stubs: @stubs,
+          params_class: Params::HttpPrefixHeadersOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -989,38 +1143,41 @@ module RailsJson
     #   resp.data.prefix_headers['key'] #=> String
     #
     def http_prefix_headers_in_response(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::HttpPrefixHeadersInResponseInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::HttpPrefixHeadersInResponseInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::HttpPrefixHeadersInResponse
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::HttpPrefixHeadersInResponse
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::HttpPrefixHeadersInResponse,
-        stubs: @stubs,
-        params_class: Params::HttpPrefixHeadersInResponseOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:http_prefix_headers_in_response, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::HttpPrefixHeadersInResponseInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::HttpPrefixHeadersInResponse
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::HttpPrefixHeadersInResponse,
+          error_parser: @operation_constants[:http_prefix_headers_in_response][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::HttpPrefixHeadersInResponse,
+          stubs: @stubs,
+          params_class: Params::HttpPrefixHeadersInResponseOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1053,38 +1210,41 @@ module RailsJson
     #   resp.data #=> Types::HttpRequestWithFloatLabelsOutput
     #
     def http_request_with_float_labels(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::HttpRequestWithFloatLabelsInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::HttpRequestWithFloatLabelsInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::HttpRequestWithFloatLabels
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::HttpRequestWithFloatLabels
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::HttpRequestWithFloatLabels,
-        stubs: @stubs,
-        params_class: Params::HttpRequestWithFloatLabelsOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:http_request_with_float_labels, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::HttpRequestWithFloatLabelsInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::HttpRequestWithFloatLabels
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::HttpRequestWithFloatLabels,
+          error_parser: @operation_constants[:http_request_with_float_labels][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::HttpRequestWithFloatLabels,
+          stubs: @stubs,
+          params_class: Params::HttpRequestWithFloatLabelsOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1117,38 +1277,41 @@ module RailsJson
     #   resp.data #=> Types::HttpRequestWithGreedyLabelInPathOutput
     #
     def http_request_with_greedy_label_in_path(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::HttpRequestWithGreedyLabelInPathInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::HttpRequestWithGreedyLabelInPathInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::HttpRequestWithGreedyLabelInPath
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::HttpRequestWithGreedyLabelInPath
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::HttpRequestWithGreedyLabelInPath,
-        stubs: @stubs,
-        params_class: Params::HttpRequestWithGreedyLabelInPathOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:http_request_with_greedy_label_in_path, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::HttpRequestWithGreedyLabelInPathInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::HttpRequestWithGreedyLabelInPath
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::HttpRequestWithGreedyLabelInPath,
+          error_parser: @operation_constants[:http_request_with_greedy_label_in_path][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::HttpRequestWithGreedyLabelInPath,
+          stubs: @stubs,
+          params_class: Params::HttpRequestWithGreedyLabelInPathOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1196,38 +1359,41 @@ module RailsJson
     #   resp.data #=> Types::HttpRequestWithLabelsOutput
     #
     def http_request_with_labels(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::HttpRequestWithLabelsInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::HttpRequestWithLabelsInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::HttpRequestWithLabels
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::HttpRequestWithLabels
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::HttpRequestWithLabels,
-        stubs: @stubs,
-        params_class: Params::HttpRequestWithLabelsOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:http_request_with_labels, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::HttpRequestWithLabelsInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::HttpRequestWithLabels
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::HttpRequestWithLabels,
+          error_parser: @operation_constants[:http_request_with_labels][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::HttpRequestWithLabels,
+          stubs: @stubs,
+          params_class: Params::HttpRequestWithLabelsOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1268,38 +1434,41 @@ module RailsJson
     #   resp.data #=> Types::HttpRequestWithLabelsAndTimestampFormatOutput
     #
     def http_request_with_labels_and_timestamp_format(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::HttpRequestWithLabelsAndTimestampFormatInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::HttpRequestWithLabelsAndTimestampFormatInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::HttpRequestWithLabelsAndTimestampFormat
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::HttpRequestWithLabelsAndTimestampFormat
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::HttpRequestWithLabelsAndTimestampFormat,
-        stubs: @stubs,
-        params_class: Params::HttpRequestWithLabelsAndTimestampFormatOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:http_request_with_labels_and_timestamp_format, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::HttpRequestWithLabelsAndTimestampFormatInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::HttpRequestWithLabelsAndTimestampFormat
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::HttpRequestWithLabelsAndTimestampFormat,
+          error_parser: @operation_constants[:http_request_with_labels_and_timestamp_format][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::HttpRequestWithLabelsAndTimestampFormat,
+          stubs: @stubs,
+          params_class: Params::HttpRequestWithLabelsAndTimestampFormatOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1330,38 +1499,41 @@ module RailsJson
     #   resp.data.status #=> Integer
     #
     def http_response_code(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::HttpResponseCodeInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::HttpResponseCodeInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::HttpResponseCode
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::HttpResponseCode
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::HttpResponseCode,
-        stubs: @stubs,
-        params_class: Params::HttpResponseCodeOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:http_response_code, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::HttpResponseCodeInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::HttpResponseCode
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::HttpResponseCode,
+          error_parser: @operation_constants[:http_response_code][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::HttpResponseCode,
+          stubs: @stubs,
+          params_class: Params::HttpResponseCodeOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1396,38 +1568,41 @@ module RailsJson
     #   resp.data.baz #=> String
     #
     def ignore_query_params_in_response(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::IgnoreQueryParamsInResponseInput.build(params)
-      response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::IgnoreQueryParamsInResponseInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::IgnoreQueryParamsInResponse
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::IgnoreQueryParamsInResponse
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::IgnoreQueryParamsInResponse,
-        stubs: @stubs,
-        params_class: Params::IgnoreQueryParamsInResponseOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      response_body = ::StringIO.new
+      stack = operation_stack(:ignore_query_params_in_response, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::IgnoreQueryParamsInResponseInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::IgnoreQueryParamsInResponse
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::IgnoreQueryParamsInResponse,
+          error_parser: @operation_constants[:ignore_query_params_in_response][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::IgnoreQueryParamsInResponse,
+          stubs: @stubs,
+          params_class: Params::IgnoreQueryParamsInResponseOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1511,38 +1686,41 @@ module RailsJson
     #   resp.data.header_enum_list[0] #=> String, one of ["Foo", "Baz", "Bar", "1", "0"]
     #
     def input_and_output_with_headers(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::InputAndOutputWithHeadersInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::InputAndOutputWithHeadersInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::InputAndOutputWithHeaders
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::InputAndOutputWithHeaders
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::InputAndOutputWithHeaders,
-        stubs: @stubs,
-        params_class: Params::InputAndOutputWithHeadersOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:input_and_output_with_headers, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::InputAndOutputWithHeadersInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::InputAndOutputWithHeaders
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::InputAndOutputWithHeaders,
+          error_parser: @operation_constants[:input_and_output_with_headers][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::InputAndOutputWithHeaders,
+          stubs: @stubs,
+          params_class: Params::InputAndOutputWithHeadersOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1596,38 +1774,41 @@ module RailsJson
     #   resp.data.foo_enum_map['key'] #=> String, one of ["Foo", "Baz", "Bar", "1", "0"]
     #
     def json_enums(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::JsonEnumsInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::JsonEnumsInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::JsonEnums
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::JsonEnums
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::JsonEnums,
-        stubs: @stubs,
-        params_class: Params::JsonEnumsOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:json_enums, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::JsonEnumsInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::JsonEnums
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::JsonEnums,
+          error_parser: @operation_constants[:json_enums][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::JsonEnums,
+          stubs: @stubs,
+          params_class: Params::JsonEnumsOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1708,38 +1889,41 @@ module RailsJson
     #   resp.data.sparse_set_map #=> Hash<String, Array<String>>
     #
     def json_maps(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::JsonMapsInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::JsonMapsInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::JsonMaps
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::JsonMaps
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::JsonMaps,
-        stubs: @stubs,
-        params_class: Params::JsonMapsOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:json_maps, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::JsonMapsInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::JsonMaps
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::JsonMaps,
+          error_parser: @operation_constants[:json_maps][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::JsonMaps,
+          stubs: @stubs,
+          params_class: Params::JsonMapsOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1806,38 +1990,41 @@ module RailsJson
     #   resp.data.contents.structure_value.hi #=> String
     #
     def json_unions(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::JsonUnionsInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::JsonUnionsInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::JsonUnions
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::JsonUnions
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::JsonUnions,
-        stubs: @stubs,
-        params_class: Params::JsonUnionsOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:json_unions, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::JsonUnionsInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::JsonUnions
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::JsonUnions,
+          error_parser: @operation_constants[:json_unions][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::JsonUnions,
+          stubs: @stubs,
+          params_class: Params::JsonUnionsOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -1975,38 +2162,41 @@ module RailsJson
     #   resp.data.unix_timestamp #=> Time
     #
     def kitchen_sink_operation(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::KitchenSinkOperationInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::KitchenSinkOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::KitchenSinkOperation
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: [Errors::ErrorWithMembers, Errors::ErrorWithoutMembers]),
-        data_parser: Parsers::KitchenSinkOperation
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::KitchenSinkOperation,
-        stubs: @stubs,
-        params_class: Params::KitchenSinkOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:kitchen_sink_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::KitchenSinkOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::KitchenSinkOperation
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::KitchenSinkOperation,
+          error_parser: @operation_constants[:kitchen_sink_operation][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::KitchenSinkOperation,
+          stubs: @stubs,
+          params_class: Params::KitchenSinkOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2041,38 +2231,41 @@ module RailsJson
     #   resp.data.json #=> String
     #
     def media_type_header(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::MediaTypeHeaderInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::MediaTypeHeaderInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::MediaTypeHeader
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::MediaTypeHeader
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::MediaTypeHeader,
-        stubs: @stubs,
-        params_class: Params::MediaTypeHeaderOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:media_type_header, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::MediaTypeHeaderInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::MediaTypeHeader
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::MediaTypeHeader,
+          error_parser: @operation_constants[:media_type_header][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::MediaTypeHeader,
+          stubs: @stubs,
+          params_class: Params::MediaTypeHeaderOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2107,38 +2300,41 @@ module RailsJson
     #   resp.data.value #=> String
     #
     def nested_attributes_operation(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::NestedAttributesOperationInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::NestedAttributesOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::NestedAttributesOperation
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::NestedAttributesOperation
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::NestedAttributesOperation,
-        stubs: @stubs,
-        params_class: Params::NestedAttributesOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:nested_attributes_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::NestedAttributesOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::NestedAttributesOperation
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::NestedAttributesOperation,
+          error_parser: @operation_constants[:nested_attributes_operation][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::NestedAttributesOperation,
+          stubs: @stubs,
+          params_class: Params::NestedAttributesOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2182,38 +2378,41 @@ module RailsJson
     #   resp.data.c[0] #=> String
     #
     def null_and_empty_headers_client(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::NullAndEmptyHeadersClientInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::NullAndEmptyHeadersClientInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::NullAndEmptyHeadersClient
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::NullAndEmptyHeadersClient
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::NullAndEmptyHeadersClient,
-        stubs: @stubs,
-        params_class: Params::NullAndEmptyHeadersClientOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:null_and_empty_headers_client, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::NullAndEmptyHeadersClientInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::NullAndEmptyHeadersClient
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::NullAndEmptyHeadersClient,
+          error_parser: @operation_constants[:null_and_empty_headers_client][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::NullAndEmptyHeadersClient,
+          stubs: @stubs,
+          params_class: Params::NullAndEmptyHeadersClientOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2256,38 +2455,41 @@ module RailsJson
     #   resp.data.sparse_string_map['key'] #=> String
     #
     def null_operation(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::NullOperationInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::NullOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::NullOperation
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::NullOperation
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::NullOperation,
-        stubs: @stubs,
-        params_class: Params::NullOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:null_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::NullOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::NullOperation
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::NullOperation,
+          error_parser: @operation_constants[:null_operation][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::NullOperation,
+          stubs: @stubs,
+          params_class: Params::NullOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2322,38 +2524,41 @@ module RailsJson
     #   resp.data #=> Types::OmitsNullSerializesEmptyStringOutput
     #
     def omits_null_serializes_empty_string(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::OmitsNullSerializesEmptyStringInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::OmitsNullSerializesEmptyStringInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::OmitsNullSerializesEmptyString
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::OmitsNullSerializesEmptyString
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::OmitsNullSerializesEmptyString,
-        stubs: @stubs,
-        params_class: Params::OmitsNullSerializesEmptyStringOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:omits_null_serializes_empty_string, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::OmitsNullSerializesEmptyStringInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::OmitsNullSerializesEmptyString
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::OmitsNullSerializesEmptyString,
+          error_parser: @operation_constants[:omits_null_serializes_empty_string][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::OmitsNullSerializesEmptyString,
+          stubs: @stubs,
+          params_class: Params::OmitsNullSerializesEmptyStringOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2386,38 +2591,41 @@ module RailsJson
     #   resp.data.value #=> String
     #
     def operation_with_optional_input_output(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::OperationWithOptionalInputOutputInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::OperationWithOptionalInputOutputInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::OperationWithOptionalInputOutput
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::OperationWithOptionalInputOutput
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::OperationWithOptionalInputOutput,
-        stubs: @stubs,
-        params_class: Params::OperationWithOptionalInputOutputOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:operation_with_optional_input_output, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::OperationWithOptionalInputOutputInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::OperationWithOptionalInputOutput
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::OperationWithOptionalInputOutput,
+          error_parser: @operation_constants[:operation_with_optional_input_output][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::OperationWithOptionalInputOutput,
+          stubs: @stubs,
+          params_class: Params::OperationWithOptionalInputOutputOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2433,6 +2641,78 @@ module RailsJson
       resp
     end
 
+    # A paginated operation whose items are a list of structures.
+    #
+    # @param [Hash] params
+    #   See {Types::PaginatedListOperationInput}.
+    #
+    # @return [Types::PaginatedListOperationOutput]
+    #
+    # @example Request syntax with placeholder values
+    #
+    #   resp = client.paginated_list_operation(
+    #     next_token: 'nextToken'
+    #   )
+    #
+    # @example Response structure
+    #
+    #   resp.data #=> Types::PaginatedListOperationOutput
+    #   resp.data.next_token #=> String
+    #   resp.data.items #=> Array<SimpleStruct>
+    #   resp.data.items[0] #=> Types::SimpleStruct
+    #   resp.data.items[0].value #=> String
+    #
+    def paginated_list_operation(params = {}, options = {}, &block)
+      input = Params::PaginatedListOperationInput.build(params)
+      response_body = ::StringIO.new
+      stack = operation_stack(:paginated_list_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::PaginatedListOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::PaginatedListOperation
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::PaginatedListOperation,
+          error_parser: @operation_constants[:paginated_list_operation][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::PaginatedListOperation,
+          stubs: @stubs,
+          params_class: Params::PaginatedListOperationOutput
+        )
+      end
+
+      resp = stack.run(
+        input: input,
+        context: Hearth::Context.new(
+          request: Hearth::HTTP::Request.new(url: options.fetch(:endpoint, @config.endpoint)),
+          response: Hearth::HTTP::Response.new(body: response_body),
+          params: params,
+          logger: @config.logger,
+          operation_name: :paginated_list_operation
+        )
+      )
+      raise resp.error if resp.error
+      resp
+    end
+
     # Automatically adds idempotency tokens.
     #
     # Tags: ["client-only"]
@@ -2453,38 +2733,41 @@ module RailsJson
     #   resp.data #=> Types::QueryIdempotencyTokenAutoFillOutput
     #
     def query_idempotency_token_auto_fill(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::QueryIdempotencyTokenAutoFillInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::QueryIdempotencyTokenAutoFillInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::QueryIdempotencyTokenAutoFill
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::QueryIdempotencyTokenAutoFill
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::QueryIdempotencyTokenAutoFill,
-        stubs: @stubs,
-        params_class: Params::QueryIdempotencyTokenAutoFillOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:query_idempotency_token_auto_fill, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::QueryIdempotencyTokenAutoFillInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::QueryIdempotencyTokenAutoFill
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::QueryIdempotencyTokenAutoFill,
+          error_parser: @operation_constants[:query_idempotency_token_auto_fill][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::QueryIdempotencyTokenAutoFill,
+          stubs: @stubs,
+          params_class: Params::QueryIdempotencyTokenAutoFillOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2521,38 +2804,41 @@ module RailsJson
     #   resp.data #=> Types::QueryParamsAsStringListMapOutput
     #
     def query_params_as_string_list_map(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::QueryParamsAsStringListMapInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::QueryParamsAsStringListMapInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::QueryParamsAsStringListMap
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::QueryParamsAsStringListMap
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::QueryParamsAsStringListMap,
-        stubs: @stubs,
-        params_class: Params::QueryParamsAsStringListMapOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:query_params_as_string_list_map, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::QueryParamsAsStringListMapInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::QueryParamsAsStringListMap
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::QueryParamsAsStringListMap,
+          error_parser: @operation_constants[:query_params_as_string_list_map][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::QueryParamsAsStringListMap,
+          stubs: @stubs,
+          params_class: Params::QueryParamsAsStringListMapOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2585,37 +2871,40 @@ module RailsJson
     #   resp.data.output #=> String
     #
     def streaming_operation(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::StreamingOperationInput.build(params)
       response_body = output_stream(options, &block)
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::StreamingOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::StreamingOperation
-      )
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::StreamingOperation
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::StreamingOperation,
-        stubs: @stubs,
-        params_class: Params::StreamingOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:streaming_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::StreamingOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::StreamingOperation
+        )
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::StreamingOperation,
+          error_parser: @operation_constants[:streaming_operation][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::StreamingOperation,
+          stubs: @stubs,
+          params_class: Params::StreamingOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2662,38 +2951,41 @@ module RailsJson
     #   resp.data.target_date_time #=> Time
     #
     def timestamp_format_headers(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::TimestampFormatHeadersInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::TimestampFormatHeadersInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::TimestampFormatHeaders
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::TimestampFormatHeaders
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::TimestampFormatHeaders,
-        stubs: @stubs,
-        params_class: Params::TimestampFormatHeadersOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:timestamp_format_headers, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::TimestampFormatHeadersInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::TimestampFormatHeaders
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::TimestampFormatHeaders,
+          error_parser: @operation_constants[:timestamp_format_headers][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::TimestampFormatHeaders,
+          stubs: @stubs,
+          params_class: Params::TimestampFormatHeadersOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2730,38 +3022,41 @@ module RailsJson
     #   resp.data.member.member___123foo #=> String
     #
     def operation____789_bad_name(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::Struct____789BadNameInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::Struct____789BadNameInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::Operation____789BadName
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::Operation____789BadName
-      )
-      stack.use(Middleware::RequestId)
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::Operation____789BadName,
-        stubs: @stubs,
-        params_class: Params::Struct____789BadNameOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:operation____789_bad_name, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::Struct____789BadNameInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::JSON::Middleware::Engine,
+          json_engine: @config.json_engine
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::Operation____789BadName
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::Operation____789BadName,
+          error_parser: @operation_constants[:operation____789_bad_name][:error_parser]
+        )
+        stack.use(Middleware::RequestId)
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::Operation____789BadName,
+          stubs: @stubs,
+          params_class: Params::Struct____789BadNameOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -2779,6 +3074,27 @@ module RailsJson
 
     private
 
+    def operation_stack(operation, options)
+      cacheable = options.each_key.all?(:output_stream)
+      version = Client.middleware.version
+      cached = @middleware_stacks[operation] if cacheable
+      return cached.last if cached && cached.first == version
+
+      stack = Hearth::MiddlewareStack.new
+      yield stack
+      apply_middleware(stack, options[:middleware])
+      return stack unless cacheable
+
+      @middleware_stacks[operation] = [version, stack.freeze]
+      stack
+    end
+
+    def transport_client(options)
+      return @transport_client if @transport_client && !options.key?(:http_wire_trace)
+
+      Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace), http_max_connections: @config.http_max_connections, http_idle_timeout: @config.http_idle_timeout)
+    end
+
     def apply_middleware(middleware_stack, middleware)
       Client.middleware.apply(middleware_stack)
       @middleware.apply(middleware_stack)
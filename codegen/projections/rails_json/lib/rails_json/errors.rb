@@ -88,5 +88,13 @@ module RailsJson
       attr_reader :data
     end
 
+    # @api private
+    ERROR_CLASSES = {
+      'ComplexError' => ComplexError,
+      'ErrorWithMembers' => ErrorWithMembers,
+      'ErrorWithoutMembers' => ErrorWithoutMembers,
+      'InvalidGreeting' => InvalidGreeting
+    }.freeze
+
   end
 end
@@ -10,5 +10,46 @@
 module RailsJson
   module Paginators
 
+    class PaginatedListOperation
+      # @param [Client] client
+      # @param [Hash] params (see Client#paginated_list_operation)
+      # @param [Hash] options (see Client#paginated_list_operation)
+      def initialize(client, params = {}, options = {})
+        @params = params
+        @options = options
+        @client = client
+      end
+      # Iterate all response pages of the paginated_list_operation operation.
+      # @return [Enumerator]
+      def pages
+        params = @params
+        Enumerator.new do |e|
+          @prev_token = params[:next_token]
+          response = @client.paginated_list_operation(params, @options)
+          e.yield(response)
+          output_token = response.next_token
+
+          until output_token.nil? || @prev_token == output_token
+            params = params.merge(next_token: output_token)
+            response = @client.paginated_list_operation(params, @options)
+            e.yield(response)
+            output_token = response.next_token
+          end
+        end
+      end
+
+      # Iterate all items from pages in the paginated_list_operation operation.
+      # @return [Enumerator]
+      def items
+        Enumerator.new do |e|
+          pages.each do |page|
+            page.items.each do |item|
+              e.yield(item)
+            end
+          end
+        end
+      end
+    end
+
   end
 end
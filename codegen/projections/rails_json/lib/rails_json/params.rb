@@ -18,24 +18,24 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, Types::AllQueryStringTypesInput, context: context)
         type = Types::AllQueryStringTypesInput.new
         type.query_string = params[:query_string]
-        type.query_string_list = StringList.build(params[:query_string_list], context: "#{context}[:query_string_list]") unless params[:query_string_list].nil?
-        type.query_string_set = StringSet.build(params[:query_string_set], context: "#{context}[:query_string_set]") unless params[:query_string_set].nil?
+        type.query_string_list = StringList.build(params[:query_string_list], context: Hearth::Validator::Path.new(context, :query_string_list)) unless params[:query_string_list].nil?
+        type.query_string_set = StringSet.build(params[:query_string_set], context: Hearth::Validator::Path.new(context, :query_string_set)) unless params[:query_string_set].nil?
         type.query_byte = params[:query_byte]
         type.query_short = params[:query_short]
         type.query_integer = params[:query_integer]
-        type.query_integer_list = IntegerList.build(params[:query_integer_list], context: "#{context}[:query_integer_list]") unless params[:query_integer_list].nil?
-        type.query_integer_set = IntegerSet.build(params[:query_integer_set], context: "#{context}[:query_integer_set]") unless params[:query_integer_set].nil?
+        type.query_integer_list = IntegerList.build(params[:query_integer_list], context: Hearth::Validator::Path.new(context, :query_integer_list)) unless params[:query_integer_list].nil?
+        type.query_integer_set = IntegerSet.build(params[:query_integer_set], context: Hearth::Validator::Path.new(context, :query_integer_set)) unless params[:query_integer_set].nil?
         type.query_long = params[:query_long]
         type.query_float = params[:query_float]
         type.query_double = params[:query_double]
-        type.query_double_list = DoubleList.build(params[:query_double_list], context: "#{context}[:query_double_list]") unless params[:query_double_list].nil?
+        type.query_double_list = DoubleList.build(params[:query_double_list], context: Hearth::Validator::Path.new(context, :query_double_list)) unless params[:query_double_list].nil?
         type.query_boolean = params[:query_boolean]
-        type.query_boolean_list = BooleanList.build(params[:query_boolean_list], context: "#{context}[:query_boolean_list]") unless params[:query_boolean_list].nil?
+        type.query_boolean_list = BooleanList.build(params[:query_boolean_list], context: Hearth::Validator::Path.new(context, :query_boolean_list)) unless params[:query_boolean_list].nil?
         type.query_timestamp = params[:query_timestamp]
-        type.query_timestamp_list = TimestampList.build(params[:query_timestamp_list], context: "#{context}[:query_timestamp_list]") unless params[:query_timestamp_list].nil?
+        type.query_timestamp_list = TimestampList.build(params[:query_timestamp_list], context: Hearth::Validator::Path.new(context, :query_timestamp_list)) unless params[:query_timestamp_list].nil?
         type.query_enum = params[:query_enum]
-        type.query_enum_list = FooEnumList.build(params[:query_enum_list], context: "#{context}[:query_enum_list]") unless params[:query_enum_list].nil?
-        type.query_params_map_of_strings = StringMap.build(params[:query_params_map_of_strings], context: "#{context}[:query_params_map_of_strings]") unless params[:query_params_map_of_strings].nil?
+        type.query_enum_list = FooEnumList.build(params[:query_enum_list], context: Hearth::Validator::Path.new(context, :query_enum_list)) unless params[:query_enum_list].nil?
+        type.query_params_map_of_strings = StringMap.build(params[:query_params_map_of_strings], context: Hearth::Validator::Path.new(context, :query_params_map_of_strings)) unless params[:query_params_map_of_strings].nil?
         type
       end
     end
@@ -64,7 +64,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, Types::ComplexError, context: context)
         type = Types::ComplexError.new
         type.top_level = params[:top_level]
-        type.nested = ComplexNestedErrorData.build(params[:nested], context: "#{context}[:nested]") unless params[:nested].nil?
+        type.nested = ComplexNestedErrorData.build(params[:nested], context: Hearth::Validator::Path.new(context, :nested)) unless params[:nested].nil?
         type
       end
     end
@@ -140,7 +140,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = StringSet.build(value, context: "#{context}[:#{key}]") unless value.nil?
+          data[key] = StringSet.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
         data
       end
@@ -162,7 +162,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = GreetingStruct.build(value, context: "#{context}[:#{key}]") unless value.nil?
+          data[key] = GreetingStruct.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
         data
       end
@@ -279,10 +279,10 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, Types::ErrorWithMembers, context: context)
         type = Types::ErrorWithMembers.new
         type.code = params[:code]
-        type.complex_data = KitchenSink.build(params[:complex_data], context: "#{context}[:complex_data]") unless params[:complex_data].nil?
+        type.complex_data = KitchenSink.build(params[:complex_data], context: Hearth::Validator::Path.new(context, :complex_data)) unless params[:complex_data].nil?
         type.integer_field = params[:integer_field]
-        type.list_field = ListOfStrings.build(params[:list_field], context: "#{context}[:list_field]") unless params[:list_field].nil?
-        type.map_field = MapOfStrings.build(params[:map_field], context: "#{context}[:map_field]") unless params[:map_field].nil?
+        type.list_field = ListOfStrings.build(params[:list_field], context: Hearth::Validator::Path.new(context, :list_field)) unless params[:list_field].nil?
+        type.map_field = MapOfStrings.build(params[:map_field], context: Hearth::Validator::Path.new(context, :map_field)) unless params[:map_field].nil?
         type.message = params[:message]
         type.string_field = params[:string_field]
         type
@@ -400,7 +400,7 @@ module RailsJson
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::HttpPayloadWithStructureInput, context: context)
         type = Types::HttpPayloadWithStructureInput.new
-        type.nested = NestedPayload.build(params[:nested], context: "#{context}[:nested]") unless params[:nested].nil?
+        type.nested = NestedPayload.build(params[:nested], context: Hearth::Validator::Path.new(context, :nested)) unless params[:nested].nil?
         type
       end
     end
@@ -409,7 +409,7 @@ module RailsJson
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::HttpPayloadWithStructureOutput, context: context)
         type = Types::HttpPayloadWithStructureOutput.new
-        type.nested = NestedPayload.build(params[:nested], context: "#{context}[:nested]") unless params[:nested].nil?
+        type.nested = NestedPayload.build(params[:nested], context: Hearth::Validator::Path.new(context, :nested)) unless params[:nested].nil?
         type
       end
     end
@@ -426,7 +426,7 @@ module RailsJson
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::HttpPrefixHeadersInResponseOutput, context: context)
         type = Types::HttpPrefixHeadersInResponseOutput.new
-        type.prefix_headers = StringMap.build(params[:prefix_headers], context: "#{context}[:prefix_headers]") unless params[:prefix_headers].nil?
+        type.prefix_headers = StringMap.build(params[:prefix_headers], context: Hearth::Validator::Path.new(context, :prefix_headers)) unless params[:prefix_headers].nil?
         type
       end
     end
@@ -436,7 +436,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, Types::HttpPrefixHeadersInput, context: context)
         type = Types::HttpPrefixHeadersInput.new
         type.foo = params[:foo]
-        type.foo_map = StringMap.build(params[:foo_map], context: "#{context}[:foo_map]") unless params[:foo_map].nil?
+        type.foo_map = StringMap.build(params[:foo_map], context: Hearth::Validator::Path.new(context, :foo_map)) unless params[:foo_map].nil?
         type
       end
     end
@@ -446,7 +446,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, Types::HttpPrefixHeadersOutput, context: context)
         type = Types::HttpPrefixHeadersOutput.new
         type.foo = params[:foo]
-        type.foo_map = StringMap.build(params[:foo_map], context: "#{context}[:foo_map]") unless params[:foo_map].nil?
+        type.foo_map = StringMap.build(params[:foo_map], context: Hearth::Validator::Path.new(context, :foo_map)) unless params[:foo_map].nil?
         type
       end
     end
@@ -581,13 +581,13 @@ module RailsJson
         type.header_double = params[:header_double]
         type.header_true_bool = params[:header_true_bool]
         type.header_false_bool = params[:header_false_bool]
-        type.header_string_list = StringList.build(params[:header_string_list], context: "#{context}[:header_string_list]") unless params[:header_string_list].nil?
-        type.header_string_set = StringSet.build(params[:header_string_set], context: "#{context}[:header_string_set]") unless params[:header_string_set].nil?
-        type.header_integer_list = IntegerList.build(params[:header_integer_list], context: "#{context}[:header_integer_list]") unless params[:header_integer_list].nil?
-        type.header_boolean_list = BooleanList.build(params[:header_boolean_list], context: "#{context}[:header_boolean_list]") unless params[:header_boolean_list].nil?
-        type.header_timestamp_list = TimestampList.build(params[:header_timestamp_list], context: "#{context}[:header_timestamp_list]") unless params[:header_timestamp_list].nil?
+        type.header_string_list = StringList.build(params[:header_string_list], context: Hearth::Validator::Path.new(context, :header_string_list)) unless params[:header_string_list].nil?
+        type.header_string_set = StringSet.build(params[:header_string_set], context: Hearth::Validator::Path.new(context, :header_string_set)) unless params[:header_string_set].nil?
+        type.header_integer_list = IntegerList.build(params[:header_integer_list], context: Hearth::Validator::Path.new(context, :header_integer_list)) unless params[:header_integer_list].nil?
+        type.header_boolean_list = BooleanList.build(params[:header_boolean_list], context: Hearth::Validator::Path.new(context, :header_boolean_list)) unless params[:header_boolean_list].nil?
+        type.header_timestamp_list = TimestampList.build(params[:header_timestamp_list], context: Hearth::Validator::Path.new(context, :header_timestamp_list)) unless params[:header_timestamp_list].nil?
         type.header_enum = params[:header_enum]
-        type.header_enum_list = FooEnumList.build(params[:header_enum_list], context: "#{context}[:header_enum_list]") unless params[:header_enum_list].nil?
+        type.header_enum_list = FooEnumList.build(params[:header_enum_list], context: Hearth::Validator::Path.new(context, :header_enum_list)) unless params[:header_enum_list].nil?
         type
       end
     end
@@ -605,13 +605,13 @@ module RailsJson
         type.header_double = params[:header_double]
         type.header_true_bool = params[:header_true_bool]
         type.header_false_bool = params[:header_false_bool]
-        type.header_string_list = StringList.build(params[:header_string_list], context: "#{context}[:header_string_list]") unless params[:header_string_list].nil?
-        type.header_string_set = StringSet.build(params[:header_string_set], context: "#{context}[:header_string_set]") unless params[:header_string_set].nil?
-        type.header_integer_list = IntegerList.build(params[:header_integer_list], context: "#{context}[:header_integer_list]") unless params[:header_integer_list].nil?
-        type.header_boolean_list = BooleanList.build(params[:header_boolean_list], context: "#{context}[:header_boolean_list]") unless params[:header_boolean_list].nil?
-        type.header_timestamp_list = TimestampList.build(params[:header_timestamp_list], context: "#{context}[:header_timestamp_list]") unless params[:header_timestamp_list].nil?
+        type.header_string_list = StringList.build(params[:header_string_list], context: Hearth::Validator::Path.new(context, :header_string_list)) unless params[:header_string_list].nil?
+        type.header_string_set = StringSet.build(params[:header_string_set], context: Hearth::Validator::Path.new(context, :header_string_set)) unless params[:header_string_set].nil?
+        type.header_integer_list = IntegerList.build(params[:header_integer_list], context: Hearth::Validator::Path.new(context, :header_integer_list)) unless params[:header_integer_list].nil?
+        type.header_boolean_list = BooleanList.build(params[:header_boolean_list], context: Hearth::Validator::Path.new(context, :header_boolean_list)) unless params[:header_boolean_list].nil?
+        type.header_timestamp_list = TimestampList.build(params[:header_timestamp_list], context: Hearth::Validator::Path.new(context, :header_timestamp_list)) unless params[:header_timestamp_list].nil?
         type.header_enum = params[:header_enum]
-        type.header_enum_list = FooEnumList.build(params[:header_enum_list], context: "#{context}[:header_enum_list]") unless params[:header_enum_list].nil?
+        type.header_enum_list = FooEnumList.build(params[:header_enum_list], context: Hearth::Validator::Path.new(context, :header_enum_list)) unless params[:header_enum_list].nil?
         type
       end
     end
@@ -654,9 +654,9 @@ module RailsJson
         type.foo_enum1 = params[:foo_enum1]
         type.foo_enum2 = params[:foo_enum2]
         type.foo_enum3 = params[:foo_enum3]
-        type.foo_enum_list = FooEnumList.build(params[:foo_enum_list], context: "#{context}[:foo_enum_list]") unless params[:foo_enum_list].nil?
-        type.foo_enum_set = FooEnumSet.build(params[:foo_enum_set], context: "#{context}[:foo_enum_set]") unless params[:foo_enum_set].nil?
-        type.foo_enum_map = FooEnumMap.build(params[:foo_enum_map], context: "#{context}[:foo_enum_map]") unless params[:foo_enum_map].nil?
+        type.foo_enum_list = FooEnumList.build(params[:foo_enum_list], context: Hearth::Validator::Path.new(context, :foo_enum_list)) unless params[:foo_enum_list].nil?
+        type.foo_enum_set = FooEnumSet.build(params[:foo_enum_set], context: Hearth::Validator::Path.new(context, :foo_enum_set)) unless params[:foo_enum_set].nil?
+        type.foo_enum_map = FooEnumMap.build(params[:foo_enum_map], context: Hearth::Validator::Path.new(context, :foo_enum_map)) unless params[:foo_enum_map].nil?
         type
       end
     end
@@ -668,9 +668,9 @@ module RailsJson
         type.foo_enum1 = params[:foo_enum1]
         type.foo_enum2 = params[:foo_enum2]
         type.foo_enum3 = params[:foo_enum3]
-        type.foo_enum_list = FooEnumList.build(params[:foo_enum_list], context: "#{context}[:foo_enum_list]") unless params[:foo_enum_list].nil?
-        type.foo_enum_set = FooEnumSet.build(params[:foo_enum_set], context: "#{context}[:foo_enum_set]") unless params[:foo_enum_set].nil?
-        type.foo_enum_map = FooEnumMap.build(params[:foo_enum_map], context: "#{context}[:foo_enum_map]") unless params[:foo_enum_map].nil?
+        type.foo_enum_list = FooEnumList.build(params[:foo_enum_list], context: Hearth::Validator::Path.new(context, :foo_enum_list)) unless params[:foo_enum_list].nil?
+        type.foo_enum_set = FooEnumSet.build(params[:foo_enum_set], context: Hearth::Validator::Path.new(context, :foo_enum_set)) unless params[:foo_enum_set].nil?
+        type.foo_enum_map = FooEnumMap.build(params[:foo_enum_map], context: Hearth::Validator::Path.new(context, :foo_enum_map)) unless params[:foo_enum_map].nil?
         type
       end
     end
@@ -679,16 +679,16 @@ module RailsJson
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::JsonMapsInput, context: context)
         type = Types::JsonMapsInput.new
-        type.dense_struct_map = DenseStructMap.build(params[:dense_struct_map], context: "#{context}[:dense_struct_map]") unless params[:dense_struct_map].nil?
-        type.sparse_struct_map = SparseStructMap.build(params[:sparse_struct_map], context: "#{context}[:sparse_struct_map]") unless params[:sparse_struct_map].nil?
-        type.dense_number_map = DenseNumberMap.build(params[:dense_number_map], context: "#{context}[:dense_number_map]") unless params[:dense_number_map].nil?
-        type.dense_boolean_map = DenseBooleanMap.build(params[:dense_boolean_map], context: "#{context}[:dense_boolean_map]") unless params[:dense_boolean_map].nil?
-        type.dense_string_map = DenseStringMap.build(params[:dense_string_map], context: "#{context}[:dense_string_map]") unless params[:dense_string_map].nil?
-        type.sparse_number_map = SparseNumberMap.build(params[:sparse_number_map], context: "#{context}[:sparse_number_map]") unless params[:sparse_number_map].nil?
-        type.sparse_boolean_map = SparseBooleanMap.build(params[:sparse_boolean_map], context: "#{context}[:sparse_boolean_map]") unless params[:sparse_boolean_map].nil?
-        type.sparse_string_map = SparseStringMap.build(params[:sparse_string_map], context: "#{context}[:sparse_string_map]") unless params[:sparse_string_map].nil?
-        type.dense_set_map = DenseSetMap.build(params[:dense_set_map], context: "#{context}[:dense_set_map]") unless params[:dense_set_map].nil?
-        type.sparse_set_map = SparseSetMap.build(params[:sparse_set_map], context: "#{context}[:sparse_set_map]") unless params[:sparse_set_map].nil?
+        type.dense_struct_map = DenseStructMap.build(params[:dense_struct_map], context: Hearth::Validator::Path.new(context, :dense_struct_map)) unless params[:dense_struct_map].nil?
+        type.sparse_struct_map = SparseStructMap.build(params[:sparse_struct_map], context: Hearth::Validator::Path.new(context, :sparse_struct_map)) unless params[:sparse_struct_map].nil?
+        type.dense_number_map = DenseNumberMap.build(params[:dense_number_map], context: Hearth::Validator::Path.new(context, :dense_number_map)) unless params[:dense_number_map].nil?
+        type.dense_boolean_map = DenseBooleanMap.build(params[:dense_boolean_map], context: Hearth::Validator::Path.new(context, :dense_boolean_map)) unless params[:dense_boolean_map].nil?
+        type.dense_string_map = DenseStringMap.build(params[:dense_string_map], context: Hearth::Validator::Path.new(context, :dense_string_map)) unless params[:dense_string_map].nil?
+        type.sparse_number_map = SparseNumberMap.build(params[:sparse_number_map], context: Hearth::Validator::Path.new(context, :sparse_number_map)) unless params[:sparse_number_map].nil?
+        type.sparse_boolean_map = SparseBooleanMap.build(params[:sparse_boolean_map], context: Hearth::Validator::Path.new(context, :sparse_boolean_map)) unless params[:sparse_boolean_map].nil?
+        type.sparse_string_map = SparseStringMap.build(params[:sparse_string_map], context: Hearth::Validator::Path.new(context, :sparse_string_map)) unless params[:sparse_string_map].nil?
+        type.dense_set_map = DenseSetMap.build(params[:dense_set_map], context: Hearth::Validator::Path.new(context, :dense_set_map)) unless params[:dense_set_map].nil?
+        type.sparse_set_map = SparseSetMap.build(params[:sparse_set_map], context: Hearth::Validator::Path.new(context, :sparse_set_map)) unless params[:sparse_set_map].nil?
         type
       end
     end
@@ -697,16 +697,16 @@ module RailsJson
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::JsonMapsOutput, context: context)
         type = Types::JsonMapsOutput.new
-        type.dense_struct_map = DenseStructMap.build(params[:dense_struct_map], context: "#{context}[:dense_struct_map]") unless params[:dense_struct_map].nil?
-        type.sparse_struct_map = SparseStructMap.build(params[:sparse_struct_map], context: "#{context}[:sparse_struct_map]") unless params[:sparse_struct_map].nil?
-        type.dense_number_map = DenseNumberMap.build(params[:dense_number_map], context: "#{context}[:dense_number_map]") unless params[:dense_number_map].nil?
-        type.dense_boolean_map = DenseBooleanMap.build(params[:dense_boolean_map], context: "#{context}[:dense_boolean_map]") unless params[:dense_boolean_map].nil?
-        type.dense_string_map = DenseStringMap.build(params[:dense_string_map], context: "#{context}[:dense_string_map]") unless params[:dense_string_map].nil?
-        type.sparse_number_map = SparseNumberMap.build(params[:sparse_number_map], context: "#{context}[:sparse_number_map]") unless params[:sparse_number_map].nil?
-        type.sparse_boolean_map = SparseBooleanMap.build(params[:sparse_boolean_map], context: "#{context}[:sparse_boolean_map]") unless params[:sparse_boolean_map].nil?
-        type.sparse_string_map = SparseStringMap.build(params[:sparse_string_map], context: "#{context}[:sparse_string_map]") unless params[:sparse_string_map].nil?
-        type.dense_set_map = DenseSetMap.build(params[:dense_set_map], context: "#{context}[:dense_set_map]") unless params[:dense_set_map].nil?
-        type.sparse_set_map = SparseSetMap.build(params[:sparse_set_map], context: "#{context}[:sparse_set_map]") unless params[:sparse_set_map].nil?
+        type.dense_struct_map = DenseStructMap.build(params[:dense_struct_map], context: Hearth::Validator::Path.new(context, :dense_struct_map)) unless params[:dense_struct_map].nil?
+        type.sparse_struct_map = SparseStructMap.build(params[:sparse_struct_map], context: Hearth::Validator::Path.new(context, :sparse_struct_map)) unless params[:sparse_struct_map].nil?
+        type.dense_number_map = DenseNumberMap.build(params[:dense_number_map], context: Hearth::Validator::Path.new(context, :dense_number_map)) unless params[:dense_number_map].nil?
+        type.dense_boolean_map = DenseBooleanMap.build(params[:dense_boolean_map], context: Hearth::Validator::Path.new(context, :dense_boolean_map)) unless params[:dense_boolean_map].nil?
+        type.dense_string_map = DenseStringMap.build(params[:dense_string_map], context: Hearth::Validator::Path.new(context, :dense_string_map)) unless params[:dense_string_map].nil?
+        type.sparse_number_map = SparseNumberMap.build(params[:sparse_number_map], context: Hearth::Validator::Path.new(context, :sparse_number_map)) unless params[:sparse_number_map].nil?
+        type.sparse_boolean_map = SparseBooleanMap.build(params[:sparse_boolean_map], context: Hearth::Validator::Path.new(context, :sparse_boolean_map)) unless params[:sparse_boolean_map].nil?
+        type.sparse_string_map = SparseStringMap.build(params[:sparse_string_map], context: Hearth::Validator::Path.new(context, :sparse_string_map)) unless params[:sparse_string_map].nil?
+        type.dense_set_map = DenseSetMap.build(params[:dense_set_map], context: Hearth::Validator::Path.new(context, :dense_set_map)) unless params[:dense_set_map].nil?
+        type.sparse_set_map = SparseSetMap.build(params[:sparse_set_map], context: Hearth::Validator::Path.new(context, :sparse_set_map)) unless params[:sparse_set_map].nil?
         type
       end
     end
@@ -715,7 +715,7 @@ module RailsJson
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::JsonUnionsInput, context: context)
         type = Types::JsonUnionsInput.new
-        type.contents = MyUnion.build(params[:contents], context: "#{context}[:contents]") unless params[:contents].nil?
+        type.contents = MyUnion.build(params[:contents], context: Hearth::Validator::Path.new(context, :contents)) unless params[:contents].nil?
         type
       end
     end
@@ -724,7 +724,7 @@ module RailsJson
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::JsonUnionsOutput, context: context)
         type = Types::JsonUnionsOutput.new
-        type.contents = MyUnion.build(params[:contents], context: "#{context}[:contents]") unless params[:contents].nil?
+        type.contents = MyUnion.build(params[:contents], context: Hearth::Validator::Path.new(context, :contents)) unless params[:contents].nil?
         type
       end
     end
@@ -736,27 +736,27 @@ module RailsJson
         type.blob = params[:blob]
         type.boolean = params[:boolean]
         type.double = params[:double]
-        type.empty_struct = EmptyStruct.build(params[:empty_struct], context: "#{context}[:empty_struct]") unless params[:empty_struct].nil?
+        type.empty_struct = EmptyStruct.build(params[:empty_struct], context: Hearth::Validator::Path.new(context, :empty_struct)) unless params[:empty_struct].nil?
         type.float = params[:float]
         type.httpdate_timestamp = params[:httpdate_timestamp]
         type.integer = params[:integer]
         type.iso8601_timestamp = params[:iso8601_timestamp]
         type.json_value = params[:json_value]
-        type.list_of_lists = ListOfListOfStrings.build(params[:list_of_lists], context: "#{context}[:list_of_lists]") unless params[:list_of_lists].nil?
-        type.list_of_maps_of_strings = ListOfMapsOfStrings.build(params[:list_of_maps_of_strings], context: "#{context}[:list_of_maps_of_strings]") unless params[:list_of_maps_of_strings].nil?
-        type.list_of_strings = ListOfStrings.build(params[:list_of_strings], context: "#{context}[:list_of_strings]") unless params[:list_of_strings].nil?
-        type.list_of_structs = ListOfStructs.build(params[:list_of_structs], context: "#{context}[:list_of_structs]") unless params[:list_of_structs].nil?
+        type.list_of_lists = ListOfListOfStrings.build(params[:list_of_lists], context: Hearth::Validator::Path.new(context, :list_of_lists)) unless params[:list_of_lists].nil?
+        type.list_of_maps_of_strings = ListOfMapsOfStrings.build(params[:list_of_maps_of_strings], context: Hearth::Validator::Path.new(context, :list_of_maps_of_strings)) unless params[:list_of_maps_of_strings].nil?
+        type.list_of_strings = ListOfStrings.build(params[:list_of_strings], context: Hearth::Validator::Path.new(context, :list_of_strings)) unless params[:list_of_strings].nil?
+        type.list_of_structs = ListOfStructs.build(params[:list_of_structs], context: Hearth::Validator::Path.new(context, :list_of_structs)) unless params[:list_of_structs].nil?
         type.long = params[:long]
-        type.map_of_lists_of_strings = MapOfListsOfStrings.build(params[:map_of_lists_of_strings], context: "#{context}[:map_of_lists_of_strings]") unless params[:map_of_lists_of_strings].nil?
-        type.map_of_maps = MapOfMapOfStrings.build(params[:map_of_maps], context: "#{context}[:map_of_maps]") unless params[:map_of_maps].nil?
-        type.map_of_strings = MapOfStrings.build(params[:map_of_strings], context: "#{context}[:map_of_strings]") unless params[:map_of_strings].nil?
-        type.map_of_structs = MapOfStructs.build(params[:map_of_structs], context: "#{context}[:map_of_structs]") unless params[:map_of_structs].nil?
-        type.recursive_list = ListOfKitchenSinks.build(params[:recursive_list], context: "#{context}[:recursive_list]") unless params[:recursive_list].nil?
-        type.recursive_map = MapOfKitchenSinks.build(params[:recursive_map], context: "#{context}[:recursive_map]") unless params[:recursive_map].nil?
-        type.recursive_struct = KitchenSink.build(params[:recursive_struct], context: "#{context}[:recursive_struct]") unless params[:recursive_struct].nil?
-        type.simple_struct = SimpleStruct.build(params[:simple_struct], context: "#{context}[:simple_struct]") unless params[:simple_struct].nil?
+        type.map_of_lists_of_strings = MapOfListsOfStrings.build(params[:map_of_lists_of_strings], context: Hearth::Validator::Path.new(context, :map_of_lists_of_strings)) unless params[:map_of_lists_of_strings].nil?
+        type.map_of_maps = MapOfMapOfStrings.build(params[:map_of_maps], context: Hearth::Validator::Path.new(context, :map_of_maps)) unless params[:map_of_maps].nil?
+        type.map_of_strings = MapOfStrings.build(params[:map_of_strings], context: Hearth::Validator::Path.new(context, :map_of_strings)) unless params[:map_of_strings].nil?
+        type.map_of_structs = MapOfStructs.build(params[:map_of_structs], context: Hearth::Validator::Path.new(context, :map_of_structs)) unless params[:map_of_structs].nil?
+        type.recursive_list = ListOfKitchenSinks.build(params[:recursive_list], context: Hearth::Validator::Path.new(context, :recursive_list)) unless params[:recursive_list].nil?
+        type.recursive_map = MapOfKitchenSinks.build(params[:recursive_map], context: Hearth::Validator::Path.new(context, :recursive_map)) unless params[:recursive_map].nil?
+        type.recursive_struct = KitchenSink.build(params[:recursive_struct], context: Hearth::Validator::Path.new(context, :recursive_struct)) unless params[:recursive_struct].nil?
+        type.simple_struct = SimpleStruct.build(params[:simple_struct], context: Hearth::Validator::Path.new(context, :simple_struct)) unless params[:simple_struct].nil?
         type.string = params[:string]
-        type.struct_with_location_name = StructWithLocationName.build(params[:struct_with_location_name], context: "#{context}[:struct_with_location_name]") unless params[:struct_with_location_name].nil?
+        type.struct_with_location_name = StructWithLocationName.build(params[:struct_with_location_name], context: Hearth::Validator::Path.new(context, :struct_with_location_name)) unless params[:struct_with_location_name].nil?
         type.timestamp = params[:timestamp]
         type.unix_timestamp = params[:unix_timestamp]
         type
@@ -770,27 +770,27 @@ module RailsJson
         type.blob = params[:blob]
         type.boolean = params[:boolean]
         type.double = params[:double]
-        type.empty_struct = EmptyStruct.build(params[:empty_struct], context: "#{context}[:empty_struct]") unless params[:empty_struct].nil?
+        type.empty_struct = EmptyStruct.build(params[:empty_struct], context: Hearth::Validator::Path.new(context, :empty_struct)) unless params[:empty_struct].nil?
         type.float = params[:float]
         type.httpdate_timestamp = params[:httpdate_timestamp]
         type.integer = params[:integer]
         type.iso8601_timestamp = params[:iso8601_timestamp]
         type.json_value = params[:json_value]
-        type.list_of_lists = ListOfListOfStrings.build(params[:list_of_lists], context: "#{context}[:list_of_lists]") unless params[:list_of_lists].nil?
-        type.list_of_maps_of_strings = ListOfMapsOfStrings.build(params[:list_of_maps_of_strings], context: "#{context}[:list_of_maps_of_strings]") unless params[:list_of_maps_of_strings].nil?
-        type.list_of_strings = ListOfStrings.build(params[:list_of_strings], context: "#{context}[:list_of_strings]") unless params[:list_of_strings].nil?
-        type.list_of_structs = ListOfStructs.build(params[:list_of_structs], context: "#{context}[:list_of_structs]") unless params[:list_of_structs].nil?
+        type.list_of_lists = ListOfListOfStrings.build(params[:list_of_lists], context: Hearth::Validator::Path.new(context, :list_of_lists)) unless params[:list_of_lists].nil?
+        type.list_of_maps_of_strings = ListOfMapsOfStrings.build(params[:list_of_maps_of_strings], context: Hearth::Validator::Path.new(context, :list_of_maps_of_strings)) unless params[:list_of_maps_of_strings].nil?
+        type.list_of_strings = ListOfStrings.build(params[:list_of_strings], context: Hearth::Validator::Path.new(context, :list_of_strings)) unless params[:list_of_strings].nil?
+        type.list_of_structs = ListOfStructs.build(params[:list_of_structs], context: Hearth::Validator::Path.new(context, :list_of_structs)) unless params[:list_of_structs].nil?
         type.long = params[:long]
-        type.map_of_lists_of_strings = MapOfListsOfStrings.build(params[:map_of_lists_of_strings], context: "#{context}[:map_of_lists_of_strings]") unless params[:map_of_lists_of_strings].nil?
-        type.map_of_maps = MapOfMapOfStrings.build(params[:map_of_maps], context: "#{context}[:map_of_maps]") unless params[:map_of_maps].nil?
-        type.map_of_strings = MapOfStrings.build(params[:map_of_strings], context: "#{context}[:map_of_strings]") unless params[:map_of_strings].nil?
-        type.map_of_structs = MapOfStructs.build(params[:map_of_structs], context: "#{context}[:map_of_structs]") unless params[:map_of_structs].nil?
-        type.recursive_list = ListOfKitchenSinks.build(params[:recursive_list], context: "#{context}[:recursive_list]") unless params[:recursive_list].nil?
-        type.recursive_map = MapOfKitchenSinks.build(params[:recursive_map], context: "#{context}[:recursive_map]") unless params[:recursive_map].nil?
-        type.recursive_struct = KitchenSink.build(params[:recursive_struct], context: "#{context}[:recursive_struct]") unless params[:recursive_struct].nil?
-        type.simple_struct = SimpleStruct.build(params[:simple_struct], context: "#{context}[:simple_struct]") unless params[:simple_struct].nil?
+        type.map_of_lists_of_strings = MapOfListsOfStrings.build(params[:map_of_lists_of_strings], context: Hearth::Validator::Path.new(context, :map_of_lists_of_strings)) unless params[:map_of_lists_of_strings].nil?
+        type.map_of_maps = MapOfMapOfStrings.build(params[:map_of_maps], context: Hearth::Validator::Path.new(context, :map_of_maps)) unless params[:map_of_maps].nil?
+        type.map_of_strings = MapOfStrings.build(params[:map_of_strings], context: Hearth::Validator::Path.new(context, :map_of_strings)) unless params[:map_of_strings].nil?
+        type.map_of_structs = MapOfStructs.build(params[:map_of_structs], context: Hearth::Validator::Path.new(context, :map_of_structs)) unless params[:map_of_structs].nil?
+        type.recursive_list = ListOfKitchenSinks.build(params[:recursive_list], context: Hearth::Validator::Path.new(context, :recursive_list)) unless params[:recursive_list].nil?
+        type.recursive_map = MapOfKitchenSinks.build(params[:recursive_map], context: Hearth::Validator::Path.new(context, :recursive_map)) unless params[:recursive_map].nil?
+        type.recursive_struct = KitchenSink.build(params[:recursive_struct], context: Hearth::Validator::Path.new(context, :recursive_struct)) unless params[:recursive_struct].nil?
+        type.simple_struct = SimpleStruct.build(params[:simple_struct], context: Hearth::Validator::Path.new(context, :simple_struct)) unless params[:simple_struct].nil?
         type.string = params[:string]
-        type.struct_with_location_name = StructWithLocationName.build(params[:struct_with_location_name], context: "#{context}[:struct_with_location_name]") unless params[:struct_with_location_name].nil?
+        type.struct_with_location_name = StructWithLocationName.build(params[:struct_with_location_name], context: Hearth::Validator::Path.new(context, :struct_with_location_name)) unless params[:struct_with_location_name].nil?
         type.timestamp = params[:timestamp]
         type.unix_timestamp = params[:unix_timestamp]
         type
@@ -804,27 +804,27 @@ module RailsJson
         type.blob = params[:blob]
         type.boolean = params[:boolean]
         type.double = params[:double]
-        type.empty_struct = EmptyStruct.build(params[:empty_struct], context: "#{context}[:empty_struct]") unless params[:empty_struct].nil?
+        type.empty_struct = EmptyStruct.build(params[:empty_struct], context: Hearth::Validator::Path.new(context, :empty_struct)) unless params[:empty_struct].nil?
         type.float = params[:float]
         type.httpdate_timestamp = params[:httpdate_timestamp]
         type.integer = params[:integer]
         type.iso8601_timestamp = params[:iso8601_timestamp]
         type.json_value = params[:json_value]
-        type.list_of_lists = ListOfListOfStrings.build(params[:list_of_lists], context: "#{context}[:list_of_lists]") unless params[:list_of_lists].nil?
-        type.list_of_maps_of_strings = ListOfMapsOfStrings.build(params[:list_of_maps_of_strings], context: "#{context}[:list_of_maps_of_strings]") unless params[:list_of_maps_of_strings].nil?
-        type.list_of_strings = ListOfStrings.build(params[:list_of_strings], context: "#{context}[:list_of_strings]") unless params[:list_of_strings].nil?
-        type.list_of_structs = ListOfStructs.build(params[:list_of_structs], context: "#{context}[:list_of_structs]") unless params[:list_of_structs].nil?
+        type.list_of_lists = ListOfListOfStrings.build(params[:list_of_lists], context: Hearth::Validator::Path.new(context, :list_of_lists)) unless params[:list_of_lists].nil?
+        type.list_of_maps_of_strings = ListOfMapsOfStrings.build(params[:list_of_maps_of_strings], context: Hearth::Validator::Path.new(context, :list_of_maps_of_strings)) unless params[:list_of_maps_of_strings].nil?
+        type.list_of_strings = ListOfStrings.build(params[:list_of_strings], context: Hearth::Validator::Path.new(context, :list_of_strings)) unless params[:list_of_strings].nil?
+        type.list_of_structs = ListOfStructs.build(params[:list_of_structs], context: Hearth::Validator::Path.new(context, :list_of_structs)) unless params[:list_of_structs].nil?
         type.long = params[:long]
-        type.map_of_lists_of_strings = MapOfListsOfStrings.build(params[:map_of_lists_of_strings], context: "#{context}[:map_of_lists_of_strings]") unless params[:map_of_lists_of_strings].nil?
-        type.map_of_maps = MapOfMapOfStrings.build(params[:map_of_maps], context: "#{context}[:map_of_maps]") unless params[:map_of_maps].nil?
-        type.map_of_strings = MapOfStrings.build(params[:map_of_strings], context: "#{context}[:map_of_strings]") unless params[:map_of_strings].nil?
-        type.map_of_structs = MapOfStructs.build(params[:map_of_structs], context: "#{context}[:map_of_structs]") unless params[:map_of_structs].nil?
-        type.recursive_list = ListOfKitchenSinks.build(params[:recursive_list], context: "#{context}[:recursive_list]") unless params[:recursive_list].nil?
-        type.recursive_map = MapOfKitchenSinks.build(params[:recursive_map], context: "#{context}[:recursive_map]") unless params[:recursive_map].nil?
-        type.recursive_struct = KitchenSink.build(params[:recursive_struct], context: "#{context}[:recursive_struct]") unless params[:recursive_struct].nil?
-        type.simple_struct = SimpleStruct.build(params[:simple_struct], context: "#{context}[:simple_struct]") unless params[:simple_struct].nil?
+        type.map_of_lists_of_strings = MapOfListsOfStrings.build(params[:map_of_lists_of_strings], context: Hearth::Validator::Path.new(context, :map_of_lists_of_strings)) unless params[:map_of_lists_of_strings].nil?
+        type.map_of_maps = MapOfMapOfStrings.build(params[:map_of_maps], context: Hearth::Validator::Path.new(context, :map_of_maps)) unless params[:map_of_maps].nil?
+        type.map_of_strings = MapOfStrings.build(params[:map_of_strings], context: Hearth::Validator::Path.new(context, :map_of_strings)) unless params[:map_of_strings].nil?
+        type.map_of_structs = MapOfStructs.build(params[:map_of_structs], context: Hearth::Validator::Path.new(context, :map_of_structs)) unless params[:map_of_structs].nil?
+        type.recursive_list = ListOfKitchenSinks.build(params[:recursive_list], context: Hearth::Validator::Path.new(context, :recursive_list)) unless params[:recursive_list].nil?
+        type.recursive_map = MapOfKitchenSinks.build(params[:recursive_map], context: Hearth::Validator::Path.new(context, :recursive_map)) unless params[:recursive_map].nil?
+        type.recursive_struct = KitchenSink.build(params[:recursive_struct], context: Hearth::Validator::Path.new(context, :recursive_struct)) unless params[:recursive_struct].nil?
+        type.simple_struct = SimpleStruct.build(params[:simple_struct], context: Hearth::Validator::Path.new(context, :simple_struct)) unless params[:simple_struct].nil?
         type.string = params[:string]
-        type.struct_with_location_name = StructWithLocationName.build(params[:struct_with_location_name], context: "#{context}[:struct_with_location_name]") unless params[:struct_with_location_name].nil?
+        type.struct_with_location_name = StructWithLocationName.build(params[:struct_with_location_name], context: Hearth::Validator::Path.new(context, :struct_with_location_name)) unless params[:struct_with_location_name].nil?
         type.timestamp = params[:timestamp]
         type.unix_timestamp = params[:unix_timestamp]
         type
@@ -836,7 +836,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Array, context: context)
         data = []
         params.each_with_index do |element, index|
-          data << KitchenSink.build(element, context: "#{context}[#{index}]") unless element.nil?
+          data << KitchenSink.build(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
         data
       end
@@ -847,7 +847,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Array, context: context)
         data = []
         params.each_with_index do |element, index|
-          data << ListOfStrings.build(element, context: "#{context}[#{index}]") unless element.nil?
+          data << ListOfStrings.build(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
         data
       end
@@ -858,7 +858,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Array, context: context)
         data = []
         params.each_with_index do |element, index|
-          data << MapOfStrings.build(element, context: "#{context}[#{index}]") unless element.nil?
+          data << MapOfStrings.build(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
         data
       end
@@ -880,7 +880,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Array, context: context)
         data = []
         params.each_with_index do |element, index|
-          data << SimpleStruct.build(element, context: "#{context}[#{index}]") unless element.nil?
+          data << SimpleStruct.build(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
         data
       end
@@ -891,7 +891,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = KitchenSink.build(value, context: "#{context}[:#{key}]") unless value.nil?
+          data[key] = KitchenSink.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
         data
       end
@@ -902,7 +902,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = ListOfStrings.build(value, context: "#{context}[:#{key}]") unless value.nil?
+          data[key] = ListOfStrings.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
         data
       end
@@ -913,7 +913,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = MapOfStrings.build(value, context: "#{context}[:#{key}]") unless value.nil?
+          data[key] = MapOfStrings.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
         data
       end
@@ -935,7 +935,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = SimpleStruct.build(value, context: "#{context}[:#{key}]") unless value.nil?
+          data[key] = SimpleStruct.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
         data
       end
@@ -995,15 +995,15 @@ module RailsJson
           )
         when :list_value
           Types::MyUnion::ListValue.new(
-            (StringList.build(params[:list_value], context: "#{context}[:list_value]") unless params[:list_value].nil?)
+            (StringList.build(params[:list_value], context: Hearth::Validator::Path.new(context, :list_value)) unless params[:list_value].nil?)
           )
         when :map_value
           Types::MyUnion::MapValue.new(
-            (StringMap.build(params[:map_value], context: "#{context}[:map_value]") unless params[:map_value].nil?)
+            (StringMap.build(params[:map_value], context: Hearth::Validator::Path.new(context, :map_value)) unless params[:map_value].nil?)
           )
         when :structure_value
           Types::MyUnion::StructureValue.new(
-            (GreetingStruct.build(params[:structure_value], context: "#{context}[:structure_value]") unless params[:structure_value].nil?)
+            (GreetingStruct.build(params[:structure_value], context: Hearth::Validator::Path.new(context, :structure_value)) unless params[:structure_value].nil?)
           )
         else
           raise ArgumentError,
@@ -1016,7 +1016,7 @@ module RailsJson
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::NestedAttributesOperationInput, context: context)
         type = Types::NestedAttributesOperationInput.new
-        type.simple_struct = SimpleStruct.build(params[:simple_struct], context: "#{context}[:simple_struct]") unless params[:simple_struct].nil?
+        type.simple_struct = SimpleStruct.build(params[:simple_struct], context: Hearth::Validator::Path.new(context, :simple_struct)) unless params[:simple_struct].nil?
         type
       end
     end
@@ -1046,7 +1046,7 @@ module RailsJson
         type = Types::NullAndEmptyHeadersClientInput.new
         type.a = params[:a]
         type.b = params[:b]
-        type.c = StringList.build(params[:c], context: "#{context}[:c]") unless params[:c].nil?
+        type.c = StringList.build(params[:c], context: Hearth::Validator::Path.new(context, :c)) unless params[:c].nil?
         type
       end
     end
@@ -1057,7 +1057,7 @@ module RailsJson
         type = Types::NullAndEmptyHeadersClientOutput.new
         type.a = params[:a]
         type.b = params[:b]
-        type.c = StringList.build(params[:c], context: "#{context}[:c]") unless params[:c].nil?
+        type.c = StringList.build(params[:c], context: Hearth::Validator::Path.new(context, :c)) unless params[:c].nil?
         type
       end
     end
@@ -1067,8 +1067,8 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, Types::NullOperationInput, context: context)
         type = Types::NullOperationInput.new
         type.string = params[:string]
-        type.sparse_string_list = SparseStringList.build(params[:sparse_string_list], context: "#{context}[:sparse_string_list]") unless params[:sparse_string_list].nil?
-        type.sparse_string_map = SparseStringMap.build(params[:sparse_string_map], context: "#{context}[:sparse_string_map]") unless params[:sparse_string_map].nil?
+        type.sparse_string_list = SparseStringList.build(params[:sparse_string_list], context: Hearth::Validator::Path.new(context, :sparse_string_list)) unless params[:sparse_string_list].nil?
+        type.sparse_string_map = SparseStringMap.build(params[:sparse_string_map], context: Hearth::Validator::Path.new(context, :sparse_string_map)) unless params[:sparse_string_map].nil?
         type
       end
     end
@@ -1078,8 +1078,8 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, Types::NullOperationOutput, context: context)
         type = Types::NullOperationOutput.new
         type.string = params[:string]
-        type.sparse_string_list = SparseStringList.build(params[:sparse_string_list], context: "#{context}[:sparse_string_list]") unless params[:sparse_string_list].nil?
-        type.sparse_string_map = SparseStringMap.build(params[:sparse_string_map], context: "#{context}[:sparse_string_map]") unless params[:sparse_string_map].nil?
+        type.sparse_string_list = SparseStringList.build(params[:sparse_string_list], context: Hearth::Validator::Path.new(context, :sparse_string_list)) unless params[:sparse_string_list].nil?
+        type.sparse_string_map = SparseStringMap.build(params[:sparse_string_map], context: Hearth::Validator::Path.new(context, :sparse_string_map)) unless params[:sparse_string_map].nil?
         type
       end
     end
@@ -1120,6 +1120,25 @@ module RailsJson
       end
     end
 
+    module PaginatedListOperationInput
+      def self.build(params, context: '')
+        Hearth::Validator.validate_types!(params, ::Hash, Types::PaginatedListOperationInput, context: context)
+        type = Types::PaginatedListOperationInput.new
+        type.next_token = params[:next_token]
+        type
+      end
+    end
+
+    module PaginatedListOperationOutput
+      def self.build(params, context: '')
+        Hearth::Validator.validate_types!(params, ::Hash, Types::PaginatedListOperationOutput, context: context)
+        type = Types::PaginatedListOperationOutput.new
+        type.next_token = params[:next_token]
+        type.items = ListOfStructs.build(params[:items], context: Hearth::Validator::Path.new(context, :items)) unless params[:items].nil?
+        type
+      end
+    end
+
     module QueryIdempotencyTokenAutoFillInput
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::QueryIdempotencyTokenAutoFillInput, context: context)
@@ -1142,7 +1161,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, Types::QueryParamsAsStringListMapInput, context: context)
         type = Types::QueryParamsAsStringListMapInput.new
         type.qux = params[:qux]
-        type.foo = StringListMap.build(params[:foo], context: "#{context}[:foo]") unless params[:foo].nil?
+        type.foo = StringListMap.build(params[:foo], context: Hearth::Validator::Path.new(context, :foo)) unless params[:foo].nil?
         type
       end
     end
@@ -1191,7 +1210,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = (StringSet.build(value, context: "#{context}[:#{key}]") unless value.nil?)
+          data[key] = (StringSet.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?)
         end
         data
       end
@@ -1224,7 +1243,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = (GreetingStruct.build(value, context: "#{context}[:#{key}]") unless value.nil?)
+          data[key] = (GreetingStruct.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?)
         end
         data
       end
@@ -1272,7 +1291,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = StringList.build(value, context: "#{context}[:#{key}]") unless value.nil?
+          data[key] = StringList.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
         data
       end
@@ -1364,7 +1383,7 @@ module RailsJson
         Hearth::Validator.validate_types!(params, ::Hash, Types::Struct____789BadNameInput, context: context)
         type = Types::Struct____789BadNameInput.new
         type.member___123abc = params[:member___123abc]
-        type.member = Struct____456efg.build(params[:member], context: "#{context}[:member]") unless params[:member].nil?
+        type.member = Struct____456efg.build(params[:member], context: Hearth::Validator::Path.new(context, :member)) unless params[:member].nil?
         type
       end
     end
@@ -1373,7 +1392,7 @@ module RailsJson
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::Struct____789BadNameOutput, context: context)
         type = Types::Struct____789BadNameOutput.new
-        type.member = Struct____456efg.build(params[:member], context: "#{context}[:member]") unless params[:member].nil?
+        type.member = Struct____456efg.build(params[:member], context: Hearth::Validator::Path.new(context, :member)) unless params[:member].nil?
         type
       end
     end
@@ -395,7 +395,7 @@ module RailsJson
         unless http_resp.headers['X-TimestampList'].nil? || http_resp.headers['X-TimestampList'].empty?
           data.header_timestamp_list = http_resp.headers['X-TimestampList']
             .split(', ')
-            .map { |s| Time.parse(s) }
+            .map { |s| Hearth::TimeHelper.from_http_date(s) }
         end
         data.header_enum = http_resp.headers['X-Enum']
         unless http_resp.headers['X-EnumList'].nil? || http_resp.headers['X-EnumList'].empty?
@@ -478,9 +478,9 @@ module RailsJson
         data.double = Hearth::NumberHelper.deserialize(map['double'])
         data.empty_struct = (Parsers::EmptyStruct.parse(map['empty_struct']) unless map['empty_struct'].nil?)
         data.float = Hearth::NumberHelper.deserialize(map['float'])
-        data.httpdate_timestamp = Time.parse(map['httpdate_timestamp']) if map['httpdate_timestamp']
+        data.httpdate_timestamp = Hearth::TimeHelper.from_http_date(map['httpdate_timestamp']) if map['httpdate_timestamp']
         data.integer = map['integer']
-        data.iso8601_timestamp = Time.parse(map['iso8601_timestamp']) if map['iso8601_timestamp']
+        data.iso8601_timestamp = Hearth::TimeHelper.from_date_time(map['iso8601_timestamp']) if map['iso8601_timestamp']
         data.json_value = map['json_value']
         data.list_of_lists = (Parsers::ListOfListOfStrings.parse(map['list_of_lists']) unless map['list_of_lists'].nil?)
         data.list_of_maps_of_strings = (Parsers::ListOfMapsOfStrings.parse(map['list_of_maps_of_strings']) unless map['list_of_maps_of_strings'].nil?)
@@ -497,8 +497,8 @@ module RailsJson
         data.simple_struct = (Parsers::SimpleStruct.parse(map['simple_struct']) unless map['simple_struct'].nil?)
         data.string = map['string']
         data.struct_with_location_name = (Parsers::StructWithLocationName.parse(map['struct_with_location_name']) unless map['struct_with_location_name'].nil?)
-        data.timestamp = Time.parse(map['timestamp']) if map['timestamp']
-        data.unix_timestamp = Time.at(map['unix_timestamp'].to_i) if map['unix_timestamp']
+        data.timestamp = Hearth::TimeHelper.from_date_time(map['timestamp']) if map['timestamp']
+        data.unix_timestamp = Hearth::TimeHelper.from_epoch_seconds(map['unix_timestamp']) if map['unix_timestamp']
         return data
       end
     end
@@ -513,9 +513,9 @@ module RailsJson
         data.double = Hearth::NumberHelper.deserialize(map['double'])
         data.empty_struct = (Parsers::EmptyStruct.parse(map['empty_struct']) unless map['empty_struct'].nil?)
         data.float = Hearth::NumberHelper.deserialize(map['float'])
-        data.httpdate_timestamp = Time.parse(map['httpdate_timestamp']) if map['httpdate_timestamp']
+        data.httpdate_timestamp = Hearth::TimeHelper.from_http_date(map['httpdate_timestamp']) if map['httpdate_timestamp']
         data.integer = map['integer']
-        data.iso8601_timestamp = Time.parse(map['iso8601_timestamp']) if map['iso8601_timestamp']
+        data.iso8601_timestamp = Hearth::TimeHelper.from_date_time(map['iso8601_timestamp']) if map['iso8601_timestamp']
         data.json_value = map['json_value']
         data.list_of_lists = (Parsers::ListOfListOfStrings.parse(map['list_of_lists']) unless map['list_of_lists'].nil?)
         data.list_of_maps_of_strings = (Parsers::ListOfMapsOfStrings.parse(map['list_of_maps_of_strings']) unless map['list_of_maps_of_strings'].nil?)
@@ -532,8 +532,8 @@ module RailsJson
         data.simple_struct = (Parsers::SimpleStruct.parse(map['simple_struct']) unless map['simple_struct'].nil?)
         data.string = map['string']
         data.struct_with_location_name = (Parsers::StructWithLocationName.parse(map['struct_with_location_name']) unless map['struct_with_location_name'].nil?)
-        data.timestamp = Time.parse(map['timestamp']) if map['timestamp']
-        data.unix_timestamp = Time.at(map['unix_timestamp'].to_i) if map['unix_timestamp']
+        data.timestamp = Hearth::TimeHelper.from_date_time(map['timestamp']) if map['timestamp']
+        data.unix_timestamp = Hearth::TimeHelper.from_epoch_seconds(map['unix_timestamp']) if map['unix_timestamp']
         data
       end
     end
@@ -655,7 +655,7 @@ module RailsJson
           value = ::Base64::decode64(value) unless value.nil?
           Types::MyUnion::BlobValue.new(value) if value
         when 'timestamp_value'
-          value = Time.parse(value) if value
+          value = Hearth::TimeHelper.from_date_time(value) if value
           Types::MyUnion::TimestampValue.new(value) if value
         when 'enum_value'
           value = value
@@ -741,6 +741,17 @@ module RailsJson
       end
     end
 
+    # Operation Parser for PaginatedListOperation
+    class PaginatedListOperation
+      def self.parse(http_resp)
+        data = Types::PaginatedListOperationOutput.new
+        map = Hearth::JSON.load(http_resp.body)
+        data.next_token = map['next_token']
+        data.items = (Parsers::ListOfStructs.parse(map['items']) unless map['items'].nil?)
+        data
+      end
+    end
+
     # Operation Parser for QueryIdempotencyTokenAutoFill
     class QueryIdempotencyTokenAutoFill
       def self.parse(http_resp)
@@ -872,13 +883,13 @@ module RailsJson
     class TimestampFormatHeaders
       def self.parse(http_resp)
         data = Types::TimestampFormatHeadersOutput.new
-        data.member_epoch_seconds = Time.at(http_resp.headers['X-memberEpochSeconds'].to_i) if http_resp.headers['X-memberEpochSeconds']
-        data.member_http_date = Time.parse(http_resp.headers['X-memberHttpDate']) if http_resp.headers['X-memberHttpDate']
-        data.member_date_time = Time.parse(http_resp.headers['X-memberDateTime']) if http_resp.headers['X-memberDateTime']
-        data.default_format = Time.parse(http_resp.headers['X-defaultFormat']) if http_resp.headers['X-defaultFormat']
-        data.target_epoch_seconds = Time.at(http_resp.headers['X-targetEpochSeconds'].to_i) if http_resp.headers['X-targetEpochSeconds']
-        data.target_http_date = Time.parse(http_resp.headers['X-targetHttpDate']) if http_resp.headers['X-targetHttpDate']
-        data.target_date_time = Time.parse(http_resp.headers['X-targetDateTime']) if http_resp.headers['X-targetDateTime']
+        data.member_epoch_seconds = Hearth::TimeHelper.from_epoch_seconds(http_resp.headers['X-memberEpochSeconds']) if http_resp.headers['X-memberEpochSeconds']
+        data.member_http_date = Hearth::TimeHelper.from_http_date(http_resp.headers['X-memberHttpDate']) if http_resp.headers['X-memberHttpDate']
+        data.member_date_time = Hearth::TimeHelper.from_date_time(http_resp.headers['X-memberDateTime']) if http_resp.headers['X-memberDateTime']
+        data.default_format = Hearth::TimeHelper.from_date_time(http_resp.headers['X-defaultFormat']) if http_resp.headers['X-defaultFormat']
+        data.target_epoch_seconds = Hearth::TimeHelper.from_epoch_seconds(http_resp.headers['X-targetEpochSeconds']) if http_resp.headers['X-targetEpochSeconds']
+        data.target_http_date = Hearth::TimeHelper.from_http_date(http_resp.headers['X-targetHttpDate']) if http_resp.headers['X-targetHttpDate']
+        data.target_date_time = Hearth::TimeHelper.from_date_time(http_resp.headers['X-targetDateTime']) if http_resp.headers['X-targetDateTime']
         map = Hearth::JSON.load(http_resp.body)
         data
       end
@@ -887,7 +898,7 @@ module RailsJson
     class TimestampList
       def self.parse(list)
         list.map do |value|
-          Time.parse(value) if value
+          Hearth::TimeHelper.from_date_time(value) if value
         end
       end
     end
@@ -1216,6 +1216,25 @@ module RailsJson
       end
     end
 
+    # Operation Stubber for PaginatedListOperation
+    class PaginatedListOperation
+      def self.default(visited=[])
+        {
+          next_token: 'next_token',
+          items: ListOfStructs.default(visited),
+        }
+      end
+
+      def self.stub(http_resp, stub:)
+        data = {}
+        http_resp.status = 200
+        http_resp.headers['Content-Type'] = 'application/json'
+        data[:next_token] = stub[:next_token] unless stub[:next_token].nil?
+        data[:items] = Stubs::ListOfStructs.stub(stub[:items]) unless stub[:items].nil?
+        http_resp.body = StringIO.new(Hearth::JSON.dump(data))
+      end
+    end
+
     # Operation Stubber for QueryIdempotencyTokenAutoFill
     class QueryIdempotencyTokenAutoFill
       def self.default(visited=[])
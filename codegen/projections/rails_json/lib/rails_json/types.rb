@@ -110,6 +110,32 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:query_string] = self.query_string unless self.query_string.nil?
+        hash[:query_string_list] = super(self.query_string_list) unless self.query_string_list.nil?
+        hash[:query_string_set] = super(self.query_string_set) unless self.query_string_set.nil?
+        hash[:query_byte] = self.query_byte unless self.query_byte.nil?
+        hash[:query_short] = self.query_short unless self.query_short.nil?
+        hash[:query_integer] = self.query_integer unless self.query_integer.nil?
+        hash[:query_integer_list] = super(self.query_integer_list) unless self.query_integer_list.nil?
+        hash[:query_integer_set] = super(self.query_integer_set) unless self.query_integer_set.nil?
+        hash[:query_long] = self.query_long unless self.query_long.nil?
+        hash[:query_float] = self.query_float unless self.query_float.nil?
+        hash[:query_double] = self.query_double unless self.query_double.nil?
+        hash[:query_double_list] = super(self.query_double_list) unless self.query_double_list.nil?
+        hash[:query_boolean] = self.query_boolean unless self.query_boolean.nil?
+        hash[:query_boolean_list] = super(self.query_boolean_list) unless self.query_boolean_list.nil?
+        hash[:query_timestamp] = self.query_timestamp unless self.query_timestamp.nil?
+        hash[:query_timestamp_list] = super(self.query_timestamp_list) unless self.query_timestamp_list.nil?
+        hash[:query_enum] = self.query_enum unless self.query_enum.nil?
+        hash[:query_enum_list] = super(self.query_enum_list) unless self.query_enum_list.nil?
+        hash[:query_params_map_of_strings] = super(self.query_params_map_of_strings) unless self.query_params_map_of_strings.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     AllQueryStringTypesOutput = ::Struct.new(
@@ -117,6 +143,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # This error is thrown when a request is invalid.
@@ -135,6 +166,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:top_level] = self.top_level unless self.top_level.nil?
+        hash[:nested] = self.nested.to_h unless self.nested.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute foo
@@ -146,6 +186,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:foo] = self.foo unless self.foo.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute baz
@@ -162,6 +210,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:baz] = self.baz unless self.baz.nil?
+        hash[:maybe_set] = self.maybe_set unless self.maybe_set.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     ConstantAndVariableQueryStringOutput = ::Struct.new(
@@ -169,6 +226,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute hello
@@ -180,6 +242,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:hello] = self.hello unless self.hello.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     ConstantQueryStringOutput = ::Struct.new(
@@ -187,6 +257,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute document_value
@@ -198,6 +273,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:document_value] = super(self.document_value) unless self.document_value.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute document_value
@@ -209,6 +292,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:document_value] = super(self.document_value) unless self.document_value.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute string_value
@@ -225,6 +316,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:string_value] = self.string_value unless self.string_value.nil?
+        hash[:document_value] = super(self.document_value) unless self.document_value.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute string_value
@@ -241,6 +341,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:string_value] = self.string_value unless self.string_value.nil?
+        hash[:document_value] = super(self.document_value) unless self.document_value.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     EmptyOperationInput = ::Struct.new(
@@ -248,6 +357,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     EmptyOperationOutput = ::Struct.new(
@@ -255,6 +369,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     EmptyStruct = ::Struct.new(
@@ -262,6 +381,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     EndpointOperationInput = ::Struct.new(
@@ -269,6 +393,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     EndpointOperationOutput = ::Struct.new(
@@ -276,6 +405,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute label_member
@@ -287,6 +421,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:label_member] = self.label_member unless self.label_member.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     EndpointWithHostLabelOperationOutput = ::Struct.new(
@@ -294,6 +436,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute code
@@ -336,6 +483,20 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:code] = self.code unless self.code.nil?
+        hash[:complex_data] = self.complex_data.to_h unless self.complex_data.nil?
+        hash[:integer_field] = self.integer_field unless self.integer_field.nil?
+        hash[:list_field] = super(self.list_field) unless self.list_field.nil?
+        hash[:map_field] = super(self.map_field) unless self.map_field.nil?
+        hash[:message] = self.message unless self.message.nil?
+        hash[:string_field] = self.string_field unless self.string_field.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     ErrorWithoutMembers = ::Struct.new(
@@ -343,6 +504,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # Includes enum constants for FooEnum
@@ -378,6 +544,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:hi] = self.hi unless self.hi.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     GreetingWithErrorsInput = ::Struct.new(
@@ -385,6 +559,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute greeting
@@ -396,6 +575,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:greeting] = self.greeting unless self.greeting.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute foo
@@ -412,6 +599,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:foo] = self.foo unless self.foo.nil?
+        hash[:blob] = self.blob unless self.blob.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute foo
@@ -428,6 +624,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:foo] = self.foo unless self.foo.nil?
+        hash[:blob] = self.blob unless self.blob.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute foo
@@ -444,6 +649,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:foo] = self.foo unless self.foo.nil?
+        hash[:blob] = self.blob unless self.blob.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute foo
@@ -460,6 +674,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:foo] = self.foo unless self.foo.nil?
+        hash[:blob] = self.blob unless self.blob.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute nested
@@ -471,6 +694,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:nested] = self.nested.to_h unless self.nested.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute nested
@@ -482,6 +713,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:nested] = self.nested.to_h unless self.nested.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     HttpPrefixHeadersInResponseInput = ::Struct.new(
@@ -489,6 +728,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute prefix_headers
@@ -500,6 +744,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:prefix_headers] = super(self.prefix_headers) unless self.prefix_headers.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute foo
@@ -516,6 +768,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:foo] = self.foo unless self.foo.nil?
+        hash[:foo_map] = super(self.foo_map) unless self.foo_map.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute foo
@@ -532,6 +793,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:foo] = self.foo unless self.foo.nil?
+        hash[:foo_map] = super(self.foo_map) unless self.foo_map.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute float
@@ -548,6 +818,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:float] = self.float unless self.float.nil?
+        hash[:double] = self.double unless self.double.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     HttpRequestWithFloatLabelsOutput = ::Struct.new(
@@ -555,6 +834,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute foo
@@ -571,6 +855,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:foo] = self.foo unless self.foo.nil?
+        hash[:baz] = self.baz unless self.baz.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     HttpRequestWithGreedyLabelInPathOutput = ::Struct.new(
@@ -578,6 +871,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member_epoch_seconds
@@ -619,6 +917,20 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member_epoch_seconds] = self.member_epoch_seconds unless self.member_epoch_seconds.nil?
+        hash[:member_http_date] = self.member_http_date unless self.member_http_date.nil?
+        hash[:member_date_time] = self.member_date_time unless self.member_date_time.nil?
+        hash[:default_format] = self.default_format unless self.default_format.nil?
+        hash[:target_epoch_seconds] = self.target_epoch_seconds unless self.target_epoch_seconds.nil?
+        hash[:target_http_date] = self.target_http_date unless self.target_http_date.nil?
+        hash[:target_date_time] = self.target_date_time unless self.target_date_time.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     HttpRequestWithLabelsAndTimestampFormatOutput = ::Struct.new(
@@ -626,6 +938,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute string
@@ -674,6 +991,21 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:string] = self.string unless self.string.nil?
+        hash[:short] = self.short unless self.short.nil?
+        hash[:integer] = self.integer unless self.integer.nil?
+        hash[:long] = self.long unless self.long.nil?
+        hash[:float] = self.float unless self.float.nil?
+        hash[:double] = self.double unless self.double.nil?
+        hash[:boolean] = self.boolean unless self.boolean.nil?
+        hash[:timestamp] = self.timestamp unless self.timestamp.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     HttpRequestWithLabelsOutput = ::Struct.new(
@@ -681,6 +1013,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     HttpResponseCodeInput = ::Struct.new(
@@ -688,6 +1025,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute status
@@ -699,6 +1041,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:status] = self.status unless self.status.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     IgnoreQueryParamsInResponseInput = ::Struct.new(
@@ -706,6 +1056,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute baz
@@ -717,6 +1072,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:baz] = self.baz unless self.baz.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute header_string
@@ -804,6 +1167,29 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:header_string] = self.header_string unless self.header_string.nil?
+        hash[:header_byte] = self.header_byte unless self.header_byte.nil?
+        hash[:header_short] = self.header_short unless self.header_short.nil?
+        hash[:header_integer] = self.header_integer unless self.header_integer.nil?
+        hash[:header_long] = self.header_long unless self.header_long.nil?
+        hash[:header_float] = self.header_float unless self.header_float.nil?
+        hash[:header_double] = self.header_double unless self.header_double.nil?
+        hash[:header_true_bool] = self.header_true_bool unless self.header_true_bool.nil?
+        hash[:header_false_bool] = self.header_false_bool unless self.header_false_bool.nil?
+        hash[:header_string_list] = super(self.header_string_list) unless self.header_string_list.nil?
+        hash[:header_string_set] = super(self.header_string_set) unless self.header_string_set.nil?
+        hash[:header_integer_list] = super(self.header_integer_list) unless self.header_integer_list.nil?
+        hash[:header_boolean_list] = super(self.header_boolean_list) unless self.header_boolean_list.nil?
+        hash[:header_timestamp_list] = super(self.header_timestamp_list) unless self.header_timestamp_list.nil?
+        hash[:header_enum] = self.header_enum unless self.header_enum.nil?
+        hash[:header_enum_list] = super(self.header_enum_list) unless self.header_enum_list.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute header_string
@@ -891,6 +1277,29 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:header_string] = self.header_string unless self.header_string.nil?
+        hash[:header_byte] = self.header_byte unless self.header_byte.nil?
+        hash[:header_short] = self.header_short unless self.header_short.nil?
+        hash[:header_integer] = self.header_integer unless self.header_integer.nil?
+        hash[:header_long] = self.header_long unless self.header_long.nil?
+        hash[:header_float] = self.header_float unless self.header_float.nil?
+        hash[:header_double] = self.header_double unless self.header_double.nil?
+        hash[:header_true_bool] = self.header_true_bool unless self.header_true_bool.nil?
+        hash[:header_false_bool] = self.header_false_bool unless self.header_false_bool.nil?
+        hash[:header_string_list] = super(self.header_string_list) unless self.header_string_list.nil?
+        hash[:header_string_set] = super(self.header_string_set) unless self.header_string_set.nil?
+        hash[:header_integer_list] = super(self.header_integer_list) unless self.header_integer_list.nil?
+        hash[:header_boolean_list] = super(self.header_boolean_list) unless self.header_boolean_list.nil?
+        hash[:header_timestamp_list] = super(self.header_timestamp_list) unless self.header_timestamp_list.nil?
+        hash[:header_enum] = self.header_enum unless self.header_enum.nil?
+        hash[:header_enum_list] = super(self.header_enum_list) unless self.header_enum_list.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # This error is thrown when an invalid greeting value is provided.
@@ -904,6 +1313,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:message] = self.message unless self.message.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute foo_enum1
@@ -943,6 +1360,19 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:foo_enum1] = self.foo_enum1 unless self.foo_enum1.nil?
+        hash[:foo_enum2] = self.foo_enum2 unless self.foo_enum2.nil?
+        hash[:foo_enum3] = self.foo_enum3 unless self.foo_enum3.nil?
+        hash[:foo_enum_list] = super(self.foo_enum_list) unless self.foo_enum_list.nil?
+        hash[:foo_enum_set] = super(self.foo_enum_set) unless self.foo_enum_set.nil?
+        hash[:foo_enum_map] = super(self.foo_enum_map) unless self.foo_enum_map.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute foo_enum1
@@ -982,6 +1412,19 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:foo_enum1] = self.foo_enum1 unless self.foo_enum1.nil?
+        hash[:foo_enum2] = self.foo_enum2 unless self.foo_enum2.nil?
+        hash[:foo_enum3] = self.foo_enum3 unless self.foo_enum3.nil?
+        hash[:foo_enum_list] = super(self.foo_enum_list) unless self.foo_enum_list.nil?
+        hash[:foo_enum_set] = super(self.foo_enum_set) unless self.foo_enum_set.nil?
+        hash[:foo_enum_map] = super(self.foo_enum_map) unless self.foo_enum_map.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute dense_struct_map
@@ -1038,6 +1481,23 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:dense_struct_map] = super(self.dense_struct_map) unless self.dense_struct_map.nil?
+        hash[:sparse_struct_map] = super(self.sparse_struct_map) unless self.sparse_struct_map.nil?
+        hash[:dense_number_map] = super(self.dense_number_map) unless self.dense_number_map.nil?
+        hash[:dense_boolean_map] = super(self.dense_boolean_map) unless self.dense_boolean_map.nil?
+        hash[:dense_string_map] = super(self.dense_string_map) unless self.dense_string_map.nil?
+        hash[:sparse_number_map] = super(self.sparse_number_map) unless self.sparse_number_map.nil?
+        hash[:sparse_boolean_map] = super(self.sparse_boolean_map) unless self.sparse_boolean_map.nil?
+        hash[:sparse_string_map] = super(self.sparse_string_map) unless self.sparse_string_map.nil?
+        hash[:dense_set_map] = super(self.dense_set_map) unless self.dense_set_map.nil?
+        hash[:sparse_set_map] = super(self.sparse_set_map) unless self.sparse_set_map.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute dense_struct_map
@@ -1094,6 +1554,23 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:dense_struct_map] = super(self.dense_struct_map) unless self.dense_struct_map.nil?
+        hash[:sparse_struct_map] = super(self.sparse_struct_map) unless self.sparse_struct_map.nil?
+        hash[:dense_number_map] = super(self.dense_number_map) unless self.dense_number_map.nil?
+        hash[:dense_boolean_map] = super(self.dense_boolean_map) unless self.dense_boolean_map.nil?
+        hash[:dense_string_map] = super(self.dense_string_map) unless self.dense_string_map.nil?
+        hash[:sparse_number_map] = super(self.sparse_number_map) unless self.sparse_number_map.nil?
+        hash[:sparse_boolean_map] = super(self.sparse_boolean_map) unless self.sparse_boolean_map.nil?
+        hash[:sparse_string_map] = super(self.sparse_string_map) unless self.sparse_string_map.nil?
+        hash[:dense_set_map] = super(self.dense_set_map) unless self.dense_set_map.nil?
+        hash[:sparse_set_map] = super(self.sparse_set_map) unless self.sparse_set_map.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # A shared structure that contains a single union member.
@@ -1108,6 +1585,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:contents] = self.contents.to_h unless self.contents.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # A shared structure that contains a single union member.
@@ -1122,6 +1607,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:contents] = self.contents.to_h unless self.contents.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute blob
@@ -1258,6 +1751,39 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:blob] = self.blob unless self.blob.nil?
+        hash[:boolean] = self.boolean unless self.boolean.nil?
+        hash[:double] = self.double unless self.double.nil?
+        hash[:empty_struct] = self.empty_struct.to_h unless self.empty_struct.nil?
+        hash[:float] = self.float unless self.float.nil?
+        hash[:httpdate_timestamp] = self.httpdate_timestamp unless self.httpdate_timestamp.nil?
+        hash[:integer] = self.integer unless self.integer.nil?
+        hash[:iso8601_timestamp] = self.iso8601_timestamp unless self.iso8601_timestamp.nil?
+        hash[:json_value] = self.json_value unless self.json_value.nil?
+        hash[:list_of_lists] = super(self.list_of_lists) unless self.list_of_lists.nil?
+        hash[:list_of_maps_of_strings] = super(self.list_of_maps_of_strings) unless self.list_of_maps_of_strings.nil?
+        hash[:list_of_strings] = super(self.list_of_strings) unless self.list_of_strings.nil?
+        hash[:list_of_structs] = super(self.list_of_structs) unless self.list_of_structs.nil?
+        hash[:long] = self.long unless self.long.nil?
+        hash[:map_of_lists_of_strings] = super(self.map_of_lists_of_strings) unless self.map_of_lists_of_strings.nil?
+        hash[:map_of_maps] = super(self.map_of_maps) unless self.map_of_maps.nil?
+        hash[:map_of_strings] = super(self.map_of_strings) unless self.map_of_strings.nil?
+        hash[:map_of_structs] = super(self.map_of_structs) unless self.map_of_structs.nil?
+        hash[:recursive_list] = super(self.recursive_list) unless self.recursive_list.nil?
+        hash[:recursive_map] = super(self.recursive_map) unless self.recursive_map.nil?
+        hash[:recursive_struct] = self.recursive_struct.to_h unless self.recursive_struct.nil?
+        hash[:simple_struct] = self.simple_struct.to_h unless self.simple_struct.nil?
+        hash[:string] = self.string unless self.string.nil?
+        hash[:struct_with_location_name] = self.struct_with_location_name.to_h unless self.struct_with_location_name.nil?
+        hash[:timestamp] = self.timestamp unless self.timestamp.nil?
+        hash[:unix_timestamp] = self.unix_timestamp unless self.unix_timestamp.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute blob
@@ -1394,6 +1920,39 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:blob] = self.blob unless self.blob.nil?
+        hash[:boolean] = self.boolean unless self.boolean.nil?
+        hash[:double] = self.double unless self.double.nil?
+        hash[:empty_struct] = self.empty_struct.to_h unless self.empty_struct.nil?
+        hash[:float] = self.float unless self.float.nil?
+        hash[:httpdate_timestamp] = self.httpdate_timestamp unless self.httpdate_timestamp.nil?
+        hash[:integer] = self.integer unless self.integer.nil?
+        hash[:iso8601_timestamp] = self.iso8601_timestamp unless self.iso8601_timestamp.nil?
+        hash[:json_value] = self.json_value unless self.json_value.nil?
+        hash[:list_of_lists] = super(self.list_of_lists) unless self.list_of_lists.nil?
+        hash[:list_of_maps_of_strings] = super(self.list_of_maps_of_strings) unless self.list_of_maps_of_strings.nil?
+        hash[:list_of_strings] = super(self.list_of_strings) unless self.list_of_strings.nil?
+        hash[:list_of_structs] = super(self.list_of_structs) unless self.list_of_structs.nil?
+        hash[:long] = self.long unless self.long.nil?
+        hash[:map_of_lists_of_strings] = super(self.map_of_lists_of_strings) unless self.map_of_lists_of_strings.nil?
+        hash[:map_of_maps] = super(self.map_of_maps) unless self.map_of_maps.nil?
+        hash[:map_of_strings] = super(self.map_of_strings) unless self.map_of_strings.nil?
+        hash[:map_of_structs] = super(self.map_of_structs) unless self.map_of_structs.nil?
+        hash[:recursive_list] = super(self.recursive_list) unless self.recursive_list.nil?
+        hash[:recursive_map] = super(self.recursive_map) unless self.recursive_map.nil?
+        hash[:recursive_struct] = self.recursive_struct.to_h unless self.recursive_struct.nil?
+        hash[:simple_struct] = self.simple_struct.to_h unless self.simple_struct.nil?
+        hash[:string] = self.string unless self.string.nil?
+        hash[:struct_with_location_name] = self.struct_with_location_name.to_h unless self.struct_with_location_name.nil?
+        hash[:timestamp] = self.timestamp unless self.timestamp.nil?
+        hash[:unix_timestamp] = self.unix_timestamp unless self.unix_timestamp.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute blob
@@ -1530,6 +2089,39 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:blob] = self.blob unless self.blob.nil?
+        hash[:boolean] = self.boolean unless self.boolean.nil?
+        hash[:double] = self.double unless self.double.nil?
+        hash[:empty_struct] = self.empty_struct.to_h unless self.empty_struct.nil?
+        hash[:float] = self.float unless self.float.nil?
+        hash[:httpdate_timestamp] = self.httpdate_timestamp unless self.httpdate_timestamp.nil?
+        hash[:integer] = self.integer unless self.integer.nil?
+        hash[:iso8601_timestamp] = self.iso8601_timestamp unless self.iso8601_timestamp.nil?
+        hash[:json_value] = self.json_value unless self.json_value.nil?
+        hash[:list_of_lists] = super(self.list_of_lists) unless self.list_of_lists.nil?
+        hash[:list_of_maps_of_strings] = super(self.list_of_maps_of_strings) unless self.list_of_maps_of_strings.nil?
+        hash[:list_of_strings] = super(self.list_of_strings) unless self.list_of_strings.nil?
+        hash[:list_of_structs] = super(self.list_of_structs) unless self.list_of_structs.nil?
+        hash[:long] = self.long unless self.long.nil?
+        hash[:map_of_lists_of_strings] = super(self.map_of_lists_of_strings) unless self.map_of_lists_of_strings.nil?
+        hash[:map_of_maps] = super(self.map_of_maps) unless self.map_of_maps.nil?
+        hash[:map_of_strings] = super(self.map_of_strings) unless self.map_of_strings.nil?
+        hash[:map_of_structs] = super(self.map_of_structs) unless self.map_of_structs.nil?
+        hash[:recursive_list] = super(self.recursive_list) unless self.recursive_list.nil?
+        hash[:recursive_map] = super(self.recursive_map) unless self.recursive_map.nil?
+        hash[:recursive_struct] = self.recursive_struct.to_h unless self.recursive_struct.nil?
+        hash[:simple_struct] = self.simple_struct.to_h unless self.simple_struct.nil?
+        hash[:string] = self.string unless self.string.nil?
+        hash[:struct_with_location_name] = self.struct_with_location_name.to_h unless self.struct_with_location_name.nil?
+        hash[:timestamp] = self.timestamp unless self.timestamp.nil?
+        hash[:unix_timestamp] = self.unix_timestamp unless self.unix_timestamp.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute json
@@ -1541,6 +2133,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:json] = self.json unless self.json.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute json
@@ -1552,6 +2152,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:json] = self.json unless self.json.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # A union with a representative set of types for members.
@@ -1560,7 +2168,7 @@ module RailsJson
 
       class StringValue < MyUnion
         def to_h
-          { string_value: super(__getobj__) }
+          { string_value: __getobj__ }
         end
 
         def to_s
@@ -1570,7 +2178,7 @@ module RailsJson
 
       class BooleanValue < MyUnion
         def to_h
-          { boolean_value: super(__getobj__) }
+          { boolean_value: __getobj__ }
         end
 
         def to_s
@@ -1580,7 +2188,7 @@ module RailsJson
 
       class NumberValue < MyUnion
         def to_h
-          { number_value: super(__getobj__) }
+          { number_value: __getobj__ }
         end
 
         def to_s
@@ -1590,7 +2198,7 @@ module RailsJson
 
       class BlobValue < MyUnion
         def to_h
-          { blob_value: super(__getobj__) }
+          { blob_value: __getobj__ }
         end
 
         def to_s
@@ -1600,7 +2208,7 @@ module RailsJson
 
       class TimestampValue < MyUnion
         def to_h
-          { timestamp_value: super(__getobj__) }
+          { timestamp_value: __getobj__ }
         end
 
         def to_s
@@ -1612,7 +2220,7 @@ module RailsJson
       #
       class EnumValue < MyUnion
         def to_h
-          { enum_value: super(__getobj__) }
+          { enum_value: __getobj__ }
         end
 
         def to_s
@@ -1642,7 +2250,7 @@ module RailsJson
 
       class StructureValue < MyUnion
         def to_h
-          { structure_value: super(__getobj__) }
+          { structure_value: __getobj__&.to_h }
         end
 
         def to_s
@@ -1672,6 +2280,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:simple_struct] = self.simple_struct.to_h unless self.simple_struct.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute value
@@ -1683,6 +2299,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:value] = self.value unless self.value.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute greeting
@@ -1699,6 +2323,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:greeting] = self.greeting unless self.greeting.nil?
+        hash[:name] = self.name unless self.name.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute a
@@ -1720,6 +2353,16 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:a] = self.a unless self.a.nil?
+        hash[:b] = self.b unless self.b.nil?
+        hash[:c] = super(self.c) unless self.c.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute a
@@ -1741,6 +2384,16 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:a] = self.a unless self.a.nil?
+        hash[:b] = self.b unless self.b.nil?
+        hash[:c] = super(self.c) unless self.c.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute string
@@ -1762,6 +2415,16 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:string] = self.string unless self.string.nil?
+        hash[:sparse_string_list] = super(self.sparse_string_list) unless self.sparse_string_list.nil?
+        hash[:sparse_string_map] = super(self.sparse_string_map) unless self.sparse_string_map.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute string
@@ -1783,6 +2446,16 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:string] = self.string unless self.string.nil?
+        hash[:sparse_string_list] = super(self.sparse_string_list) unless self.sparse_string_list.nil?
+        hash[:sparse_string_map] = super(self.sparse_string_map) unless self.sparse_string_map.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute null_value
@@ -1799,6 +2472,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:null_value] = self.null_value unless self.null_value.nil?
+        hash[:empty_string] = self.empty_string unless self.empty_string.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     OmitsNullSerializesEmptyStringOutput = ::Struct.new(
@@ -1806,6 +2488,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute value
@@ -1817,6 +2504,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:value] = self.value unless self.value.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute value
@@ -1828,6 +2523,58 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:value] = self.value unless self.value.nil?
+        hash
+      end
+      alias to_hash to_h
+    end
+
+    # @!attribute next_token
+    #
+    #   @return [String]
+    #
+    PaginatedListOperationInput = ::Struct.new(
+      :next_token,
+      keyword_init: true
+    ) do
+      include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:next_token] = self.next_token unless self.next_token.nil?
+        hash
+      end
+      alias to_hash to_h
+    end
+
+    # @!attribute next_token
+    #
+    #   @return [String]
+    #
+    # @!attribute items
+    #
+    #   @return [Array<SimpleStruct>]
+    #
+    PaginatedListOperationOutput = ::Struct.new(
+      :next_token,
+      :items,
+      keyword_init: true
+    ) do
+      include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:next_token] = self.next_token unless self.next_token.nil?
+        hash[:items] = super(self.items) unless self.items.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute token
@@ -1839,6 +2586,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:token] = self.token unless self.token.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     QueryIdempotencyTokenAutoFillOutput = ::Struct.new(
@@ -1846,6 +2601,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute qux
@@ -1862,6 +2622,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:qux] = self.qux unless self.qux.nil?
+        hash[:foo] = super(self.foo) unless self.foo.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     QueryParamsAsStringListMapOutput = ::Struct.new(
@@ -1869,6 +2638,11 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute value
@@ -1880,6 +2654,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:value] = self.value unless self.value.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute output
@@ -1891,6 +2673,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:output] = self.output unless self.output.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute output
@@ -1902,6 +2692,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:output] = self.output unless self.output.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute value
@@ -1913,6 +2711,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:value] = self.value unless self.value.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member_epoch_seconds
@@ -1954,6 +2760,20 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member_epoch_seconds] = self.member_epoch_seconds unless self.member_epoch_seconds.nil?
+        hash[:member_http_date] = self.member_http_date unless self.member_http_date.nil?
+        hash[:member_date_time] = self.member_date_time unless self.member_date_time.nil?
+        hash[:default_format] = self.default_format unless self.default_format.nil?
+        hash[:target_epoch_seconds] = self.target_epoch_seconds unless self.target_epoch_seconds.nil?
+        hash[:target_http_date] = self.target_http_date unless self.target_http_date.nil?
+        hash[:target_date_time] = self.target_date_time unless self.target_date_time.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member_epoch_seconds
@@ -1995,6 +2815,20 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member_epoch_seconds] = self.member_epoch_seconds unless self.member_epoch_seconds.nil?
+        hash[:member_http_date] = self.member_http_date unless self.member_http_date.nil?
+        hash[:member_date_time] = self.member_date_time unless self.member_date_time.nil?
+        hash[:default_format] = self.default_format unless self.default_format.nil?
+        hash[:target_epoch_seconds] = self.target_epoch_seconds unless self.target_epoch_seconds.nil?
+        hash[:target_http_date] = self.target_http_date unless self.target_http_date.nil?
+        hash[:target_date_time] = self.target_date_time unless self.target_date_time.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member___123foo
@@ -2006,6 +2840,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member___123foo] = self.member___123foo unless self.member___123foo.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member___123abc
@@ -2022,6 +2864,15 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member___123abc] = self.member___123abc unless self.member___123abc.nil?
+        hash[:member] = self.member.to_h unless self.member.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member
@@ -2033,6 +2884,14 @@ module RailsJson
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member] = self.member.to_h unless self.member.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
   end
@@ -16,25 +16,25 @@ module RailsJson
     class AllQueryStringTypesInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::AllQueryStringTypesInput, context: context)
-        Hearth::Validator.validate_types!(input[:query_string], ::String, context: "#{context}[:query_string]")
-        StringList.validate!(input[:query_string_list], context: "#{context}[:query_string_list]") unless input[:query_string_list].nil?
-        StringSet.validate!(input[:query_string_set], context: "#{context}[:query_string_set]") unless input[:query_string_set].nil?
-        Hearth::Validator.validate_types!(input[:query_byte], ::Integer, context: "#{context}[:query_byte]")
-        Hearth::Validator.validate_types!(input[:query_short], ::Integer, context: "#{context}[:query_short]")
-        Hearth::Validator.validate_types!(input[:query_integer], ::Integer, context: "#{context}[:query_integer]")
-        IntegerList.validate!(input[:query_integer_list], context: "#{context}[:query_integer_list]") unless input[:query_integer_list].nil?
-        IntegerSet.validate!(input[:query_integer_set], context: "#{context}[:query_integer_set]") unless input[:query_integer_set].nil?
-        Hearth::Validator.validate_types!(input[:query_long], ::Integer, context: "#{context}[:query_long]")
-        Hearth::Validator.validate_types!(input[:query_float], ::Float, context: "#{context}[:query_float]")
-        Hearth::Validator.validate_types!(input[:query_double], ::Float, context: "#{context}[:query_double]")
-        DoubleList.validate!(input[:query_double_list], context: "#{context}[:query_double_list]") unless input[:query_double_list].nil?
-        Hearth::Validator.validate_types!(input[:query_boolean], ::TrueClass, ::FalseClass, context: "#{context}[:query_boolean]")
-        BooleanList.validate!(input[:query_boolean_list], context: "#{context}[:query_boolean_list]") unless input[:query_boolean_list].nil?
-        Hearth::Validator.validate_types!(input[:query_timestamp], ::Time, context: "#{context}[:query_timestamp]")
-        TimestampList.validate!(input[:query_timestamp_list], context: "#{context}[:query_timestamp_list]") unless input[:query_timestamp_list].nil?
-        Hearth::Validator.validate_types!(input[:query_enum], ::String, context: "#{context}[:query_enum]")
-        FooEnumList.validate!(input[:query_enum_list], context: "#{context}[:query_enum_list]") unless input[:query_enum_list].nil?
-        StringMap.validate!(input[:query_params_map_of_strings], context: "#{context}[:query_params_map_of_strings]") unless input[:query_params_map_of_strings].nil?
+        Hearth::Validator.validate_types!(input[:query_string], ::String, context: Hearth::Validator::Path.new(context, :query_string))
+        StringList.validate!(input[:query_string_list], context: Hearth::Validator::Path.new(context, :query_string_list)) unless input[:query_string_list].nil?
+        StringSet.validate!(input[:query_string_set], context: Hearth::Validator::Path.new(context, :query_string_set)) unless input[:query_string_set].nil?
+        Hearth::Validator.validate_types!(input[:query_byte], ::Integer, context: Hearth::Validator::Path.new(context, :query_byte))
+        Hearth::Validator.validate_types!(input[:query_short], ::Integer, context: Hearth::Validator::Path.new(context, :query_short))
+        Hearth::Validator.validate_types!(input[:query_integer], ::Integer, context: Hearth::Validator::Path.new(context, :query_integer))
+        IntegerList.validate!(input[:query_integer_list], context: Hearth::Validator::Path.new(context, :query_integer_list)) unless input[:query_integer_list].nil?
+        IntegerSet.validate!(input[:query_integer_set], context: Hearth::Validator::Path.new(context, :query_integer_set)) unless input[:query_integer_set].nil?
+        Hearth::Validator.validate_types!(input[:query_long], ::Integer, context: Hearth::Validator::Path.new(context, :query_long))
+        Hearth::Validator.validate_types!(input[:query_float], ::Float, context: Hearth::Validator::Path.new(context, :query_float))
+        Hearth::Validator.validate_types!(input[:query_double], ::Float, context: Hearth::Validator::Path.new(context, :query_double))
+        DoubleList.validate!(input[:query_double_list], context: Hearth::Validator::Path.new(context, :query_double_list)) unless input[:query_double_list].nil?
+        Hearth::Validator.validate_types!(input[:query_boolean], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :query_boolean))
+        BooleanList.validate!(input[:query_boolean_list], context: Hearth::Validator::Path.new(context, :query_boolean_list)) unless input[:query_boolean_list].nil?
+        Hearth::Validator.validate_types!(input[:query_timestamp], ::Time, context: Hearth::Validator::Path.new(context, :query_timestamp))
+        TimestampList.validate!(input[:query_timestamp_list], context: Hearth::Validator::Path.new(context, :query_timestamp_list)) unless input[:query_timestamp_list].nil?
+        Hearth::Validator.validate_types!(input[:query_enum], ::String, context: Hearth::Validator::Path.new(context, :query_enum))
+        FooEnumList.validate!(input[:query_enum_list], context: Hearth::Validator::Path.new(context, :query_enum_list)) unless input[:query_enum_list].nil?
+        StringMap.validate!(input[:query_params_map_of_strings], context: Hearth::Validator::Path.new(context, :query_params_map_of_strings)) unless input[:query_params_map_of_strings].nil?
       end
     end
 
@@ -48,7 +48,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::TrueClass, ::FalseClass, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -56,23 +56,23 @@ module RailsJson
     class ComplexError
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::ComplexError, context: context)
-        Hearth::Validator.validate_types!(input[:top_level], ::String, context: "#{context}[:top_level]")
-        ComplexNestedErrorData.validate!(input[:nested], context: "#{context}[:nested]") unless input[:nested].nil?
+        Hearth::Validator.validate_types!(input[:top_level], ::String, context: Hearth::Validator::Path.new(context, :top_level))
+        ComplexNestedErrorData.validate!(input[:nested], context: Hearth::Validator::Path.new(context, :nested)) unless input[:nested].nil?
       end
     end
 
     class ComplexNestedErrorData
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::ComplexNestedErrorData, context: context)
-        Hearth::Validator.validate_types!(input[:foo], ::String, context: "#{context}[:foo]")
+        Hearth::Validator.validate_types!(input[:foo], ::String, context: Hearth::Validator::Path.new(context, :foo))
       end
     end
 
     class ConstantAndVariableQueryStringInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::ConstantAndVariableQueryStringInput, context: context)
-        Hearth::Validator.validate_types!(input[:baz], ::String, context: "#{context}[:baz]")
-        Hearth::Validator.validate_types!(input[:maybe_set], ::String, context: "#{context}[:maybe_set]")
+        Hearth::Validator.validate_types!(input[:baz], ::String, context: Hearth::Validator::Path.new(context, :baz))
+        Hearth::Validator.validate_types!(input[:maybe_set], ::String, context: Hearth::Validator::Path.new(context, :maybe_set))
       end
     end
 
@@ -85,8 +85,8 @@ module RailsJson
     class ConstantQueryStringInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::ConstantQueryStringInput, context: context)
-        Hearth::Validator.validate_required!(input[:hello], context: "#{context}[:hello]")
-        Hearth::Validator.validate_types!(input[:hello], ::String, context: "#{context}[:hello]")
+        Hearth::Validator.validate_required!(input[:hello], context: Hearth::Validator::Path.new(context, :hello))
+        Hearth::Validator.validate_types!(input[:hello], ::String, context: Hearth::Validator::Path.new(context, :hello))
       end
     end
 
@@ -100,8 +100,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          Hearth::Validator.validate_types!(value, ::TrueClass, ::FalseClass, context: "#{context}[:#{key}]")
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          Hearth::Validator.validate_types!(value, ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, key))
         end
       end
     end
@@ -110,8 +110,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          Hearth::Validator.validate_types!(value, ::Integer, context: "#{context}[:#{key}]")
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          Hearth::Validator.validate_types!(value, ::Integer, context: Hearth::Validator::Path.new(context, key))
         end
       end
     end
@@ -120,8 +120,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          StringSet.validate!(value, context: "#{context}[:#{key}]") unless value.nil?
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          StringSet.validate!(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
       end
     end
@@ -130,8 +130,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          Hearth::Validator.validate_types!(value, ::String, context: "#{context}[:#{key}]")
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          Hearth::Validator.validate_types!(value, ::String, context: Hearth::Validator::Path.new(context, key))
         end
       end
     end
@@ -140,8 +140,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          GreetingStruct.validate!(value, context: "#{context}[:#{key}]") unless value.nil?
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          GreetingStruct.validate!(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
       end
     end
@@ -152,11 +152,11 @@ module RailsJson
         case input
         when ::Hash
           input.each do |k,v|
-            validate!(v, context: "#{context}[:#{k}]")
+            validate!(v, context: Hearth::Validator::Path.new(context, k))
           end
         when ::Array
           input.each_with_index do |v, i|
-            validate!(v, context: "#{context}[#{i}]")
+            validate!(v, context: Hearth::Validator::Path.new(context, i))
           end
         end
       end
@@ -165,30 +165,30 @@ module RailsJson
     class DocumentTypeAsPayloadInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::DocumentTypeAsPayloadInput, context: context)
-        Document.validate!(input[:document_value], context: "#{context}[:document_value]") unless input[:document_value].nil?
+        Document.validate!(input[:document_value], context: Hearth::Validator::Path.new(context, :document_value)) unless input[:document_value].nil?
       end
     end
 
     class DocumentTypeAsPayloadOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::DocumentTypeAsPayloadOutput, context: context)
-        Document.validate!(input[:document_value], context: "#{context}[:document_value]") unless input[:document_value].nil?
+        Document.validate!(input[:document_value], context: Hearth::Validator::Path.new(context, :document_value)) unless input[:document_value].nil?
       end
     end
 
     class DocumentTypeInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::DocumentTypeInput, context: context)
-        Hearth::Validator.validate_types!(input[:string_value], ::String, context: "#{context}[:string_value]")
-        Document.validate!(input[:document_value], context: "#{context}[:document_value]") unless input[:document_value].nil?
+        Hearth::Validator.validate_types!(input[:string_value], ::String, context: Hearth::Validator::Path.new(context, :string_value))
+        Document.validate!(input[:document_value], context: Hearth::Validator::Path.new(context, :document_value)) unless input[:document_value].nil?
       end
     end
 
     class DocumentTypeOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::DocumentTypeOutput, context: context)
-        Hearth::Validator.validate_types!(input[:string_value], ::String, context: "#{context}[:string_value]")
-        Document.validate!(input[:document_value], context: "#{context}[:document_value]") unless input[:document_value].nil?
+        Hearth::Validator.validate_types!(input[:string_value], ::String, context: Hearth::Validator::Path.new(context, :string_value))
+        Document.validate!(input[:document_value], context: Hearth::Validator::Path.new(context, :document_value)) unless input[:document_value].nil?
       end
     end
 
@@ -196,7 +196,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::Float, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::Float, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -234,8 +234,8 @@ module RailsJson
     class EndpointWithHostLabelOperationInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::EndpointWithHostLabelOperationInput, context: context)
-        Hearth::Validator.validate_required!(input[:label_member], context: "#{context}[:label_member]")
-        Hearth::Validator.validate_types!(input[:label_member], ::String, context: "#{context}[:label_member]")
+        Hearth::Validator.validate_required!(input[:label_member], context: Hearth::Validator::Path.new(context, :label_member))
+        Hearth::Validator.validate_types!(input[:label_member], ::String, context: Hearth::Validator::Path.new(context, :label_member))
       end
     end
 
@@ -248,13 +248,13 @@ module RailsJson
     class ErrorWithMembers
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::ErrorWithMembers, context: context)
-        Hearth::Validator.validate_types!(input[:code], ::String, context: "#{context}[:code]")
-        KitchenSink.validate!(input[:complex_data], context: "#{context}[:complex_data]") unless input[:complex_data].nil?
-        Hearth::Validator.validate_types!(input[:integer_field], ::Integer, context: "#{context}[:integer_field]")
-        ListOfStrings.validate!(input[:list_field], context: "#{context}[:list_field]") unless input[:list_field].nil?
-        MapOfStrings.validate!(input[:map_field], context: "#{context}[:map_field]") unless input[:map_field].nil?
-        Hearth::Validator.validate_types!(input[:message], ::String, context: "#{context}[:message]")
-        Hearth::Validator.validate_types!(input[:string_field], ::String, context: "#{context}[:string_field]")
+        Hearth::Validator.validate_types!(input[:code], ::String, context: Hearth::Validator::Path.new(context, :code))
+        KitchenSink.validate!(input[:complex_data], context: Hearth::Validator::Path.new(context, :complex_data)) unless input[:complex_data].nil?
+        Hearth::Validator.validate_types!(input[:integer_field], ::Integer, context: Hearth::Validator::Path.new(context, :integer_field))
+        ListOfStrings.validate!(input[:list_field], context: Hearth::Validator::Path.new(context, :list_field)) unless input[:list_field].nil?
+        MapOfStrings.validate!(input[:map_field], context: Hearth::Validator::Path.new(context, :map_field)) unless input[:map_field].nil?
+        Hearth::Validator.validate_types!(input[:message], ::String, context: Hearth::Validator::Path.new(context, :message))
+        Hearth::Validator.validate_types!(input[:string_field], ::String, context: Hearth::Validator::Path.new(context, :string_field))
       end
     end
 
@@ -268,7 +268,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::String, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::String, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -277,8 +277,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          Hearth::Validator.validate_types!(value, ::String, context: "#{context}[:#{key}]")
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          Hearth::Validator.validate_types!(value, ::String, context: Hearth::Validator::Path.new(context, key))
         end
       end
     end
@@ -287,7 +287,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::String, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::String, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -295,7 +295,7 @@ module RailsJson
     class GreetingStruct
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GreetingStruct, context: context)
-        Hearth::Validator.validate_types!(input[:hi], ::String, context: "#{context}[:hi]")
+        Hearth::Validator.validate_types!(input[:hi], ::String, context: Hearth::Validator::Path.new(context, :hi))
       end
     end
 
@@ -308,53 +308,53 @@ module RailsJson
     class GreetingWithErrorsOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GreetingWithErrorsOutput, context: context)
-        Hearth::Validator.validate_types!(input[:greeting], ::String, context: "#{context}[:greeting]")
+        Hearth::Validator.validate_types!(input[:greeting], ::String, context: Hearth::Validator::Path.new(context, :greeting))
       end
     end
 
     class HttpPayloadTraitsInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpPayloadTraitsInput, context: context)
-        Hearth::Validator.validate_types!(input[:foo], ::String, context: "#{context}[:foo]")
-        Hearth::Validator.validate_types!(input[:blob], ::String, context: "#{context}[:blob]")
+        Hearth::Validator.validate_types!(input[:foo], ::String, context: Hearth::Validator::Path.new(context, :foo))
+        Hearth::Validator.validate_types!(input[:blob], ::String, context: Hearth::Validator::Path.new(context, :blob))
       end
     end
 
     class HttpPayloadTraitsOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpPayloadTraitsOutput, context: context)
-        Hearth::Validator.validate_types!(input[:foo], ::String, context: "#{context}[:foo]")
-        Hearth::Validator.validate_types!(input[:blob], ::String, context: "#{context}[:blob]")
+        Hearth::Validator.validate_types!(input[:foo], ::String, context: Hearth::Validator::Path.new(context, :foo))
+        Hearth::Validator.validate_types!(input[:blob], ::String, context: Hearth::Validator::Path.new(context, :blob))
       end
     end
 
     class HttpPayloadTraitsWithMediaTypeInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpPayloadTraitsWithMediaTypeInput, context: context)
-        Hearth::Validator.validate_types!(input[:foo], ::String, context: "#{context}[:foo]")
-        Hearth::Validator.validate_types!(input[:blob], ::String, context: "#{context}[:blob]")
+        Hearth::Validator.validate_types!(input[:foo], ::String, context: Hearth::Validator::Path.new(context, :foo))
+        Hearth::Validator.validate_types!(input[:blob], ::String, context: Hearth::Validator::Path.new(context, :blob))
       end
     end
 
     class HttpPayloadTraitsWithMediaTypeOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpPayloadTraitsWithMediaTypeOutput, context: context)
-        Hearth::Validator.validate_types!(input[:foo], ::String, context: "#{context}[:foo]")
-        Hearth::Validator.validate_types!(input[:blob], ::String, context: "#{context}[:blob]")
+        Hearth::Validator.validate_types!(input[:foo], ::String, context: Hearth::Validator::Path.new(context, :foo))
+        Hearth::Validator.validate_types!(input[:blob], ::String, context: Hearth::Validator::Path.new(context, :blob))
       end
     end
 
     class HttpPayloadWithStructureInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpPayloadWithStructureInput, context: context)
-        NestedPayload.validate!(input[:nested], context: "#{context}[:nested]") unless input[:nested].nil?
+        NestedPayload.validate!(input[:nested], context: Hearth::Validator::Path.new(context, :nested)) unless input[:nested].nil?
       end
     end
 
     class HttpPayloadWithStructureOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpPayloadWithStructureOutput, context: context)
-        NestedPayload.validate!(input[:nested], context: "#{context}[:nested]") unless input[:nested].nil?
+        NestedPayload.validate!(input[:nested], context: Hearth::Validator::Path.new(context, :nested)) unless input[:nested].nil?
       end
     end
 
@@ -367,33 +367,33 @@ module RailsJson
     class HttpPrefixHeadersInResponseOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpPrefixHeadersInResponseOutput, context: context)
-        StringMap.validate!(input[:prefix_headers], context: "#{context}[:prefix_headers]") unless input[:prefix_headers].nil?
+        StringMap.validate!(input[:prefix_headers], context: Hearth::Validator::Path.new(context, :prefix_headers)) unless input[:prefix_headers].nil?
       end
     end
 
     class HttpPrefixHeadersInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpPrefixHeadersInput, context: context)
-        Hearth::Validator.validate_types!(input[:foo], ::String, context: "#{context}[:foo]")
-        StringMap.validate!(input[:foo_map], context: "#{context}[:foo_map]") unless input[:foo_map].nil?
+        Hearth::Validator.validate_types!(input[:foo], ::String, context: Hearth::Validator::Path.new(context, :foo))
+        StringMap.validate!(input[:foo_map], context: Hearth::Validator::Path.new(context, :foo_map)) unless input[:foo_map].nil?
       end
     end
 
     class HttpPrefixHeadersOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpPrefixHeadersOutput, context: context)
-        Hearth::Validator.validate_types!(input[:foo], ::String, context: "#{context}[:foo]")
-        StringMap.validate!(input[:foo_map], context: "#{context}[:foo_map]") unless input[:foo_map].nil?
+        Hearth::Validator.validate_types!(input[:foo], ::String, context: Hearth::Validator::Path.new(context, :foo))
+        StringMap.validate!(input[:foo_map], context: Hearth::Validator::Path.new(context, :foo_map)) unless input[:foo_map].nil?
       end
     end
 
     class HttpRequestWithFloatLabelsInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpRequestWithFloatLabelsInput, context: context)
-        Hearth::Validator.validate_required!(input[:float], context: "#{context}[:float]")
-        Hearth::Validator.validate_types!(input[:float], ::Float, context: "#{context}[:float]")
-        Hearth::Validator.validate_required!(input[:double], context: "#{context}[:double]")
-        Hearth::Validator.validate_types!(input[:double], ::Float, context: "#{context}[:double]")
+        Hearth::Validator.validate_required!(input[:float], context: Hearth::Validator::Path.new(context, :float))
+        Hearth::Validator.validate_types!(input[:float], ::Float, context: Hearth::Validator::Path.new(context, :float))
+        Hearth::Validator.validate_required!(input[:double], context: Hearth::Validator::Path.new(context, :double))
+        Hearth::Validator.validate_types!(input[:double], ::Float, context: Hearth::Validator::Path.new(context, :double))
       end
     end
 
@@ -406,10 +406,10 @@ module RailsJson
     class HttpRequestWithGreedyLabelInPathInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpRequestWithGreedyLabelInPathInput, context: context)
-        Hearth::Validator.validate_required!(input[:foo], context: "#{context}[:foo]")
-        Hearth::Validator.validate_types!(input[:foo], ::String, context: "#{context}[:foo]")
-        Hearth::Validator.validate_required!(input[:baz], context: "#{context}[:baz]")
-        Hearth::Validator.validate_types!(input[:baz], ::String, context: "#{context}[:baz]")
+        Hearth::Validator.validate_required!(input[:foo], context: Hearth::Validator::Path.new(context, :foo))
+        Hearth::Validator.validate_types!(input[:foo], ::String, context: Hearth::Validator::Path.new(context, :foo))
+        Hearth::Validator.validate_required!(input[:baz], context: Hearth::Validator::Path.new(context, :baz))
+        Hearth::Validator.validate_types!(input[:baz], ::String, context: Hearth::Validator::Path.new(context, :baz))
       end
     end
 
@@ -422,20 +422,20 @@ module RailsJson
     class HttpRequestWithLabelsAndTimestampFormatInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpRequestWithLabelsAndTimestampFormatInput, context: context)
-        Hearth::Validator.validate_required!(input[:member_epoch_seconds], context: "#{context}[:member_epoch_seconds]")
-        Hearth::Validator.validate_types!(input[:member_epoch_seconds], ::Time, context: "#{context}[:member_epoch_seconds]")
-        Hearth::Validator.validate_required!(input[:member_http_date], context: "#{context}[:member_http_date]")
-        Hearth::Validator.validate_types!(input[:member_http_date], ::Time, context: "#{context}[:member_http_date]")
-        Hearth::Validator.validate_required!(input[:member_date_time], context: "#{context}[:member_date_time]")
-        Hearth::Validator.validate_types!(input[:member_date_time], ::Time, context: "#{context}[:member_date_time]")
-        Hearth::Validator.validate_required!(input[:default_format], context: "#{context}[:default_format]")
-        Hearth::Validator.validate_types!(input[:default_format], ::Time, context: "#{context}[:default_format]")
-        Hearth::Validator.validate_required!(input[:target_epoch_seconds], context: "#{context}[:target_epoch_seconds]")
-        Hearth::Validator.validate_types!(input[:target_epoch_seconds], ::Time, context: "#{context}[:target_epoch_seconds]")
-        Hearth::Validator.validate_required!(input[:target_http_date], context: "#{context}[:target_http_date]")
-        Hearth::Validator.validate_types!(input[:target_http_date], ::Time, context: "#{context}[:target_http_date]")
-        Hearth::Validator.validate_required!(input[:target_date_time], context: "#{context}[:target_date_time]")
-        Hearth::Validator.validate_types!(input[:target_date_time], ::Time, context: "#{context}[:target_date_time]")
+        Hearth::Validator.validate_required!(input[:member_epoch_seconds], context: Hearth::Validator::Path.new(context, :member_epoch_seconds))
+        Hearth::Validator.validate_types!(input[:member_epoch_seconds], ::Time, context: Hearth::Validator::Path.new(context, :member_epoch_seconds))
+        Hearth::Validator.validate_required!(input[:member_http_date], context: Hearth::Validator::Path.new(context, :member_http_date))
+        Hearth::Validator.validate_types!(input[:member_http_date], ::Time, context: Hearth::Validator::Path.new(context, :member_http_date))
+        Hearth::Validator.validate_required!(input[:member_date_time], context: Hearth::Validator::Path.new(context, :member_date_time))
+        Hearth::Validator.validate_types!(input[:member_date_time], ::Time, context: Hearth::Validator::Path.new(context, :member_date_time))
+        Hearth::Validator.validate_required!(input[:default_format], context: Hearth::Validator::Path.new(context, :default_format))
+        Hearth::Validator.validate_types!(input[:default_format], ::Time, context: Hearth::Validator::Path.new(context, :default_format))
+        Hearth::Validator.validate_required!(input[:target_epoch_seconds], context: Hearth::Validator::Path.new(context, :target_epoch_seconds))
+        Hearth::Validator.validate_types!(input[:target_epoch_seconds], ::Time, context: Hearth::Validator::Path.new(context, :target_epoch_seconds))
+        Hearth::Validator.validate_required!(input[:target_http_date], context: Hearth::Validator::Path.new(context, :target_http_date))
+        Hearth::Validator.validate_types!(input[:target_http_date], ::Time, context: Hearth::Validator::Path.new(context, :target_http_date))
+        Hearth::Validator.validate_required!(input[:target_date_time], context: Hearth::Validator::Path.new(context, :target_date_time))
+        Hearth::Validator.validate_types!(input[:target_date_time], ::Time, context: Hearth::Validator::Path.new(context, :target_date_time))
       end
     end
 
@@ -448,22 +448,22 @@ module RailsJson
     class HttpRequestWithLabelsInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpRequestWithLabelsInput, context: context)
-        Hearth::Validator.validate_required!(input[:string], context: "#{context}[:string]")
-        Hearth::Validator.validate_types!(input[:string], ::String, context: "#{context}[:string]")
-        Hearth::Validator.validate_required!(input[:short], context: "#{context}[:short]")
-        Hearth::Validator.validate_types!(input[:short], ::Integer, context: "#{context}[:short]")
-        Hearth::Validator.validate_required!(input[:integer], context: "#{context}[:integer]")
-        Hearth::Validator.validate_types!(input[:integer], ::Integer, context: "#{context}[:integer]")
-        Hearth::Validator.validate_required!(input[:long], context: "#{context}[:long]")
-        Hearth::Validator.validate_types!(input[:long], ::Integer, context: "#{context}[:long]")
-        Hearth::Validator.validate_required!(input[:float], context: "#{context}[:float]")
-        Hearth::Validator.validate_types!(input[:float], ::Float, context: "#{context}[:float]")
-        Hearth::Validator.validate_required!(input[:double], context: "#{context}[:double]")
-        Hearth::Validator.validate_types!(input[:double], ::Float, context: "#{context}[:double]")
-        Hearth::Validator.validate_required!(input[:boolean], context: "#{context}[:boolean]")
-        Hearth::Validator.validate_types!(input[:boolean], ::TrueClass, ::FalseClass, context: "#{context}[:boolean]")
-        Hearth::Validator.validate_required!(input[:timestamp], context: "#{context}[:timestamp]")
-        Hearth::Validator.validate_types!(input[:timestamp], ::Time, context: "#{context}[:timestamp]")
+        Hearth::Validator.validate_required!(input[:string], context: Hearth::Validator::Path.new(context, :string))
+        Hearth::Validator.validate_types!(input[:string], ::String, context: Hearth::Validator::Path.new(context, :string))
+        Hearth::Validator.validate_required!(input[:short], context: Hearth::Validator::Path.new(context, :short))
+        Hearth::Validator.validate_types!(input[:short], ::Integer, context: Hearth::Validator::Path.new(context, :short))
+        Hearth::Validator.validate_required!(input[:integer], context: Hearth::Validator::Path.new(context, :integer))
+        Hearth::Validator.validate_types!(input[:integer], ::Integer, context: Hearth::Validator::Path.new(context, :integer))
+        Hearth::Validator.validate_required!(input[:long], context: Hearth::Validator::Path.new(context, :long))
+        Hearth::Validator.validate_types!(input[:long], ::Integer, context: Hearth::Validator::Path.new(context, :long))
+        Hearth::Validator.validate_required!(input[:float], context: Hearth::Validator::Path.new(context, :float))
+        Hearth::Validator.validate_types!(input[:float], ::Float, context: Hearth::Validator::Path.new(context, :float))
+        Hearth::Validator.validate_required!(input[:double], context: Hearth::Validator::Path.new(context, :double))
+        Hearth::Validator.validate_types!(input[:double], ::Float, context: Hearth::Validator::Path.new(context, :double))
+        Hearth::Validator.validate_required!(input[:boolean], context: Hearth::Validator::Path.new(context, :boolean))
+        Hearth::Validator.validate_types!(input[:boolean], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :boolean))
+        Hearth::Validator.validate_required!(input[:timestamp], context: Hearth::Validator::Path.new(context, :timestamp))
+        Hearth::Validator.validate_types!(input[:timestamp], ::Time, context: Hearth::Validator::Path.new(context, :timestamp))
       end
     end
 
@@ -482,7 +482,7 @@ module RailsJson
     class HttpResponseCodeOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::HttpResponseCodeOutput, context: context)
-        Hearth::Validator.validate_types!(input[:status], ::Integer, context: "#{context}[:status]")
+        Hearth::Validator.validate_types!(input[:status], ::Integer, context: Hearth::Validator::Path.new(context, :status))
       end
     end
 
@@ -495,51 +495,51 @@ module RailsJson
     class IgnoreQueryParamsInResponseOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::IgnoreQueryParamsInResponseOutput, context: context)
-        Hearth::Validator.validate_types!(input[:baz], ::String, context: "#{context}[:baz]")
+        Hearth::Validator.validate_types!(input[:baz], ::String, context: Hearth::Validator::Path.new(context, :baz))
       end
     end
 
     class InputAndOutputWithHeadersInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::InputAndOutputWithHeadersInput, context: context)
-        Hearth::Validator.validate_types!(input[:header_string], ::String, context: "#{context}[:header_string]")
-        Hearth::Validator.validate_types!(input[:header_byte], ::Integer, context: "#{context}[:header_byte]")
-        Hearth::Validator.validate_types!(input[:header_short], ::Integer, context: "#{context}[:header_short]")
-        Hearth::Validator.validate_types!(input[:header_integer], ::Integer, context: "#{context}[:header_integer]")
-        Hearth::Validator.validate_types!(input[:header_long], ::Integer, context: "#{context}[:header_long]")
-        Hearth::Validator.validate_types!(input[:header_float], ::Float, context: "#{context}[:header_float]")
-        Hearth::Validator.validate_types!(input[:header_double], ::Float, context: "#{context}[:header_double]")
-        Hearth::Validator.validate_types!(input[:header_true_bool], ::TrueClass, ::FalseClass, context: "#{context}[:header_true_bool]")
-        Hearth::Validator.validate_types!(input[:header_false_bool], ::TrueClass, ::FalseClass, context: "#{context}[:header_false_bool]")
-        StringList.validate!(input[:header_string_list], context: "#{context}[:header_string_list]") unless input[:header_string_list].nil?
-        StringSet.validate!(input[:header_string_set], context: "#{context}[:header_string_set]") unless input[:header_string_set].nil?
-        IntegerList.validate!(input[:header_integer_list], context: "#{context}[:header_integer_list]") unless input[:header_integer_list].nil?
-        BooleanList.validate!(input[:header_boolean_list], context: "#{context}[:header_boolean_list]") unless input[:header_boolean_list].nil?
-        TimestampList.validate!(input[:header_timestamp_list], context: "#{context}[:header_timestamp_list]") unless input[:header_timestamp_list].nil?
-        Hearth::Validator.validate_types!(input[:header_enum], ::String, context: "#{context}[:header_enum]")
-        FooEnumList.validate!(input[:header_enum_list], context: "#{context}[:header_enum_list]") unless input[:header_enum_list].nil?
+        Hearth::Validator.validate_types!(input[:header_string], ::String, context: Hearth::Validator::Path.new(context, :header_string))
+        Hearth::Validator.validate_types!(input[:header_byte], ::Integer, context: Hearth::Validator::Path.new(context, :header_byte))
+        Hearth::Validator.validate_types!(input[:header_short], ::Integer, context: Hearth::Validator::Path.new(context, :header_short))
+        Hearth::Validator.validate_types!(input[:header_integer], ::Integer, context: Hearth::Validator::Path.new(context, :header_integer))
+        Hearth::Validator.validate_types!(input[:header_long], ::Integer, context: Hearth::Validator::Path.new(context, :header_long))
+        Hearth::Validator.validate_types!(input[:header_float], ::Float, context: Hearth::Validator::Path.new(context, :header_float))
+        Hearth::Validator.validate_types!(input[:header_double], ::Float, context: Hearth::Validator::Path.new(context, :header_double))
+        Hearth::Validator.validate_types!(input[:header_true_bool], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :header_true_bool))
+        Hearth::Validator.validate_types!(input[:header_false_bool], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :header_false_bool))
+        StringList.validate!(input[:header_string_list], context: Hearth::Validator::Path.new(context, :header_string_list)) unless input[:header_string_list].nil?
+        StringSet.validate!(input[:header_string_set], context: Hearth::Validator::Path.new(context, :header_string_set)) unless input[:header_string_set].nil?
+        IntegerList.validate!(input[:header_integer_list], context: Hearth::Validator::Path.new(context, :header_integer_list)) unless input[:header_integer_list].nil?
+        BooleanList.validate!(input[:header_boolean_list], context: Hearth::Validator::Path.new(context, :header_boolean_list)) unless input[:header_boolean_list].nil?
+        TimestampList.validate!(input[:header_timestamp_list], context: Hearth::Validator::Path.new(context, :header_timestamp_list)) unless input[:header_timestamp_list].nil?
+        Hearth::Validator.validate_types!(input[:header_enum], ::String, context: Hearth::Validator::Path.new(context, :header_enum))
+        FooEnumList.validate!(input[:header_enum_list], context: Hearth::Validator::Path.new(context, :header_enum_list)) unless input[:header_enum_list].nil?
       end
     end
 
     class InputAndOutputWithHeadersOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::InputAndOutputWithHeadersOutput, context: context)
-        Hearth::Validator.validate_types!(input[:header_string], ::String, context: "#{context}[:header_string]")
-        Hearth::Validator.validate_types!(input[:header_byte], ::Integer, context: "#{context}[:header_byte]")
-        Hearth::Validator.validate_types!(input[:header_short], ::Integer, context: "#{context}[:header_short]")
-        Hearth::Validator.validate_types!(input[:header_integer], ::Integer, context: "#{context}[:header_integer]")
-        Hearth::Validator.validate_types!(input[:header_long], ::Integer, context: "#{context}[:header_long]")
-        Hearth::Validator.validate_types!(input[:header_float], ::Float, context: "#{context}[:header_float]")
-        Hearth::Validator.validate_types!(input[:header_double], ::Float, context: "#{context}[:header_double]")
-        Hearth::Validator.validate_types!(input[:header_true_bool], ::TrueClass, ::FalseClass, context: "#{context}[:header_true_bool]")
-        Hearth::Validator.validate_types!(input[:header_false_bool], ::TrueClass, ::FalseClass, context: "#{context}[:header_false_bool]")
-        StringList.validate!(input[:header_string_list], context: "#{context}[:header_string_list]") unless input[:header_string_list].nil?
-        StringSet.validate!(input[:header_string_set], context: "#{context}[:header_string_set]") unless input[:header_string_set].nil?
-        IntegerList.validate!(input[:header_integer_list], context: "#{context}[:header_integer_list]") unless input[:header_integer_list].nil?
-        BooleanList.validate!(input[:header_boolean_list], context: "#{context}[:header_boolean_list]") unless input[:header_boolean_list].nil?
-        TimestampList.validate!(input[:header_timestamp_list], context: "#{context}[:header_timestamp_list]") unless input[:header_timestamp_list].nil?
-        Hearth::Validator.validate_types!(input[:header_enum], ::String, context: "#{context}[:header_enum]")
-        FooEnumList.validate!(input[:header_enum_list], context: "#{context}[:header_enum_list]") unless input[:header_enum_list].nil?
+        Hearth::Validator.validate_types!(input[:header_string], ::String, context: Hearth::Validator::Path.new(context, :header_string))
+        Hearth::Validator.validate_types!(input[:header_byte], ::Integer, context: Hearth::Validator::Path.new(context, :header_byte))
+        Hearth::Validator.validate_types!(input[:header_short], ::Integer, context: Hearth::Validator::Path.new(context, :header_short))
+        Hearth::Validator.validate_types!(input[:header_integer], ::Integer, context: Hearth::Validator::Path.new(context, :header_integer))
+        Hearth::Validator.validate_types!(input[:header_long], ::Integer, context: Hearth::Validator::Path.new(context, :header_long))
+        Hearth::Validator.validate_types!(input[:header_float], ::Float, context: Hearth::Validator::Path.new(context, :header_float))
+        Hearth::Validator.validate_types!(input[:header_double], ::Float, context: Hearth::Validator::Path.new(context, :header_double))
+        Hearth::Validator.validate_types!(input[:header_true_bool], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :header_true_bool))
+        Hearth::Validator.validate_types!(input[:header_false_bool], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :header_false_bool))
+        StringList.validate!(input[:header_string_list], context: Hearth::Validator::Path.new(context, :header_string_list)) unless input[:header_string_list].nil?
+        StringSet.validate!(input[:header_string_set], context: Hearth::Validator::Path.new(context, :header_string_set)) unless input[:header_string_set].nil?
+        IntegerList.validate!(input[:header_integer_list], context: Hearth::Validator::Path.new(context, :header_integer_list)) unless input[:header_integer_list].nil?
+        BooleanList.validate!(input[:header_boolean_list], context: Hearth::Validator::Path.new(context, :header_boolean_list)) unless input[:header_boolean_list].nil?
+        TimestampList.validate!(input[:header_timestamp_list], context: Hearth::Validator::Path.new(context, :header_timestamp_list)) unless input[:header_timestamp_list].nil?
+        Hearth::Validator.validate_types!(input[:header_enum], ::String, context: Hearth::Validator::Path.new(context, :header_enum))
+        FooEnumList.validate!(input[:header_enum_list], context: Hearth::Validator::Path.new(context, :header_enum_list)) unless input[:header_enum_list].nil?
       end
     end
 
@@ -547,7 +547,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::Integer, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::Integer, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -556,7 +556,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::Integer, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::Integer, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -564,173 +564,173 @@ module RailsJson
     class InvalidGreeting
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::InvalidGreeting, context: context)
-        Hearth::Validator.validate_types!(input[:message], ::String, context: "#{context}[:message]")
+        Hearth::Validator.validate_types!(input[:message], ::String, context: Hearth::Validator::Path.new(context, :message))
       end
     end
 
     class JsonEnumsInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::JsonEnumsInput, context: context)
-        Hearth::Validator.validate_types!(input[:foo_enum1], ::String, context: "#{context}[:foo_enum1]")
-        Hearth::Validator.validate_types!(input[:foo_enum2], ::String, context: "#{context}[:foo_enum2]")
-        Hearth::Validator.validate_types!(input[:foo_enum3], ::String, context: "#{context}[:foo_enum3]")
-        FooEnumList.validate!(input[:foo_enum_list], context: "#{context}[:foo_enum_list]") unless input[:foo_enum_list].nil?
-        FooEnumSet.validate!(input[:foo_enum_set], context: "#{context}[:foo_enum_set]") unless input[:foo_enum_set].nil?
-        FooEnumMap.validate!(input[:foo_enum_map], context: "#{context}[:foo_enum_map]") unless input[:foo_enum_map].nil?
+        Hearth::Validator.validate_types!(input[:foo_enum1], ::String, context: Hearth::Validator::Path.new(context, :foo_enum1))
+        Hearth::Validator.validate_types!(input[:foo_enum2], ::String, context: Hearth::Validator::Path.new(context, :foo_enum2))
+        Hearth::Validator.validate_types!(input[:foo_enum3], ::String, context: Hearth::Validator::Path.new(context, :foo_enum3))
+        FooEnumList.validate!(input[:foo_enum_list], context: Hearth::Validator::Path.new(context, :foo_enum_list)) unless input[:foo_enum_list].nil?
+        FooEnumSet.validate!(input[:foo_enum_set], context: Hearth::Validator::Path.new(context, :foo_enum_set)) unless input[:foo_enum_set].nil?
+        FooEnumMap.validate!(input[:foo_enum_map], context: Hearth::Validator::Path.new(context, :foo_enum_map)) unless input[:foo_enum_map].nil?
       end
     end
 
     class JsonEnumsOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::JsonEnumsOutput, context: context)
-        Hearth::Validator.validate_types!(input[:foo_enum1], ::String, context: "#{context}[:foo_enum1]")
-        Hearth::Validator.validate_types!(input[:foo_enum2], ::String, context: "#{context}[:foo_enum2]")
-        Hearth::Validator.validate_types!(input[:foo_enum3], ::String, context: "#{context}[:foo_enum3]")
-        FooEnumList.validate!(input[:foo_enum_list], context: "#{context}[:foo_enum_list]") unless input[:foo_enum_list].nil?
-        FooEnumSet.validate!(input[:foo_enum_set], context: "#{context}[:foo_enum_set]") unless input[:foo_enum_set].nil?
-        FooEnumMap.validate!(input[:foo_enum_map], context: "#{context}[:foo_enum_map]") unless input[:foo_enum_map].nil?
+        Hearth::Validator.validate_types!(input[:foo_enum1], ::String, context: Hearth::Validator::Path.new(context, :foo_enum1))
+        Hearth::Validator.validate_types!(input[:foo_enum2], ::String, context: Hearth::Validator::Path.new(context, :foo_enum2))
+        Hearth::Validator.validate_types!(input[:foo_enum3], ::String, context: Hearth::Validator::Path.new(context, :foo_enum3))
+        FooEnumList.validate!(input[:foo_enum_list], context: Hearth::Validator::Path.new(context, :foo_enum_list)) unless input[:foo_enum_list].nil?
+        FooEnumSet.validate!(input[:foo_enum_set], context: Hearth::Validator::Path.new(context, :foo_enum_set)) unless input[:foo_enum_set].nil?
+        FooEnumMap.validate!(input[:foo_enum_map], context: Hearth::Validator::Path.new(context, :foo_enum_map)) unless input[:foo_enum_map].nil?
       end
     end
 
     class JsonMapsInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::JsonMapsInput, context: context)
-        DenseStructMap.validate!(input[:dense_struct_map], context: "#{context}[:dense_struct_map]") unless input[:dense_struct_map].nil?
-        SparseStructMap.validate!(input[:sparse_struct_map], context: "#{context}[:sparse_struct_map]") unless input[:sparse_struct_map].nil?
-        DenseNumberMap.validate!(input[:dense_number_map], context: "#{context}[:dense_number_map]") unless input[:dense_number_map].nil?
-        DenseBooleanMap.validate!(input[:dense_boolean_map], context: "#{context}[:dense_boolean_map]") unless input[:dense_boolean_map].nil?
-        DenseStringMap.validate!(input[:dense_string_map], context: "#{context}[:dense_string_map]") unless input[:dense_string_map].nil?
-        SparseNumberMap.validate!(input[:sparse_number_map], context: "#{context}[:sparse_number_map]") unless input[:sparse_number_map].nil?
-        SparseBooleanMap.validate!(input[:sparse_boolean_map], context: "#{context}[:sparse_boolean_map]") unless input[:sparse_boolean_map].nil?
-        SparseStringMap.validate!(input[:sparse_string_map], context: "#{context}[:sparse_string_map]") unless input[:sparse_string_map].nil?
-        DenseSetMap.validate!(input[:dense_set_map], context: "#{context}[:dense_set_map]") unless input[:dense_set_map].nil?
-        SparseSetMap.validate!(input[:sparse_set_map], context: "#{context}[:sparse_set_map]") unless input[:sparse_set_map].nil?
+        DenseStructMap.validate!(input[:dense_struct_map], context: Hearth::Validator::Path.new(context, :dense_struct_map)) unless input[:dense_struct_map].nil?
+        SparseStructMap.validate!(input[:sparse_struct_map], context: Hearth::Validator::Path.new(context, :sparse_struct_map)) unless input[:sparse_struct_map].nil?
+        DenseNumberMap.validate!(input[:dense_number_map], context: Hearth::Validator::Path.new(context, :dense_number_map)) unless input[:dense_number_map].nil?
+        DenseBooleanMap.validate!(input[:dense_boolean_map], context: Hearth::Validator::Path.new(context, :dense_boolean_map)) unless input[:dense_boolean_map].nil?
+        DenseStringMap.validate!(input[:dense_string_map], context: Hearth::Validator::Path.new(context, :dense_string_map)) unless input[:dense_string_map].nil?
+        SparseNumberMap.validate!(input[:sparse_number_map], context: Hearth::Validator::Path.new(context, :sparse_number_map)) unless input[:sparse_number_map].nil?
+        SparseBooleanMap.validate!(input[:sparse_boolean_map], context: Hearth::Validator::Path.new(context, :sparse_boolean_map)) unless input[:sparse_boolean_map].nil?
+        SparseStringMap.validate!(input[:sparse_string_map], context: Hearth::Validator::Path.new(context, :sparse_string_map)) unless input[:sparse_string_map].nil?
+        DenseSetMap.validate!(input[:dense_set_map], context: Hearth::Validator::Path.new(context, :dense_set_map)) unless input[:dense_set_map].nil?
+        SparseSetMap.validate!(input[:sparse_set_map], context: Hearth::Validator::Path.new(context, :sparse_set_map)) unless input[:sparse_set_map].nil?
       end
     end
 
     class JsonMapsOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::JsonMapsOutput, context: context)
-        DenseStructMap.validate!(input[:dense_struct_map], context: "#{context}[:dense_struct_map]") unless input[:dense_struct_map].nil?
-        SparseStructMap.validate!(input[:sparse_struct_map], context: "#{context}[:sparse_struct_map]") unless input[:sparse_struct_map].nil?
-        DenseNumberMap.validate!(input[:dense_number_map], context: "#{context}[:dense_number_map]") unless input[:dense_number_map].nil?
-        DenseBooleanMap.validate!(input[:dense_boolean_map], context: "#{context}[:dense_boolean_map]") unless input[:dense_boolean_map].nil?
-        DenseStringMap.validate!(input[:dense_string_map], context: "#{context}[:dense_string_map]") unless input[:dense_string_map].nil?
-        SparseNumberMap.validate!(input[:sparse_number_map], context: "#{context}[:sparse_number_map]") unless input[:sparse_number_map].nil?
-        SparseBooleanMap.validate!(input[:sparse_boolean_map], context: "#{context}[:sparse_boolean_map]") unless input[:sparse_boolean_map].nil?
-        SparseStringMap.validate!(input[:sparse_string_map], context: "#{context}[:sparse_string_map]") unless input[:sparse_string_map].nil?
-        DenseSetMap.validate!(input[:dense_set_map], context: "#{context}[:dense_set_map]") unless input[:dense_set_map].nil?
-        SparseSetMap.validate!(input[:sparse_set_map], context: "#{context}[:sparse_set_map]") unless input[:sparse_set_map].nil?
+        DenseStructMap.validate!(input[:dense_struct_map], context: Hearth::Validator::Path.new(context, :dense_struct_map)) unless input[:dense_struct_map].nil?
+        SparseStructMap.validate!(input[:sparse_struct_map], context: Hearth::Validator::Path.new(context, :sparse_struct_map)) unless input[:sparse_struct_map].nil?
+        DenseNumberMap.validate!(input[:dense_number_map], context: Hearth::Validator::Path.new(context, :dense_number_map)) unless input[:dense_number_map].nil?
+        DenseBooleanMap.validate!(input[:dense_boolean_map], context: Hearth::Validator::Path.new(context, :dense_boolean_map)) unless input[:dense_boolean_map].nil?
+        DenseStringMap.validate!(input[:dense_string_map], context: Hearth::Validator::Path.new(context, :dense_string_map)) unless input[:dense_string_map].nil?
+        SparseNumberMap.validate!(input[:sparse_number_map], context: Hearth::Validator::Path.new(context, :sparse_number_map)) unless input[:sparse_number_map].nil?
+        SparseBooleanMap.validate!(input[:sparse_boolean_map], context: Hearth::Validator::Path.new(context, :sparse_boolean_map)) unless input[:sparse_boolean_map].nil?
+        SparseStringMap.validate!(input[:sparse_string_map], context: Hearth::Validator::Path.new(context, :sparse_string_map)) unless input[:sparse_string_map].nil?
+        DenseSetMap.validate!(input[:dense_set_map], context: Hearth::Validator::Path.new(context, :dense_set_map)) unless input[:dense_set_map].nil?
+        SparseSetMap.validate!(input[:sparse_set_map], context: Hearth::Validator::Path.new(context, :sparse_set_map)) unless input[:sparse_set_map].nil?
       end
     end
 
     class JsonUnionsInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::JsonUnionsInput, context: context)
-        MyUnion.validate!(input[:contents], context: "#{context}[:contents]") unless input[:contents].nil?
+        MyUnion.validate!(input[:contents], context: Hearth::Validator::Path.new(context, :contents)) unless input[:contents].nil?
       end
     end
 
     class JsonUnionsOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::JsonUnionsOutput, context: context)
-        MyUnion.validate!(input[:contents], context: "#{context}[:contents]") unless input[:contents].nil?
+        MyUnion.validate!(input[:contents], context: Hearth::Validator::Path.new(context, :contents)) unless input[:contents].nil?
       end
     end
 
     class KitchenSink
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::KitchenSink, context: context)
-        Hearth::Validator.validate_types!(input[:blob], ::String, context: "#{context}[:blob]")
-        Hearth::Validator.validate_types!(input[:boolean], ::TrueClass, ::FalseClass, context: "#{context}[:boolean]")
-        Hearth::Validator.validate_types!(input[:double], ::Float, context: "#{context}[:double]")
-        EmptyStruct.validate!(input[:empty_struct], context: "#{context}[:empty_struct]") unless input[:empty_struct].nil?
-        Hearth::Validator.validate_types!(input[:float], ::Float, context: "#{context}[:float]")
-        Hearth::Validator.validate_types!(input[:httpdate_timestamp], ::Time, context: "#{context}[:httpdate_timestamp]")
-        Hearth::Validator.validate_types!(input[:integer], ::Integer, context: "#{context}[:integer]")
-        Hearth::Validator.validate_types!(input[:iso8601_timestamp], ::Time, context: "#{context}[:iso8601_timestamp]")
-        Hearth::Validator.validate_types!(input[:json_value], ::String, context: "#{context}[:json_value]")
-        ListOfListOfStrings.validate!(input[:list_of_lists], context: "#{context}[:list_of_lists]") unless input[:list_of_lists].nil?
-        ListOfMapsOfStrings.validate!(input[:list_of_maps_of_strings], context: "#{context}[:list_of_maps_of_strings]") unless input[:list_of_maps_of_strings].nil?
-        ListOfStrings.validate!(input[:list_of_strings], context: "#{context}[:list_of_strings]") unless input[:list_of_strings].nil?
-        ListOfStructs.validate!(input[:list_of_structs], context: "#{context}[:list_of_structs]") unless input[:list_of_structs].nil?
-        Hearth::Validator.validate_types!(input[:long], ::Integer, context: "#{context}[:long]")
-        MapOfListsOfStrings.validate!(input[:map_of_lists_of_strings], context: "#{context}[:map_of_lists_of_strings]") unless input[:map_of_lists_of_strings].nil?
-        MapOfMapOfStrings.validate!(input[:map_of_maps], context: "#{context}[:map_of_maps]") unless input[:map_of_maps].nil?
-        MapOfStrings.validate!(input[:map_of_strings], context: "#{context}[:map_of_strings]") unless input[:map_of_strings].nil?
-        MapOfStructs.validate!(input[:map_of_structs], context: "#{context}[:map_of_structs]") unless input[:map_of_structs].nil?
-        ListOfKitchenSinks.validate!(input[:recursive_list], context: "#{context}[:recursive_list]") unless input[:recursive_list].nil?
-        MapOfKitchenSinks.validate!(input[:recursive_map], context: "#{context}[:recursive_map]") unless input[:recursive_map].nil?
-        KitchenSink.validate!(input[:recursive_struct], context: "#{context}[:recursive_struct]") unless input[:recursive_struct].nil?
-        SimpleStruct.validate!(input[:simple_struct], context: "#{context}[:simple_struct]") unless input[:simple_struct].nil?
-        Hearth::Validator.validate_types!(input[:string], ::String, context: "#{context}[:string]")
-        StructWithLocationName.validate!(input[:struct_with_location_name], context: "#{context}[:struct_with_location_name]") unless input[:struct_with_location_name].nil?
-        Hearth::Validator.validate_types!(input[:timestamp], ::Time, context: "#{context}[:timestamp]")
-        Hearth::Validator.validate_types!(input[:unix_timestamp], ::Time, context: "#{context}[:unix_timestamp]")
+        Hearth::Validator.validate_types!(input[:blob], ::String, context: Hearth::Validator::Path.new(context, :blob))
+        Hearth::Validator.validate_types!(input[:boolean], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :boolean))
+        Hearth::Validator.validate_types!(input[:double], ::Float, context: Hearth::Validator::Path.new(context, :double))
+        EmptyStruct.validate!(input[:empty_struct], context: Hearth::Validator::Path.new(context, :empty_struct)) unless input[:empty_struct].nil?
+        Hearth::Validator.validate_types!(input[:float], ::Float, context: Hearth::Validator::Path.new(context, :float))
+        Hearth::Validator.validate_types!(input[:httpdate_timestamp], ::Time, context: Hearth::Validator::Path.new(context, :httpdate_timestamp))
+        Hearth::Validator.validate_types!(input[:integer], ::Integer, context: Hearth::Validator::Path.new(context, :integer))
+        Hearth::Validator.validate_types!(input[:iso8601_timestamp], ::Time, context: Hearth::Validator::Path.new(context, :iso8601_timestamp))
+        Hearth::Validator.validate_types!(input[:json_value], ::String, context: Hearth::Validator::Path.new(context, :json_value))
+        ListOfListOfStrings.validate!(input[:list_of_lists], context: Hearth::Validator::Path.new(context, :list_of_lists)) unless input[:list_of_lists].nil?
+        ListOfMapsOfStrings.validate!(input[:list_of_maps_of_strings], context: Hearth::Validator::Path.new(context, :list_of_maps_of_strings)) unless input[:list_of_maps_of_strings].nil?
+        ListOfStrings.validate!(input[:list_of_strings], context: Hearth::Validator::Path.new(context, :list_of_strings)) unless input[:list_of_strings].nil?
+        ListOfStructs.validate!(input[:list_of_structs], context: Hearth::Validator::Path.new(context, :list_of_structs)) unless input[:list_of_structs].nil?
+        Hearth::Validator.validate_types!(input[:long], ::Integer, context: Hearth::Validator::Path.new(context, :long))
+        MapOfListsOfStrings.validate!(input[:map_of_lists_of_strings], context: Hearth::Validator::Path.new(context, :map_of_lists_of_strings)) unless input[:map_of_lists_of_strings].nil?
+        MapOfMapOfStrings.validate!(input[:map_of_maps], context: Hearth::Validator::Path.new(context, :map_of_maps)) unless input[:map_of_maps].nil?
+        MapOfStrings.validate!(input[:map_of_strings], context: Hearth::Validator::Path.new(context, :map_of_strings)) unless input[:map_of_strings].nil?
+        MapOfStructs.validate!(input[:map_of_structs], context: Hearth::Validator::Path.new(context, :map_of_structs)) unless input[:map_of_structs].nil?
+        ListOfKitchenSinks.validate!(input[:recursive_list], context: Hearth::Validator::Path.new(context, :recursive_list)) unless input[:recursive_list].nil?
+        MapOfKitchenSinks.validate!(input[:recursive_map], context: Hearth::Validator::Path.new(context, :recursive_map)) unless input[:recursive_map].nil?
+        KitchenSink.validate!(input[:recursive_struct], context: Hearth::Validator::Path.new(context, :recursive_struct)) unless input[:recursive_struct].nil?
+        SimpleStruct.validate!(input[:simple_struct], context: Hearth::Validator::Path.new(context, :simple_struct)) unless input[:simple_struct].nil?
+        Hearth::Validator.validate_types!(input[:string], ::String, context: Hearth::Validator::Path.new(context, :string))
+        StructWithLocationName.validate!(input[:struct_with_location_name], context: Hearth::Validator::Path.new(context, :struct_with_location_name)) unless input[:struct_with_location_name].nil?
+        Hearth::Validator.validate_types!(input[:timestamp], ::Time, context: Hearth::Validator::Path.new(context, :timestamp))
+        Hearth::Validator.validate_types!(input[:unix_timestamp], ::Time, context: Hearth::Validator::Path.new(context, :unix_timestamp))
       end
     end
 
     class KitchenSinkOperationInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::KitchenSinkOperationInput, context: context)
-        Hearth::Validator.validate_types!(input[:blob], ::String, context: "#{context}[:blob]")
-        Hearth::Validator.validate_types!(input[:boolean], ::TrueClass, ::FalseClass, context: "#{context}[:boolean]")
-        Hearth::Validator.validate_types!(input[:double], ::Float, context: "#{context}[:double]")
-        EmptyStruct.validate!(input[:empty_struct], context: "#{context}[:empty_struct]") unless input[:empty_struct].nil?
-        Hearth::Validator.validate_types!(input[:float], ::Float, context: "#{context}[:float]")
-        Hearth::Validator.validate_types!(input[:httpdate_timestamp], ::Time, context: "#{context}[:httpdate_timestamp]")
-        Hearth::Validator.validate_types!(input[:integer], ::Integer, context: "#{context}[:integer]")
-        Hearth::Validator.validate_types!(input[:iso8601_timestamp], ::Time, context: "#{context}[:iso8601_timestamp]")
-        Hearth::Validator.validate_types!(input[:json_value], ::String, context: "#{context}[:json_value]")
-        ListOfListOfStrings.validate!(input[:list_of_lists], context: "#{context}[:list_of_lists]") unless input[:list_of_lists].nil?
-        ListOfMapsOfStrings.validate!(input[:list_of_maps_of_strings], context: "#{context}[:list_of_maps_of_strings]") unless input[:list_of_maps_of_strings].nil?
-        ListOfStrings.validate!(input[:list_of_strings], context: "#{context}[:list_of_strings]") unless input[:list_of_strings].nil?
-        ListOfStructs.validate!(input[:list_of_structs], context: "#{context}[:list_of_structs]") unless input[:list_of_structs].nil?
-        Hearth::Validator.validate_types!(input[:long], ::Integer, context: "#{context}[:long]")
-        MapOfListsOfStrings.validate!(input[:map_of_lists_of_strings], context: "#{context}[:map_of_lists_of_strings]") unless input[:map_of_lists_of_strings].nil?
-        MapOfMapOfStrings.validate!(input[:map_of_maps], context: "#{context}[:map_of_maps]") unless input[:map_of_maps].nil?
-        MapOfStrings.validate!(input[:map_of_strings], context: "#{context}[:map_of_strings]") unless input[:map_of_strings].nil?
-        MapOfStructs.validate!(input[:map_of_structs], context: "#{context}[:map_of_structs]") unless input[:map_of_structs].nil?
-        ListOfKitchenSinks.validate!(input[:recursive_list], context: "#{context}[:recursive_list]") unless input[:recursive_list].nil?
-        MapOfKitchenSinks.validate!(input[:recursive_map], context: "#{context}[:recursive_map]") unless input[:recursive_map].nil?
-        KitchenSink.validate!(input[:recursive_struct], context: "#{context}[:recursive_struct]") unless input[:recursive_struct].nil?
-        SimpleStruct.validate!(input[:simple_struct], context: "#{context}[:simple_struct]") unless input[:simple_struct].nil?
-        Hearth::Validator.validate_types!(input[:string], ::String, context: "#{context}[:string]")
-        StructWithLocationName.validate!(input[:struct_with_location_name], context: "#{context}[:struct_with_location_name]") unless input[:struct_with_location_name].nil?
-        Hearth::Validator.validate_types!(input[:timestamp], ::Time, context: "#{context}[:timestamp]")
-        Hearth::Validator.validate_types!(input[:unix_timestamp], ::Time, context: "#{context}[:unix_timestamp]")
+        Hearth::Validator.validate_types!(input[:blob], ::String, context: Hearth::Validator::Path.new(context, :blob))
+        Hearth::Validator.validate_types!(input[:boolean], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :boolean))
+        Hearth::Validator.validate_types!(input[:double], ::Float, context: Hearth::Validator::Path.new(context, :double))
+        EmptyStruct.validate!(input[:empty_struct], context: Hearth::Validator::Path.new(context, :empty_struct)) unless input[:empty_struct].nil?
+        Hearth::Validator.validate_types!(input[:float], ::Float, context: Hearth::Validator::Path.new(context, :float))
+        Hearth::Validator.validate_types!(input[:httpdate_timestamp], ::Time, context: Hearth::Validator::Path.new(context, :httpdate_timestamp))
+        Hearth::Validator.validate_types!(input[:integer], ::Integer, context: Hearth::Validator::Path.new(context, :integer))
+        Hearth::Validator.validate_types!(input[:iso8601_timestamp], ::Time, context: Hearth::Validator::Path.new(context, :iso8601_timestamp))
+        Hearth::Validator.validate_types!(input[:json_value], ::String, context: Hearth::Validator::Path.new(context, :json_value))
+        ListOfListOfStrings.validate!(input[:list_of_lists], context: Hearth::Validator::Path.new(context, :list_of_lists)) unless input[:list_of_lists].nil?
+        ListOfMapsOfStrings.validate!(input[:list_of_maps_of_strings], context: Hearth::Validator::Path.new(context, :list_of_maps_of_strings)) unless input[:list_of_maps_of_strings].nil?
+        ListOfStrings.validate!(input[:list_of_strings], context: Hearth::Validator::Path.new(context, :list_of_strings)) unless input[:list_of_strings].nil?
+        ListOfStructs.validate!(input[:list_of_structs], context: Hearth::Validator::Path.new(context, :list_of_structs)) unless input[:list_of_structs].nil?
+        Hearth::Validator.validate_types!(input[:long], ::Integer, context: Hearth::Validator::Path.new(context, :long))
+        MapOfListsOfStrings.validate!(input[:map_of_lists_of_strings], context: Hearth::Validator::Path.new(context, :map_of_lists_of_strings)) unless input[:map_of_lists_of_strings].nil?
+        MapOfMapOfStrings.validate!(input[:map_of_maps], context: Hearth::Validator::Path.new(context, :map_of_maps)) unless input[:map_of_maps].nil?
+        MapOfStrings.validate!(input[:map_of_strings], context: Hearth::Validator::Path.new(context, :map_of_strings)) unless input[:map_of_strings].nil?
+        MapOfStructs.validate!(input[:map_of_structs], context: Hearth::Validator::Path.new(context, :map_of_structs)) unless input[:map_of_structs].nil?
+        ListOfKitchenSinks.validate!(input[:recursive_list], context: Hearth::Validator::Path.new(context, :recursive_list)) unless input[:recursive_list].nil?
+        MapOfKitchenSinks.validate!(input[:recursive_map], context: Hearth::Validator::Path.new(context, :recursive_map)) unless input[:recursive_map].nil?
+        KitchenSink.validate!(input[:recursive_struct], context: Hearth::Validator::Path.new(context, :recursive_struct)) unless input[:recursive_struct].nil?
+        SimpleStruct.validate!(input[:simple_struct], context: Hearth::Validator::Path.new(context, :simple_struct)) unless input[:simple_struct].nil?
+        Hearth::Validator.validate_types!(input[:string], ::String, context: Hearth::Validator::Path.new(context, :string))
+        StructWithLocationName.validate!(input[:struct_with_location_name], context: Hearth::Validator::Path.new(context, :struct_with_location_name)) unless input[:struct_with_location_name].nil?
+        Hearth::Validator.validate_types!(input[:timestamp], ::Time, context: Hearth::Validator::Path.new(context, :timestamp))
+        Hearth::Validator.validate_types!(input[:unix_timestamp], ::Time, context: Hearth::Validator::Path.new(context, :unix_timestamp))
       end
     end
 
     class KitchenSinkOperationOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::KitchenSinkOperationOutput, context: context)
-        Hearth::Validator.validate_types!(input[:blob], ::String, context: "#{context}[:blob]")
-        Hearth::Validator.validate_types!(input[:boolean], ::TrueClass, ::FalseClass, context: "#{context}[:boolean]")
-        Hearth::Validator.validate_types!(input[:double], ::Float, context: "#{context}[:double]")
-        EmptyStruct.validate!(input[:empty_struct], context: "#{context}[:empty_struct]") unless input[:empty_struct].nil?
-        Hearth::Validator.validate_types!(input[:float], ::Float, context: "#{context}[:float]")
-        Hearth::Validator.validate_types!(input[:httpdate_timestamp], ::Time, context: "#{context}[:httpdate_timestamp]")
-        Hearth::Validator.validate_types!(input[:integer], ::Integer, context: "#{context}[:integer]")
-        Hearth::Validator.validate_types!(input[:iso8601_timestamp], ::Time, context: "#{context}[:iso8601_timestamp]")
-        Hearth::Validator.validate_types!(input[:json_value], ::String, context: "#{context}[:json_value]")
-        ListOfListOfStrings.validate!(input[:list_of_lists], context: "#{context}[:list_of_lists]") unless input[:list_of_lists].nil?
-        ListOfMapsOfStrings.validate!(input[:list_of_maps_of_strings], context: "#{context}[:list_of_maps_of_strings]") unless input[:list_of_maps_of_strings].nil?
-        ListOfStrings.validate!(input[:list_of_strings], context: "#{context}[:list_of_strings]") unless input[:list_of_strings].nil?
-        ListOfStructs.validate!(input[:list_of_structs], context: "#{context}[:list_of_structs]") unless input[:list_of_structs].nil?
-        Hearth::Validator.validate_types!(input[:long], ::Integer, context: "#{context}[:long]")
-        MapOfListsOfStrings.validate!(input[:map_of_lists_of_strings], context: "#{context}[:map_of_lists_of_strings]") unless input[:map_of_lists_of_strings].nil?
-        MapOfMapOfStrings.validate!(input[:map_of_maps], context: "#{context}[:map_of_maps]") unless input[:map_of_maps].nil?
-        MapOfStrings.validate!(input[:map_of_strings], context: "#{context}[:map_of_strings]") unless input[:map_of_strings].nil?
-        MapOfStructs.validate!(input[:map_of_structs], context: "#{context}[:map_of_structs]") unless input[:map_of_structs].nil?
-        ListOfKitchenSinks.validate!(input[:recursive_list], context: "#{context}[:recursive_list]") unless input[:recursive_list].nil?
-        MapOfKitchenSinks.validate!(input[:recursive_map], context: "#{context}[:recursive_map]") unless input[:recursive_map].nil?
-        KitchenSink.validate!(input[:recursive_struct], context: "#{context}[:recursive_struct]") unless input[:recursive_struct].nil?
-        SimpleStruct.validate!(input[:simple_struct], context: "#{context}[:simple_struct]") unless input[:simple_struct].nil?
-        Hearth::Validator.validate_types!(input[:string], ::String, context: "#{context}[:string]")
-        StructWithLocationName.validate!(input[:struct_with_location_name], context: "#{context}[:struct_with_location_name]") unless input[:struct_with_location_name].nil?
-        Hearth::Validator.validate_types!(input[:timestamp], ::Time, context: "#{context}[:timestamp]")
-        Hearth::Validator.validate_types!(input[:unix_timestamp], ::Time, context: "#{context}[:unix_timestamp]")
+        Hearth::Validator.validate_types!(input[:blob], ::String, context: Hearth::Validator::Path.new(context, :blob))
+        Hearth::Validator.validate_types!(input[:boolean], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :boolean))
+        Hearth::Validator.validate_types!(input[:double], ::Float, context: Hearth::Validator::Path.new(context, :double))
+        EmptyStruct.validate!(input[:empty_struct], context: Hearth::Validator::Path.new(context, :empty_struct)) unless input[:empty_struct].nil?
+        Hearth::Validator.validate_types!(input[:float], ::Float, context: Hearth::Validator::Path.new(context, :float))
+        Hearth::Validator.validate_types!(input[:httpdate_timestamp], ::Time, context: Hearth::Validator::Path.new(context, :httpdate_timestamp))
+        Hearth::Validator.validate_types!(input[:integer], ::Integer, context: Hearth::Validator::Path.new(context, :integer))
+        Hearth::Validator.validate_types!(input[:iso8601_timestamp], ::Time, context: Hearth::Validator::Path.new(context, :iso8601_timestamp))
+        Hearth::Validator.validate_types!(input[:json_value], ::String, context: Hearth::Validator::Path.new(context, :json_value))
+        ListOfListOfStrings.validate!(input[:list_of_lists], context: Hearth::Validator::Path.new(context, :list_of_lists)) unless input[:list_of_lists].nil?
+        ListOfMapsOfStrings.validate!(input[:list_of_maps_of_strings], context: Hearth::Validator::Path.new(context, :list_of_maps_of_strings)) unless input[:list_of_maps_of_strings].nil?
+        ListOfStrings.validate!(input[:list_of_strings], context: Hearth::Validator::Path.new(context, :list_of_strings)) unless input[:list_of_strings].nil?
+        ListOfStructs.validate!(input[:list_of_structs], context: Hearth::Validator::Path.new(context, :list_of_structs)) unless input[:list_of_structs].nil?
+        Hearth::Validator.validate_types!(input[:long], ::Integer, context: Hearth::Validator::Path.new(context, :long))
+        MapOfListsOfStrings.validate!(input[:map_of_lists_of_strings], context: Hearth::Validator::Path.new(context, :map_of_lists_of_strings)) unless input[:map_of_lists_of_strings].nil?
+        MapOfMapOfStrings.validate!(input[:map_of_maps], context: Hearth::Validator::Path.new(context, :map_of_maps)) unless input[:map_of_maps].nil?
+        MapOfStrings.validate!(input[:map_of_strings], context: Hearth::Validator::Path.new(context, :map_of_strings)) unless input[:map_of_strings].nil?
+        MapOfStructs.validate!(input[:map_of_structs], context: Hearth::Validator::Path.new(context, :map_of_structs)) unless input[:map_of_structs].nil?
+        ListOfKitchenSinks.validate!(input[:recursive_list], context: Hearth::Validator::Path.new(context, :recursive_list)) unless input[:recursive_list].nil?
+        MapOfKitchenSinks.validate!(input[:recursive_map], context: Hearth::Validator::Path.new(context, :recursive_map)) unless input[:recursive_map].nil?
+        KitchenSink.validate!(input[:recursive_struct], context: Hearth::Validator::Path.new(context, :recursive_struct)) unless input[:recursive_struct].nil?
+        SimpleStruct.validate!(input[:simple_struct], context: Hearth::Validator::Path.new(context, :simple_struct)) unless input[:simple_struct].nil?
+        Hearth::Validator.validate_types!(input[:string], ::String, context: Hearth::Validator::Path.new(context, :string))
+        StructWithLocationName.validate!(input[:struct_with_location_name], context: Hearth::Validator::Path.new(context, :struct_with_location_name)) unless input[:struct_with_location_name].nil?
+        Hearth::Validator.validate_types!(input[:timestamp], ::Time, context: Hearth::Validator::Path.new(context, :timestamp))
+        Hearth::Validator.validate_types!(input[:unix_timestamp], ::Time, context: Hearth::Validator::Path.new(context, :unix_timestamp))
       end
     end
 
@@ -738,7 +738,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          KitchenSink.validate!(element, context: "#{context}[#{index}]") unless element.nil?
+          KitchenSink.validate!(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
       end
     end
@@ -747,7 +747,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          ListOfStrings.validate!(element, context: "#{context}[#{index}]") unless element.nil?
+          ListOfStrings.validate!(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
       end
     end
@@ -756,7 +756,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          MapOfStrings.validate!(element, context: "#{context}[#{index}]") unless element.nil?
+          MapOfStrings.validate!(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
       end
     end
@@ -765,7 +765,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::String, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::String, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -774,7 +774,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          SimpleStruct.validate!(element, context: "#{context}[#{index}]") unless element.nil?
+          SimpleStruct.validate!(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
       end
     end
@@ -783,8 +783,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          KitchenSink.validate!(value, context: "#{context}[:#{key}]") unless value.nil?
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          KitchenSink.validate!(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
       end
     end
@@ -793,8 +793,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          ListOfStrings.validate!(value, context: "#{context}[:#{key}]") unless value.nil?
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          ListOfStrings.validate!(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
       end
     end
@@ -803,8 +803,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          MapOfStrings.validate!(value, context: "#{context}[:#{key}]") unless value.nil?
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          MapOfStrings.validate!(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
       end
     end
@@ -813,8 +813,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          Hearth::Validator.validate_types!(value, ::String, context: "#{context}[:#{key}]")
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          Hearth::Validator.validate_types!(value, ::String, context: Hearth::Validator::Path.new(context, key))
         end
       end
     end
@@ -823,8 +823,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          SimpleStruct.validate!(value, context: "#{context}[:#{key}]") unless value.nil?
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          SimpleStruct.validate!(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
       end
     end
@@ -832,14 +832,14 @@ module RailsJson
     class MediaTypeHeaderInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::MediaTypeHeaderInput, context: context)
-        Hearth::Validator.validate_types!(input[:json], ::String, context: "#{context}[:json]")
+        Hearth::Validator.validate_types!(input[:json], ::String, context: Hearth::Validator::Path.new(context, :json))
       end
     end
 
     class MediaTypeHeaderOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::MediaTypeHeaderOutput, context: context)
-        Hearth::Validator.validate_types!(input[:json], ::String, context: "#{context}[:json]")
+        Hearth::Validator.validate_types!(input[:json], ::String, context: Hearth::Validator::Path.new(context, :json))
       end
     end
 
@@ -929,66 +929,66 @@ module RailsJson
     class NestedAttributesOperationInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::NestedAttributesOperationInput, context: context)
-        SimpleStruct.validate!(input[:simple_struct], context: "#{context}[:simple_struct]") unless input[:simple_struct].nil?
+        SimpleStruct.validate!(input[:simple_struct], context: Hearth::Validator::Path.new(context, :simple_struct)) unless input[:simple_struct].nil?
       end
     end
 
     class NestedAttributesOperationOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::NestedAttributesOperationOutput, context: context)
-        Hearth::Validator.validate_types!(input[:value], ::String, context: "#{context}[:value]")
+        Hearth::Validator.validate_types!(input[:value], ::String, context: Hearth::Validator::Path.new(context, :value))
       end
     end
 
     class NestedPayload
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::NestedPayload, context: context)
-        Hearth::Validator.validate_types!(input[:greeting], ::String, context: "#{context}[:greeting]")
-        Hearth::Validator.validate_types!(input[:name], ::String, context: "#{context}[:name]")
+        Hearth::Validator.validate_types!(input[:greeting], ::String, context: Hearth::Validator::Path.new(context, :greeting))
+        Hearth::Validator.validate_types!(input[:name], ::String, context: Hearth::Validator::Path.new(context, :name))
       end
     end
 
     class NullAndEmptyHeadersClientInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::NullAndEmptyHeadersClientInput, context: context)
-        Hearth::Validator.validate_types!(input[:a], ::String, context: "#{context}[:a]")
-        Hearth::Validator.validate_types!(input[:b], ::String, context: "#{context}[:b]")
-        StringList.validate!(input[:c], context: "#{context}[:c]") unless input[:c].nil?
+        Hearth::Validator.validate_types!(input[:a], ::String, context: Hearth::Validator::Path.new(context, :a))
+        Hearth::Validator.validate_types!(input[:b], ::String, context: Hearth::Validator::Path.new(context, :b))
+        StringList.validate!(input[:c], context: Hearth::Validator::Path.new(context, :c)) unless input[:c].nil?
       end
     end
 
     class NullAndEmptyHeadersClientOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::NullAndEmptyHeadersClientOutput, context: context)
-        Hearth::Validator.validate_types!(input[:a], ::String, context: "#{context}[:a]")
-        Hearth::Validator.validate_types!(input[:b], ::String, context: "#{context}[:b]")
-        StringList.validate!(input[:c], context: "#{context}[:c]") unless input[:c].nil?
+        Hearth::Validator.validate_types!(input[:a], ::String, context: Hearth::Validator::Path.new(context, :a))
+        Hearth::Validator.validate_types!(input[:b], ::String, context: Hearth::Validator::Path.new(context, :b))
+        StringList.validate!(input[:c], context: Hearth::Validator::Path.new(context, :c)) unless input[:c].nil?
       end
     end
 
     class NullOperationInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::NullOperationInput, context: context)
-        Hearth::Validator.validate_types!(input[:string], ::String, context: "#{context}[:string]")
-        SparseStringList.validate!(input[:sparse_string_list], context: "#{context}[:sparse_string_list]") unless input[:sparse_string_list].nil?
-        SparseStringMap.validate!(input[:sparse_string_map], context: "#{context}[:sparse_string_map]") unless input[:sparse_string_map].nil?
+        Hearth::Validator.validate_types!(input[:string], ::String, context: Hearth::Validator::Path.new(context, :string))
+        SparseStringList.validate!(input[:sparse_string_list], context: Hearth::Validator::Path.new(context, :sparse_string_list)) unless input[:sparse_string_list].nil?
+        SparseStringMap.validate!(input[:sparse_string_map], context: Hearth::Validator::Path.new(context, :sparse_string_map)) unless input[:sparse_string_map].nil?
       end
     end
 
     class NullOperationOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::NullOperationOutput, context: context)
-        Hearth::Validator.validate_types!(input[:string], ::String, context: "#{context}[:string]")
-        SparseStringList.validate!(input[:sparse_string_list], context: "#{context}[:sparse_string_list]") unless input[:sparse_string_list].nil?
-        SparseStringMap.validate!(input[:sparse_string_map], context: "#{context}[:sparse_string_map]") unless input[:sparse_string_map].nil?
+        Hearth::Validator.validate_types!(input[:string], ::String, context: Hearth::Validator::Path.new(context, :string))
+        SparseStringList.validate!(input[:sparse_string_list], context: Hearth::Validator::Path.new(context, :sparse_string_list)) unless input[:sparse_string_list].nil?
+        SparseStringMap.validate!(input[:sparse_string_map], context: Hearth::Validator::Path.new(context, :sparse_string_map)) unless input[:sparse_string_map].nil?
       end
     end
 
     class OmitsNullSerializesEmptyStringInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::OmitsNullSerializesEmptyStringInput, context: context)
-        Hearth::Validator.validate_types!(input[:null_value], ::String, context: "#{context}[:null_value]")
-        Hearth::Validator.validate_types!(input[:empty_string], ::String, context: "#{context}[:empty_string]")
+        Hearth::Validator.validate_types!(input[:null_value], ::String, context: Hearth::Validator::Path.new(context, :null_value))
+        Hearth::Validator.validate_types!(input[:empty_string], ::String, context: Hearth::Validator::Path.new(context, :empty_string))
       end
     end
 
@@ -1001,21 +1001,36 @@ module RailsJson
     class OperationWithOptionalInputOutputInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::OperationWithOptionalInputOutputInput, context: context)
-        Hearth::Validator.validate_types!(input[:value], ::String, context: "#{context}[:value]")
+        Hearth::Validator.validate_types!(input[:value], ::String, context: Hearth::Validator::Path.new(context, :value))
       end
     end
 
     class OperationWithOptionalInputOutputOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::OperationWithOptionalInputOutputOutput, context: context)
-        Hearth::Validator.validate_types!(input[:value], ::String, context: "#{context}[:value]")
+        Hearth::Validator.validate_types!(input[:value], ::String, context: Hearth::Validator::Path.new(context, :value))
+      end
+    end
+
+    class PaginatedListOperationInput
+      def self.validate!(input, context:)
+        Hearth::Validator.validate_types!(input, Types::PaginatedListOperationInput, context: context)
+        Hearth::Validator.validate_types!(input[:next_token], ::String, context: Hearth::Validator::Path.new(context, :next_token))
+      end
+    end
+
+    class PaginatedListOperationOutput
+      def self.validate!(input, context:)
+        Hearth::Validator.validate_types!(input, Types::PaginatedListOperationOutput, context: context)
+        Hearth::Validator.validate_types!(input[:next_token], ::String, context: Hearth::Validator::Path.new(context, :next_token))
+        ListOfStructs.validate!(input[:items], context: Hearth::Validator::Path.new(context, :items)) unless input[:items].nil?
       end
     end
 
     class QueryIdempotencyTokenAutoFillInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::QueryIdempotencyTokenAutoFillInput, context: context)
-        Hearth::Validator.validate_types!(input[:token], ::String, context: "#{context}[:token]")
+        Hearth::Validator.validate_types!(input[:token], ::String, context: Hearth::Validator::Path.new(context, :token))
       end
     end
 
@@ -1028,8 +1043,8 @@ module RailsJson
     class QueryParamsAsStringListMapInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::QueryParamsAsStringListMapInput, context: context)
-        Hearth::Validator.validate_types!(input[:qux], ::String, context: "#{context}[:qux]")
-        StringListMap.validate!(input[:foo], context: "#{context}[:foo]") unless input[:foo].nil?
+        Hearth::Validator.validate_types!(input[:qux], ::String, context: Hearth::Validator::Path.new(context, :qux))
+        StringListMap.validate!(input[:foo], context: Hearth::Validator::Path.new(context, :foo)) unless input[:foo].nil?
       end
     end
 
@@ -1042,7 +1057,7 @@ module RailsJson
     class SimpleStruct
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::SimpleStruct, context: context)
-        Hearth::Validator.validate_types!(input[:value], ::String, context: "#{context}[:value]")
+        Hearth::Validator.validate_types!(input[:value], ::String, context: Hearth::Validator::Path.new(context, :value))
       end
     end
 
@@ -1050,8 +1065,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          Hearth::Validator.validate_types!(value, ::TrueClass, ::FalseClass, context: "#{context}[:#{key}]")
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          Hearth::Validator.validate_types!(value, ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, key))
         end
       end
     end
@@ -1060,8 +1075,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          Hearth::Validator.validate_types!(value, ::Integer, context: "#{context}[:#{key}]")
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          Hearth::Validator.validate_types!(value, ::Integer, context: Hearth::Validator::Path.new(context, key))
         end
       end
     end
@@ -1070,8 +1085,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          StringSet.validate!(value, context: "#{context}[:#{key}]") unless value.nil?
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          StringSet.validate!(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
       end
     end
@@ -1080,7 +1095,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::String, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::String, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -1089,8 +1104,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          Hearth::Validator.validate_types!(value, ::String, context: "#{context}[:#{key}]")
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          Hearth::Validator.validate_types!(value, ::String, context: Hearth::Validator::Path.new(context, key))
         end
       end
     end
@@ -1099,8 +1114,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          GreetingStruct.validate!(value, context: "#{context}[:#{key}]") unless value.nil?
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          GreetingStruct.validate!(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
       end
     end
@@ -1127,7 +1142,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::String, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::String, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -1136,8 +1151,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          StringList.validate!(value, context: "#{context}[:#{key}]") unless value.nil?
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          StringList.validate!(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
       end
     end
@@ -1146,8 +1161,8 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          Hearth::Validator.validate_types!(value, ::String, context: "#{context}[:#{key}]")
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          Hearth::Validator.validate_types!(value, ::String, context: Hearth::Validator::Path.new(context, key))
         end
       end
     end
@@ -1156,7 +1171,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::String, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::String, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -1164,33 +1179,33 @@ module RailsJson
     class StructWithLocationName
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::StructWithLocationName, context: context)
-        Hearth::Validator.validate_types!(input[:value], ::String, context: "#{context}[:value]")
+        Hearth::Validator.validate_types!(input[:value], ::String, context: Hearth::Validator::Path.new(context, :value))
       end
     end
 
     class TimestampFormatHeadersInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::TimestampFormatHeadersInput, context: context)
-        Hearth::Validator.validate_types!(input[:member_epoch_seconds], ::Time, context: "#{context}[:member_epoch_seconds]")
-        Hearth::Validator.validate_types!(input[:member_http_date], ::Time, context: "#{context}[:member_http_date]")
-        Hearth::Validator.validate_types!(input[:member_date_time], ::Time, context: "#{context}[:member_date_time]")
-        Hearth::Validator.validate_types!(input[:default_format], ::Time, context: "#{context}[:default_format]")
-        Hearth::Validator.validate_types!(input[:target_epoch_seconds], ::Time, context: "#{context}[:target_epoch_seconds]")
-        Hearth::Validator.validate_types!(input[:target_http_date], ::Time, context: "#{context}[:target_http_date]")
-        Hearth::Validator.validate_types!(input[:target_date_time], ::Time, context: "#{context}[:target_date_time]")
+        Hearth::Validator.validate_types!(input[:member_epoch_seconds], ::Time, context: Hearth::Validator::Path.new(context, :member_epoch_seconds))
+        Hearth::Validator.validate_types!(input[:member_http_date], ::Time, context: Hearth::Validator::Path.new(context, :member_http_date))
+        Hearth::Validator.validate_types!(input[:member_date_time], ::Time, context: Hearth::Validator::Path.new(context, :member_date_time))
+        Hearth::Validator.validate_types!(input[:default_format], ::Time, context: Hearth::Validator::Path.new(context, :default_format))
+        Hearth::Validator.validate_types!(input[:target_epoch_seconds], ::Time, context: Hearth::Validator::Path.new(context, :target_epoch_seconds))
+        Hearth::Validator.validate_types!(input[:target_http_date], ::Time, context: Hearth::Validator::Path.new(context, :target_http_date))
+        Hearth::Validator.validate_types!(input[:target_date_time], ::Time, context: Hearth::Validator::Path.new(context, :target_date_time))
       end
     end
 
     class TimestampFormatHeadersOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::TimestampFormatHeadersOutput, context: context)
-        Hearth::Validator.validate_types!(input[:member_epoch_seconds], ::Time, context: "#{context}[:member_epoch_seconds]")
-        Hearth::Validator.validate_types!(input[:member_http_date], ::Time, context: "#{context}[:member_http_date]")
-        Hearth::Validator.validate_types!(input[:member_date_time], ::Time, context: "#{context}[:member_date_time]")
-        Hearth::Validator.validate_types!(input[:default_format], ::Time, context: "#{context}[:default_format]")
-        Hearth::Validator.validate_types!(input[:target_epoch_seconds], ::Time, context: "#{context}[:target_epoch_seconds]")
-        Hearth::Validator.validate_types!(input[:target_http_date], ::Time, context: "#{context}[:target_http_date]")
-        Hearth::Validator.validate_types!(input[:target_date_time], ::Time, context: "#{context}[:target_date_time]")
+        Hearth::Validator.validate_types!(input[:member_epoch_seconds], ::Time, context: Hearth::Validator::Path.new(context, :member_epoch_seconds))
+        Hearth::Validator.validate_types!(input[:member_http_date], ::Time, context: Hearth::Validator::Path.new(context, :member_http_date))
+        Hearth::Validator.validate_types!(input[:member_date_time], ::Time, context: Hearth::Validator::Path.new(context, :member_date_time))
+        Hearth::Validator.validate_types!(input[:default_format], ::Time, context: Hearth::Validator::Path.new(context, :default_format))
+        Hearth::Validator.validate_types!(input[:target_epoch_seconds], ::Time, context: Hearth::Validator::Path.new(context, :target_epoch_seconds))
+        Hearth::Validator.validate_types!(input[:target_http_date], ::Time, context: Hearth::Validator::Path.new(context, :target_http_date))
+        Hearth::Validator.validate_types!(input[:target_date_time], ::Time, context: Hearth::Validator::Path.new(context, :target_date_time))
       end
     end
 
@@ -1198,7 +1213,7 @@ module RailsJson
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          Hearth::Validator.validate_types!(element, ::Time, context: "#{context}[#{index}]")
+          Hearth::Validator.validate_types!(element, ::Time, context: Hearth::Validator::Path.new(context, index))
         end
       end
     end
@@ -1206,23 +1221,23 @@ module RailsJson
     class Struct____456efg
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::Struct____456efg, context: context)
-        Hearth::Validator.validate_types!(input[:member___123foo], ::String, context: "#{context}[:member___123foo]")
+        Hearth::Validator.validate_types!(input[:member___123foo], ::String, context: Hearth::Validator::Path.new(context, :member___123foo))
       end
     end
 
     class Struct____789BadNameInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::Struct____789BadNameInput, context: context)
-        Hearth::Validator.validate_required!(input[:member___123abc], context: "#{context}[:member___123abc]")
-        Hearth::Validator.validate_types!(input[:member___123abc], ::String, context: "#{context}[:member___123abc]")
-        Struct____456efg.validate!(input[:member], context: "#{context}[:member]") unless input[:member].nil?
+        Hearth::Validator.validate_required!(input[:member___123abc], context: Hearth::Validator::Path.new(context, :member___123abc))
+        Hearth::Validator.validate_types!(input[:member___123abc], ::String, context: Hearth::Validator::Path.new(context, :member___123abc))
+        Struct____456efg.validate!(input[:member], context: Hearth::Validator::Path.new(context, :member)) unless input[:member].nil?
       end
     end
 
     class Struct____789BadNameOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::Struct____789BadNameOutput, context: context)
-        Struct____456efg.validate!(input[:member], context: "#{context}[:member]") unless input[:member].nil?
+        Struct____456efg.validate!(input[:member], context: Hearth::Validator::Path.new(context, :member)) unless input[:member].nil?
       end
     end
 
@@ -0,0 +1,25 @@
+# frozen_string_literal: true
+
+require 'rails_json'
+
+module RailsJson
+  describe Client do
+    let(:config) { Config.new(stub_responses: true, endpoint: 'https://example.com') }
+    let(:client) { Client.new(config) }
+
+    before do
+      client.stub_responses(
+        :paginated_list_operation,
+        { items: [{ value: 'a' }, { value: 'b' }], next_token: 'token' }
+      )
+    end
+
+    describe '#paginated_list_operation' do
+      it 'parses the items' do
+        output = client.paginated_list_operation
+        expect(output.data.next_token).to eq('token')
+        expect(output.data.items.map(&:value)).to eq(%w[a b])
+      end
+    end
+  end
+end
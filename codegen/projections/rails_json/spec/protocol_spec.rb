@@ -5591,6 +5591,82 @@ module RailsJson
 
     end
 
+    describe '#paginated_list_operation' do
+
+      describe 'responses' do
+        # Deserializes paginated items and the next token
+        #
+        it 'RailsJsonPaginatedList' do
+          middleware = Hearth::MiddlewareBuilder.around_send do |app, input, context|
+            response = context.response
+            response.status = 200
+            response.headers = Hearth::HTTP::Headers.new({ 'Content-Type' => 'application/json' })
+            response.body = StringIO.new('{
+                "items": [
+                    {
+                        "value": "a"
+                    },
+                    {
+                        "value": "b"
+                    }
+                ],
+                "next_token": "token"
+            }')
+            Hearth::Output.new
+          end
+          middleware.remove_send.remove_build.remove_retry
+          output = client.paginated_list_operation({}, middleware: middleware)
+          expect(output.data.to_h).to eq({
+            items: [
+              {
+                value: "a"
+              },
+              {
+                value: "b"
+              }
+            ],
+            next_token: "token"
+          })
+        end
+      end
+
+      describe 'stubs' do
+        # Deserializes paginated items and the next token
+        #
+        it 'stubs RailsJsonPaginatedList' do
+          middleware = Hearth::MiddlewareBuilder.after_send do |input, context|
+            response = context.response
+            expect(response.status).to eq(200)
+          end
+          middleware.remove_build.remove_retry
+          client.stub_responses(:paginated_list_operation, {
+            items: [
+              {
+                value: "a"
+              },
+              {
+                value: "b"
+              }
+            ],
+            next_token: "token"
+          })
+          output = client.paginated_list_operation({}, middleware: middleware)
+          expect(output.data.to_h).to eq({
+            items: [
+              {
+                value: "a"
+              },
+              {
+                value: "b"
+              }
+            ],
+            next_token: "token"
+          })
+        end
+      end
+
+    end
+
     describe '#query_idempotency_token_auto_fill' do
 
       describe 'requests' do
@@ -32,6 +32,28 @@ module Weather
       @stubs = Hearth::Stubbing::Stubs.new
       @retry_quota = Hearth::Retry::RetryQuota.new
       @client_rate_limiter = Hearth::Retry::ClientRateLimiter.new
+      @transport_client = transport_client({})
+      @operation_constants = {
+        get_city: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[Errors::NoSuchResource].freeze)
+        }.freeze,
+        get_city_image: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[Errors::NoSuchResource].freeze)
+        }.freeze,
+        get_current_time: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        get_forecast: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        list_cities: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        operation____789_bad_name: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[Errors::NoSuchResource].freeze)
+        }.freeze
+      }.freeze
+      @middleware_stacks = {}
     end
 
     # @param [Hash] params
@@ -59,37 +81,37 @@ module Weather
     #   resp.data.city.case #=> String
     #
     def get_city(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::GetCityInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::GetCityInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::GetCity
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: [Errors::NoSuchResource]),
-        data_parser: Parsers::GetCity
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::GetCity,
-        stubs: @stubs,
-        params_class: Params::GetCityOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:get_city, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::GetCityInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::GetCity
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::GetCity,
+          error_parser: @operation_constants[:get_city][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::GetCity,
+          stubs: @stubs,
+          params_class: Params::GetCityOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -131,37 +153,37 @@ module Weather
     #   resp.data.image #=> String
     #
     def get_city_image(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::GetCityImageInput.build(params)
       response_body = output_stream(options, &block)
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::GetCityImageInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::GetCityImage
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: [Errors::NoSuchResource]),
-        data_parser: Parsers::GetCityImage
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::GetCityImage,
-        stubs: @stubs,
-        params_class: Params::GetCityImageOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:get_city_image, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::GetCityImageInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::GetCityImage
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::GetCityImage,
+          error_parser: @operation_constants[:get_city_image][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::GetCityImage,
+          stubs: @stubs,
+          params_class: Params::GetCityImageOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -192,37 +214,37 @@ module Weather
     #   resp.data.time #=> Time
     #
     def get_current_time(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::GetCurrentTimeInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::GetCurrentTimeInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::GetCurrentTime
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::GetCurrentTime
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::GetCurrentTime,
-        stubs: @stubs,
-        params_class: Params::GetCurrentTimeOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:get_current_time, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::GetCurrentTimeInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::GetCurrentTime
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::GetCurrentTime,
+          error_parser: @operation_constants[:get_current_time][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::GetCurrentTime,
+          stubs: @stubs,
+          params_class: Params::GetCurrentTimeOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -270,37 +292,37 @@ module Weather
     #   resp.data.precipitation.baz.bar #=> String
     #
     def get_forecast(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::GetForecastInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::GetForecastInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::GetForecast
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::GetForecast
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::GetForecast,
-        stubs: @stubs,
-        params_class: Params::GetForecastOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:get_forecast, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::GetForecastInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::GetForecast
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::GetForecast,
+          error_parser: @operation_constants[:get_forecast][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::GetForecast,
+          stubs: @stubs,
+          params_class: Params::GetForecastOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -353,37 +375,37 @@ module Weather
     #   resp.data.sparse_items #=> Array<CitySummary>
     #
     def list_cities(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::ListCitiesInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::ListCitiesInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::ListCities
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::ListCities
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::ListCities,
-        stubs: @stubs,
-        params_class: Params::ListCitiesOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:list_cities, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::ListCitiesInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::ListCities
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::ListCities,
+          error_parser: @operation_constants[:list_cities][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::ListCities,
+          stubs: @stubs,
+          params_class: Params::ListCitiesOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -421,37 +443,37 @@ module Weather
     #   resp.data.member.member___123foo #=> String
     #
     def operation____789_bad_name(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::Struct____789BadNameInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::Struct____789BadNameInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::Operation____789BadName
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: [Errors::NoSuchResource]),
-        data_parser: Parsers::Operation____789BadName
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::Operation____789BadName,
-        stubs: @stubs,
-        params_class: Params::Struct____789BadNameOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:operation____789_bad_name, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::Struct____789BadNameInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::Operation____789BadName
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::Operation____789BadName,
+          error_parser: @operation_constants[:operation____789_bad_name][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::Operation____789BadName,
+          stubs: @stubs,
+          params_class: Params::Struct____789BadNameOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -469,6 +491,27 @@ module Weather
 
     private
 
+    def operation_stack(operation, options)
+      cacheable = options.each_key.all?(:output_stream)
+      version = Client.middleware.version
+      cached = @middleware_stacks[operation] if cacheable
+      return cached.last if cached && cached.first == version
+
+      stack = Hearth::MiddlewareStack.new
+      yield stack
+      apply_middleware(stack, options[:middleware])
+      return stack unless cacheable
+
+      @middleware_stacks[operation] = [version, stack.freeze]
+      stack
+    end
+
+    def transport_client(options)
+      return @transport_client if @transport_client && !options.key?(:http_wire_trace)
+
+      Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace), http_max_connections: @config.http_max_connections, http_idle_timeout: @config.http_idle_timeout)
+    end
+
     def apply_middleware(middleware_stack, middleware)
       Client.middleware.apply(middleware_stack)
       @middleware.apply(middleware_stack)
@@ -49,5 +49,10 @@ module Weather
       attr_reader :data
     end
 
+    # @api private
+    ERROR_CLASSES = {
+      'NoSuchResource' => NoSuchResource
+    }.freeze
+
   end
 end
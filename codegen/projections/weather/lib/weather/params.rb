@@ -23,15 +23,15 @@ module Weather
         case key
         when :police
           Types::Announcements::Police.new(
-            (Message.build(params[:police], context: "#{context}[:police]") unless params[:police].nil?)
+            (Message.build(params[:police], context: Hearth::Validator::Path.new(context, :police)) unless params[:police].nil?)
           )
         when :fire
           Types::Announcements::Fire.new(
-            (Message.build(params[:fire], context: "#{context}[:fire]") unless params[:fire].nil?)
+            (Message.build(params[:fire], context: Hearth::Validator::Path.new(context, :fire)) unless params[:fire].nil?)
           )
         when :health
           Types::Announcements::Health.new(
-            (Message.build(params[:health], context: "#{context}[:health]") unless params[:health].nil?)
+            (Message.build(params[:health], context: Hearth::Validator::Path.new(context, :health)) unless params[:health].nil?)
           )
         else
           raise ArgumentError,
@@ -65,7 +65,7 @@ module Weather
         Hearth::Validator.validate_types!(params, ::Array, context: context)
         data = []
         params.each_with_index do |element, index|
-          data << CitySummary.build(element, context: "#{context}[#{index}]") unless element.nil?
+          data << CitySummary.build(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
         data
       end
@@ -107,7 +107,7 @@ module Weather
         Hearth::Validator.validate_types!(params, ::Hash, Types::GetCityAnnouncementsOutput, context: context)
         type = Types::GetCityAnnouncementsOutput.new
         type.last_updated = params[:last_updated]
-        type.announcements = Announcements.build(params[:announcements], context: "#{context}[:announcements]") unless params[:announcements].nil?
+        type.announcements = Announcements.build(params[:announcements], context: Hearth::Validator::Path.new(context, :announcements)) unless params[:announcements].nil?
         type
       end
     end
@@ -117,7 +117,7 @@ module Weather
         Hearth::Validator.validate_types!(params, ::Hash, Types::GetCityImageInput, context: context)
         type = Types::GetCityImageInput.new
         type.city_id = params[:city_id]
-        type.image_type = ImageType.build(params[:image_type], context: "#{context}[:image_type]") unless params[:image_type].nil?
+        type.image_type = ImageType.build(params[:image_type], context: Hearth::Validator::Path.new(context, :image_type)) unless params[:image_type].nil?
         type.resolution = params[:resolution]
         type
       end
@@ -150,8 +150,8 @@ module Weather
         Hearth::Validator.validate_types!(params, ::Hash, Types::GetCityOutput, context: context)
         type = Types::GetCityOutput.new
         type.name = params[:name]
-        type.coordinates = CityCoordinates.build(params[:coordinates], context: "#{context}[:coordinates]") unless params[:coordinates].nil?
-        type.city = CitySummary.build(params[:city], context: "#{context}[:city]") unless params[:city].nil?
+        type.coordinates = CityCoordinates.build(params[:coordinates], context: Hearth::Validator::Path.new(context, :coordinates)) unless params[:coordinates].nil?
+        type.city = CitySummary.build(params[:city], context: Hearth::Validator::Path.new(context, :city)) unless params[:city].nil?
         type
       end
     end
@@ -187,7 +187,7 @@ module Weather
         Hearth::Validator.validate_types!(params, ::Hash, Types::GetForecastOutput, context: context)
         type = Types::GetForecastOutput.new
         type.chance_of_rain = params[:chance_of_rain]
-        type.precipitation = Precipitation.build(params[:precipitation], context: "#{context}[:precipitation]") unless params[:precipitation].nil?
+        type.precipitation = Precipitation.build(params[:precipitation], context: Hearth::Validator::Path.new(context, :precipitation)) unless params[:precipitation].nil?
         type
       end
     end
@@ -208,7 +208,7 @@ module Weather
           )
         when :png
           Types::ImageType::Png.new(
-            (PNGImage.build(params[:png], context: "#{context}[:png]") unless params[:png].nil?)
+            (PNGImage.build(params[:png], context: Hearth::Validator::Path.new(context, :png)) unless params[:png].nil?)
           )
         else
           raise ArgumentError,
@@ -244,8 +244,8 @@ module Weather
         type.boxed_bool = params[:boxed_bool]
         type.default_number = params[:default_number]
         type.boxed_number = params[:boxed_number]
-        type.items = CitySummaries.build(params[:items], context: "#{context}[:items]") unless params[:items].nil?
-        type.sparse_items = SparseCitySummaries.build(params[:sparse_items], context: "#{context}[:sparse_items]") unless params[:sparse_items].nil?
+        type.items = CitySummaries.build(params[:items], context: Hearth::Validator::Path.new(context, :items)) unless params[:items].nil?
+        type.sparse_items = SparseCitySummaries.build(params[:sparse_items], context: Hearth::Validator::Path.new(context, :sparse_items)) unless params[:sparse_items].nil?
         type
       end
     end
@@ -308,7 +308,7 @@ module Weather
           )
         when :hail
           Types::Precipitation::Hail.new(
-            (StringMap.build(params[:hail], context: "#{context}[:hail]") unless params[:hail].nil?)
+            (StringMap.build(params[:hail], context: Hearth::Validator::Path.new(context, :hail)) unless params[:hail].nil?)
           )
         when :snow
           Types::Precipitation::Snow.new(
@@ -320,7 +320,7 @@ module Weather
           )
         when :other
           Types::Precipitation::Other.new(
-            (OtherStructure.build(params[:other], context: "#{context}[:other]") unless params[:other].nil?)
+            (OtherStructure.build(params[:other], context: Hearth::Validator::Path.new(context, :other)) unless params[:other].nil?)
           )
         when :blob
           Types::Precipitation::Blob.new(
@@ -328,11 +328,11 @@ module Weather
           )
         when :foo
           Types::Precipitation::Foo.new(
-            (Foo.build(params[:foo], context: "#{context}[:foo]") unless params[:foo].nil?)
+            (Foo.build(params[:foo], context: Hearth::Validator::Path.new(context, :foo)) unless params[:foo].nil?)
           )
         when :baz
           Types::Precipitation::Baz.new(
-            (Baz.build(params[:baz], context: "#{context}[:baz]") unless params[:baz].nil?)
+            (Baz.build(params[:baz], context: Hearth::Validator::Path.new(context, :baz)) unless params[:baz].nil?)
           )
         else
           raise ArgumentError,
@@ -346,7 +346,7 @@ module Weather
         Hearth::Validator.validate_types!(params, ::Array, context: context)
         data = []
         params.each_with_index do |element, index|
-          data << (CitySummary.build(element, context: "#{context}[#{index}]") unless element.nil?)
+          data << (CitySummary.build(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?)
         end
         data
       end
@@ -377,7 +377,7 @@ module Weather
         Hearth::Validator.validate_types!(params, ::Hash, Types::Struct____789BadNameInput, context: context)
         type = Types::Struct____789BadNameInput.new
         type.member___123abc = params[:member___123abc]
-        type.member = Struct____456efg.build(params[:member], context: "#{context}[:member]") unless params[:member].nil?
+        type.member = Struct____456efg.build(params[:member], context: Hearth::Validator::Path.new(context, :member)) unless params[:member].nil?
         type
       end
     end
@@ -387,7 +387,7 @@ module Weather
         Hearth::Validator.validate_types!(params, ::Hash, Types::Struct____789BadNameOutput, context: context)
         type = Types::Struct____789BadNameOutput.new
         type.member___123abc = params[:member___123abc]
-        type.member = Struct____456efg.build(params[:member], context: "#{context}[:member]") unless params[:member].nil?
+        type.member = Struct____456efg.build(params[:member], context: Hearth::Validator::Path.new(context, :member)) unless params[:member].nil?
         type
       end
     end
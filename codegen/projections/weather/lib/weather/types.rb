@@ -14,7 +14,7 @@ module Weather
 
       class Police < Announcements
         def to_h
-          { police: super(__getobj__) }
+          { police: __getobj__&.to_h }
         end
 
         def to_s
@@ -24,7 +24,7 @@ module Weather
 
       class Fire < Announcements
         def to_h
-          { fire: super(__getobj__) }
+          { fire: __getobj__&.to_h }
         end
 
         def to_s
@@ -34,7 +34,7 @@ module Weather
 
       class Health < Announcements
         def to_h
-          { health: super(__getobj__) }
+          { health: __getobj__&.to_h }
         end
 
         def to_s
@@ -69,6 +69,15 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:baz] = self.baz unless self.baz.nil?
+        hash[:bar] = self.bar unless self.bar.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute latitude
@@ -90,6 +99,15 @@ module Weather
         super
         self.latitude ||= 0
       end
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:latitude] = self.latitude unless self.latitude.nil?
+        hash[:longitude] = self.longitude unless self.longitude.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute city_id
@@ -116,6 +134,17 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:city_id] = self.city_id unless self.city_id.nil?
+        hash[:name] = self.name unless self.name.nil?
+        hash[:number] = self.number unless self.number.nil?
+        hash[:case] = self.case unless self.case.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute baz
@@ -132,6 +161,15 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:baz] = self.baz unless self.baz.nil?
+        hash[:bar] = self.bar unless self.bar.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute city_id
@@ -143,6 +181,14 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:city_id] = self.city_id unless self.city_id.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute last_updated
@@ -159,6 +205,15 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:last_updated] = self.last_updated unless self.last_updated.nil?
+        hash[:announcements] = self.announcements.to_h unless self.announcements.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute city_id
@@ -180,6 +235,16 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:city_id] = self.city_id unless self.city_id.nil?
+        hash[:image_type] = self.image_type.to_h unless self.image_type.nil?
+        hash[:resolution] = self.resolution unless self.resolution.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute image
@@ -191,6 +256,14 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:image] = self.image unless self.image.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # The input used to get a city.
@@ -204,6 +277,14 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:city_id] = self.city_id unless self.city_id.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute name
@@ -225,6 +306,16 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:name] = self.name unless self.name.nil?
+        hash[:coordinates] = self.coordinates.to_h unless self.coordinates.nil?
+        hash[:city] = self.city.to_h unless self.city.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     GetCurrentTimeInput = ::Struct.new(
@@ -232,6 +323,11 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute time
@@ -243,6 +339,14 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:time] = self.time unless self.time.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute city_id
@@ -254,6 +358,14 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:city_id] = self.city_id unless self.city_id.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute chance_of_rain
@@ -270,13 +382,22 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:chance_of_rain] = self.chance_of_rain unless self.chance_of_rain.nil?
+        hash[:precipitation] = self.precipitation.to_h unless self.precipitation.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     class ImageType < Hearth::Union
 
       class Raw < ImageType
         def to_h
-          { raw: super(__getobj__) }
+          { raw: __getobj__ }
         end
 
         def to_s
@@ -286,7 +407,7 @@ module Weather
 
       class Png < ImageType
         def to_h
-          { png: super(__getobj__) }
+          { png: __getobj__&.to_h }
         end
 
         def to_s
@@ -352,6 +473,21 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:next_token] = self.next_token unless self.next_token.nil?
+        hash[:a_string] = self.a_string unless self.a_string.nil?
+        hash[:default_bool] = self.default_bool unless self.default_bool.nil?
+        hash[:boxed_bool] = self.boxed_bool unless self.boxed_bool.nil?
+        hash[:default_number] = self.default_number unless self.default_number.nil?
+        hash[:boxed_number] = self.boxed_number unless self.boxed_number.nil?
+        hash[:some_enum] = self.some_enum unless self.some_enum.nil?
+        hash[:page_size] = self.page_size unless self.page_size.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute next_token
@@ -404,6 +540,22 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:next_token] = self.next_token unless self.next_token.nil?
+        hash[:some_enum] = self.some_enum unless self.some_enum.nil?
+        hash[:a_string] = self.a_string unless self.a_string.nil?
+        hash[:default_bool] = self.default_bool unless self.default_bool.nil?
+        hash[:boxed_bool] = self.boxed_bool unless self.boxed_bool.nil?
+        hash[:default_number] = self.default_number unless self.default_number.nil?
+        hash[:boxed_number] = self.boxed_number unless self.boxed_number.nil?
+        hash[:items] = super(self.items) unless self.items.nil?
+        hash[:sparse_items] = super(self.sparse_items) unless self.sparse_items.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute message
@@ -420,6 +572,15 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:message] = self.message unless self.message.nil?
+        hash[:author] = self.author unless self.author.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # Error encountered when no resource could be found.
@@ -439,6 +600,15 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:resource_type] = self.resource_type unless self.resource_type.nil?
+        hash[:message] = self.message unless self.message.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     OtherStructure = ::Struct.new(
@@ -446,6 +616,11 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute height
@@ -462,13 +637,22 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:height] = self.height unless self.height.nil?
+        hash[:width] = self.width unless self.width.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     class Precipitation < Hearth::Union
 
       class Rain < Precipitation
         def to_h
-          { rain: super(__getobj__) }
+          { rain: __getobj__ }
         end
 
         def to_s
@@ -478,7 +662,7 @@ module Weather
 
       class Sleet < Precipitation
         def to_h
-          { sleet: super(__getobj__) }
+          { sleet: __getobj__ }
         end
 
         def to_s
@@ -500,7 +684,7 @@ module Weather
       #
       class Snow < Precipitation
         def to_h
-          { snow: super(__getobj__) }
+          { snow: __getobj__ }
         end
 
         def to_s
@@ -512,7 +696,7 @@ module Weather
       #
       class Mixed < Precipitation
         def to_h
-          { mixed: super(__getobj__) }
+          { mixed: __getobj__ }
         end
 
         def to_s
@@ -522,7 +706,7 @@ module Weather
 
       class Other < Precipitation
         def to_h
-          { other: super(__getobj__) }
+          { other: __getobj__&.to_h }
         end
 
         def to_s
@@ -532,7 +716,7 @@ module Weather
 
       class Blob < Precipitation
         def to_h
-          { blob: super(__getobj__) }
+          { blob: __getobj__ }
         end
 
         def to_s
@@ -542,7 +726,7 @@ module Weather
 
       class Foo < Precipitation
         def to_h
-          { foo: super(__getobj__) }
+          { foo: __getobj__&.to_h }
         end
 
         def to_s
@@ -552,7 +736,7 @@ module Weather
 
       class Baz < Precipitation
         def to_h
-          { baz: super(__getobj__) }
+          { baz: __getobj__&.to_h }
         end
 
         def to_s
@@ -606,6 +790,14 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member___123foo] = self.member___123foo unless self.member___123foo.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member___123abc
@@ -622,6 +814,15 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member___123abc] = self.member___123abc unless self.member___123abc.nil?
+        hash[:member] = self.member.to_h unless self.member.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member___123abc
@@ -638,6 +839,15 @@ module Weather
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member___123abc] = self.member___123abc unless self.member___123abc.nil?
+        hash[:member] = self.member.to_h unless self.member.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
   end
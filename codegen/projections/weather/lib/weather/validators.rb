@@ -51,18 +51,18 @@ module Weather
     class Baz
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::Baz, context: context)
-        Hearth::Validator.validate_types!(input[:baz], ::String, context: "#{context}[:baz]")
-        Hearth::Validator.validate_types!(input[:bar], ::String, context: "#{context}[:bar]")
+        Hearth::Validator.validate_types!(input[:baz], ::String, context: Hearth::Validator::Path.new(context, :baz))
+        Hearth::Validator.validate_types!(input[:bar], ::String, context: Hearth::Validator::Path.new(context, :bar))
       end
     end
 
     class CityCoordinates
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::CityCoordinates, context: context)
-        Hearth::Validator.validate_required!(input[:latitude], context: "#{context}[:latitude]")
-        Hearth::Validator.validate_types!(input[:latitude], ::Float, context: "#{context}[:latitude]")
-        Hearth::Validator.validate_required!(input[:longitude], context: "#{context}[:longitude]")
-        Hearth::Validator.validate_types!(input[:longitude], ::Float, context: "#{context}[:longitude]")
+        Hearth::Validator.validate_required!(input[:latitude], context: Hearth::Validator::Path.new(context, :latitude))
+        Hearth::Validator.validate_types!(input[:latitude], ::Float, context: Hearth::Validator::Path.new(context, :latitude))
+        Hearth::Validator.validate_required!(input[:longitude], context: Hearth::Validator::Path.new(context, :longitude))
+        Hearth::Validator.validate_types!(input[:longitude], ::Float, context: Hearth::Validator::Path.new(context, :longitude))
       end
     end
 
@@ -70,7 +70,7 @@ module Weather
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          CitySummary.validate!(element, context: "#{context}[#{index}]") unless element.nil?
+          CitySummary.validate!(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
       end
     end
@@ -78,55 +78,55 @@ module Weather
     class CitySummary
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::CitySummary, context: context)
-        Hearth::Validator.validate_required!(input[:city_id], context: "#{context}[:city_id]")
-        Hearth::Validator.validate_types!(input[:city_id], ::String, context: "#{context}[:city_id]")
-        Hearth::Validator.validate_required!(input[:name], context: "#{context}[:name]")
-        Hearth::Validator.validate_types!(input[:name], ::String, context: "#{context}[:name]")
-        Hearth::Validator.validate_types!(input[:number], ::String, context: "#{context}[:number]")
-        Hearth::Validator.validate_types!(input[:case], ::String, context: "#{context}[:case]")
+        Hearth::Validator.validate_required!(input[:city_id], context: Hearth::Validator::Path.new(context, :city_id))
+        Hearth::Validator.validate_types!(input[:city_id], ::String, context: Hearth::Validator::Path.new(context, :city_id))
+        Hearth::Validator.validate_required!(input[:name], context: Hearth::Validator::Path.new(context, :name))
+        Hearth::Validator.validate_types!(input[:name], ::String, context: Hearth::Validator::Path.new(context, :name))
+        Hearth::Validator.validate_types!(input[:number], ::String, context: Hearth::Validator::Path.new(context, :number))
+        Hearth::Validator.validate_types!(input[:case], ::String, context: Hearth::Validator::Path.new(context, :case))
       end
     end
 
     class Foo
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::Foo, context: context)
-        Hearth::Validator.validate_types!(input[:baz], ::String, context: "#{context}[:baz]")
-        Hearth::Validator.validate_types!(input[:bar], ::String, context: "#{context}[:bar]")
+        Hearth::Validator.validate_types!(input[:baz], ::String, context: Hearth::Validator::Path.new(context, :baz))
+        Hearth::Validator.validate_types!(input[:bar], ::String, context: Hearth::Validator::Path.new(context, :bar))
       end
     end
 
     class GetCityAnnouncementsInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetCityAnnouncementsInput, context: context)
-        Hearth::Validator.validate_required!(input[:city_id], context: "#{context}[:city_id]")
-        Hearth::Validator.validate_types!(input[:city_id], ::String, context: "#{context}[:city_id]")
+        Hearth::Validator.validate_required!(input[:city_id], context: Hearth::Validator::Path.new(context, :city_id))
+        Hearth::Validator.validate_types!(input[:city_id], ::String, context: Hearth::Validator::Path.new(context, :city_id))
       end
     end
 
     class GetCityAnnouncementsOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetCityAnnouncementsOutput, context: context)
-        Hearth::Validator.validate_types!(input[:last_updated], ::Time, context: "#{context}[:last_updated]")
-        Announcements.validate!(input[:announcements], context: "#{context}[:announcements]") unless input[:announcements].nil?
+        Hearth::Validator.validate_types!(input[:last_updated], ::Time, context: Hearth::Validator::Path.new(context, :last_updated))
+        Announcements.validate!(input[:announcements], context: Hearth::Validator::Path.new(context, :announcements)) unless input[:announcements].nil?
       end
     end
 
     class GetCityImageInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetCityImageInput, context: context)
-        Hearth::Validator.validate_required!(input[:city_id], context: "#{context}[:city_id]")
-        Hearth::Validator.validate_types!(input[:city_id], ::String, context: "#{context}[:city_id]")
-        Hearth::Validator.validate_required!(input[:image_type], context: "#{context}[:image_type]")
-        ImageType.validate!(input[:image_type], context: "#{context}[:image_type]") unless input[:image_type].nil?
-        Hearth::Validator.validate_required!(input[:resolution], context: "#{context}[:resolution]")
-        Hearth::Validator.validate_types!(input[:resolution], ::Integer, context: "#{context}[:resolution]")
+        Hearth::Validator.validate_required!(input[:city_id], context: Hearth::Validator::Path.new(context, :city_id))
+        Hearth::Validator.validate_types!(input[:city_id], ::String, context: Hearth::Validator::Path.new(context, :city_id))
+        Hearth::Validator.validate_required!(input[:image_type], context: Hearth::Validator::Path.new(context, :image_type))
+        ImageType.validate!(input[:image_type], context: Hearth::Validator::Path.new(context, :image_type)) unless input[:image_type].nil?
+        Hearth::Validator.validate_required!(input[:resolution], context: Hearth::Validator::Path.new(context, :resolution))
+        Hearth::Validator.validate_types!(input[:resolution], ::Integer, context: Hearth::Validator::Path.new(context, :resolution))
       end
     end
 
     class GetCityImageOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetCityImageOutput, context: context)
-        Hearth::Validator.validate_required!(input[:image], context: "#{context}[:image]")
+        Hearth::Validator.validate_required!(input[:image], context: Hearth::Validator::Path.new(context, :image))
         unless input[:image].respond_to?(:read) || input[:image].respond_to?(:readpartial)
           raise ArgumentError, "Expected #{context} to be an IO like object, got #{input[:image].class}"
         end
@@ -136,19 +136,19 @@ module Weather
     class GetCityInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetCityInput, context: context)
-        Hearth::Validator.validate_required!(input[:city_id], context: "#{context}[:city_id]")
-        Hearth::Validator.validate_types!(input[:city_id], ::String, context: "#{context}[:city_id]")
+        Hearth::Validator.validate_required!(input[:city_id], context: Hearth::Validator::Path.new(context, :city_id))
+        Hearth::Validator.validate_types!(input[:city_id], ::String, context: Hearth::Validator::Path.new(context, :city_id))
       end
     end
 
     class GetCityOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetCityOutput, context: context)
-        Hearth::Validator.validate_required!(input[:name], context: "#{context}[:name]")
-        Hearth::Validator.validate_types!(input[:name], ::String, context: "#{context}[:name]")
-        Hearth::Validator.validate_required!(input[:coordinates], context: "#{context}[:coordinates]")
-        CityCoordinates.validate!(input[:coordinates], context: "#{context}[:coordinates]") unless input[:coordinates].nil?
-        CitySummary.validate!(input[:city], context: "#{context}[:city]") unless input[:city].nil?
+        Hearth::Validator.validate_required!(input[:name], context: Hearth::Validator::Path.new(context, :name))
+        Hearth::Validator.validate_types!(input[:name], ::String, context: Hearth::Validator::Path.new(context, :name))
+        Hearth::Validator.validate_required!(input[:coordinates], context: Hearth::Validator::Path.new(context, :coordinates))
+        CityCoordinates.validate!(input[:coordinates], context: Hearth::Validator::Path.new(context, :coordinates)) unless input[:coordinates].nil?
+        CitySummary.validate!(input[:city], context: Hearth::Validator::Path.new(context, :city)) unless input[:city].nil?
       end
     end
 
@@ -161,24 +161,24 @@ module Weather
     class GetCurrentTimeOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetCurrentTimeOutput, context: context)
-        Hearth::Validator.validate_required!(input[:time], context: "#{context}[:time]")
-        Hearth::Validator.validate_types!(input[:time], ::Time, context: "#{context}[:time]")
+        Hearth::Validator.validate_required!(input[:time], context: Hearth::Validator::Path.new(context, :time))
+        Hearth::Validator.validate_types!(input[:time], ::Time, context: Hearth::Validator::Path.new(context, :time))
       end
     end
 
     class GetForecastInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetForecastInput, context: context)
-        Hearth::Validator.validate_required!(input[:city_id], context: "#{context}[:city_id]")
-        Hearth::Validator.validate_types!(input[:city_id], ::String, context: "#{context}[:city_id]")
+        Hearth::Validator.validate_required!(input[:city_id], context: Hearth::Validator::Path.new(context, :city_id))
+        Hearth::Validator.validate_types!(input[:city_id], ::String, context: Hearth::Validator::Path.new(context, :city_id))
       end
     end
 
     class GetForecastOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::GetForecastOutput, context: context)
-        Hearth::Validator.validate_types!(input[:chance_of_rain], ::Float, context: "#{context}[:chance_of_rain]")
-        Precipitation.validate!(input[:precipitation], context: "#{context}[:precipitation]") unless input[:precipitation].nil?
+        Hearth::Validator.validate_types!(input[:chance_of_rain], ::Float, context: Hearth::Validator::Path.new(context, :chance_of_rain))
+        Precipitation.validate!(input[:precipitation], context: Hearth::Validator::Path.new(context, :precipitation)) unless input[:precipitation].nil?
       end
     end
 
@@ -212,47 +212,47 @@ module Weather
     class ListCitiesInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::ListCitiesInput, context: context)
-        Hearth::Validator.validate_types!(input[:next_token], ::String, context: "#{context}[:next_token]")
-        Hearth::Validator.validate_types!(input[:a_string], ::String, context: "#{context}[:a_string]")
-        Hearth::Validator.validate_types!(input[:default_bool], ::TrueClass, ::FalseClass, context: "#{context}[:default_bool]")
-        Hearth::Validator.validate_types!(input[:boxed_bool], ::TrueClass, ::FalseClass, context: "#{context}[:boxed_bool]")
-        Hearth::Validator.validate_types!(input[:default_number], ::Integer, context: "#{context}[:default_number]")
-        Hearth::Validator.validate_types!(input[:boxed_number], ::Integer, context: "#{context}[:boxed_number]")
-        Hearth::Validator.validate_types!(input[:some_enum], ::String, context: "#{context}[:some_enum]")
-        Hearth::Validator.validate_types!(input[:page_size], ::Integer, context: "#{context}[:page_size]")
+        Hearth::Validator.validate_types!(input[:next_token], ::String, context: Hearth::Validator::Path.new(context, :next_token))
+        Hearth::Validator.validate_types!(input[:a_string], ::String, context: Hearth::Validator::Path.new(context, :a_string))
+        Hearth::Validator.validate_types!(input[:default_bool], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :default_bool))
+        Hearth::Validator.validate_types!(input[:boxed_bool], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :boxed_bool))
+        Hearth::Validator.validate_types!(input[:default_number], ::Integer, context: Hearth::Validator::Path.new(context, :default_number))
+        Hearth::Validator.validate_types!(input[:boxed_number], ::Integer, context: Hearth::Validator::Path.new(context, :boxed_number))
+        Hearth::Validator.validate_types!(input[:some_enum], ::String, context: Hearth::Validator::Path.new(context, :some_enum))
+        Hearth::Validator.validate_types!(input[:page_size], ::Integer, context: Hearth::Validator::Path.new(context, :page_size))
       end
     end
 
     class ListCitiesOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::ListCitiesOutput, context: context)
-        Hearth::Validator.validate_types!(input[:next_token], ::String, context: "#{context}[:next_token]")
-        Hearth::Validator.validate_types!(input[:some_enum], ::String, context: "#{context}[:some_enum]")
-        Hearth::Validator.validate_types!(input[:a_string], ::String, context: "#{context}[:a_string]")
-        Hearth::Validator.validate_types!(input[:default_bool], ::TrueClass, ::FalseClass, context: "#{context}[:default_bool]")
-        Hearth::Validator.validate_types!(input[:boxed_bool], ::TrueClass, ::FalseClass, context: "#{context}[:boxed_bool]")
-        Hearth::Validator.validate_types!(input[:default_number], ::Integer, context: "#{context}[:default_number]")
-        Hearth::Validator.validate_types!(input[:boxed_number], ::Integer, context: "#{context}[:boxed_number]")
-        Hearth::Validator.validate_required!(input[:items], context: "#{context}[:items]")
-        CitySummaries.validate!(input[:items], context: "#{context}[:items]") unless input[:items].nil?
-        SparseCitySummaries.validate!(input[:sparse_items], context: "#{context}[:sparse_items]") unless input[:sparse_items].nil?
+        Hearth::Validator.validate_types!(input[:next_token], ::String, context: Hearth::Validator::Path.new(context, :next_token))
+        Hearth::Validator.validate_types!(input[:some_enum], ::String, context: Hearth::Validator::Path.new(context, :some_enum))
+        Hearth::Validator.validate_types!(input[:a_string], ::String, context: Hearth::Validator::Path.new(context, :a_string))
+        Hearth::Validator.validate_types!(input[:default_bool], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :default_bool))
+        Hearth::Validator.validate_types!(input[:boxed_bool], ::TrueClass, ::FalseClass, context: Hearth::Validator::Path.new(context, :boxed_bool))
+        Hearth::Validator.validate_types!(input[:default_number], ::Integer, context: Hearth::Validator::Path.new(context, :default_number))
+        Hearth::Validator.validate_types!(input[:boxed_number], ::Integer, context: Hearth::Validator::Path.new(context, :boxed_number))
+        Hearth::Validator.validate_required!(input[:items], context: Hearth::Validator::Path.new(context, :items))
+        CitySummaries.validate!(input[:items], context: Hearth::Validator::Path.new(context, :items)) unless input[:items].nil?
+        SparseCitySummaries.validate!(input[:sparse_items], context: Hearth::Validator::Path.new(context, :sparse_items)) unless input[:sparse_items].nil?
       end
     end
 
     class Message
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::Message, context: context)
-        Hearth::Validator.validate_types!(input[:message], ::String, context: "#{context}[:message]")
-        Hearth::Validator.validate_types!(input[:author], ::String, context: "#{context}[:author]")
+        Hearth::Validator.validate_types!(input[:message], ::String, context: Hearth::Validator::Path.new(context, :message))
+        Hearth::Validator.validate_types!(input[:author], ::String, context: Hearth::Validator::Path.new(context, :author))
       end
     end
 
     class NoSuchResource
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::NoSuchResource, context: context)
-        Hearth::Validator.validate_required!(input[:resource_type], context: "#{context}[:resource_type]")
-        Hearth::Validator.validate_types!(input[:resource_type], ::String, context: "#{context}[:resource_type]")
-        Hearth::Validator.validate_types!(input[:message], ::String, context: "#{context}[:message]")
+        Hearth::Validator.validate_required!(input[:resource_type], context: Hearth::Validator::Path.new(context, :resource_type))
+        Hearth::Validator.validate_types!(input[:resource_type], ::String, context: Hearth::Validator::Path.new(context, :resource_type))
+        Hearth::Validator.validate_types!(input[:message], ::String, context: Hearth::Validator::Path.new(context, :message))
       end
     end
 
@@ -265,10 +265,10 @@ module Weather
     class PNGImage
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::PNGImage, context: context)
-        Hearth::Validator.validate_required!(input[:height], context: "#{context}[:height]")
-        Hearth::Validator.validate_types!(input[:height], ::Integer, context: "#{context}[:height]")
-        Hearth::Validator.validate_required!(input[:width], context: "#{context}[:width]")
-        Hearth::Validator.validate_types!(input[:width], ::Integer, context: "#{context}[:width]")
+        Hearth::Validator.validate_required!(input[:height], context: Hearth::Validator::Path.new(context, :height))
+        Hearth::Validator.validate_types!(input[:height], ::Integer, context: Hearth::Validator::Path.new(context, :height))
+        Hearth::Validator.validate_required!(input[:width], context: Hearth::Validator::Path.new(context, :width))
+        Hearth::Validator.validate_types!(input[:width], ::Integer, context: Hearth::Validator::Path.new(context, :width))
       end
     end
 
@@ -359,7 +359,7 @@ module Weather
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Array, context: context)
         input.each_with_index do |element, index|
-          CitySummary.validate!(element, context: "#{context}[#{index}]") unless element.nil?
+          CitySummary.validate!(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
       end
     end
@@ -368,8 +368,8 @@ module Weather
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, ::Hash, context: context)
         input.each do |key, value|
-          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: "#{context}.keys")
-          Hearth::Validator.validate_types!(value, ::String, context: "#{context}[:#{key}]")
+          Hearth::Validator.validate_types!(key, ::String, ::Symbol, context: Hearth::Validator::Path.new(context))
+          Hearth::Validator.validate_types!(value, ::String, context: Hearth::Validator::Path.new(context, key))
         end
       end
     end
@@ -377,25 +377,25 @@ module Weather
     class Struct____456efg
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::Struct____456efg, context: context)
-        Hearth::Validator.validate_types!(input[:member___123foo], ::String, context: "#{context}[:member___123foo]")
+        Hearth::Validator.validate_types!(input[:member___123foo], ::String, context: Hearth::Validator::Path.new(context, :member___123foo))
       end
     end
 
     class Struct____789BadNameInput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::Struct____789BadNameInput, context: context)
-        Hearth::Validator.validate_required!(input[:member___123abc], context: "#{context}[:member___123abc]")
-        Hearth::Validator.validate_types!(input[:member___123abc], ::String, context: "#{context}[:member___123abc]")
-        Struct____456efg.validate!(input[:member], context: "#{context}[:member]") unless input[:member].nil?
+        Hearth::Validator.validate_required!(input[:member___123abc], context: Hearth::Validator::Path.new(context, :member___123abc))
+        Hearth::Validator.validate_types!(input[:member___123abc], ::String, context: Hearth::Validator::Path.new(context, :member___123abc))
+        Struct____456efg.validate!(input[:member], context: Hearth::Validator::Path.new(context, :member)) unless input[:member].nil?
       end
     end
 
     class Struct____789BadNameOutput
       def self.validate!(input, context:)
         Hearth::Validator.validate_types!(input, Types::Struct____789BadNameOutput, context: context)
-        Hearth::Validator.validate_required!(input[:member___123abc], context: "#{context}[:member___123abc]")
-        Hearth::Validator.validate_types!(input[:member___123abc], ::String, context: "#{context}[:member___123abc]")
-        Struct____456efg.validate!(input[:member], context: "#{context}[:member]") unless input[:member].nil?
+        Hearth::Validator.validate_required!(input[:member___123abc], context: Hearth::Validator::Path.new(context, :member___123abc))
+        Hearth::Validator.validate_types!(input[:member___123abc], ::String, context: Hearth::Validator::Path.new(context, :member___123abc))
+        Struct____456efg.validate!(input[:member], context: Hearth::Validator::Path.new(context, :member)) unless input[:member].nil?
       end
     end
 
@@ -57,7 +57,7 @@ module Weather
                 state: 'retry',
                 matcher: {
                   inputOutput: {
-                    path: "length(\"input\".\"city_id\") == length(\"output\".\"name\")",
+                    path: ->(input, output) { (Hearth::Waiters::PathHelper.length(input&.city_id) == Hearth::Waiters::PathHelper.length(output&.name)) },
                     comparator: "booleanEquals",
                     expected: 'true'
                   }
@@ -67,7 +67,7 @@ module Weather
                 state: 'success',
                 matcher: {
                   output: {
-                    path: "\"name\"",
+                    path: ->(output) { output&.name },
                     comparator: "stringEquals",
                     expected: 'seattle'
                   }
@@ -124,7 +124,7 @@ module Weather
                 state: 'failure',
                 matcher: {
                   output: {
-                    path: "\"items\"[].\"name\"",
+                    path: ->(output) { Hearth::Waiters::PathHelper.project(Hearth::Waiters::PathHelper.flatten(output&.items)) { |v0| v0&.name } },
                     comparator: "allStringEquals",
                     expected: 'seattle'
                   }
@@ -134,7 +134,7 @@ module Weather
                 state: 'success',
                 matcher: {
                   output: {
-                    path: "\"items\"[].\"name\"",
+                    path: ->(output) { Hearth::Waiters::PathHelper.project(Hearth::Waiters::PathHelper.flatten(output&.items)) { |v0| v0&.name } },
                     comparator: "anyStringEquals",
                     expected: 'NewYork'
                   }
@@ -50,6 +50,43 @@ module WhiteLabel
       @stubs = Hearth::Stubbing::Stubs.new
       @retry_quota = Hearth::Retry::RetryQuota.new
       @client_rate_limiter = Hearth::Retry::ClientRateLimiter.new
+      @transport_client = transport_client({})
+      @operation_constants = {
+        defaults_test: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        endpoint_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        endpoint_with_host_label_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        kitchen_sink: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[Errors::ClientError, Errors::ServerError].freeze)
+        }.freeze,
+        mixin_test: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        paginators_test: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        paginators_test_with_items: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        streaming_operation: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        streaming_with_length: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        waiters_test: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze,
+        operation____paginators_test_with_bad_names: {
+          error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: Set[].freeze)
+        }.freeze
+      }.freeze
+      @middleware_stacks = {}
     end
 
     # @param [Hash] params
@@ -121,37 +158,37 @@ module WhiteLabel
     #   resp.data.epoch_timestamp #=> Time
     #
     def defaults_test(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::DefaultsTestInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::DefaultsTestInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::DefaultsTest
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::DefaultsTest
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::DefaultsTest,
-        stubs: @stubs,
-        params_class: Params::DefaultsTestOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:defaults_test, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::DefaultsTestInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::DefaultsTest
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::DefaultsTest,
+          error_parser: @operation_constants[:defaults_test][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::DefaultsTest,
+          stubs: @stubs,
+          params_class: Params::DefaultsTestOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -181,41 +218,41 @@ module WhiteLabel
     #   resp.data #=> Types::EndpointOperationOutput
     #
     def endpoint_operation(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::EndpointOperationInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::EndpointOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::HostPrefix,
-        host_prefix: "foo.",
-        disable_host_prefix: @config.disable_host_prefix
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::EndpointOperation
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::EndpointOperation
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::EndpointOperation,
-        stubs: @stubs,
-        params_class: Params::EndpointOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:endpoint_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::EndpointOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::HostPrefix,
+          host_prefix: "foo.",
+          disable_host_prefix: @config.disable_host_prefix
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::EndpointOperation
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::EndpointOperation,
+          error_parser: @operation_constants[:endpoint_operation][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::EndpointOperation,
+          stubs: @stubs,
+          params_class: Params::EndpointOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -247,41 +284,41 @@ module WhiteLabel
     #   resp.data #=> Types::EndpointWithHostLabelOperationOutput
     #
     def endpoint_with_host_label_operation(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::EndpointWithHostLabelOperationInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::EndpointWithHostLabelOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::HostPrefix,
-        host_prefix: "foo.{label_member}.",
-        disable_host_prefix: @config.disable_host_prefix
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::EndpointWithHostLabelOperation
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::EndpointWithHostLabelOperation
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::EndpointWithHostLabelOperation,
-        stubs: @stubs,
-        params_class: Params::EndpointWithHostLabelOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:endpoint_with_host_label_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::EndpointWithHostLabelOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::HostPrefix,
+          host_prefix: "foo.{label_member}.",
+          disable_host_prefix: @config.disable_host_prefix
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::EndpointWithHostLabelOperation
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::EndpointWithHostLabelOperation,
+          error_parser: @operation_constants[:endpoint_with_host_label_operation][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::EndpointWithHostLabelOperation,
+          stubs: @stubs,
+          params_class: Params::EndpointWithHostLabelOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -478,37 +515,37 @@ module WhiteLabel
     #   }
     #
     def kitchen_sink(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::KitchenSinkInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::KitchenSinkInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::KitchenSink
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: [Errors::ClientError, Errors::ServerError]),
-        data_parser: Parsers::KitchenSink
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::KitchenSink,
-        stubs: @stubs,
-        params_class: Params::KitchenSinkOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:kitchen_sink, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::KitchenSinkInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::KitchenSink
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::KitchenSink,
+          error_parser: @operation_constants[:kitchen_sink][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::KitchenSink,
+          stubs: @stubs,
+          params_class: Params::KitchenSinkOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -542,37 +579,37 @@ module WhiteLabel
     #   resp.data.user_id #=> String
     #
     def mixin_test(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::MixinTestInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::MixinTestInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::MixinTest
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::MixinTest
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::MixinTest,
-        stubs: @stubs,
-        params_class: Params::MixinTestOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:mixin_test, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::MixinTestInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::MixinTest
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::MixinTest,
+          error_parser: @operation_constants[:mixin_test][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::MixinTest,
+          stubs: @stubs,
+          params_class: Params::MixinTestOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -607,37 +644,37 @@ module WhiteLabel
     #   resp.data.items[0] #=> String
     #
     def paginators_test(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::PaginatorsTestOperationInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::PaginatorsTestOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::PaginatorsTest
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::PaginatorsTest
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::PaginatorsTest,
-        stubs: @stubs,
-        params_class: Params::PaginatorsTestOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:paginators_test, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::PaginatorsTestOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::PaginatorsTest
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::PaginatorsTest,
+          error_parser: @operation_constants[:paginators_test][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::PaginatorsTest,
+          stubs: @stubs,
+          params_class: Params::PaginatorsTestOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -672,37 +709,37 @@ module WhiteLabel
     #   resp.data.items[0] #=> String
     #
     def paginators_test_with_items(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::PaginatorsTestWithItemsInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::PaginatorsTestWithItemsInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::PaginatorsTestWithItems
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::PaginatorsTestWithItems
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::PaginatorsTestWithItems,
-        stubs: @stubs,
-        params_class: Params::PaginatorsTestWithItemsOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:paginators_test_with_items, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::PaginatorsTestWithItemsInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::PaginatorsTestWithItems
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::PaginatorsTestWithItems,
+          error_parser: @operation_constants[:paginators_test_with_items][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::PaginatorsTestWithItems,
+          stubs: @stubs,
+          params_class: Params::PaginatorsTestWithItemsOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -735,36 +772,36 @@ module WhiteLabel
     #   resp.data.stream #=> String
     #
     def streaming_operation(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::StreamingOperationInput.build(params)
       response_body = output_stream(options, &block)
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::StreamingOperationInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::StreamingOperation
-      )
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::StreamingOperation
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::StreamingOperation,
-        stubs: @stubs,
-        params_class: Params::StreamingOperationOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:streaming_operation, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::StreamingOperationInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::StreamingOperation
+        )
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::StreamingOperation,
+          error_parser: @operation_constants[:streaming_operation][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::StreamingOperation,
+          stubs: @stubs,
+          params_class: Params::StreamingOperationOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -796,37 +833,37 @@ module WhiteLabel
     #   resp.data #=> Types::StreamingWithLengthOutput
     #
     def streaming_with_length(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::StreamingWithLengthInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::StreamingWithLengthInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::StreamingWithLength
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::StreamingWithLength
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::StreamingWithLength,
-        stubs: @stubs,
-        params_class: Params::StreamingWithLengthOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:streaming_with_length, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::StreamingWithLengthInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::StreamingWithLength
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::StreamingWithLength,
+          error_parser: @operation_constants[:streaming_with_length][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::StreamingWithLength,
+          stubs: @stubs,
+          params_class: Params::StreamingWithLengthOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -859,37 +896,37 @@ module WhiteLabel
     #   resp.data.status #=> String
     #
     def waiters_test(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::WaitersTestInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::WaitersTestInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::WaitersTest
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::WaitersTest
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::WaitersTest,
-        stubs: @stubs,
-        params_class: Params::WaitersTestOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:waiters_test, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::WaitersTestInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::WaitersTest
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::WaitersTest,
+          error_parser: @operation_constants[:waiters_test][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::WaitersTest,
+          stubs: @stubs,
+          params_class: Params::WaitersTestOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -925,37 +962,37 @@ module WhiteLabel
     #   resp.data.member___items[0] #=> String
     #
     def operation____paginators_test_with_bad_names(params = {}, options = {}, &block)
-      stack = Hearth::MiddlewareStack.new
       input = Params::Struct____PaginatorsTestWithBadNamesInput.build(params)
       response_body = ::StringIO.new
-      stack.use(Hearth::Middleware::Validate,
-        validator: Validators::Struct____PaginatorsTestWithBadNamesInput,
-        validate_input: @config.validate_input
-      )
-      stack.use(Hearth::Middleware::Build,
-        builder: Builders::Operation____PaginatorsTestWithBadNames
-      )
-      stack.use(Hearth::HTTP::Middleware::ContentLength)
-      stack.use(Hearth::Middleware::Retry,
-        retry_mode: @config.retry_mode,
-        error_inspector_class: Hearth::Retry::ErrorInspector,
-        retry_quota: @retry_quota,
-        max_attempts: @config.max_attempts,
-        client_rate_limiter: @client_rate_limiter,
-        adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
-      )
-      stack.use(Hearth::Middleware::Parse,
-        error_parser: Hearth::HTTP::ErrorParser.new(error_module: Errors, success_status: 200, errors: []),
-        data_parser: Parsers::Operation____PaginatorsTestWithBadNames
-      )
-      stack.use(Hearth::Middleware::Send,
-        stub_responses: @config.stub_responses,
-        client: Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace)),
-        stub_class: Stubs::Operation____PaginatorsTestWithBadNames,
-        stubs: @stubs,
-        params_class: Params::Struct____PaginatorsTestWithBadNamesOutput
-      )
-      apply_middleware(stack, options[:middleware])
+      stack = operation_stack(:operation____paginators_test_with_bad_names, options) do |stack|
+        stack.use(Hearth::Middleware::Validate,
+          validator: Validators::Struct____PaginatorsTestWithBadNamesInput,
+          validate_input: @config.validate_input
+        )
+        stack.use(Hearth::Middleware::Build,
+          builder: Builders::Operation____PaginatorsTestWithBadNames
+        )
+        stack.use(Hearth::HTTP::Middleware::ContentLength)
+        stack.use(Hearth::Middleware::Retry,
+          retry_mode: @config.retry_mode,
+          error_inspector_class: Hearth::Retry::ErrorInspector,
+          retry_quota: @retry_quota,
+          max_attempts: @config.max_attempts,
+          client_rate_limiter: @client_rate_limiter,
+          adaptive_retry_wait_to_fill: @config.adaptive_retry_wait_to_fill
+        )
+        stack.use(Hearth::Middleware::Parse,
+          data_parser: Parsers::Operation____PaginatorsTestWithBadNames,
+          error_parser: @operation_constants[:operation____paginators_test_with_bad_names][:error_parser]
+        )
+        stack.use(Hearth::Middleware::Send,
+          stub_responses: @config.stub_responses,
+          client: transport_client(options),
+          stub_class: Stubs::Operation____PaginatorsTestWithBadNames,
+          stubs: @stubs,
+          params_class: Params::Struct____PaginatorsTestWithBadNamesOutput
+        )
+      end
 
       resp = stack.run(
         input: input,
@@ -973,6 +1010,27 @@ module WhiteLabel
 
     private
 
+    def operation_stack(operation, options)
+      cacheable = options.each_key.all?(:output_stream)
+      version = Client.middleware.version
+      cached = @middleware_stacks[operation] if cacheable
+      return cached.last if cached && cached.first == version
+
+      stack = Hearth::MiddlewareStack.new
+      yield stack
+      apply_middleware(stack, options[:middleware])
+      return stack unless cacheable
+
+      @middleware_stacks[operation] = [version, stack.freeze]
+      stack
+    end
+
+    def transport_client(options)
+      return @transport_client if @transport_client && !options.key?(:http_wire_trace)
+
+      Hearth::HTTP::Client.new(logger: @config.logger, http_wire_trace: options.fetch(:http_wire_trace, @config.http_wire_trace), http_max_connections: @config.http_max_connections, http_idle_timeout: @config.http_idle_timeout)
+    end
+
     def apply_middleware(middleware_stack, middleware)
       Client.middleware.apply(middleware_stack)
       @middleware.apply(middleware_stack)
@@ -18,6 +18,12 @@ module WhiteLabel
   #   @option args [String] :endpoint
   #     Endpoint of the service
   #
+  #   @option args [Numeric] :http_idle_timeout (5)
+  #     Number of seconds an idle connection is kept open for reuse.
+  #
+  #   @option args [Integer] :http_max_connections (10)
+  #     The maximum number of idle connections kept open per endpoint for reuse by later requests. Set to 0 to open a new connection for every request.
+  #
   #   @option args [Boolean] :http_wire_trace (false)
   #     Enable debug wire trace on http requests.
   #
@@ -50,6 +56,12 @@ module WhiteLabel
   # @!attribute endpoint
   #   @return [String]
   #
+  # @!attribute http_idle_timeout
+  #   @return [Numeric]
+  #
+  # @!attribute http_max_connections
+  #   @return [Integer]
+  #
   # @!attribute http_wire_trace
   #   @return [Boolean]
   #
@@ -75,6 +87,8 @@ module WhiteLabel
     :adaptive_retry_wait_to_fill,
     :disable_host_prefix,
     :endpoint,
+    :http_idle_timeout,
+    :http_max_connections,
     :http_wire_trace,
     :log_level,
     :logger,
@@ -92,6 +106,8 @@ module WhiteLabel
       Hearth::Validator.validate_types!(adaptive_retry_wait_to_fill, TrueClass, FalseClass, context: 'options[:adaptive_retry_wait_to_fill]')
       Hearth::Validator.validate_types!(disable_host_prefix, TrueClass, FalseClass, context: 'options[:disable_host_prefix]')
       Hearth::Validator.validate_types!(endpoint, String, context: 'options[:endpoint]')
+      Hearth::Validator.validate_types!(http_idle_timeout, Numeric, context: 'options[:http_idle_timeout]')
+      Hearth::Validator.validate_types!(http_max_connections, Integer, context: 'options[:http_max_connections]')
       Hearth::Validator.validate_types!(http_wire_trace, TrueClass, FalseClass, context: 'options[:http_wire_trace]')
       Hearth::Validator.validate_types!(log_level, Symbol, context: 'options[:log_level]')
       Hearth::Validator.validate_types!(logger, Logger, context: 'options[:logger]')
@@ -106,6 +122,8 @@ module WhiteLabel
         adaptive_retry_wait_to_fill: [true],
         disable_host_prefix: [false],
         endpoint: [proc { |cfg| cfg[:stub_responses] ? 'http://localhost' : nil } ],
+        http_idle_timeout: [5],
+        http_max_connections: [10],
         http_wire_trace: [false],
         log_level: [:info],
         logger: [proc { |cfg| Logger.new($stdout, level: cfg[:log_level]) } ],
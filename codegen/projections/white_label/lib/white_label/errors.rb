@@ -74,5 +74,11 @@ module WhiteLabel
       end
     end
 
+    # @api private
+    ERROR_CLASSES = {
+      'ClientError' => ClientError,
+      'ServerError' => ServerError
+    }.freeze
+
   end
 end
@@ -25,7 +25,7 @@ module WhiteLabel
         Hearth::Validator.validate_types!(params, ::Hash, Types::DefaultsTestInput, context: context)
         type = Types::DefaultsTestInput.new
         type.string = params[:string]
-        type.struct = Struct.build(params[:struct], context: "#{context}[:struct]") unless params[:struct].nil?
+        type.struct = Struct.build(params[:struct], context: Hearth::Validator::Path.new(context, :struct)) unless params[:struct].nil?
         type.un_required_number = params[:un_required_number]
         type.un_required_bool = params[:un_required_bool]
         type.number = params.fetch(:number, 0)
@@ -40,8 +40,8 @@ module WhiteLabel
         type.numbers_document = params.fetch(:numbers_document, 1.23)
         type.list_document = params.fetch(:list_document, [])
         type.map_document = params.fetch(:map_document, {})
-        type.list_of_strings = ListOfStrings.build(params.fetch(:list_of_strings, []), context: "#{context}[:list_of_strings]")
-        type.map_of_strings = MapOfStrings.build(params.fetch(:map_of_strings, {}), context: "#{context}[:map_of_strings]")
+        type.list_of_strings = ListOfStrings.build(params.fetch(:list_of_strings, []), context: Hearth::Validator::Path.new(context, :list_of_strings))
+        type.map_of_strings = MapOfStrings.build(params.fetch(:map_of_strings, {}), context: Hearth::Validator::Path.new(context, :map_of_strings))
         type.iso8601_timestamp = params.fetch(:iso8601_timestamp, "1985-04-12T23:20:50.52Z")
         type.epoch_timestamp = params.fetch(:epoch_timestamp, 1.5155310811234E9)
         type
@@ -53,7 +53,7 @@ module WhiteLabel
         Hearth::Validator.validate_types!(params, ::Hash, Types::DefaultsTestOutput, context: context)
         type = Types::DefaultsTestOutput.new
         type.string = params[:string]
-        type.struct = Struct.build(params[:struct], context: "#{context}[:struct]") unless params[:struct].nil?
+        type.struct = Struct.build(params[:struct], context: Hearth::Validator::Path.new(context, :struct)) unless params[:struct].nil?
         type.un_required_number = params[:un_required_number]
         type.un_required_bool = params[:un_required_bool]
         type.number = params.fetch(:number, 0)
@@ -68,8 +68,8 @@ module WhiteLabel
         type.numbers_document = params.fetch(:numbers_document, 1.23)
         type.list_document = params.fetch(:list_document, [])
         type.map_document = params.fetch(:map_document, {})
-        type.list_of_strings = ListOfStrings.build(params.fetch(:list_of_strings, []), context: "#{context}[:list_of_strings]")
-        type.map_of_strings = MapOfStrings.build(params.fetch(:map_of_strings, {}), context: "#{context}[:map_of_strings]")
+        type.list_of_strings = ListOfStrings.build(params.fetch(:list_of_strings, []), context: Hearth::Validator::Path.new(context, :list_of_strings))
+        type.map_of_strings = MapOfStrings.build(params.fetch(:map_of_strings, {}), context: Hearth::Validator::Path.new(context, :map_of_strings))
         type.iso8601_timestamp = params.fetch(:iso8601_timestamp, "1985-04-12T23:20:50.52Z")
         type.epoch_timestamp = params.fetch(:epoch_timestamp, 1.5155310811234E9)
         type
@@ -127,13 +127,13 @@ module WhiteLabel
         type.string = params[:string]
         type.simple_enum = params[:simple_enum]
         type.typed_enum = params[:typed_enum]
-        type.struct = Struct.build(params[:struct], context: "#{context}[:struct]") unless params[:struct].nil?
+        type.struct = Struct.build(params[:struct], context: Hearth::Validator::Path.new(context, :struct)) unless params[:struct].nil?
         type.document = params[:document]
-        type.list_of_strings = ListOfStrings.build(params[:list_of_strings], context: "#{context}[:list_of_strings]") unless params[:list_of_strings].nil?
-        type.list_of_structs = ListOfStructs.build(params[:list_of_structs], context: "#{context}[:list_of_structs]") unless params[:list_of_structs].nil?
-        type.map_of_strings = MapOfStrings.build(params[:map_of_strings], context: "#{context}[:map_of_strings]") unless params[:map_of_strings].nil?
-        type.map_of_structs = MapOfStructs.build(params[:map_of_structs], context: "#{context}[:map_of_structs]") unless params[:map_of_structs].nil?
-        type.union = Union.build(params[:union], context: "#{context}[:union]") unless params[:union].nil?
+        type.list_of_strings = ListOfStrings.build(params[:list_of_strings], context: Hearth::Validator::Path.new(context, :list_of_strings)) unless params[:list_of_strings].nil?
+        type.list_of_structs = ListOfStructs.build(params[:list_of_structs], context: Hearth::Validator::Path.new(context, :list_of_structs)) unless params[:list_of_structs].nil?
+        type.map_of_strings = MapOfStrings.build(params[:map_of_strings], context: Hearth::Validator::Path.new(context, :map_of_strings)) unless params[:map_of_strings].nil?
+        type.map_of_structs = MapOfStructs.build(params[:map_of_structs], context: Hearth::Validator::Path.new(context, :map_of_structs)) unless params[:map_of_structs].nil?
+        type.union = Union.build(params[:union], context: Hearth::Validator::Path.new(context, :union)) unless params[:union].nil?
         type
       end
     end
@@ -145,13 +145,13 @@ module WhiteLabel
         type.string = params[:string]
         type.simple_enum = params[:simple_enum]
         type.typed_enum = params[:typed_enum]
-        type.struct = Struct.build(params[:struct], context: "#{context}[:struct]") unless params[:struct].nil?
+        type.struct = Struct.build(params[:struct], context: Hearth::Validator::Path.new(context, :struct)) unless params[:struct].nil?
         type.document = params[:document]
-        type.list_of_strings = ListOfStrings.build(params[:list_of_strings], context: "#{context}[:list_of_strings]") unless params[:list_of_strings].nil?
-        type.list_of_structs = ListOfStructs.build(params[:list_of_structs], context: "#{context}[:list_of_structs]") unless params[:list_of_structs].nil?
-        type.map_of_strings = MapOfStrings.build(params[:map_of_strings], context: "#{context}[:map_of_strings]") unless params[:map_of_strings].nil?
-        type.map_of_structs = MapOfStructs.build(params[:map_of_structs], context: "#{context}[:map_of_structs]") unless params[:map_of_structs].nil?
-        type.union = Union.build(params[:union], context: "#{context}[:union]") unless params[:union].nil?
+        type.list_of_strings = ListOfStrings.build(params[:list_of_strings], context: Hearth::Validator::Path.new(context, :list_of_strings)) unless params[:list_of_strings].nil?
+        type.list_of_structs = ListOfStructs.build(params[:list_of_structs], context: Hearth::Validator::Path.new(context, :list_of_structs)) unless params[:list_of_structs].nil?
+        type.map_of_strings = MapOfStrings.build(params[:map_of_strings], context: Hearth::Validator::Path.new(context, :map_of_strings)) unless params[:map_of_strings].nil?
+        type.map_of_structs = MapOfStructs.build(params[:map_of_structs], context: Hearth::Validator::Path.new(context, :map_of_structs)) unless params[:map_of_structs].nil?
+        type.union = Union.build(params[:union], context: Hearth::Validator::Path.new(context, :union)) unless params[:union].nil?
         type
       end
     end
@@ -172,7 +172,7 @@ module WhiteLabel
         Hearth::Validator.validate_types!(params, ::Array, context: context)
         data = []
         params.each_with_index do |element, index|
-          data << Struct.build(element, context: "#{context}[#{index}]") unless element.nil?
+          data << Struct.build(element, context: Hearth::Validator::Path.new(context, index)) unless element.nil?
         end
         data
       end
@@ -194,7 +194,7 @@ module WhiteLabel
         Hearth::Validator.validate_types!(params, ::Hash, context: context)
         data = {}
         params.each do |key, value|
-          data[key] = Struct.build(value, context: "#{context}[:#{key}]") unless value.nil?
+          data[key] = Struct.build(value, context: Hearth::Validator::Path.new(context, key)) unless value.nil?
         end
         data
       end
@@ -233,7 +233,7 @@ module WhiteLabel
         Hearth::Validator.validate_types!(params, ::Hash, Types::PaginatorsTestOperationOutput, context: context)
         type = Types::PaginatorsTestOperationOutput.new
         type.next_token = params[:next_token]
-        type.items = Items.build(params[:items], context: "#{context}[:items]") unless params[:items].nil?
+        type.items = Items.build(params[:items], context: Hearth::Validator::Path.new(context, :items)) unless params[:items].nil?
         type
       end
     end
@@ -252,7 +252,7 @@ module WhiteLabel
         Hearth::Validator.validate_types!(params, ::Hash, Types::PaginatorsTestWithItemsOutput, context: context)
         type = Types::PaginatorsTestWithItemsOutput.new
         type.next_token = params[:next_token]
-        type.items = Items.build(params[:items], context: "#{context}[:items]") unless params[:items].nil?
+        type.items = Items.build(params[:items], context: Hearth::Validator::Path.new(context, :items)) unless params[:items].nil?
         type
       end
     end
@@ -346,7 +346,7 @@ module WhiteLabel
           )
         when :struct
           Types::Union::Struct.new(
-            (Struct.build(params[:struct], context: "#{context}[:struct]") unless params[:struct].nil?)
+            (Struct.build(params[:struct], context: Hearth::Validator::Path.new(context, :struct)) unless params[:struct].nil?)
           )
         else
           raise ArgumentError,
@@ -386,8 +386,8 @@ module WhiteLabel
       def self.build(params, context: '')
         Hearth::Validator.validate_types!(params, ::Hash, Types::Struct____PaginatorsTestWithBadNamesOutput, context: context)
         type = Types::Struct____PaginatorsTestWithBadNamesOutput.new
-        type.member___wrapper = ResultWrapper.build(params[:member___wrapper], context: "#{context}[:member___wrapper]") unless params[:member___wrapper].nil?
-        type.member___items = Items.build(params[:member___items], context: "#{context}[:member___items]") unless params[:member___items].nil?
+        type.member___wrapper = ResultWrapper.build(params[:member___wrapper], context: Hearth::Validator::Path.new(context, :member___wrapper)) unless params[:member___wrapper].nil?
+        type.member___items = Items.build(params[:member___items], context: Hearth::Validator::Path.new(context, :member___items)) unless params[:member___items].nil?
         type
       end
     end
@@ -19,6 +19,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:message] = self.message unless self.message.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute string
@@ -154,6 +162,33 @@ module WhiteLabel
         self.bool ||= false
       end
 
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:string] = self.string unless self.string.nil?
+        hash[:struct] = self.struct.to_h unless self.struct.nil?
+        hash[:un_required_number] = self.un_required_number unless self.un_required_number.nil?
+        hash[:un_required_bool] = self.un_required_bool unless self.un_required_bool.nil?
+        hash[:number] = self.number unless self.number.nil?
+        hash[:bool] = self.bool unless self.bool.nil?
+        hash[:hello] = self.hello unless self.hello.nil?
+        hash[:simple_enum] = self.simple_enum unless self.simple_enum.nil?
+        hash[:typed_enum] = self.typed_enum unless self.typed_enum.nil?
+        hash[:int_enum] = self.int_enum unless self.int_enum.nil?
+        hash[:null_document] = super(self.null_document) unless self.null_document.nil?
+        hash[:string_document] = super(self.string_document) unless self.string_document.nil?
+        hash[:boolean_document] = super(self.boolean_document) unless self.boolean_document.nil?
+        hash[:numbers_document] = super(self.numbers_document) unless self.numbers_document.nil?
+        hash[:list_document] = super(self.list_document) unless self.list_document.nil?
+        hash[:map_document] = super(self.map_document) unless self.map_document.nil?
+        hash[:list_of_strings] = super(self.list_of_strings) unless self.list_of_strings.nil?
+        hash[:map_of_strings] = super(self.map_of_strings) unless self.map_of_strings.nil?
+        hash[:iso8601_timestamp] = self.iso8601_timestamp unless self.iso8601_timestamp.nil?
+        hash[:epoch_timestamp] = self.epoch_timestamp unless self.epoch_timestamp.nil?
+        hash
+      end
+      alias to_hash to_h
+
       def to_s
         "#<struct WhiteLabel::Types::DefaultsTestInput "\
           "string=#{string || 'nil'}, "\
@@ -312,6 +347,33 @@ module WhiteLabel
         self.bool ||= false
       end
 
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:string] = self.string unless self.string.nil?
+        hash[:struct] = self.struct.to_h unless self.struct.nil?
+        hash[:un_required_number] = self.un_required_number unless self.un_required_number.nil?
+        hash[:un_required_bool] = self.un_required_bool unless self.un_required_bool.nil?
+        hash[:number] = self.number unless self.number.nil?
+        hash[:bool] = self.bool unless self.bool.nil?
+        hash[:hello] = self.hello unless self.hello.nil?
+        hash[:simple_enum] = self.simple_enum unless self.simple_enum.nil?
+        hash[:typed_enum] = self.typed_enum unless self.typed_enum.nil?
+        hash[:int_enum] = self.int_enum unless self.int_enum.nil?
+        hash[:null_document] = super(self.null_document) unless self.null_document.nil?
+        hash[:string_document] = super(self.string_document) unless self.string_document.nil?
+        hash[:boolean_document] = super(self.boolean_document) unless self.boolean_document.nil?
+        hash[:numbers_document] = super(self.numbers_document) unless self.numbers_document.nil?
+        hash[:list_document] = super(self.list_document) unless self.list_document.nil?
+        hash[:map_document] = super(self.map_document) unless self.map_document.nil?
+        hash[:list_of_strings] = super(self.list_of_strings) unless self.list_of_strings.nil?
+        hash[:map_of_strings] = super(self.map_of_strings) unless self.map_of_strings.nil?
+        hash[:iso8601_timestamp] = self.iso8601_timestamp unless self.iso8601_timestamp.nil?
+        hash[:epoch_timestamp] = self.epoch_timestamp unless self.epoch_timestamp.nil?
+        hash
+      end
+      alias to_hash to_h
+
       def to_s
         "#<struct WhiteLabel::Types::DefaultsTestOutput "\
           "string=#{string || 'nil'}, "\
@@ -342,6 +404,11 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     EndpointOperationOutput = ::Struct.new(
@@ -349,6 +416,11 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute label_member
@@ -360,6 +432,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:label_member] = self.label_member unless self.label_member.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     EndpointWithHostLabelOperationOutput = ::Struct.new(
@@ -367,6 +447,11 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # Includes enum constants for IntEnumType
@@ -493,6 +578,23 @@ module WhiteLabel
     ) do
       include Hearth::Structure
 
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:string] = self.string unless self.string.nil?
+        hash[:simple_enum] = self.simple_enum unless self.simple_enum.nil?
+        hash[:typed_enum] = self.typed_enum unless self.typed_enum.nil?
+        hash[:struct] = self.struct.to_h unless self.struct.nil?
+        hash[:document] = super(self.document) unless self.document.nil?
+        hash[:list_of_strings] = super(self.list_of_strings) unless self.list_of_strings.nil?
+        hash[:list_of_structs] = super(self.list_of_structs) unless self.list_of_structs.nil?
+        hash[:map_of_strings] = super(self.map_of_strings) unless self.map_of_strings.nil?
+        hash[:map_of_structs] = super(self.map_of_structs) unless self.map_of_structs.nil?
+        hash[:union] = self.union.to_h unless self.union.nil?
+        hash
+      end
+      alias to_hash to_h
+
       def to_s
         "#<struct WhiteLabel::Types::KitchenSinkInput "\
           "string=#{string || 'nil'}, "\
@@ -622,6 +724,23 @@ module WhiteLabel
     ) do
       include Hearth::Structure
 
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:string] = self.string unless self.string.nil?
+        hash[:simple_enum] = self.simple_enum unless self.simple_enum.nil?
+        hash[:typed_enum] = self.typed_enum unless self.typed_enum.nil?
+        hash[:struct] = self.struct.to_h unless self.struct.nil?
+        hash[:document] = super(self.document) unless self.document.nil?
+        hash[:list_of_strings] = super(self.list_of_strings) unless self.list_of_strings.nil?
+        hash[:list_of_structs] = super(self.list_of_structs) unless self.list_of_structs.nil?
+        hash[:map_of_strings] = super(self.map_of_strings) unless self.map_of_strings.nil?
+        hash[:map_of_structs] = super(self.map_of_structs) unless self.map_of_structs.nil?
+        hash[:union] = self.union.to_h unless self.union.nil?
+        hash
+      end
+      alias to_hash to_h
+
       def to_s
         "#<struct WhiteLabel::Types::KitchenSinkOutput "\
           "string=#{string || 'nil'}, "\
@@ -646,6 +765,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:user_id] = self.user_id unless self.user_id.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute username
@@ -662,6 +789,15 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:username] = self.username unless self.username.nil?
+        hash[:user_id] = self.user_id unless self.user_id.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute next_token
@@ -673,6 +809,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:next_token] = self.next_token unless self.next_token.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute next_token
@@ -689,6 +833,15 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:next_token] = self.next_token unless self.next_token.nil?
+        hash[:items] = super(self.items) unless self.items.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute next_token
@@ -700,6 +853,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:next_token] = self.next_token unless self.next_token.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute next_token
@@ -716,6 +877,15 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:next_token] = self.next_token unless self.next_token.nil?
+        hash[:items] = super(self.items) unless self.items.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member___123next_token
@@ -727,6 +897,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member___123next_token] = self.member___123next_token unless self.member___123next_token.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     ServerError = ::Struct.new(
@@ -734,6 +912,11 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # @!attribute stream
@@ -745,6 +928,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:stream] = self.stream unless self.stream.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute stream
@@ -756,6 +947,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:stream] = self.stream unless self.stream.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute stream
@@ -767,6 +966,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:stream] = self.stream unless self.stream.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     StreamingWithLengthOutput = ::Struct.new(
@@ -774,6 +981,11 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        {}
+      end
+      alias to_hash to_h
     end
 
     # This docstring should be different than KitchenSink struct member.
@@ -808,6 +1020,14 @@ module WhiteLabel
     ) do
       include Hearth::Structure
 
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:value] = self.value unless self.value.nil?
+        hash
+      end
+      alias to_hash to_h
+
       def to_s
         "#<struct WhiteLabel::Types::Struct [SENSITIVE]>"
       end
@@ -880,7 +1100,7 @@ module WhiteLabel
       #
       class String < Union
         def to_h
-          { string: super(__getobj__) }
+          { string: __getobj__ }
         end
 
         def to_s
@@ -909,7 +1129,7 @@ module WhiteLabel
       #
       class Struct < Union
         def to_h
-          { struct: super(__getobj__) }
+          { struct: __getobj__&.to_h }
         end
 
         def to_s
@@ -939,6 +1159,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:status] = self.status unless self.status.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute status
@@ -950,6 +1178,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:status] = self.status unless self.status.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member___next_token
@@ -961,6 +1197,14 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member___next_token] = self.member___next_token unless self.member___next_token.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
     # @!attribute member___wrapper
@@ -977,6 +1221,15 @@ module WhiteLabel
       keyword_init: true
     ) do
       include Hearth::Structure
+
+      def to_h
+        # @type var hash: Hash[Symbol, untyped]
+        hash = {}
+        hash[:member___wrapper] = self.member___wrapper.to_h unless self.member___wrapper.nil?
+        hash[:member___items] = super(self.member___items) unless self.member___items.nil?
+        hash
+      end
+      alias to_hash to_h
     end
 
   end
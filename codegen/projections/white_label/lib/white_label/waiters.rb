@@ -54,7 +54,7 @@ module WhiteLabel
                 state: 'failure',
                 matcher: {
                   output: {
-                    path: "\"status\"",
+                    path: ->(output) { output&.status },
                     comparator: "stringEquals",
                     expected: 'failed'
                   }
@@ -64,7 +64,7 @@ module WhiteLabel
                 state: 'failure',
                 matcher: {
                   inputOutput: {
-                    path: "(\"input\".\"status\" == `\"failed\"` || \"output\".\"status\" == `\"failed\"`)",
+                    path: ->(input, output) { Hearth::Waiters::PathHelper.or_else((input&.status == 'failed')) { (output&.status == 'failed') } },
                     comparator: "booleanEquals",
                     expected: 'true'
                   }
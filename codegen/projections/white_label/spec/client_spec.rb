@@ -11,7 +11,7 @@ module WhiteLabel
       it 'uses validate_input' do
         expect(Hearth::Middleware::Validate)
           .to receive(:new)
-                .with(anything, validate_input: config.validate_input, validator: anything)
+                .with(anything, hash_including(validate_input: config.validate_input))
                 .and_call_original
 
         client.kitchen_sink
@@ -55,7 +55,20 @@ module WhiteLabel
         client.kitchen_sink
       end
 
+      it 'uses connection pool settings from config' do
+        expect(Hearth::HTTP::Client)
+          .to receive(:new)
+                .with(hash_including(
+                        http_max_connections: config.http_max_connections,
+                        http_idle_timeout: config.http_idle_timeout
+                      ))
+                .and_call_original
+
+        client.kitchen_sink
+      end
+
       it 'uses http_wire_trace from options' do
+        client
         expect(Hearth::HTTP::Client)
           .to receive(:new)
                 .with(hash_including(http_wire_trace: true))
@@ -82,5 +95,85 @@ module WhiteLabel
         client.kitchen_sink({}, endpoint: 'endpoint')
       end
     end
+
+    describe 'middleware stack' do
+      it 'is built once and reused across calls' do
+        expect(Hearth::Middleware::Retry)
+          .to receive(:new).once.and_call_original
+
+        client.kitchen_sink
+        client.kitchen_sink
+      end
+
+      it 'is rebuilt when options are given' do
+        expect(Hearth::Middleware::Retry)
+          .to receive(:new).twice.and_call_original
+
+        client.kitchen_sink
+        client.kitchen_sink({}, http_wire_trace: true)
+      end
+
+      it 'applies per call middleware' do
+        called = 0
+        middleware = Hearth::MiddlewareBuilder.before_send do |_input, _context|
+          called += 1
+        end
+
+        client.kitchen_sink
+        client.kitchen_sink({}, middleware: middleware)
+        client.kitchen_sink
+        expect(called).to eq(1)
+      end
+
+      it 'applies class middleware added after the first call' do
+        class_middleware = Hearth::MiddlewareBuilder.new
+        allow(Client).to receive(:middleware).and_return(class_middleware)
+        called = false
+
+        client.kitchen_sink
+        class_middleware.before_send { |_input, _context| called = true }
+        client.kitchen_sink
+        expect(called).to be(true)
+      end
+
+      it 'applies class middleware removed after the first call' do
+        class_middleware = Hearth::MiddlewareBuilder.new
+        allow(Client).to receive(:middleware).and_return(class_middleware)
+
+        client.kitchen_sink
+        class_middleware.remove_retry
+        expect(Hearth::Middleware::Retry).not_to receive(:new)
+        client.kitchen_sink
+      end
+    end
+
+    describe 'shared client state' do
+      it 'builds one transport client for all operations' do
+        expect(Hearth::HTTP::Client)
+          .to receive(:new).once.and_call_original
+
+        client.kitchen_sink
+        client.endpoint_operation
+      end
+
+      it 'builds error parsers once' do
+        client
+        expect(Hearth::HTTP::ErrorParser).not_to receive(:new)
+
+        client.kitchen_sink
+        client.kitchen_sink({}, endpoint: 'endpoint')
+      end
+
+      it 'builds a new transport client for per call overrides' do
+        client
+        expect(Hearth::HTTP::Client)
+          .to receive(:new)
+                .with(hash_including(http_wire_trace: true))
+                .once.and_call_original
+
+        client.kitchen_sink({}, http_wire_trace: true)
+        client.kitchen_sink
+      end
+    end
   end
 end
@@ -92,5 +92,18 @@ module WhiteLabel
         expect(error.throttling?).to be true
       end
     end
+
+    describe 'ERROR_CLASSES' do
+      it 'maps error codes to error classes' do
+        expect(ERROR_CLASSES).to eq(
+          'ClientError' => ClientError,
+          'ServerError' => ServerError
+        )
+      end
+
+      it 'is frozen' do
+        expect(ERROR_CLASSES).to be_frozen
+      end
+    end
   end
-end
\ No newline at end of file
+end
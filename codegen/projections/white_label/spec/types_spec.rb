@@ -20,13 +20,35 @@ module WhiteLabel
       let(:struct) { Types::Struct.new(value: 'struct value') }
       subject { KitchenSinkInput.new(**params) }
 
-      it 'is a Ruby struct' do
-        expect(subject).to be_a(::Struct)
+      it 'has the Struct interface' do
+        expect(subject.members).to include(:string, :struct)
+        expect(subject[:string]).to eq('simple string')
+        expect(subject.each_pair.to_h[:struct]).to eq(struct)
       end
 
       it 'is a hearth structure' do
         expect(subject).to be_a(Hearth::Structure)
       end
+
+      it 'implements to_h' do
+        expected = {
+          string: 'simple string',
+          struct: { value: 'struct value' },
+          document: { boolean: true },
+          list_of_strings: ['dank', 'memes'],
+          list_of_structs: [{ value: 'struct value' }],
+          map_of_strings: { key: 'value' },
+          map_of_structs: { key: { value: 'struct value' } },
+          union: { string: 'simple string' }
+        }
+        expect(subject.to_h).to eq(expected)
+        expect(subject.to_hash).to eq(expected)
+      end
+
+      it 'omits nil members from to_h' do
+        expect(KitchenSinkInput.new(string: 'simple string').to_h)
+          .to eq(string: 'simple string')
+      end
     end
 
     describe Union do
@@ -25,7 +25,9 @@ module WhiteLabel
         # modeled operation name
         expect(operation_name).to eq(:waiters_test)
         acceptors = poller.instance_variable_get(:@acceptors)
-        # modeled acceptors
+        # modeled acceptors, with paths compiled to lambdas
+        output_path = acceptors[2][:matcher][:output].delete(:path)
+        input_output_path = acceptors[3][:matcher][:inputOutput].delete(:path)
         expect(acceptors).to eq(
           [
             { state: 'success', matcher: { success: true } },
@@ -33,23 +35,35 @@ module WhiteLabel
             {
               state: 'failure',
               matcher: {
-                output: {
-                  path: '"status"', comparator: "stringEquals", expected: "failed"
-                }
+                output: { comparator: "stringEquals", expected: "failed" }
               }
             },
             {
               state: 'failure',
               matcher: {
-                inputOutput: {
-                  path: '("input"."status" == `"failed"` || "output"."status" == `"failed"`)',
-                  comparator: "booleanEquals",
-                  expected: "true"
-                }
+                inputOutput: { comparator: "booleanEquals", expected: "true" }
               }
             }
           ]
         )
+        expect(output_path).to be_a(Proc)
+        expect(input_output_path).to be_a(Proc)
+      end
+
+      it 'compiles output paths to read Types members' do
+        poller = resource_waiter.instance_variable_get(:@waiter).instance_variable_get(:@poller)
+        path = poller.instance_variable_get(:@acceptors)[2][:matcher][:output][:path]
+        expect(path.call(Types::WaitersTestOutput.new(status: 'failed'))).to eq('failed')
+        expect(path.call(nil)).to be_nil
+      end
+
+      it 'compiles input output paths to read Types members' do
+        poller = resource_waiter.instance_variable_get(:@waiter).instance_variable_get(:@poller)
+        path = poller.instance_variable_get(:@acceptors)[3][:matcher][:inputOutput][:path]
+        failed = Types::WaitersTestInput.new(status: 'failed')
+        ok = Types::WaitersTestOutput.new(status: 'ok')
+        expect(path.call(failed, ok)).to eq(true)
+        expect(path.call(Types::WaitersTestInput.new(status: 'ok'), ok)).to eq(false)
       end
 
       it 'is taggable' do
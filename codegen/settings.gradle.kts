@@ -16,6 +16,7 @@
 rootProject.name = "smithy-ruby"
 include(":smithy-ruby-codegen")
 include(":smithy-ruby-codegen-test")
+include(":smithy-ruby-codegen-benchmarks")
 include(":smithy-ruby-rails-codegen")
 include(":smithy-ruby-rails-codegen-test")
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+description = "JMH benchmarks for the Smithy Ruby code generators"
+extra["displayName"] = "Smithy :: Ruby :: Codegen :: Benchmarks"
+extra["moduleName"] = "software.amazon.smithy.ruby.codegen.benchmarks"
+
+plugins {
+    `java-library`
+    id("me.champeau.jmh").version("0.6.8")
+}
+
+dependencies {
+    jmh(project(":smithy-ruby-codegen"))
+    jmh(project(":smithy-ruby-rails-codegen"))
+    jmh("software.amazon.smithy:smithy-build:${rootProject.extra["smithyVersion"]}")
+}
+
+// Run a subset of benchmarks with, for example:
+//   ./gradlew :smithy-ruby-codegen-benchmarks:jmh -Pjmh.includes=FormatterBenchmark
+jmh {
+    if (project.hasProperty("jmh.includes")) {
+        includes.set(listOf(project.property("jmh.includes").toString()))
+    }
+    // The gc profiler reports allocation per operation (gc.alloc.rate.norm).
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(file("$buildDir/reports/jmh/results.json"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
+
+// Benchmarks are not shipped.
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
+
+// We don't need to lint benchmarks.
+tasks.matching { it.name == "spotbugsJmh" }.configureEach {
+    enabled = false
+}
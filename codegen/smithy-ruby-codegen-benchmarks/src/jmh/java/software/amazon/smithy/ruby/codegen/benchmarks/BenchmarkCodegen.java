@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen.benchmarks;
+
+import software.amazon.smithy.build.FileManifest;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.codegen.core.ShapeGenerationOrder;
+import software.amazon.smithy.codegen.core.directed.CodegenDirector;
+import software.amazon.smithy.codegen.core.directed.CreateContextDirective;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.ruby.codegen.DirectedRubyCodegen;
+import software.amazon.smithy.ruby.codegen.DirectedRubyCodegenPlugin;
+import software.amazon.smithy.ruby.codegen.GenerationContext;
+import software.amazon.smithy.ruby.codegen.RubyCodeWriter;
+import software.amazon.smithy.ruby.codegen.RubyIntegration;
+import software.amazon.smithy.ruby.codegen.RubySettings;
+
+/**
+ * Runs code generation for synthetic models the same way smithy-build does.
+ */
+final class BenchmarkCodegen {
+
+    private BenchmarkCodegen() {
+    }
+
+    /**
+     * @return plugin settings for the synthetic service
+     */
+    static ObjectNode settings() {
+        return Node.objectNodeBuilder()
+                .withMember("service", SyntheticModel.SERVICE.toString())
+                .withMember("module", "Synthetic")
+                .withMember("gemspec", Node.objectNodeBuilder()
+                        .withMember("gemName", "synthetic")
+                        .withMember("gemVersion", "0.0.1")
+                        .withMember("gemSummary", "Synthetic benchmark service")
+                        .build())
+                .build();
+    }
+
+    /**
+     * Runs the ruby-codegen plugin.
+     *
+     * @param model model to generate for
+     * @return the manifest holding the generated files
+     */
+    static MockManifest run(Model model) {
+        MockManifest manifest = new MockManifest();
+        new DirectedRubyCodegenPlugin().execute(PluginContext.builder()
+                .model(model)
+                .fileManifest(manifest)
+                .settings(settings())
+                .build());
+        return manifest;
+    }
+
+    /**
+     * Runs the full pipeline once and returns the context it generated with,
+     * so individual generators can be run against the transformed model.
+     *
+     * @param model model to generate for
+     * @return the generation context
+     */
+    static GenerationContext context(Model model) {
+        CapturingCodegen codegen = new CapturingCodegen();
+        CodegenDirector<RubyCodeWriter, RubyIntegration, GenerationContext, RubySettings> runner =
+                new CodegenDirector<>();
+        RubySettings settings = RubySettings.from(settings());
+        runner.directedCodegen(codegen);
+        runner.integrationClass(RubyIntegration.class);
+        runner.fileManifest(new MockManifest());
+        runner.model(model);
+        runner.settings(settings);
+        runner.service(settings.getService());
+        runner.performDefaultCodegenTransforms();
+        runner.createDedicatedInputsAndOutputs();
+        runner.shapeGenerationOrder(ShapeGenerationOrder.ALPHABETICAL);
+        runner.run();
+        return codegen.context;
+    }
+
+    /**
+     * @param context context to copy
+     * @param fileManifest manifest the copy writes to
+     * @return a copy of the context with fresh writers
+     */
+    static GenerationContext copy(GenerationContext context, FileManifest fileManifest) {
+        return new GenerationContext(
+                context.settings(),
+                fileManifest,
+                context.integrations(),
+                context.model(),
+                context.service(),
+                context.protocol(),
+                context.protocolGenerator(),
+                context.applicationTransport(),
+                context.getRubyDependencies(),
+                context.symbolProvider());
+    }
+
+    private static final class CapturingCodegen extends DirectedRubyCodegen {
+        private GenerationContext context;
+
+        @Override
+        public GenerationContext createContext(CreateContextDirective<RubySettings, RubyIntegration> directive) {
+            context = super.createContext(directive);
+            return context;
+        }
+    }
+}
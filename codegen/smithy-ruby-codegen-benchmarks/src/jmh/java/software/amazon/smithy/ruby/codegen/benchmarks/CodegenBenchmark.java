@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.neighbor.Walker;
+
+/**
+ * Full ruby-codegen plugin runs against synthetic services.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CodegenBenchmark {
+
+    @Param({"10", "100"})
+    public int operations;
+
+    @Param({"8"})
+    public int members;
+
+    @Param({"2"})
+    public int depth;
+
+    @Param({"5"})
+    public int errors;
+
+    private Model model;
+    private int shapeCount;
+
+    /**
+     * Builds the synthetic model.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        model = SyntheticModel.builder()
+                .operations(operations)
+                .members(members)
+                .depth(depth)
+                .errors(errors)
+                .build()
+                .toModel();
+        shapeCount = new Walker(model).walkShapes(model.expectShape(SyntheticModel.SERVICE)).size();
+    }
+
+    /**
+     * @param counter shape counter
+     * @return the generated files
+     */
+    @Benchmark
+    public MockManifest fullRun(ShapeCounter counter) {
+        counter.shapes += shapeCount;
+        return BenchmarkCodegen.run(model);
+    }
+}
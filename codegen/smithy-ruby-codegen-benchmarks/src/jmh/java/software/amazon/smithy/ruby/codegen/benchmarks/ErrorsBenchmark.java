@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.model.Model;
+
+/**
+ * Full ruby-codegen plugin runs as the number of error shapes grows.
+ * errors.rb is rendered once per service, so run time should grow
+ * linearly with the number of errors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ErrorsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int errors;
+
+    private Model model;
+
+    /**
+     * Builds the synthetic model.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        model = SyntheticModel.builder()
+                .operations(10)
+                .members(4)
+                .depth(0)
+                .errors(errors)
+                .build()
+                .toModel();
+    }
+
+    /**
+     * @return the generated files
+     */
+    @Benchmark
+    public MockManifest errorScaling() {
+        return BenchmarkCodegen.run(model);
+    }
+}
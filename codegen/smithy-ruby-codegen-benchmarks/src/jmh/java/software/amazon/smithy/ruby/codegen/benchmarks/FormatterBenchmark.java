@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.codegen.core.SymbolProvider;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.neighbor.Walker;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.ruby.codegen.RubyFormatter;
+import software.amazon.smithy.ruby.codegen.RubySettings;
+import software.amazon.smithy.ruby.codegen.RubySymbolProvider;
+
+/**
+ * Hot helpers called for every shape and member during generation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FormatterBenchmark {
+
+    private static final String[] EDGE_CASE_NAMES = {
+        "ListTablesOutput", "HTTPRequestID", "S3Bucket", "fooBARBaz", "already_snake", "dash-separated",
+        "ABC", "a", "EC2InstanceIdV2", "KMSKeyARN"
+    };
+
+    private final List<String> names = new ArrayList<>();
+    private final List<Shape> shapes = new ArrayList<>();
+    private Model model;
+    private RubySettings settings;
+    private SymbolProvider warmSymbolProvider;
+
+    /**
+     * Collects shape and member names from a synthetic service.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        model = SyntheticModel.builder().operations(50).build().toModel();
+        settings = RubySettings.from(BenchmarkCodegen.settings());
+        shapes.addAll(new Walker(model).walkShapes(model.expectShape(SyntheticModel.SERVICE)));
+        for (Shape shape : shapes) {
+            names.add(shape.asMemberShape()
+                    .map((member) -> member.getMemberName())
+                    .orElse(shape.getId().getName()));
+        }
+        names.addAll(List.of(EDGE_CASE_NAMES));
+
+        warmSymbolProvider = new RubySymbolProvider(model, settings);
+        shapes.forEach(warmSymbolProvider::toSymbol);
+    }
+
+    /**
+     * @param blackhole consumes the converted names
+     */
+    @Benchmark
+    public void toSnakeCase(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(RubyFormatter.toSnakeCase(name));
+        }
+    }
+
+    /**
+     * The regex pipeline toSnakeCase replaced, as a baseline.
+     *
+     * @param blackhole consumes the converted names
+     */
+    @Benchmark
+    public void toSnakeCaseRegex(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(regexSnakeCase(name));
+        }
+    }
+
+    /**
+     * Symbols for every shape with a new provider, as seen by the first generator.
+     *
+     * @param blackhole consumes the symbols
+     */
+    @Benchmark
+    public void toSymbolCold(Blackhole blackhole) {
+        SymbolProvider symbolProvider = new RubySymbolProvider(model, settings);
+        for (Shape shape : shapes) {
+            blackhole.consume(symbolProvider.toSymbol(shape));
+        }
+    }
+
+    /**
+     * Symbols for every shape with a provider that has seen every shape before.
+     *
+     * @param blackhole consumes the symbols
+     */
+    @Benchmark
+    public void toSymbolWarm(Blackhole blackhole) {
+        for (Shape shape : shapes) {
+            blackhole.consume(warmSymbolProvider.toSymbol(shape));
+        }
+    }
+
+    private static String regexSnakeCase(String s) {
+        return s
+                .replaceAll("([A-Z\\d]+)([A-Z][a-z])", "$1_$2")
+                .replaceAll("([a-z\\d])([A-Z])", "$1_$2")
+                .replace('-', '_')
+                .toLowerCase();
+    }
+}
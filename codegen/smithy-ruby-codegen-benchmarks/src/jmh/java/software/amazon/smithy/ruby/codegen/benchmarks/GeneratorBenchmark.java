@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.ruby.codegen.GenerationContext;
+import software.amazon.smithy.ruby.codegen.generators.ParamsGenerator;
+import software.amazon.smithy.ruby.codegen.generators.ValidatorsGenerator;
+import software.amazon.smithy.ruby.codegen.generators.docs.ShapeDocumentationGenerator;
+
+/**
+ * Individual generators run against the context of a synthetic service.
+ * Every invocation writes to a fresh in-memory manifest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GeneratorBenchmark {
+
+    @Param({"100"})
+    public int operations;
+
+    private GenerationContext baseContext;
+    private List<Shape> shapes;
+    private GenerationContext context;
+
+    /**
+     * Runs the pipeline once to build the generation context.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        baseContext = BenchmarkCodegen.context(SyntheticModel.builder()
+                .operations(operations)
+                .build()
+                .toModel());
+        shapes = baseContext.shapeClosureIndex().serviceClosureWithoutTraitShapes().stream()
+                .filter((shape) -> !shape.isMemberShape())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates a context with fresh writers for every invocation.
+     */
+    @Setup(Level.Invocation)
+    public void newContext() {
+        context = BenchmarkCodegen.copy(baseContext, new MockManifest());
+    }
+
+    /**
+     * @param counter shape counter
+     * @return the generated files
+     */
+    @Benchmark
+    public MockManifest builders(ShapeCounter counter) {
+        counter.shapes += shapes.size();
+        context.protocolGenerator().get().generateBuilders(context);
+        return (MockManifest) context.fileManifest();
+    }
+
+    /**
+     * @param counter shape counter
+     * @return the generated files
+     */
+    @Benchmark
+    public MockManifest params(ShapeCounter counter) {
+        counter.shapes += shapes.size();
+        new ParamsGenerator(context).render();
+        context.writerDelegator().flushWriters();
+        return (MockManifest) context.fileManifest();
+    }
+
+    /**
+     * @param counter shape counter
+     * @return the generated files
+     */
+    @Benchmark
+    public MockManifest validators(ShapeCounter counter) {
+        counter.shapes += shapes.size();
+        new ValidatorsGenerator(context).render();
+        context.writerDelegator().flushWriters();
+        return (MockManifest) context.fileManifest();
+    }
+
+    /**
+     * @param counter shape counter
+     * @param blackhole consumes the rendered documentation
+     */
+    @Benchmark
+    public void shapeDocumentation(ShapeCounter counter, Blackhole blackhole) {
+        counter.shapes += shapes.size();
+        for (Shape shape : shapes) {
+            blackhole.consume(new ShapeDocumentationGenerator(
+                    context.model(), context.symbolProvider(), shape).render());
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+/**
+ * Generates synthetic RailsJson services of a configurable size.
+ * <p>
+ * Every operation has an input and an output structure, each with a chain
+ * of nested structures {@code depth} levels deep. Every structure has
+ * {@code members} members that cycle through scalar, timestamp, list, map
+ * and document shapes. Error shapes are distributed round-robin over the
+ * operations so that all of them are in the service closure.
+ */
+public final class SyntheticModel {
+
+    /**
+     * Shape id of the generated service.
+     */
+    public static final ShapeId SERVICE = ShapeId.from("smithy.ruby.benchmarks#Synthetic");
+
+    private static final String[] MEMBER_TARGETS = {
+        "String", "Integer", "Timestamp", "Boolean", "StringList", "StringMap", "Long", "Blob"
+    };
+
+    private final int operations;
+    private final int members;
+    private final int depth;
+    private final int errors;
+
+    private SyntheticModel(Builder builder) {
+        this.operations = builder.operations;
+        this.members = builder.members;
+        this.depth = builder.depth;
+        this.errors = builder.errors;
+    }
+
+    /**
+     * @return a builder with a small default service.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the assembled model, including the railsJson protocol definition.
+     */
+    public Model toModel() {
+        return Model.assembler(SyntheticModel.class.getClassLoader())
+                .discoverModels(SyntheticModel.class.getClassLoader())
+                .addUnparsedModel("synthetic.smithy", toIdl())
+                .assemble()
+                .unwrap();
+    }
+
+    /**
+     * @return the model as Smithy IDL.
+     */
+    public String toIdl() {
+        StringBuilder idl = new StringBuilder()
+                .append("$version: \"1.0\"\n")
+                .append("namespace ").append(SERVICE.getNamespace()).append("\n\n")
+                .append("use smithy.ruby.protocols#railsJson\n\n");
+
+        idl.append("/// A synthetic service with ").append(operations).append(" operations.\n")
+                .append("@railsJson\n")
+                .append("service ").append(SERVICE.getName()).append(" {\n")
+                .append("    version: \"2021-01-01\",\n")
+                .append("    operations: [");
+        for (int i = 0; i < operations; i++) {
+            idl.append(i == 0 ? "" : ", ").append(operationName(i));
+        }
+        idl.append("]\n}\n\n");
+
+        for (int i = 0; i < operations; i++) {
+            String operation = operationName(i);
+            List<String> operationErrors = new ArrayList<>();
+            for (int e = i; e < errors; e += operations) {
+                operationErrors.add(errorName(e));
+            }
+            idl.append("/// Documentation for ").append(operation).append(".\n")
+                    .append("@http(method: \"POST\", uri: \"/").append(operation.toLowerCase()).append("\")\n")
+                    .append("operation ").append(operation).append(" {\n")
+                    .append("    input: ").append(operation).append("Input,\n")
+                    .append("    output: ").append(operation).append("Output,\n")
+                    .append("    errors: [").append(String.join(", ", operationErrors)).append("]\n")
+                    .append("}\n\n");
+            appendStructures(idl, operation + "Input");
+            appendStructures(idl, operation + "Output");
+        }
+
+        for (int e = 0; e < errors; e++) {
+            idl.append("/// Documentation for ").append(errorName(e)).append(".\n")
+                    .append("@error(\"client\")\n")
+                    .append("@httpError(400)\n")
+                    .append("structure ").append(errorName(e)).append(" {\n")
+                    .append("    message: String,\n")
+                    .append("    errorCode: Integer\n")
+                    .append("}\n\n");
+        }
+
+        idl.append("list StringList {\n    member: String\n}\n\n")
+                .append("map StringMap {\n    key: String,\n    value: String\n}\n");
+        return idl.toString();
+    }
+
+    private void appendStructures(StringBuilder idl, String name) {
+        for (int level = 0; level <= depth; level++) {
+            String structure = level == 0 ? name : name + "Nested" + level;
+            idl.append("/// Documentation for ").append(structure).append(".\n")
+                    .append("structure ").append(structure).append(" {\n");
+            for (int m = 0; m < members; m++) {
+                idl.append("    /// Documentation for member").append(m).append(".\n")
+                        .append("    member").append(m).append(": ")
+                        .append(MEMBER_TARGETS[m % MEMBER_TARGETS.length]).append(",\n");
+            }
+            if (level < depth) {
+                idl.append("    nested: ").append(name).append("Nested").append(level + 1).append(",\n");
+            }
+            idl.append("}\n\n");
+        }
+    }
+
+    private static String operationName(int index) {
+        return "Operation" + index;
+    }
+
+    private static String errorName(int index) {
+        return "Error" + index;
+    }
+
+    /**
+     * Builds a {@link SyntheticModel}.
+     */
+    public static final class Builder {
+        private int operations = 10;
+        private int members = 8;
+        private int depth = 2;
+        private int errors = 5;
+
+        private Builder() {
+        }
+
+        /**
+         * @param operations number of operations in the service
+         * @return this builder
+         */
+        public Builder operations(int operations) {
+            this.operations = operations;
+            return this;
+        }
+
+        /**
+         * @param members number of members per structure
+         * @return this builder
+         */
+        public Builder members(int members) {
+            this.members = members;
+            return this;
+        }
+
+        /**
+         * @param depth number of nested structures below each input and output
+         * @return this builder
+         */
+        public Builder depth(int depth) {
+            this.depth = depth;
+            return this;
+        }
+
+        /**
+         * @param errors number of error shapes in the service
+         * @return this builder
+         */
+        public Builder errors(int errors) {
+            this.errors = errors;
+            return this;
+        }
+
+        /**
+         * @return the SyntheticModel
+         */
+        public SyntheticModel build() {
+            if (operations < 1) {
+                throw new IllegalArgumentException("A synthetic service needs at least one operation");
+            }
+            return new SyntheticModel(this);
+        }
+    }
+}
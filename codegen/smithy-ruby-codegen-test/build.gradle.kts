@@ -55,13 +55,34 @@ tasks.register<Copy>("copyWeatherServiceGem") {
     from("$buildDir/smithyprojections/smithy-ruby-codegen-test/weather-service/ruby-codegen")
     into("$buildDir/../../projections/")
 }
-tasks.register<Copy>("copyIntegrationSpecs") {
-    from("./integration-specs")
-    into("$buildDir/smithyprojections/smithy-ruby-codegen-test/white-label/ruby-codegen/white_label/spec")
+// Every white label projection runs the shared integration specs, along with
+// the specs in projection-specs/<projection> for its opt-in mode.
+val whiteLabelProjections = listOf(
+    "white-label",
+    "white-label-per-shape",
+    "white-label-fused-validation",
+    "white-label-plain-types"
+)
+tasks.register("copyIntegrationSpecs") {
+    doLast {
+        whiteLabelProjections.forEach { projection ->
+            copy {
+                from("./integration-specs")
+                from("./projection-specs/$projection")
+                into("$buildDir/smithyprojections/smithy-ruby-codegen-test/$projection/ruby-codegen/white_label/spec")
+            }
+        }
+    }
 }
-tasks.register<Copy>("copySteepfile") {
-    from("./Steepfile")
-    into("$buildDir/smithyprojections/smithy-ruby-codegen-test/white-label/ruby-codegen/white_label")
+tasks.register("copySteepfile") {
+    doLast {
+        whiteLabelProjections.forEach { projection ->
+            copy {
+                from("./Steepfile")
+                into("$buildDir/smithyprojections/smithy-ruby-codegen-test/$projection/ruby-codegen/white_label")
+            }
+        }
+    }
 }
 tasks["build"].finalizedBy(
     tasks["copyIntegrationSpecs"],
@@ -10,6 +10,8 @@ module WhiteLabel
           adaptive_retry_wait_to_fill: false,
           disable_host_prefix: true,
           endpoint: 'test',
+          http_idle_timeout: 10,
+          http_max_connections: 5,
           http_wire_trace: true,
           log_level: :debug,
           logger: Logger.new($stdout, level: :debug),
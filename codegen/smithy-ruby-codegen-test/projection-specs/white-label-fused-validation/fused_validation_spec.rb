@@ -0,0 +1,67 @@
+# frozen_string_literal: true
+
+require_relative 'spec_helper'
+
+module WhiteLabel
+  module Params
+    describe Union do
+      it 'raises the same errors as Validators for simple members' do
+        expect { Union.build({ string: 1 }, context: 'input', validate: true) }
+          .to raise_error(ArgumentError, 'Expected input to be in [String], got Integer.')
+        expect { Validators::Union.validate!(Types::Union::String.new(1), context: 'input') }
+          .to raise_error(ArgumentError, 'Expected input to be in [String], got Integer.')
+      end
+
+      it 'raises the same errors as Validators for nested members' do
+        expect { Union.build({ struct: { value: 1 } }, context: 'input', validate: true) }
+          .to raise_error(ArgumentError, 'Expected input[:value] to be in [String], got Integer.')
+        union = Types::Union::Struct.new(Types::Struct.new(value: 1))
+        expect { Validators::Union.validate!(union, context: 'input') }
+          .to raise_error(ArgumentError, 'Expected input[:value] to be in [String], got Integer.')
+      end
+
+      it 'does not validate unless asked to' do
+        expect(Union.build({ string: 1 }, context: 'input'))
+          .to eq(Types::Union::String.new(1))
+      end
+    end
+  end
+
+  describe Client do
+    let(:client) { Client.new(Config.new(stub_responses: true)) }
+
+    it 'validates input as it is built when Validate is the first middleware' do
+      expect(Validators::KitchenSinkInput).not_to receive(:validate!)
+
+      expect { client.kitchen_sink({ string: 1 }) }
+        .to raise_error(ArgumentError, 'Expected input[:string] to be in [String], got Integer.')
+    end
+
+    it 'validates input in the Validate middleware after before_validate middleware' do
+      middleware = Hearth::MiddlewareBuilder.before_validate do |input, _context|
+        input.string = input.string.to_s
+      end
+
+      expect { client.kitchen_sink({ string: 1 }, middleware: middleware) }
+        .not_to raise_error
+    end
+
+    it 'raises validation errors through middleware around Validate' do
+      middleware = Hearth::MiddlewareBuilder.around_validate do |app, input, context|
+        app.call(input, context)
+      rescue ArgumentError
+        Hearth::Output.new(error: StandardError.new('handled'))
+      end
+
+      expect { client.kitchen_sink({ string: 1 }, middleware: middleware) }
+        .to raise_error(StandardError, 'handled')
+    end
+
+    it 'does not validate input when Validate is removed' do
+      middleware = Hearth::MiddlewareBuilder.remove_validate
+
+      expect { client.kitchen_sink({ string: 1 }, middleware: middleware) }
+        .not_to raise_error
+    end
+  end
+end
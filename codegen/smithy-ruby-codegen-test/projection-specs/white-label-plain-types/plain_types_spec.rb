@@ -0,0 +1,23 @@
+# frozen_string_literal: true
+
+require_relative 'spec_helper'
+
+module WhiteLabel
+  module Types
+    describe KitchenSinkInput do
+      subject { KitchenSinkInput.new(string: 'simple string') }
+
+      it 'is a plain class' do
+        expect(subject).not_to be_a(::Struct)
+        expect(subject).to be_a(Hearth::PlainStructure)
+        expect(KitchenSinkInput::MEMBERS).to include(:string, :struct)
+      end
+
+      it 'has member accessors' do
+        subject.string = 'other string'
+        expect(subject.string).to eq('other string')
+        expect(subject[:string]).to eq('other string')
+      end
+    end
+  end
+end
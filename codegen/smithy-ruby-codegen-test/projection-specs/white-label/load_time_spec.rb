@@ -0,0 +1,99 @@
+# frozen_string_literal: true
+
+require 'json'
+require 'open3'
+require 'rbconfig'
+
+require_relative 'spec_helper'
+
+# Compares the default layout of the gem with the same gem generated with
+# perShapeFiles, where builders, parsers, stubs, params and validators are
+# autoloaded from one file per shape. The per shape gem is generated by the
+# white-label-per-shape projection, or found at WHITE_LABEL_PER_SHAPE_LIB.
+# This spec only runs in the white-label projection, whose lib is the
+# default layout it is compared against.
+describe 'gem load time' do
+  monolithic_lib = File.expand_path('../lib', __dir__)
+  per_shape_lib = ENV.fetch('WHITE_LABEL_PER_SHAPE_LIB') do
+    File.expand_path(
+      '../../../../white-label-per-shape/ruby-codegen/white_label/lib',
+      __dir__
+    )
+  end
+  layers = %w[Builders Parsers Stubs Params Validators]
+  operations = %w[KitchenSink DefaultsTest]
+  runs = 5
+
+  before do
+    unless File.exist?(File.join(per_shape_lib, 'white_label.rb'))
+      skip("per shape layout not generated at #{per_shape_lib}")
+    end
+  end
+
+  def hearth_lib
+    File.dirname($LOADED_FEATURES.find { |f| f.end_with?('/hearth.rb') })
+  end
+
+  def run_ruby(lib, script)
+    out, status = Open3.capture2(
+      RbConfig.ruby, '-I', hearth_lib, '-I', lib, '-e', script
+    )
+    raise "ruby exited with #{status.exitstatus}" unless status.success?
+
+    out
+  end
+
+  # Requires the gem and resolves the constants two operations need,
+  # as an application calling only those operations would.
+  def load_seconds(lib, operations)
+    constants = operations.flat_map do |operation|
+      %W[
+        WhiteLabel::Builders::#{operation}
+        WhiteLabel::Parsers::#{operation}
+        WhiteLabel::Stubs::#{operation}
+        WhiteLabel::Params::#{operation}Input
+        WhiteLabel::Validators::#{operation}Input
+      ]
+    end
+    script = <<~RUBY
+      start = Process.clock_gettime(Process::CLOCK_MONOTONIC)
+      require 'white_label'
+      #{constants.join("\n")}
+      print Process.clock_gettime(Process::CLOCK_MONOTONIC) - start
+    RUBY
+    run_ruby(lib, script).to_f
+  end
+
+  def layer_constants(lib, layers)
+    script = <<~RUBY
+      require 'json'
+      require 'white_label'
+      constants = #{layers}.to_h do |layer|
+        [layer, WhiteLabel.const_get(layer).constants.map(&:to_s).sort]
+      end
+      print JSON.dump(constants)
+    RUBY
+    JSON.parse(run_ruby(lib, script))
+  end
+
+  it 'defines the same constants in both layouts' do
+    expect(layer_constants(per_shape_lib, layers))
+      .to eq(layer_constants(monolithic_lib, layers))
+  end
+
+  it 'reports the load time of both layouts' do
+    monolithic = Array.new(runs) do
+      load_seconds(monolithic_lib, operations)
+    end.min
+    per_shape = Array.new(runs) { load_seconds(per_shape_lib, operations) }.min
+
+    RSpec.configuration.reporter.message(
+      format('Load time (best of %<runs>d): monolithic %<monolithic>.1fms, ' \
+             'per shape %<per_shape>.1fms',
+             runs: runs, monolithic: monolithic * 1000,
+             per_shape: per_shape * 1000)
+    )
+    expect(monolithic).to be > 0
+    expect(per_shape).to be > 0
+  end
+end
@@ -0,0 +1,13 @@
+# frozen_string_literal: true
+
+require_relative 'spec_helper'
+
+module WhiteLabel
+  module Types
+    describe KitchenSinkInput do
+      it 'is a Ruby struct' do
+        expect(KitchenSinkInput.new).to be_a(::Struct)
+      end
+    end
+  end
+end
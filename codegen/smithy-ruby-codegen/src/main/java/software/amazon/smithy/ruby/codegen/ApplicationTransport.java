@@ -126,13 +126,36 @@ public final class ApplicationTransport {
                 .documentation("Default log level to use")
                 .build();
 
+        ClientConfig maxConnections = (new ClientConfig.Builder())
+                .name("http_max_connections")
+                .type("Integer")
+                .defaultValue("10")
+                .documentation(
+                        "The maximum number of idle connections kept open per endpoint for reuse by "
+                                + "later requests. Set to 0 to open a new connection for every request.")
+                .build();
+
+        ClientConfig idleTimeout = (new ClientConfig.Builder())
+                .name("http_idle_timeout")
+                .type("Numeric")
+                .defaultValue("5")
+                .documentation("Number of seconds an idle connection is kept open for reuse.")
+                .build();
+
         ClientFragment client = (new ClientFragment.Builder())
                 .addConfig(wireTrace)
                 .addConfig(logger)
                 .addConfig(logLevel)
+                .addConfig(maxConnections)
+                .addConfig(idleTimeout)
                 .render((self, ctx) -> "Hearth::HTTP::Client.new(logger: " + logger.renderGetConfigValue()
                         + ", http_wire_trace: "
-                        + wireTrace.renderGetConfigValue() + ")")
+                        + wireTrace.renderGetConfigValue()
+                        + ", http_max_connections: "
+                        + maxConnections.renderGetConfigValue()
+                        + ", http_idle_timeout: "
+                        + idleTimeout.renderGetConfigValue() + ")")
+                .clientScoped("transport_client")
                 .build();
 
         MiddlewareList defaultMiddleware = (transport, context) -> {
@@ -180,6 +203,10 @@ public final class ApplicationTransport {
                         Map<String, String> params = new HashMap<>();
                         params.put("data_parser",
                                 "Parsers::" + ctx.symbolProvider().toSymbol(operation).getName());
+                        return params;
+                    })
+                    .operationConstantParams((ctx, operation) -> {
+                        Map<String, String> params = new HashMap<>();
                         String successCode = "200";
                         Optional<HttpTrait> httpTrait = operation.getTrait(HttpTrait.class);
                         if (httpTrait.isPresent()) {
@@ -193,7 +220,7 @@ public final class ApplicationTransport {
                         params.put("error_parser",
                                 "Hearth::HTTP::ErrorParser.new("
                                         + "error_module: Errors, success_status: " + successCode
-                                        + ", errors: [" + errors + "]" + ")"
+                                        + ", errors: Set[" + errors + "].freeze" + ")"
                         );
                         return params;
                     })
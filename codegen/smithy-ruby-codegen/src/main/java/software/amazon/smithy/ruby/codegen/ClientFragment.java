@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import software.amazon.smithy.ruby.codegen.config.ClientConfig;
 import software.amazon.smithy.utils.SmithyBuilder;
 import software.amazon.smithy.utils.SmithyInternalApi;
@@ -26,11 +27,19 @@ import software.amazon.smithy.utils.SmithyInternalApi;
 /**
  * Represents a fragment to be rendered in the generated client.
  * Exposes ClientConfig that is required for rendering the client.
+ * <p>
+ * A client scoped fragment is built once when the client is initialized
+ * and reused by every operation. Only calls that override one of its
+ * operation overridable config values build a new value. Client scoped
+ * fragments are only supported for the request, response and transport
+ * client of an {@link ApplicationTransport}, which the client generator
+ * renders methods for.
  */
 @SmithyInternalApi
 public class ClientFragment {
     private final Set<ClientConfig> clientConfig;
     private final RenderOperation render;
+    private final String clientScopedName;
 
     /**
      * @param builder builder to use to construct this fragment.
@@ -38,6 +47,7 @@ public class ClientFragment {
     public ClientFragment(Builder builder) {
         this.clientConfig = builder.clientConfig;
         this.render = builder.render;
+        this.clientScopedName = builder.clientScopedName;
     }
 
     /**
@@ -47,14 +57,53 @@ public class ClientFragment {
         return clientConfig;
     }
 
+    /**
+     * @return true if the fragment is built once per client.
+     */
+    public boolean isClientScoped() {
+        return clientScopedName != null;
+    }
+
     /**
      * @param context generation context
-     * @return rendered fragment
+     * @return rendered fragment, for a client scoped fragment this
+     * is a call to the client method returning the shared value.
      */
     public String render(GenerationContext context) {
+        if (isClientScoped()) {
+            return clientScopedName + "(options)";
+        }
         return render.render(this, context);
     }
 
+    /**
+     * Renders the assignment of a client scoped fragment in the client's initialize.
+     *
+     * @param writer writer to render with
+     */
+    public void renderInitialize(RubyCodeWriter writer) {
+        writer.write("@$1L = $1L({})", clientScopedName);
+    }
+
+    /**
+     * Renders the private client method that returns a client scoped fragment.
+     *
+     * @param writer  writer to render with
+     * @param context generation context
+     */
+    public void renderClientScopedMethod(RubyCodeWriter writer, GenerationContext context) {
+        String overrides = clientConfig.stream()
+                .filter(ClientConfig::allowOperationOverride)
+                .map((c) -> " && !options.key?(:" + c.getName() + ")")
+                .sorted()
+                .collect(Collectors.joining());
+        writer
+                .openBlock("\ndef $L($Loptions)", clientScopedName, overrides.isEmpty() ? "_" : "")
+                .write("return @$1L if @$1L$2L\n", clientScopedName, overrides)
+                .write("$L", render.render(this, context))
+                .closeBlock("end");
+    }
+
     @FunctionalInterface
     /**
      * Called to Render the fragment.
@@ -78,6 +127,7 @@ public class ClientFragment {
         private RenderOperation render = (f, c) -> {
             return "";
         };
+        private String clientScopedName;
 
         /**
          *
@@ -118,6 +168,18 @@ public class ClientFragment {
             return this;
         }
 
+        /**
+         * Builds the fragment once per client instead of once per operation call.
+         * Only supported for the fragments of an {@link ApplicationTransport}.
+         *
+         * @param name name of the client method and instance variable holding the value
+         * @return this builder
+         */
+        public Builder clientScoped(String name) {
+            this.clientScopedName = Objects.requireNonNull(name);
+            return this;
+        }
+
         @Override
         public ClientFragment build() {
             return new ClientFragment(this);
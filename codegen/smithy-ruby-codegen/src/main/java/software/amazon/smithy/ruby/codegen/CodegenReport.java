@@ -0,0 +1,266 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import software.amazon.smithy.build.FileManifest;
+import software.amazon.smithy.codegen.core.SymbolProvider;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Collects timing and throughput measurements for a single codegen run and
+ * writes them as a JSON report next to the generated gem.
+ * <p>
+ * Directives are recorded with their wall time, the number of shapes they
+ * processed, the number of toSymbol calls that reached the
+ * RubySymbolProvider and the peak heap sampled while they ran. Directives
+ * never overlap, so each of them resets the peak usage of the heap memory
+ * pools. Generators run by the ParallelGenerator may run concurrently and
+ * are only recorded with their wall time and the size of their closure.
+ */
+@SmithyInternalApi
+public final class CodegenReport {
+
+    static final String REPORT_FILE = "codegen-report.json";
+
+    private static final Logger LOGGER =
+            Logger.getLogger(CodegenReport.class.getName());
+
+    private final long start = System.nanoTime();
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter((pool) -> pool.getType() == MemoryType.HEAP && pool.isValid())
+            .collect(Collectors.toList());
+    private final Map<String, Phase> directives = new LinkedHashMap<>();
+    private final Map<String, Phase> generators = new TreeMap<>();
+    private RubySymbolProvider symbolProvider;
+    private long peakHeap;
+
+    /**
+     * @param provider the SymbolProvider used for this run, toSymbol calls
+     *                 are only counted for a RubySymbolProvider
+     */
+    synchronized void symbolProvider(SymbolProvider provider) {
+        if (provider instanceof RubySymbolProvider) {
+            this.symbolProvider = (RubySymbolProvider) provider;
+        }
+    }
+
+    /**
+     * Runs and records a directive.
+     *
+     * @param name   name of the directive
+     * @param shapes number of shapes the directive generates
+     * @param task   the directive
+     */
+    void directive(String name, int shapes, Runnable task) {
+        directive(name, shapes, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs and records a directive.
+     *
+     * @param name   name of the directive
+     * @param shapes number of shapes the directive generates
+     * @param task   the directive
+     * @param <T>    type returned by the directive
+     * @return the value returned by the directive
+     */
+    <T> T directive(String name, int shapes, Supplier<T> task) {
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long symbols = toSymbolCalls();
+        long phaseStart = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            long nanos = System.nanoTime() - phaseStart;
+            long heap = heapPools.stream().mapToLong((pool) -> pool.getPeakUsage().getUsed()).sum();
+            synchronized (this) {
+                peakHeap = Math.max(peakHeap, heap);
+                directives.computeIfAbsent(name, (n) -> new Phase())
+                        .record(nanos, shapes, toSymbolCalls() - symbols, heap);
+            }
+        }
+    }
+
+    /**
+     * Runs and records a generator. Safe to call from multiple threads.
+     *
+     * @param name   name of the generator
+     * @param shapes number of shapes in the closure of the generator
+     * @param task   the generator
+     */
+    void generator(String name, int shapes, Runnable task) {
+        long phaseStart = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            long nanos = System.nanoTime() - phaseStart;
+            synchronized (this) {
+                generators.computeIfAbsent(name, (n) -> new Phase()).record(nanos, shapes, -1, -1);
+            }
+        }
+    }
+
+    /**
+     * Records a generator skipped by incremental generation.
+     *
+     * @param name name of the generator
+     */
+    synchronized void generatorSkipped(String name) {
+        generators.computeIfAbsent(name, (n) -> new Phase()).skipped = true;
+    }
+
+    /**
+     * Writes the report to the base directory of the FileManifest.
+     * <p>
+     * The report is written outside of the manifest so it is neither part of
+     * the generated gem nor listed in its own file sizes.
+     *
+     * @param fileManifest manifest the gem was generated to
+     * @param service      the service the gem was generated for
+     */
+    public synchronized void write(FileManifest fileManifest, ShapeId service) {
+        long totalNanos = System.nanoTime() - start;
+        Path baseDir = fileManifest.getBaseDir();
+
+        ObjectNode.Builder files = ObjectNode.builder();
+        long totalBytes = 0;
+        for (Path file : new TreeSet<>(fileManifest.getFiles())) {
+            long bytes = size(file);
+            totalBytes += bytes;
+            files.withMember(baseDir.relativize(file).toString(), bytes);
+        }
+
+        int shapes = directives.values().stream().mapToInt((phase) -> phase.shapes).sum();
+        ObjectNode report = ObjectNode.builder()
+                .withMember("service", service.toString())
+                .withMember("totalMillis", millis(totalNanos))
+                .withMember("shapes", shapes)
+                .withMember("shapesPerSecond", perSecond(shapes, totalNanos))
+                .withMember("toSymbolCalls", toSymbolCalls())
+                .withMember("peakHeapBytes", peakHeap)
+                .withMember("fileCount", fileManifest.getFiles().size())
+                .withMember("totalBytes", totalBytes)
+                .withMember("directives", phases(directives))
+                .withMember("generators", phases(generators))
+                .withMember("files", files.build())
+                .build();
+
+        try {
+            Files.createDirectories(baseDir);
+            Files.writeString(baseDir.resolve(REPORT_FILE), Node.prettyPrintJson(report));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LOGGER.info(String.format("Generated %d shapes into %d files (%d bytes) in %.1fms, report written to %s",
+                shapes, fileManifest.getFiles().size(), totalBytes, millis(totalNanos),
+                baseDir.resolve(REPORT_FILE)));
+    }
+
+    private long toSymbolCalls() {
+        RubySymbolProvider provider;
+        synchronized (this) {
+            provider = symbolProvider;
+        }
+        return provider == null ? 0 : provider.getSymbolCacheHits() + provider.getSymbolCacheMisses();
+    }
+
+    private static Node phases(Map<String, Phase> phases) {
+        List<Node> nodes = new ArrayList<>();
+        phases.forEach((name, phase) -> nodes.add(phase.toNode(name)));
+        return Node.fromNodes(nodes);
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.isRegularFile(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static double perSecond(int shapes, long nanos) {
+        return nanos == 0 ? 0 : Math.round(shapes * 1e10 / nanos) / 10.0;
+    }
+
+    private static final class Phase {
+        private int invocations;
+        private long nanos;
+        private long maxNanos;
+        private int shapes;
+        private long toSymbolCalls = -1;
+        private long peakHeap = -1;
+        private boolean skipped;
+
+        private void record(long nanos, int shapes, long toSymbolCalls, long peakHeap) {
+            this.invocations++;
+            this.nanos += nanos;
+            this.maxNanos = Math.max(this.maxNanos, nanos);
+            this.shapes += shapes;
+            if (toSymbolCalls >= 0) {
+                this.toSymbolCalls = Math.max(this.toSymbolCalls, 0) + toSymbolCalls;
+            }
+            this.peakHeap = Math.max(this.peakHeap, peakHeap);
+        }
+
+        private Node toNode(String name) {
+            ObjectNode.Builder node = ObjectNode.builder()
+                    .withMember("name", name)
+                    .withMember("invocations", invocations)
+                    .withMember("millis", millis(nanos))
+                    .withMember("maxMillis", millis(maxNanos))
+                    .withMember("shapes", shapes);
+            if (shapes > 0) {
+                node.withMember("shapesPerSecond", perSecond(shapes, nanos));
+            }
+            if (toSymbolCalls >= 0) {
+                node.withMember("toSymbolCalls", toSymbolCalls);
+            }
+            if (peakHeap >= 0) {
+                node.withMember("peakHeapBytes", peakHeap);
+            }
+            if (skipped) {
+                node.withMember("skipped", true);
+            }
+            return node.build();
+        }
+    }
+}
@@ -18,10 +18,12 @@ package software.amazon.smithy.ruby.codegen;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import software.amazon.smithy.codegen.core.SymbolProvider;
@@ -36,7 +38,10 @@ import software.amazon.smithy.codegen.core.directed.GenerateServiceDirective;
 import software.amazon.smithy.codegen.core.directed.GenerateStructureDirective;
 import software.amazon.smithy.codegen.core.directed.GenerateUnionDirective;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.ruby.codegen.config.ClientConfig;
 import software.amazon.smithy.ruby.codegen.generators.ClientGenerator;
@@ -64,6 +69,24 @@ public class DirectedRubyCodegen
 
     private TypesFileBlockGenerator typesFileBlockGenerator;
 
+    // Set by generateError. errors.rb and errors.rbs contain every error, so
+    // they are rendered once after shape generation rather than per error.
+    private boolean hasErrorShapes;
+
+    // Records the wall time of each generator when a codegen report is enabled.
+    private final CodegenReport report;
+
+    public DirectedRubyCodegen() {
+        this(null);
+    }
+
+    /**
+     * @param report report to record generator timings in, or null
+     */
+    public DirectedRubyCodegen(CodegenReport report) {
+        this.report = report;
+    }
+
     @Override
     public SymbolProvider createSymbolProvider(CreateSymbolProviderDirective<RubySettings> directive) {
         return new RubySymbolProvider(directive.model(), directive.settings());
@@ -103,7 +126,7 @@ public class DirectedRubyCodegen
             protocol,
             protocolGenerator,
             applicationTransport,
-            collectDependencies(model, service, protocol, directive.settings(), integrations),
+            collectDependencies(model, service, protocol, directive.settings(), integrations, protocolGenerator),
             directive.symbolProvider());
 
         return context;
@@ -171,9 +194,7 @@ public class DirectedRubyCodegen
 
     @Override
     public void generateError(GenerateErrorDirective<GenerationContext, RubySettings> directive) {
-        if (directive.context().protocolGenerator().isPresent()) {
-            directive.context().protocolGenerator().get().generateErrors(directive.context());
-        }
+        hasErrorShapes = true;
         new StructureGenerator(directive).render();
     }
 
@@ -195,29 +216,55 @@ public class DirectedRubyCodegen
     @Override
     public void customizeBeforeIntegrations(CustomizeDirective<GenerationContext, RubySettings> directive) {
         GenerationContext context = directive.context();
-        new ParamsGenerator(directive).render();
-        new ValidatorsGenerator(directive).render();
-
-        if (directive.context().protocolGenerator().isPresent()) {
-            ProtocolGenerator generator = directive.context().protocolGenerator().get();
-            generator.generateBuilders(directive.context());
-            generator.generateParsers(directive.context());
-            generator.generateStubs(directive.context());
+        renderErrors(context);
+
+        ShapeClosureIndex closures = context.shapeClosureIndex();
+        ParallelGenerator parallelGenerator = new ParallelGenerator(context, report)
+                .add("params", closures::serviceClosureWithoutTraitShapes,
+                        (c) -> new ParamsGenerator(c).render())
+                .add("validators", closures::serviceClosureWithoutTraitShapes,
+                        (c) -> new ValidatorsGenerator(c).render());
+
+        if (context.protocolGenerator().isPresent()) {
+            ProtocolGenerator generator = context.protocolGenerator().get();
+            parallelGenerator
+                    .add("builders", () -> operationClosures(context, closures::inputClosure),
+                            generator::generateBuilders)
+                    .add("parsers", () -> operationClosures(context, (operation) -> {
+                        Set<Shape> shapes = new LinkedHashSet<>(closures.outputClosure(operation));
+                        shapes.addAll(closures.errorClosure(operation));
+                        return shapes;
+                    }), generator::generateParsers)
+                    .add("stubs", () -> operationClosures(context, closures::outputClosure),
+                            generator::generateStubs);
         }
 
-        PaginatorsGenerator paginatorsGenerator = new PaginatorsGenerator(directive);
-        paginatorsGenerator.render();
-        paginatorsGenerator.renderRbs();
+        parallelGenerator.add("paginators", closures::serviceClosureWithoutTraitShapes, (c) -> {
+            PaginatorsGenerator paginatorsGenerator = new PaginatorsGenerator(c);
+            paginatorsGenerator.render();
+            paginatorsGenerator.renderRbs();
+        });
+
+        if (context.applicationTransport().isHttpTransport()) {
+            parallelGenerator.add("protocol-tests", closures::serviceClosureWithoutTraitShapes,
+                    (c) -> new HttpProtocolTestGenerator(c).render());
+        }
+
+        parallelGenerator.run();
 
         new ModuleGenerator(directive).render();
         new GemspecGenerator(context).render();
         new YardOptsGenerator(context).render();
+    }
 
-        if (context.applicationTransport().isHttpTransport()) {
-            HttpProtocolTestGenerator testGenerator =
-                    new HttpProtocolTestGenerator(context);
-            testGenerator.render();
+    private Collection<Shape> operationClosures(GenerationContext context,
+                                                Function<OperationShape, Set<Shape>> closure) {
+        Set<Shape> shapes = new LinkedHashSet<>();
+        for (OperationShape operation : TopDownIndex.of(context.model()).getContainedOperations(context.service())) {
+            shapes.add(operation);
+            shapes.addAll(closure.apply(operation));
         }
+        return shapes;
     }
 
     @Override
@@ -226,12 +273,20 @@ public class DirectedRubyCodegen
         this.typesFileBlockGenerator.closeAllBlocks();
     }
 
+    private void renderErrors(GenerationContext context) {
+        if (!hasErrorShapes || context.protocolGenerator().isEmpty()) {
+            return;
+        }
+        context.protocolGenerator().get().generateErrors(context);
+    }
+
     private Set<RubyDependency> collectDependencies(
         Model model,
         ServiceShape service,
         ShapeId protocol,
         RubySettings settings,
-        List<RubyIntegration> integrations
+        List<RubyIntegration> integrations,
+        Optional<ProtocolGenerator> protocolGenerator
     ) {
         Set<RubyDependency> rubyDependencies = new HashSet<>();
         rubyDependencies.addAll(settings.getBaseDependencies());
@@ -242,6 +297,8 @@ public class DirectedRubyCodegen
                 .flatMap(Collection::stream)
                 .collect(Collectors.toSet())
         );
+        protocolGenerator.ifPresent((g) -> rubyDependencies.addAll(
+            g.additionalGemDependencies(settings, model, service, protocol)));
 
         return rubyDependencies;
     }
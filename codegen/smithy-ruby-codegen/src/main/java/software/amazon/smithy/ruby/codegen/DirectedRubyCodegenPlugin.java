@@ -15,6 +15,7 @@
 
 package software.amazon.smithy.ruby.codegen;
 
+import software.amazon.smithy.build.FileManifest;
 import software.amazon.smithy.build.PluginContext;
 import software.amazon.smithy.build.SmithyBuildPlugin;
 import software.amazon.smithy.codegen.core.ShapeGenerationOrder;
@@ -36,15 +37,28 @@ public class DirectedRubyCodegenPlugin implements SmithyBuildPlugin {
         CodegenDirector<RubyCodeWriter, RubyIntegration, GenerationContext, RubySettings> runner
                 = new CodegenDirector<>();
 
-        runner.directedCodegen(new DirectedRubyCodegen());
+        RubySettings settings = RubySettings.from(context.getSettings());
+
+        CodegenReport report = settings.isCodegenReport() ? new CodegenReport() : null;
+        DirectedRubyCodegen directedCodegen = new DirectedRubyCodegen(report);
+        if (report != null) {
+            runner.directedCodegen(new ReportingDirectedCodegen(directedCodegen, report));
+        } else {
+            runner.directedCodegen(directedCodegen);
+        }
 
         runner.integrationClass(RubyIntegration.class);
 
-        runner.fileManifest(context.getFileManifest());
+        FileManifest fileManifest = context.getFileManifest();
+        IncrementalFileManifest incrementalFileManifest = null;
+        if (settings.isIncremental()) {
+            incrementalFileManifest = new IncrementalFileManifest(fileManifest, context.getSettings());
+            fileManifest = incrementalFileManifest;
+        }
 
-        runner.model(context.getModel());
+        runner.fileManifest(fileManifest);
 
-        RubySettings settings = RubySettings.from(context.getSettings());
+        runner.model(context.getModel());
 
         runner.settings(settings);
 
@@ -57,5 +71,13 @@ public class DirectedRubyCodegenPlugin implements SmithyBuildPlugin {
         runner.shapeGenerationOrder(ShapeGenerationOrder.ALPHABETICAL);
 
         runner.run();
+
+        if (incrementalFileManifest != null) {
+            incrementalFileManifest.saveState();
+        }
+
+        if (report != null) {
+            report.write(context.getFileManifest(), settings.getService());
+        }
     }
 }
@@ -47,6 +47,7 @@ public class GenerationContext implements CodegenContext<RubySettings, RubyCodeW
     private final Set<RubyDependency> rubyDependencies;
     private final SymbolProvider symbolProvider;
     private final WriterDelegator<RubyCodeWriter> writerDelegator;
+    private final ShapeClosureIndex shapeClosureIndex;
 
     /**
      * @param rubySettings ruby settings
@@ -70,6 +71,21 @@ public class GenerationContext implements CodegenContext<RubySettings, RubyCodeW
                              ApplicationTransport applicationTransport,
                              Set<RubyDependency> rubyDependencies,
                              SymbolProvider symbolProvider) {
+        this(rubySettings, fileManifest, integrations, model, service, protocol, protocolGenerator,
+                applicationTransport, rubyDependencies, symbolProvider, new ShapeClosureIndex(model, service));
+    }
+
+    private GenerationContext(RubySettings rubySettings,
+                              FileManifest fileManifest,
+                              List<RubyIntegration> integrations,
+                              Model model,
+                              ServiceShape service,
+                              ShapeId protocol,
+                              Optional<ProtocolGenerator> protocolGenerator,
+                              ApplicationTransport applicationTransport,
+                              Set<RubyDependency> rubyDependencies,
+                              SymbolProvider symbolProvider,
+                              ShapeClosureIndex shapeClosureIndex) {
 
         this.rubySettings = rubySettings;
         this.fileManifest = fileManifest;
@@ -82,6 +98,7 @@ public class GenerationContext implements CodegenContext<RubySettings, RubyCodeW
         this.rubyDependencies = rubyDependencies;
         this.symbolProvider = symbolProvider;
         this.writerDelegator = new WriterDelegator<>(fileManifest, symbolProvider, new RubyCodeWriter.Factory());
+        this.shapeClosureIndex = shapeClosureIndex;
     }
 
     @Override
@@ -150,4 +167,23 @@ public class GenerationContext implements CodegenContext<RubySettings, RubyCodeW
     public Set<RubyDependency> getRubyDependencies() {
         return rubyDependencies;
     }
+
+    /**
+     * @return precomputed shape closures for the service
+     */
+    public ShapeClosureIndex shapeClosureIndex() {
+        return shapeClosureIndex;
+    }
+
+    /**
+     * Creates a copy of this context that writes to the given FileManifest
+     * through its own WriterDelegator.
+     *
+     * @param fileManifest file manifest for the copy to write to
+     * @return a context that shares everything but file output with this one
+     */
+    GenerationContext withFileManifest(FileManifest fileManifest) {
+        return new GenerationContext(rubySettings, fileManifest, integrations, model, service, protocol,
+                protocolGenerator, applicationTransport, rubyDependencies, symbolProvider, shapeClosureIndex);
+    }
 }
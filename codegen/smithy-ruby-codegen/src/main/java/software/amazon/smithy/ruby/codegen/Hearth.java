@@ -52,6 +52,11 @@ public final class Hearth {
             .name("Validator")
             .build();
 
+    public static final Symbol VALIDATOR_PATH = Symbol.builder()
+            .namespace("Hearth::Validator", "::")
+            .name("Path")
+            .build();
+
     public static final Symbol BLOCK_IO = Symbol.builder()
             .namespace("Hearth", "::")
             .name("BlockIO")
@@ -92,6 +97,16 @@ public final class Hearth {
             .name("JSON")
             .build();
 
+    public static final Symbol JSON_READER = Symbol.builder()
+            .namespace("Hearth::JSON", "::")
+            .name("Reader")
+            .build();
+
+    public static final Symbol JSON_WRITER = Symbol.builder()
+            .namespace("Hearth::JSON", "::")
+            .name("Writer")
+            .build();
+
     public static final Symbol NUMBER_HELPER = Symbol.builder()
             .namespace("Hearth", "::")
             .name("NumberHelper")
@@ -102,6 +117,16 @@ public final class Hearth {
             .name("Structure")
             .build();
 
+    public static final Symbol LAZY_STRUCTURE = Symbol.builder()
+            .namespace("Hearth", "::")
+            .name("LazyStructure")
+            .build();
+
+    public static final Symbol PLAIN_STRUCTURE = Symbol.builder()
+            .namespace("Hearth", "::")
+            .name("PlainStructure")
+            .build();
+
     public static final Symbol UNION = Symbol.builder()
             .namespace("Hearth", "::")
             .name("Union")
@@ -122,6 +147,11 @@ public final class Hearth {
             .name("Poller")
             .build();
 
+    public static final Symbol PATH_HELPER = Symbol.builder()
+            .namespace("Hearth::Waiters", "::")
+            .name("PathHelper")
+            .build();
+
     private Hearth() {
 
     }
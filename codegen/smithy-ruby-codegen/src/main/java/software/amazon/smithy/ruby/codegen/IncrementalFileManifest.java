@@ -0,0 +1,431 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import software.amazon.smithy.build.FileManifest;
+import software.amazon.smithy.codegen.core.CodegenException;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.Trait;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * FileManifest used for incremental code generation.
+ * <p>
+ * Files whose content is identical to the file already on disk are not
+ * rewritten, so their modification times are preserved. The content hash
+ * of every file and a fingerprint of the model closure used by each
+ * generator are kept in a state file, which allows generators whose
+ * inputs have not changed to be skipped entirely on the next run. The
+ * state file is written to the root of the plugin output, beside the gem
+ * directory rather than inside it, so it is never packaged with the gem.
+ * <p>
+ * Files written from a Reader or InputStream, such as streamed output, are
+ * spooled to a temporary file and compared by digest, so they are not held
+ * in memory.
+ */
+@SmithyInternalApi
+public final class IncrementalFileManifest implements FileManifest {
+
+    static final String STATE_FILE = ".ruby-codegen-state.json";
+
+    private static final Logger LOGGER =
+            Logger.getLogger(IncrementalFileManifest.class.getName());
+
+    private final FileManifest delegate;
+    private final String settingsFingerprint;
+    private final Map<String, String> previousHashes = new HashMap<>();
+    private final Map<String, GeneratorRecord> previousGenerators = new HashMap<>();
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+    private final Map<String, GeneratorRecord> generators = new ConcurrentHashMap<>();
+    private final AtomicInteger unchangedFiles = new AtomicInteger();
+
+    /**
+     * @param delegate FileManifest to write changed files to
+     * @param settings plugin settings, any change to them invalidates all generators
+     */
+    public IncrementalFileManifest(FileManifest delegate, ObjectNode settings) {
+        this.delegate = delegate;
+        this.settingsFingerprint = sha256(Node.printJson(settings).getBytes(StandardCharsets.UTF_8));
+        loadState();
+    }
+
+    @Override
+    public Path getBaseDir() {
+        return delegate.getBaseDir();
+    }
+
+    @Override
+    public Set<Path> getFiles() {
+        return delegate.getFiles();
+    }
+
+    @Override
+    public Path addFile(Path path) {
+        return delegate.addFile(path);
+    }
+
+    @Override
+    public Path writeFile(Path path, Reader fileContentsReader) {
+        try (Reader reader = fileContentsReader) {
+            return writeSpooled(path, (out) -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                reader.transferTo(writer);
+                writer.flush();
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Path writeFile(Path path, InputStream fileContentsInputStream) {
+        try (InputStream inputStream = fileContentsInputStream) {
+            return writeSpooled(path, inputStream::transferTo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Path writeFile(Path path, String content) {
+        return write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param generator name of the generator
+     * @param fingerprint fingerprint of the generator's inputs
+     * @return true if the generator's last run used the same inputs and
+     * all of the files it wrote are unchanged on disk.
+     */
+    public boolean isUpToDate(String generator, String fingerprint) {
+        GeneratorRecord previous = previousGenerators.get(generator);
+        if (previous == null || !previous.fingerprint.equals(fingerprint)) {
+            return false;
+        }
+        for (String file : previous.files) {
+            String hash = previousHashes.get(file);
+            Path path = getBaseDir().resolve(file);
+            if (hash == null || !Files.isRegularFile(path) || !hash.equals(sha256(path))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Keeps the files written by the last run of an up to date generator.
+     *
+     * @param generator name of the generator
+     */
+    public void skipGenerator(String generator) {
+        GeneratorRecord previous = previousGenerators.get(generator);
+        for (String file : previous.files) {
+            addFile(getBaseDir().resolve(file));
+            hashes.put(file, previousHashes.get(file));
+        }
+        generators.put(generator, previous);
+    }
+
+    /**
+     * @param generator name of the generator
+     * @param fingerprint fingerprint of the generator's inputs
+     * @param files files written by the generator, relative to the base directory
+     */
+    public void recordGenerator(String generator, String fingerprint, Collection<String> files) {
+        generators.put(generator, new GeneratorRecord(fingerprint, new ArrayList<>(files)));
+    }
+
+    /**
+     * Writes the state file used by the next incremental run.
+     */
+    public void saveState() {
+        ObjectNode.Builder files = ObjectNode.builder();
+        new TreeMap<>(hashes).forEach(files::withMember);
+
+        ObjectNode.Builder generatorRecords = ObjectNode.builder();
+        new TreeMap<>(generators).forEach((name, record) -> generatorRecords.withMember(name, ObjectNode.builder()
+                .withMember("fingerprint", record.fingerprint)
+                .withMember("files", ArrayNode.fromStrings(record.files))
+                .build()));
+
+        ObjectNode state = ObjectNode.builder()
+                .withMember("settings", settingsFingerprint)
+                .withMember("files", files.build())
+                .withMember("generators", generatorRecords.build())
+                .build();
+
+        try {
+            Files.createDirectories(getBaseDir());
+            Files.writeString(getBaseDir().resolve(STATE_FILE), Node.prettyPrintJson(state));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LOGGER.info("Incremental codegen left " + unchangedFiles.get() + " unchanged files untouched");
+    }
+
+    /**
+     * Computes a fingerprint for a set of shapes.
+     * <p>
+     * The fingerprint covers the id, type and traits of every shape and the
+     * target of every member, so it changes whenever any shape in the set
+     * changes.
+     *
+     * @param salt additional inputs to include in the fingerprint
+     * @param shapes shapes to fingerprint
+     * @return a hex encoded SHA-256 fingerprint
+     */
+    static String fingerprint(String salt, Collection<Shape> shapes) {
+        MessageDigest digest = newDigest();
+        update(digest, salt);
+        List<Shape> sorted = new ArrayList<>(shapes);
+        sorted.sort(Comparator.comparing(Shape::getId));
+        for (Shape shape : sorted) {
+            update(digest, shape.getId().toString());
+            update(digest, shape.getType().toString());
+            shape.asMemberShape().ifPresent((member) -> update(digest, member.getTarget().toString()));
+            Map<ShapeId, Trait> traits = new TreeMap<>(shape.getAllTraits());
+            traits.forEach((id, trait) -> {
+                update(digest, id.toString());
+                update(digest, Node.printJson(trait.toNode()));
+            });
+        }
+        return hex(digest.digest());
+    }
+
+    /**
+     * @param classes classes whose code should be part of a fingerprint
+     * @return a stamp of the location, size and modification time of the code
+     * the classes were loaded from. For a class directory, every file in the
+     * directory is stamped.
+     */
+    static String codeStamp(Collection<Class<?>> classes) {
+        StringBuilder stamp = new StringBuilder();
+        Map<Path, String> directoryStamps = new HashMap<>();
+        for (Class<?> clazz : classes) {
+            stamp.append(clazz.getName());
+            CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+            if (codeSource != null && codeSource.getLocation() != null) {
+                try {
+                    Path location = Paths.get(codeSource.getLocation().toURI());
+                    stamp.append('@').append(location);
+                    if (Files.isRegularFile(location)) {
+                        stamp.append(':').append(fileStamp(location));
+                    } else if (Files.isDirectory(location)) {
+                        if (!directoryStamps.containsKey(location)) {
+                            directoryStamps.put(location, directoryStamp(location));
+                        }
+                        stamp.append(':').append(directoryStamps.get(location));
+                    }
+                } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+                    stamp.append('@').append(codeSource.getLocation());
+                }
+            }
+            stamp.append('\n');
+        }
+        return stamp.toString();
+    }
+
+    private static String fileStamp(Path file) throws IOException {
+        return Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+    }
+
+    // Classes loaded from a directory, such as an IDE or Gradle build output
+    // directory, are stamped by a digest over every file in it.
+    private static String directoryStamp(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        MessageDigest digest = newDigest();
+        for (Path file : files) {
+            update(digest, directory.relativize(file).toString());
+            update(digest, fileStamp(file));
+        }
+        return hex(digest.digest());
+    }
+
+    private Path write(Path path, byte[] contents) {
+        Path resolved = resolvePath(path);
+        String file = getBaseDir().relativize(resolved).toString();
+        hashes.put(file, sha256(contents));
+
+        if (Files.isRegularFile(resolved) && Arrays.equals(readFile(resolved), contents)) {
+            unchangedFiles.incrementAndGet();
+            LOGGER.finer("Skipping unchanged file " + file);
+            return addFile(resolved);
+        }
+        return delegate.writeFile(resolved, new ByteArrayInputStream(contents));
+    }
+
+    // Streamed contents are spooled to a temporary file while they are
+    // hashed, so that large files are never held in memory. The file on
+    // disk is then compared by digest rather than by content.
+    private Path writeSpooled(Path path, ContentsWriter contents) throws IOException {
+        Path resolved = resolvePath(path);
+        String file = getBaseDir().relativize(resolved).toString();
+        Path spool = Files.createTempFile("smithy-ruby-", ".spool");
+        try {
+            MessageDigest digest = newDigest();
+            try (OutputStream out = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(spool)), digest)) {
+                contents.writeTo(out);
+            }
+            String hash = hex(digest.digest());
+            hashes.put(file, hash);
+
+            if (Files.isRegularFile(resolved) && Files.size(resolved) == Files.size(spool)
+                    && hash.equals(sha256(resolved))) {
+                unchangedFiles.incrementAndGet();
+                LOGGER.finer("Skipping unchanged file " + file);
+                return addFile(resolved);
+            }
+            try (InputStream in = Files.newInputStream(spool)) {
+                return delegate.writeFile(resolved, in);
+            }
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+
+    private void loadState() {
+        Path stateFile = getBaseDir().resolve(STATE_FILE);
+        if (!Files.isRegularFile(stateFile)) {
+            LOGGER.info("No incremental codegen state found, generating all files");
+            return;
+        }
+
+        ObjectNode state;
+        try {
+            state = Node.parse(Files.readString(stateFile)).expectObjectNode();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Ignoring unreadable incremental codegen state " + stateFile + ": " + e.getMessage());
+            return;
+        }
+
+        state.getObjectMember("files").ifPresent((files) -> files.getMembers().forEach((file, hash) ->
+                previousHashes.put(file.getValue(), hash.expectStringNode().getValue())));
+
+        if (!settingsFingerprint.equals(state.getStringMemberOrDefault("settings", ""))) {
+            LOGGER.info("Plugin settings changed, regenerating all files");
+            return;
+        }
+
+        state.getObjectMember("generators").ifPresent((records) -> records.getMembers().forEach((name, record) -> {
+            ObjectNode recordNode = record.expectObjectNode();
+            List<String> files = new ArrayList<>();
+            recordNode.expectArrayMember("files").getElements()
+                    .forEach((f) -> files.add(f.expectStringNode().getValue()));
+            previousGenerators.put(name.getValue(), new GeneratorRecord(
+                    recordNode.expectStringMember("fingerprint").getValue(), files));
+        }));
+    }
+
+    private static byte[] readFile(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        return hex(newDigest().digest(bytes));
+    }
+
+    private static String sha256(Path path) {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return hex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new CodegenException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    @FunctionalInterface
+    private interface ContentsWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private static final class GeneratorRecord {
+        private final String fingerprint;
+        private final List<String> files;
+
+        private GeneratorRecord(String fingerprint, List<String> files) {
+            this.fingerprint = fingerprint;
+            this.files = Collections.unmodifiableList(files);
+        }
+    }
+}
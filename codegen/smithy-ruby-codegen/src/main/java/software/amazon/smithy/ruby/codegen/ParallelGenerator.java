@@ -0,0 +1,217 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import software.amazon.smithy.build.FileManifest;
+import software.amazon.smithy.codegen.core.CodegenException;
+import software.amazon.smithy.model.shapes.Shape;
+
+/**
+ * Runs generators that each own their output files.
+ * <p>
+ * When parallel generation is enabled, every generator runs on a worker
+ * thread against a copy of the context with its own FileManifest, backed by
+ * a temporary directory, and WriterDelegator, so no writer or manifest is
+ * shared between threads. Once all generators have finished, their files
+ * are streamed to the real FileManifest in the order the generators were
+ * added, which keeps the output identical to sequential generation.
+ * <p>
+ * When incremental generation is enabled, each generator is fingerprinted
+ * by the model closure it reads from and is skipped if neither the
+ * fingerprint nor its previously written files have changed.
+ * <p>
+ * When a CodegenReport is given, the wall time and closure size of every
+ * generator that runs is recorded in it.
+ */
+final class ParallelGenerator {
+
+    private static final Logger LOGGER =
+            Logger.getLogger(ParallelGenerator.class.getName());
+
+    private final GenerationContext context;
+    private final CodegenReport report;
+    private final List<Task> tasks = new ArrayList<>();
+
+    ParallelGenerator(GenerationContext context, CodegenReport report) {
+        this.context = context;
+        this.report = report;
+    }
+
+    /**
+     * @param name unique name of the generator
+     * @param closure shapes the output of the generator depends on
+     * @param generator a generator that writes files no other generator writes
+     * @return this ParallelGenerator
+     */
+    ParallelGenerator add(String name, Supplier<Collection<Shape>> closure,
+                          Consumer<GenerationContext> generator) {
+        tasks.add(new Task(name, closure, generator));
+        return this;
+    }
+
+    /**
+     * Runs all generators, concurrently if enabled in the settings,
+     * and returns once all of their files have been written.
+     */
+    void run() {
+        IncrementalFileManifest incremental = context.fileManifest() instanceof IncrementalFileManifest m ? m : null;
+        List<Task> pending = incremental == null ? tasks : outOfDate(incremental);
+
+        if (incremental == null && (!context.settings().isParallelGeneration() || pending.size() < 2)) {
+            pending.forEach((task) -> generate(task, context));
+            return;
+        }
+
+        if (!context.settings().isParallelGeneration() || pending.size() < 2) {
+            for (Task task : pending) {
+                writeFiles(task, generateIsolated(task), incremental);
+            }
+            return;
+        }
+
+        int threads = Math.min(pending.size(), Runtime.getRuntime().availableProcessors());
+        LOGGER.fine("Running " + pending.size() + " generators on " + threads + " threads");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<FileManifest>> results = new ArrayList<>();
+            for (Task task : pending) {
+                results.add(executor.submit(() -> generateIsolated(task)));
+            }
+            for (int i = 0; i < pending.size(); i++) {
+                writeFiles(pending.get(i), results.get(i).get(), incremental);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CodegenException("Interrupted while generating files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CodegenException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Task> outOfDate(IncrementalFileManifest incremental) {
+        List<Class<?>> codegenClasses = new ArrayList<>();
+        codegenClasses.add(ParallelGenerator.class);
+        context.protocolGenerator().ifPresent((generator) -> codegenClasses.add(generator.getClass()));
+        context.integrations().forEach((integration) -> codegenClasses.add(integration.getClass()));
+        String salt = IncrementalFileManifest.fingerprint(
+                IncrementalFileManifest.codeStamp(codegenClasses), List.of(context.service()));
+
+        List<Task> pending = new ArrayList<>();
+        for (Task task : tasks) {
+            task.fingerprint = IncrementalFileManifest.fingerprint(salt, task.closure.get());
+            if (incremental.isUpToDate(task.name, task.fingerprint)) {
+                LOGGER.info("Skipping up to date generator " + task.name);
+                incremental.skipGenerator(task.name);
+                if (report != null) {
+                    report.generatorSkipped(task.name);
+                }
+            } else {
+                pending.add(task);
+            }
+        }
+        return pending;
+    }
+
+    private FileManifest generateIsolated(Task task) {
+        FileManifest manifest;
+        try {
+            manifest = FileManifest.create(Files.createTempDirectory("smithy-ruby-"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        GenerationContext isolatedContext = context.withFileManifest(manifest);
+        generate(task, isolatedContext);
+        isolatedContext.writerDelegator().flushWriters();
+        return manifest;
+    }
+
+    private void generate(Task task, GenerationContext generationContext) {
+        if (report == null) {
+            task.generator.accept(generationContext);
+            return;
+        }
+        report.generator(task.name, task.closure.get().size(), () -> task.generator.accept(generationContext));
+    }
+
+    private void writeFiles(Task task, FileManifest manifest, IncrementalFileManifest incremental) {
+        FileManifest fileManifest = context.fileManifest();
+        List<String> fileNames = new ArrayList<>();
+        try {
+            for (Path file : new TreeSet<>(manifest.getFiles())) {
+                String fileName = manifest.getBaseDir().relativize(file).toString();
+                try (InputStream contents = Files.newInputStream(file)) {
+                    fileManifest.writeFile(Paths.get(fileName), contents);
+                }
+                fileNames.add(fileName);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            delete(manifest.getBaseDir());
+        }
+        if (incremental != null) {
+            incremental.recordGenerator(task.name, task.fingerprint, fileNames);
+        }
+    }
+
+    private static void delete(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Unable to delete " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private static final class Task {
+        private final String name;
+        private final Supplier<Collection<Shape>> closure;
+        private final Consumer<GenerationContext> generator;
+        private String fingerprint;
+
+        private Task(String name, Supplier<Collection<Shape>> closure, Consumer<GenerationContext> generator) {
+            this.name = name;
+            this.closure = closure;
+            this.generator = generator;
+        }
+    }
+}
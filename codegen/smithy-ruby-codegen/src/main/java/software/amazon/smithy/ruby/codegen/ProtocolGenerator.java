@@ -70,7 +70,8 @@ public interface ProtocolGenerator {
     void generateParsers(GenerationContext context);
 
     /**
-     * Called to generate errors.
+     * Called once per service, after all error shapes have been
+     * generated, to generate errors.
      * Errors must be written to errors.rb and
      * should define a class for each modeled error
      * as well as classes for ApiError, ApiServiceError,
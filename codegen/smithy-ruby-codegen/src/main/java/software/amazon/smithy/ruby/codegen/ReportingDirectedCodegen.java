@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen;
+
+import software.amazon.smithy.codegen.core.SymbolProvider;
+import software.amazon.smithy.codegen.core.directed.CreateContextDirective;
+import software.amazon.smithy.codegen.core.directed.CreateSymbolProviderDirective;
+import software.amazon.smithy.codegen.core.directed.CustomizeDirective;
+import software.amazon.smithy.codegen.core.directed.DirectedCodegen;
+import software.amazon.smithy.codegen.core.directed.GenerateEnumDirective;
+import software.amazon.smithy.codegen.core.directed.GenerateErrorDirective;
+import software.amazon.smithy.codegen.core.directed.GenerateIntEnumDirective;
+import software.amazon.smithy.codegen.core.directed.GenerateServiceDirective;
+import software.amazon.smithy.codegen.core.directed.GenerateStructureDirective;
+import software.amazon.smithy.codegen.core.directed.GenerateUnionDirective;
+
+/**
+ * Records every directive of a DirectedRubyCodegen in a CodegenReport.
+ */
+final class ReportingDirectedCodegen
+        implements DirectedCodegen<GenerationContext, RubySettings, RubyIntegration> {
+
+    private final DirectedRubyCodegen delegate;
+    private final CodegenReport report;
+
+    ReportingDirectedCodegen(DirectedRubyCodegen delegate, CodegenReport report) {
+        this.delegate = delegate;
+        this.report = report;
+    }
+
+    @Override
+    public SymbolProvider createSymbolProvider(CreateSymbolProviderDirective<RubySettings> directive) {
+        SymbolProvider symbolProvider = report.directive("createSymbolProvider", 0,
+                () -> delegate.createSymbolProvider(directive));
+        report.symbolProvider(symbolProvider);
+        return symbolProvider;
+    }
+
+    @Override
+    public GenerationContext createContext(CreateContextDirective<RubySettings, RubyIntegration> directive) {
+        return report.directive("createContext", 0, () -> delegate.createContext(directive));
+    }
+
+    @Override
+    public void generateService(GenerateServiceDirective<GenerationContext, RubySettings> directive) {
+        report.directive("generateService", 1, () -> delegate.generateService(directive));
+    }
+
+    @Override
+    public void customizeBeforeShapeGeneration(CustomizeDirective<GenerationContext, RubySettings> directive) {
+        report.directive("customizeBeforeShapeGeneration", 0,
+                () -> delegate.customizeBeforeShapeGeneration(directive));
+    }
+
+    @Override
+    public void generateStructure(GenerateStructureDirective<GenerationContext, RubySettings> directive) {
+        report.directive("generateStructure", 1, () -> delegate.generateStructure(directive));
+    }
+
+    @Override
+    public void generateError(GenerateErrorDirective<GenerationContext, RubySettings> directive) {
+        report.directive("generateError", 1, () -> delegate.generateError(directive));
+    }
+
+    @Override
+    public void generateUnion(GenerateUnionDirective<GenerationContext, RubySettings> directive) {
+        report.directive("generateUnion", 1, () -> delegate.generateUnion(directive));
+    }
+
+    @Override
+    public void generateEnumShape(GenerateEnumDirective<GenerationContext, RubySettings> directive) {
+        report.directive("generateEnumShape", 1, () -> delegate.generateEnumShape(directive));
+    }
+
+    @Override
+    public void generateIntEnumShape(GenerateIntEnumDirective<GenerationContext, RubySettings> directive) {
+        report.directive("generateIntEnumShape", 1, () -> delegate.generateIntEnumShape(directive));
+    }
+
+    @Override
+    public void customizeBeforeIntegrations(CustomizeDirective<GenerationContext, RubySettings> directive) {
+        report.directive("customizeBeforeIntegrations", 0,
+                () -> delegate.customizeBeforeIntegrations(directive));
+    }
+
+    @Override
+    public void customizeAfterIntegrations(CustomizeDirective<GenerationContext, RubySettings> directive) {
+        report.directive("customizeAfterIntegrations", 0,
+                () -> delegate.customizeAfterIntegrations(directive));
+    }
+}
@@ -15,13 +15,29 @@
 
 package software.amazon.smithy.ruby.codegen;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.Stack;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import software.amazon.smithy.build.FileManifest;
 import software.amazon.smithy.codegen.core.CodegenException;
 import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.SymbolReference;
@@ -46,11 +62,15 @@ public class RubyCodeWriter extends SymbolWriter<RubyCodeWriter, RubyImportConta
                     #
                     # WARNING ABOUT GENERATED CODE
                     """;
+    // Marks where rendered top-level blocks are inserted into a file.
+    private static final String SPILLED_BLOCKS = "__smithy_ruby_spilled_blocks__";
     private final String namespace;
     private boolean includePreamble = false;
     private boolean includeRequires = false;
     private Stack<String> modules = new Stack<>();
     private Set<String> modulesSet = new HashSet<>();
+    private BlockSpill blockSpill;
+    private BlockFiles blockFiles;
 
     /**
      * @param namespace namespace to write in
@@ -324,6 +344,165 @@ public class RubyCodeWriter extends SymbolWriter<RubyCodeWriter, RubyImportConta
         return this;
     }
 
+    /**
+     * Configures how top-level blocks are written from the settings. Files
+     * are split per shape if enabled, otherwise blocks are streamed if
+     * enabled, otherwise they are written to this writer.
+     *
+     * @param settings ruby settings
+     * @param fileManifest manifest per shape files are written to
+     * @param layer name of the layer, used as directory for per shape files
+     * @param modules modules the top-level blocks are nested in
+     * @return Returns the CodeWriter
+     */
+    public RubyCodeWriter configureTopLevelBlocks(RubySettings settings, FileManifest fileManifest,
+                                                  String layer, String... modules) {
+        if (settings.isPerShapeFiles()) {
+            return splitTopLevelBlocks(fileManifest, settings.getGemName() + "/lib/" + settings.getGemName(),
+                    layer, List.of(modules));
+        }
+        if (settings.isStreamingOutput()) {
+            return streamTopLevelBlocks(modules.length);
+        }
+        return this;
+    }
+
+    /**
+     * Enables streaming of top-level blocks.
+     * <p>
+     * In streaming mode every block written with {@link #writeTopLevelBlock}
+     * is rendered by its own writer and appended to a temporary file as soon
+     * as it is finished, so this writer only holds the surrounding module
+     * blocks. Use {@link #writeTo} to write the complete file.
+     *
+     * @param indentLevel indentation level of the top-level blocks
+     * @return Returns the CodeWriter
+     */
+    public RubyCodeWriter streamTopLevelBlocks(int indentLevel) {
+        if (blockSpill == null) {
+            blockSpill = new BlockSpill(indentLevel);
+        }
+        return this;
+    }
+
+    /**
+     * Enables writing each top-level block to its own file.
+     * <p>
+     * Every block written with {@link #writeTopLevelBlock} is written to
+     * {@code <libDirectory>/<layer>/<snake_case_constant>.rb}, nested in the
+     * given modules, and this writer registers its constant with autoload.
+     *
+     * @param fileManifest manifest to write the files to
+     * @param libDirectory directory the layer file is in
+     * @param layer name of the layer, used as directory for the files
+     * @param modules modules the top-level blocks are nested in
+     * @return Returns the CodeWriter
+     */
+    public RubyCodeWriter splitTopLevelBlocks(FileManifest fileManifest, String libDirectory, String layer,
+                                              List<String> modules) {
+        blockFiles = new BlockFiles(fileManifest, libDirectory, layer, modules);
+        return this;
+    }
+
+    /**
+     * Writes a top-level block, such as the class generated for one shape.
+     * <p>
+     * The block is always written by this writer, which is passed to the
+     * consumer. By default it stays in this writer. With streaming it is
+     * spilled once the consumer returns. With per shape files it is written
+     * to its own file, with the requires it added, and autoloaded. Top-level
+     * blocks must be written one after the other, without other content in
+     * between.
+     *
+     * @param constant name of the constant the block defines
+     * @param block writes the block to the given writer
+     * @return Returns the CodeWriter
+     */
+    public RubyCodeWriter writeTopLevelBlock(String constant, Consumer<RubyCodeWriter> block) {
+        if (blockFiles != null) {
+            RubyImportContainer blockImports = new RubyImportContainer(namespace);
+            String[] content = new String[1];
+            getImportContainer().redirect(blockImports,
+                    () -> content[0] = captureBlock(blockFiles.modules.size(), block));
+            if (!content[0].isBlank()) {
+                String file = RubyFormatter.toSnakeCase(constant);
+                blockFiles.write(file, content[0], blockImports);
+                write("autoload :$L, File.expand_path('$L/$L', __dir__)", constant, blockFiles.layer, file);
+            }
+            return this;
+        }
+        if (blockSpill == null) {
+            block.accept(this);
+            return this;
+        }
+        if (!blockSpill.started) {
+            blockSpill.started = true;
+            write(SPILLED_BLOCKS);
+        }
+        String content = captureBlock(blockSpill.indentLevel, block);
+        if (!content.isBlank()) {
+            blockSpill.append(content);
+        }
+        return this;
+    }
+
+    // Renders a block with this writer and returns it, indented to the given
+    // level, instead of keeping it in this writer. Blank lines are not
+    // indented, the same as for content kept in this writer.
+    private String captureBlock(int indentLevel, Consumer<RubyCodeWriter> block) {
+        StringBuilder captured = new StringBuilder();
+        pushFilteredState((content) -> {
+            captured.append(content);
+            return "";
+        });
+        block.accept(this);
+        popState();
+
+        String indent = getIndentText().repeat(indentLevel);
+        StringBuilder result = new StringBuilder(captured.length() + 256);
+        captured.toString().lines().forEach((line) -> {
+            if (!line.isEmpty()) {
+                result.append(indent).append(line);
+            }
+            result.append('\n');
+        });
+        return result.toString();
+    }
+
+    /**
+     * Writes the contents of this writer, including any spilled top-level
+     * blocks, to a file.
+     *
+     * @param fileManifest manifest to write to
+     * @param fileName name of the file to write
+     */
+    public void writeTo(FileManifest fileManifest, String fileName) {
+        if (blockSpill == null) {
+            fileManifest.writeFile(fileName, toString());
+            return;
+        }
+
+        String[] parts = splitAtMarker(toString());
+        if (parts.length == 1) {
+            blockSpill.delete();
+            fileManifest.writeFile(fileName, parts[0]);
+            return;
+        }
+        blockSpill.writeTo(fileManifest, fileName,
+                parts[0].getBytes(StandardCharsets.UTF_8), parts[1].getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Splits content around the line holding the block marker.
+    private static String[] splitAtMarker(String content) {
+        int marker = content.indexOf(SPILLED_BLOCKS);
+        if (marker < 0) {
+            return new String[]{content};
+        }
+        int lineStart = content.lastIndexOf('\n', marker) + 1;
+        int lineEnd = content.indexOf('\n', marker) + 1;
+        return new String[]{content.substring(0, lineStart), content.substring(lineEnd)};
+    }
+
     @Override
     public String toString() {
         StringBuilder result = new StringBuilder();
@@ -366,6 +545,84 @@ public class RubyCodeWriter extends SymbolWriter<RubyCodeWriter, RubyImportConta
         return namespace;
     }
 
+    // Writes top-level blocks to one file per constant.
+    private final class BlockFiles {
+        private final FileManifest fileManifest;
+        private final String libDirectory;
+        private final String layer;
+        private final List<String> modules;
+
+        private BlockFiles(FileManifest fileManifest, String libDirectory, String layer, List<String> modules) {
+            this.fileManifest = fileManifest;
+            this.libDirectory = libDirectory;
+            this.layer = layer;
+            this.modules = modules;
+        }
+
+        private void write(String file, String content, RubyImportContainer blockImports) {
+            RubyCodeWriter fileWriter = new RubyCodeWriter(namespace).includePreamble().includeRequires();
+            fileWriter.getImportContainer().importAll(blockImports);
+            modules.forEach((module) -> fileWriter.openBlock("module $L", module));
+            fileWriter.write(SPILLED_BLOCKS);
+            modules.forEach((module) -> fileWriter.closeBlock("end"));
+
+            String[] parts = splitAtMarker(fileWriter.toString());
+            fileManifest.writeFile(libDirectory + "/" + layer + "/" + file + ".rb", parts[0] + content + parts[1]);
+        }
+    }
+
+    // Temporary file holding the top-level blocks spilled in streaming mode.
+    private static final class BlockSpill {
+        private final int indentLevel;
+        private final Path file;
+        private final Writer out;
+        private boolean started;
+
+        private BlockSpill(int indentLevel) {
+            this.indentLevel = indentLevel;
+            try {
+                this.file = Files.createTempFile("smithy-ruby-", ".rb");
+                FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                this.out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), 64 * 1024);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void append(String block) {
+            try {
+                out.write(block);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeTo(FileManifest fileManifest, String fileName, byte[] prefix, byte[] suffix) {
+            try {
+                out.close();
+                try (InputStream blocks = Files.newInputStream(file)) {
+                    InputStream contents = new SequenceInputStream(new ByteArrayInputStream(prefix),
+                            new SequenceInputStream(blocks, new ByteArrayInputStream(suffix)));
+                    fileManifest.writeFile(Paths.get(fileName), contents);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                delete();
+            }
+        }
+
+        private void delete() {
+            try {
+                out.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
     /**
      * RubyCodeWriter factory.
      */
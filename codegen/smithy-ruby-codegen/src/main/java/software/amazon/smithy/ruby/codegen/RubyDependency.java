@@ -44,6 +44,13 @@ public final class RubyDependency
             .version("~> 1.0.0.pre1")
             .build();
 
+    public static final RubyDependency OJ = new Builder()
+            .type(Type.DEPENDENCY)
+            .importPath("oj")
+            .gemName("oj")
+            .version("~> 3.13")
+            .build();
+
     public static final RubyDependency TIME = new Builder()
             .type(Type.STANDARD_LIBRARY)
             .importPath("time")
@@ -15,6 +15,8 @@
 
 package software.amazon.smithy.ruby.codegen;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.smithy.utils.SmithyUnstableApi;
 
 /**
@@ -23,6 +25,12 @@ import software.amazon.smithy.utils.SmithyUnstableApi;
 @SmithyUnstableApi
 public final class RubyFormatter {
 
+    // Upper bound on cached snake_case names. Once full, names are still
+    // converted but no longer cached.
+    private static final int SNAKE_CASE_CACHE_SIZE = 16384;
+
+    private static final Map<String, String> SNAKE_CASE_CACHE = new ConcurrentHashMap<>();
+
     private RubyFormatter() {
 
     }
@@ -44,11 +52,53 @@ public final class RubyFormatter {
      * @return String formatted in snake_case
      */
     public static String toSnakeCase(String s) {
-        return s
-                .replaceAll("([A-Z\\d]+)([A-Z][a-z])", "$1_$2")
-                .replaceAll("([a-z\\d])([A-Z])", "$1_$2")
-                .replace('-', '_')
-                .toLowerCase();
+        String cached = SNAKE_CASE_CACHE.get(s);
+        if (cached != null) {
+            return cached;
+        }
+        String snakeCase = convertToSnakeCase(s);
+        if (SNAKE_CASE_CACHE.size() < SNAKE_CASE_CACHE_SIZE) {
+            SNAKE_CASE_CACHE.putIfAbsent(s, snakeCase);
+        }
+        return snakeCase;
+    }
+
+    // Single pass equivalent of:
+    //   s.replaceAll("([A-Z\\d]+)([A-Z][a-z])", "$1_$2")
+    //    .replaceAll("([a-z\\d])([A-Z])", "$1_$2")
+    //    .replace('-', '_')
+    //    .toLowerCase()
+    // An underscore goes before an uppercase letter that follows a lowercase
+    // letter or digit, or that ends a run of uppercase letters and digits and
+    // is followed by a lowercase letter.
+    private static String convertToSnakeCase(String s) {
+        int length = s.length();
+        char[] result = new char[length * 2];
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (i > 0 && isUpper(c)) {
+                char previous = s.charAt(i - 1);
+                if (isLower(previous) || isDigit(previous)
+                        || (isUpper(previous) && i + 1 < length && isLower(s.charAt(i + 1)))) {
+                    result[size++] = '_';
+                }
+            }
+            result[size++] = c == '-' ? '_' : c;
+        }
+        return new String(result, 0, size).toLowerCase();
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     public static String prefixLeadingInvalidIdentCharacters(String value, String prefix) {
@@ -58,6 +58,7 @@ public class RubyImportContainer
 
     private final String namespace;
     private final Set<String> requires = new TreeSet<>();
+    private RubyImportContainer redirect;
 
 
     public RubyImportContainer(String namespace) {
@@ -75,11 +76,37 @@ public class RubyImportContainer
     }
 
     public void importDependency(SymbolDependency dependency) {
-        if (shouldRequire(dependency.getDependencyType())) {
+        if (redirect != null) {
+            redirect.importDependency(dependency);
+        } else if (shouldRequire(dependency.getDependencyType())) {
             requires.add(dependency.getPackageName());
         }
     }
 
+    /**
+     * Adds the requires imported while a task runs to another container
+     * instead of this one.
+     *
+     * @param target import container to add requires to
+     * @param task task to run
+     */
+    public void redirect(RubyImportContainer target, Runnable task) {
+        RubyImportContainer previous = redirect;
+        redirect = target;
+        try {
+            task.run();
+        } finally {
+            redirect = previous;
+        }
+    }
+
+    /**
+     * @param other import container whose requires are added to this one
+     */
+    public void importAll(RubyImportContainer other) {
+        requires.addAll(other.requires);
+    }
+
     private boolean shouldRequire(String dependencyType) {
         return dependencyType.equals(RubyDependency.Type.DEPENDENCY.toString())
                 || dependencyType.equals(RubyDependency.Type.STANDARD_LIBRARY.toString());
@@ -40,12 +40,34 @@ public final class RubySettings {
     private static final String GEM_NAME = "gemName";
     private static final String GEM_VERSION = "gemVersion";
     private static final String GEM_SUMMARY = "gemSummary";
+    private static final String PARALLEL_GENERATION = "parallelGeneration";
+    private static final String INCREMENTAL = "incremental";
+    private static final String STREAMING_OUTPUT = "streamingOutput";
+    private static final String PER_SHAPE_FILES = "perShapeFiles";
+    private static final String CODEGEN_REPORT = "codegenReport";
+    private static final String STREAMING_JSON_BUILDERS = "streamingJsonBuilders";
+    private static final String JSON_ENGINE = "jsonEngine";
+    private static final String STREAMING_JSON_PARSERS = "streamingJsonParsers";
+    private static final String FUSED_VALIDATION = "fusedValidation";
+    private static final String PLAIN_TYPES = "plainTypes";
+    private static final String LAZY_JSON_PARSERS = "lazyJsonParsers";
 
     private ShapeId service;
     private String module;
     private String gemName;
     private String gemVersion;
     private String gemSummary;
+    private boolean parallelGeneration;
+    private boolean incremental;
+    private boolean streamingOutput;
+    private boolean perShapeFiles;
+    private boolean codegenReport;
+    private boolean streamingJsonBuilders;
+    private String jsonEngine;
+    private boolean streamingJsonParsers;
+    private boolean fusedValidation;
+    private boolean plainTypes;
+    private boolean lazyJsonParsers;
 
     /**
      * Create a settings object from a configuration object node.
@@ -56,7 +78,10 @@ public final class RubySettings {
     public static RubySettings from(ObjectNode config) {
         RubySettings settings = new RubySettings();
         config.warnIfAdditionalProperties(
-                Arrays.asList(SERVICE, MODULE, GEMSPEC, GEM_NAME, GEM_VERSION, GEM_SUMMARY));
+                Arrays.asList(SERVICE, MODULE, GEMSPEC, GEM_NAME, GEM_VERSION, GEM_SUMMARY,
+                        PARALLEL_GENERATION, INCREMENTAL, STREAMING_OUTPUT, PER_SHAPE_FILES,
+                        CODEGEN_REPORT, STREAMING_JSON_BUILDERS, JSON_ENGINE, STREAMING_JSON_PARSERS,
+                        FUSED_VALIDATION, PLAIN_TYPES, LAZY_JSON_PARSERS));
 
         settings.setService(config.expectStringMember(SERVICE).expectShapeId());
         // module and namespace
@@ -66,6 +91,18 @@ public final class RubySettings {
         settings.setGemName(gemspec.expectStringMember(GEM_NAME).getValue());
         settings.setGemVersion(gemspec.expectStringMember(GEM_VERSION).getValue());
         settings.setGemSummary(gemspec.expectStringMember(GEM_SUMMARY).getValue());
+        // optional codegen behavior
+        settings.setParallelGeneration(config.getBooleanMemberOrDefault(PARALLEL_GENERATION, false));
+        settings.setIncremental(config.getBooleanMemberOrDefault(INCREMENTAL, false));
+        settings.setStreamingOutput(config.getBooleanMemberOrDefault(STREAMING_OUTPUT, false));
+        settings.setPerShapeFiles(config.getBooleanMemberOrDefault(PER_SHAPE_FILES, false));
+        settings.setCodegenReport(config.getBooleanMemberOrDefault(CODEGEN_REPORT, false));
+        settings.setStreamingJsonBuilders(config.getBooleanMemberOrDefault(STREAMING_JSON_BUILDERS, false));
+        settings.setJsonEngine(config.getStringMemberOrDefault(JSON_ENGINE, "stdlib"));
+        settings.setStreamingJsonParsers(config.getBooleanMemberOrDefault(STREAMING_JSON_PARSERS, false));
+        settings.setFusedValidation(config.getBooleanMemberOrDefault(FUSED_VALIDATION, false));
+        settings.setPlainTypes(config.getBooleanMemberOrDefault(PLAIN_TYPES, false));
+        settings.setLazyJsonParsers(config.getBooleanMemberOrDefault(LAZY_JSON_PARSERS, false));
 
         LOGGER.info("Created Ruby Settings: " + settings);
 
@@ -142,6 +179,178 @@ public final class RubySettings {
         this.gemSummary = gemSummary;
     }
 
+    /**
+     * @return true if independent files should be generated concurrently.
+     */
+    public boolean isParallelGeneration() {
+        return parallelGeneration;
+    }
+
+    /**
+     * @param parallelGeneration true to generate independent files concurrently.
+     */
+    public void setParallelGeneration(boolean parallelGeneration) {
+        this.parallelGeneration = parallelGeneration;
+    }
+
+    /**
+     * @return true if unchanged files and generators should be skipped.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * @param incremental true to skip unchanged files and generators.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * @return true if large generated files should be spilled to disk block by block.
+     */
+    public boolean isStreamingOutput() {
+        return streamingOutput;
+    }
+
+    /**
+     * @param streamingOutput true to spill large generated files to disk block by block.
+     */
+    public void setStreamingOutput(boolean streamingOutput) {
+        this.streamingOutput = streamingOutput;
+    }
+
+    /**
+     * @return true if builders, parsers, stubs, params and validators should be
+     * generated as one autoloaded file per shape.
+     */
+    public boolean isPerShapeFiles() {
+        return perShapeFiles;
+    }
+
+    /**
+     * @param perShapeFiles true to generate one autoloaded file per shape.
+     */
+    public void setPerShapeFiles(boolean perShapeFiles) {
+        this.perShapeFiles = perShapeFiles;
+    }
+
+    /**
+     * @return true if a timing and throughput report should be written next to the generated gem.
+     */
+    public boolean isCodegenReport() {
+        return codegenReport;
+    }
+
+    /**
+     * @param codegenReport true to write a timing and throughput report next to the generated gem.
+     */
+    public void setCodegenReport(boolean codegenReport) {
+        this.codegenReport = codegenReport;
+    }
+
+    /**
+     * @return true if JSON builders should write request bodies directly to a
+     * JSON writer instead of building an intermediate Hash.
+     */
+    public boolean isStreamingJsonBuilders() {
+        return streamingJsonBuilders;
+    }
+
+    /**
+     * @param streamingJsonBuilders true to write JSON request bodies directly to a JSON writer.
+     */
+    public void setStreamingJsonBuilders(boolean streamingJsonBuilders) {
+        this.streamingJsonBuilders = streamingJsonBuilders;
+    }
+
+    /**
+     * @return the default JSON engine used by generated clients (eg: stdlib or oj).
+     */
+    public String getJsonEngine() {
+        return jsonEngine;
+    }
+
+    /**
+     * @param jsonEngine the default JSON engine used by generated clients.
+     */
+    public void setJsonEngine(String jsonEngine) {
+        this.jsonEngine = jsonEngine;
+    }
+
+    /**
+     * The HTTP client still reads the whole response body into a StringIO
+     * before it is parsed, so this saves building the parsed document, not
+     * holding the body. Paginated items are delivered at least once: items
+     * yielded for an attempt that is retried are yielded again.
+     *
+     * @return true if JSON parsers should read response bodies incrementally
+     * and yield paginated items as they are decoded.
+     */
+    public boolean isStreamingJsonParsers() {
+        return streamingJsonParsers;
+    }
+
+    /**
+     * @param streamingJsonParsers true to read JSON response bodies incrementally.
+     */
+    public void setStreamingJsonParsers(boolean streamingJsonParsers) {
+        this.streamingJsonParsers = streamingJsonParsers;
+    }
+
+    /**
+     * @return true if Params should validate input while building it,
+     * instead of walking the built input again in the Validate middleware.
+     * This is done only when the Validate middleware is the first middleware
+     * of the operation's stack. When other middleware runs before it (for
+     * example {@code before_validate} handlers) or it is removed, the input is
+     * built without validation and the Validate middleware validates it as
+     * before.
+     */
+    public boolean isFusedValidation() {
+        return fusedValidation;
+    }
+
+    /**
+     * @param fusedValidation true to validate input while building Params.
+     */
+    public void setFusedValidation(boolean fusedValidation) {
+        this.fusedValidation = fusedValidation;
+    }
+
+    /**
+     * @return true if structure Types should be generated as plain classes
+     * with instance variables instead of keyword_init Structs. Plain classes
+     * are not faster to parse into on every Ruby implementation; compare the
+     * two with hearth/benchmark/plain_structure.rb before enabling this.
+     */
+    public boolean isPlainTypes() {
+        return plainTypes;
+    }
+
+    /**
+     * @param plainTypes true to generate structure Types as plain classes.
+     */
+    public void setPlainTypes(boolean plainTypes) {
+        this.plainTypes = plainTypes;
+    }
+
+    /**
+     * @return true if JSON parsers should keep the decoded response and
+     * convert nested members of parsed Types the first time they are read.
+     */
+    public boolean isLazyJsonParsers() {
+        return lazyJsonParsers;
+    }
+
+    /**
+     * @param lazyJsonParsers true to convert members of parsed Types lazily.
+     */
+    public void setLazyJsonParsers(boolean lazyJsonParsers) {
+        this.lazyJsonParsers = lazyJsonParsers;
+    }
+
     /**
      * @return default/base dependencies to include.
      */
@@ -15,6 +15,9 @@
 
 package software.amazon.smithy.ruby.codegen;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import software.amazon.smithy.codegen.core.ReservedWordSymbolProvider;
 import software.amazon.smithy.codegen.core.ReservedWords;
 import software.amazon.smithy.codegen.core.ReservedWordsBuilder;
@@ -40,6 +43,7 @@ import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.ResourceShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
 import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.ShapeVisitor;
 import software.amazon.smithy.model.shapes.ShortShape;
 import software.amazon.smithy.model.shapes.StringShape;
@@ -52,6 +56,11 @@ import software.amazon.smithy.utils.StringUtils;
 
 /**
  * Ruby implementation of SymbolProvider.
+ * <p>
+ * Symbols and member names are memoized by ShapeId. Every generator resolves
+ * the same shapes repeatedly (and list/map symbols recursively resolve their
+ * members), so resolved values are cached for the lifetime of the provider.
+ * The caches are safe for concurrent use.
  */
 @SmithyUnstableApi
 public class RubySymbolProvider implements SymbolProvider,
@@ -64,9 +73,16 @@ public class RubySymbolProvider implements SymbolProvider,
     private static final String DEFAULT_DEFINITION_FILE = "types.rb";
 
     private final Model model;
-    private final RubySettings settings;
     private final String rootModuleName;
     private final String moduleName;
+    private final ServiceShape serviceShape;
+
+    private final Map<ShapeId, Symbol> symbolCache = new ConcurrentHashMap<>();
+    private final Map<ShapeId, String> memberNameCache = new ConcurrentHashMap<>();
+    private final LongAdder symbolCacheHits = new LongAdder();
+    private final LongAdder symbolCacheMisses = new LongAdder();
+    private final LongAdder memberNameCacheHits = new LongAdder();
+    private final LongAdder memberNameCacheMisses = new LongAdder();
 
     /**
      * Create a new RubySymbolProvider.
@@ -76,9 +92,9 @@ public class RubySymbolProvider implements SymbolProvider,
      */
     public RubySymbolProvider(Model model, RubySettings settings) {
         this.model = model;
-        this.settings = settings;
         this.rootModuleName = settings.getModule();
         this.moduleName = this.rootModuleName + "::Types";
+        this.serviceShape = model.expectShape(settings.getService(), ServiceShape.class);
     }
 
     // Taken from https://docs.ruby-lang.org/en/3.1/doc/keywords_rdoc.html
@@ -123,11 +139,61 @@ public class RubySymbolProvider implements SymbolProvider,
 
     @Override
     public Symbol toSymbol(Shape shape) {
-        return ESCAPER.escapeSymbol(shape, shape.accept(this));
+        // computeIfAbsent is not used because list, map and member symbols
+        // recursively resolve (and cache) their targets.
+        Symbol symbol = symbolCache.get(shape.getId());
+        if (symbol != null) {
+            symbolCacheHits.increment();
+            return symbol;
+        }
+        symbolCacheMisses.increment();
+        symbol = ESCAPER.escapeSymbol(shape, shape.accept(this));
+        Symbol existing = symbolCache.putIfAbsent(shape.getId(), symbol);
+        return existing != null ? existing : symbol;
     }
 
     @Override
     public String toMemberName(MemberShape shape) {
+        String memberName = memberNameCache.get(shape.getId());
+        if (memberName != null) {
+            memberNameCacheHits.increment();
+            return memberName;
+        }
+        memberNameCacheMisses.increment();
+        memberName = resolveMemberName(shape);
+        String existing = memberNameCache.putIfAbsent(shape.getId(), memberName);
+        return existing != null ? existing : memberName;
+    }
+
+    /**
+     * @return number of toSymbol calls served from the cache.
+     */
+    public long getSymbolCacheHits() {
+        return symbolCacheHits.sum();
+    }
+
+    /**
+     * @return number of toSymbol calls that resolved a new Symbol.
+     */
+    public long getSymbolCacheMisses() {
+        return symbolCacheMisses.sum();
+    }
+
+    /**
+     * @return number of toMemberName calls served from the cache.
+     */
+    public long getMemberNameCacheHits() {
+        return memberNameCacheHits.sum();
+    }
+
+    /**
+     * @return number of toMemberName calls that resolved a new member name.
+     */
+    public long getMemberNameCacheMisses() {
+        return memberNameCacheMisses.sum();
+    }
+
+    private String resolveMemberName(MemberShape shape) {
         Shape container = model.expectShape(shape.getContainer());
         if (container.isUnionShape()) {
             String memberName = CaseUtils.toPascalCase(getDefaultMemberName(shape));
@@ -166,8 +232,6 @@ public class RubySymbolProvider implements SymbolProvider,
     // if they are a reserved word or start with an invalid character, they will be prefixed
     // the prefix should be based on the type (eg Struct or Union, ect).
     private String getDefaultShapeName(Shape shape, String prefix) {
-        ServiceShape serviceShape =
-                model.expectShape(settings.getService(), ServiceShape.class);
         return StringUtils.capitalize(
                 RubyFormatter.prefixLeadingInvalidIdentCharacters(
                         shape.getId().getName(serviceShape), prefix)
@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.neighbor.Walker;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.transform.ModelTransformer;
+import software.amazon.smithy.utils.SmithyUnstableApi;
+
+/**
+ * Precomputed, immutable closures of the shapes reachable from a service.
+ * <p>
+ * Closures are computed once per generation and shared by all generators
+ * through the {@link GenerationContext}, instead of each generator walking
+ * the model (or transforming it) again. Closures preserve the iteration
+ * order of the model {@link Walker}, starting with the root shape itself.
+ */
+@SmithyUnstableApi
+public final class ShapeClosureIndex {
+
+    private final Map<ShapeId, Set<Shape>> closures;
+    private final Set<Shape> serviceClosureWithoutTraitShapes;
+
+    /**
+     * @param model model to compute closures for
+     * @param service service to compute closures for
+     */
+    public ShapeClosureIndex(Model model, ServiceShape service) {
+        Walker walker = new Walker(model);
+        Map<ShapeId, Set<Shape>> computed = new HashMap<>();
+        for (OperationShape operation : TopDownIndex.of(model).getContainedOperations(service)) {
+            computeClosure(walker, model, operation.getInputShape(), computed);
+            computeClosure(walker, model, operation.getOutputShape(), computed);
+            for (ShapeId error : operation.getErrors()) {
+                computeClosure(walker, model, error, computed);
+            }
+        }
+        this.closures = Collections.unmodifiableMap(computed);
+
+        Model modelWithoutTraitShapes = ModelTransformer.create()
+                .getModelWithoutTraitShapes(model);
+        this.serviceClosureWithoutTraitShapes = Collections.unmodifiableSet(
+                new LinkedHashSet<>(new Walker(modelWithoutTraitShapes).walkShapes(service)));
+    }
+
+    /**
+     * @param operation operation to get the closure for
+     * @return the operation's input shape and every shape reachable from it
+     */
+    public Set<Shape> inputClosure(OperationShape operation) {
+        return closure(operation.getInputShape());
+    }
+
+    /**
+     * @param operation operation to get the closure for
+     * @return the operation's output shape and every shape reachable from it
+     */
+    public Set<Shape> outputClosure(OperationShape operation) {
+        return closure(operation.getOutputShape());
+    }
+
+    /**
+     * @param operation operation to get the closure for
+     * @return the operation's error shapes and every shape reachable from them,
+     * in the order the errors are bound to the operation
+     */
+    public Set<Shape> errorClosure(OperationShape operation) {
+        Set<Shape> errorClosure = new LinkedHashSet<>();
+        for (ShapeId error : operation.getErrors()) {
+            errorClosure.addAll(closure(error));
+        }
+        return Collections.unmodifiableSet(errorClosure);
+    }
+
+    /**
+     * @return every shape in the service closure of the model without trait shapes
+     */
+    public Set<Shape> serviceClosureWithoutTraitShapes() {
+        return serviceClosureWithoutTraitShapes;
+    }
+
+    private Set<Shape> closure(ShapeId root) {
+        Set<Shape> closure = closures.get(root);
+        if (closure == null) {
+            throw new IllegalArgumentException("Shape " + root + " is not bound to an operation of the service");
+        }
+        return closure;
+    }
+
+    private static void computeClosure(Walker walker, Model model, ShapeId root, Map<ShapeId, Set<Shape>> closures) {
+        if (closures.containsKey(root)) {
+            return;
+        }
+        Set<Shape> closure = new LinkedHashSet<>();
+        Iterator<Shape> it = walker.iterateShapes(model.expectShape(root));
+        while (it.hasNext()) {
+            closure.add(it.next());
+        }
+        closures.put(root, Collections.unmodifiableSet(closure));
+    }
+}
@@ -32,9 +32,14 @@ public class DynamicConfigProvider implements ConfigProvider {
     }
 
     /**
-     * @param providerFragment fragment to provide the config value
+     * @param providerFragment fragment to provide the config value, which
+     *                         can not be client scoped since it is rendered
+     *                         in the config rather than the client.
      */
     public DynamicConfigProvider(ClientFragment providerFragment) {
+        if (providerFragment.isClientScoped()) {
+            throw new IllegalArgumentException("Config provider fragments can not be client scoped");
+        }
         this.providerFragment = providerFragment;
     }
 
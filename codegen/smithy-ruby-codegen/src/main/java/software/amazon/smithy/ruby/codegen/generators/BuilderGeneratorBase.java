@@ -16,7 +16,6 @@
 package software.amazon.smithy.ruby.codegen.generators;
 
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Logger;
@@ -25,7 +24,6 @@ import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.knowledge.TopDownIndex;
-import software.amazon.smithy.model.neighbor.Walker;
 import software.amazon.smithy.model.shapes.ListShape;
 import software.amazon.smithy.model.shapes.MapShape;
 import software.amazon.smithy.model.shapes.MemberShape;
@@ -218,6 +216,8 @@ public abstract class BuilderGeneratorBase {
      */
     public void render(FileManifest fileManifest) {
 
+        writer.configureTopLevelBlocks(settings, fileManifest, "builders", settings.getModule(), "Builders");
+
         writer
                 .includePreamble()
                 .includeRequires()
@@ -229,7 +229,7 @@ public abstract class BuilderGeneratorBase {
                 .closeBlock("end");
 
         String fileName = settings.getGemName() + "/lib/" + settings.getGemName() + "/builders.rb";
-        fileManifest.writeFile(fileName, writer.toString());
+        writer.writeTo(fileManifest, fileName);
         LOGGER.fine("Wrote builders to " + fileName);
     }
 
@@ -249,9 +249,7 @@ public abstract class BuilderGeneratorBase {
                     generatedBuilders.add(o.toShapeId());
                     generatedBuilders.add(inputShape.toShapeId());
 
-                    Iterator<Shape> it = new Walker(model).iterateShapes(inputShape);
-                    while (it.hasNext()) {
-                        Shape s = it.next();
+                    for (Shape s : context.shapeClosureIndex().inputClosure(o)) {
                         if (!generatedBuilders.contains(s.getId())) {
                             generatedBuilders.add(s.getId());
                             shapesToBeRendered.add(s);
@@ -260,8 +258,9 @@ public abstract class BuilderGeneratorBase {
                 });
 
         // Render all shapes in alphabetical ordering
-        shapesToBeRendered
-            .forEach(shape -> {
+        shapesToBeRendered.forEach(shape -> {
+            String constant = symbolProvider.toSymbol(shape).getName();
+            writer.writeTopLevelBlock(constant, (blockWriter) -> {
                 if (shape instanceof OperationShape operation) {
                     Shape inputShape = model.expectShape(operation.getInputShape());
                     renderBuildersForOperation(operation, inputShape);
@@ -269,6 +268,7 @@ public abstract class BuilderGeneratorBase {
                     shape.accept(new BuilderClassGenerator());
                 }
             });
+        });
     }
 
     /**
@@ -16,15 +16,22 @@
 package software.amazon.smithy.ruby.codegen.generators;
 
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.directed.GenerateServiceDirective;
+import software.amazon.smithy.model.knowledge.PaginatedIndex;
 import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.traits.StreamingTrait;
+import software.amazon.smithy.ruby.codegen.ApplicationTransport;
+import software.amazon.smithy.ruby.codegen.ClientFragment;
 import software.amazon.smithy.ruby.codegen.GenerationContext;
 import software.amazon.smithy.ruby.codegen.Hearth;
 import software.amazon.smithy.ruby.codegen.RubyCodeWriter;
@@ -103,6 +110,8 @@ public class ClientGenerator extends RubyGeneratorBase {
                 .call(() -> renderInitializeMethod(writer))
                 .call(() -> renderOperations(writer))
                 .write("\nprivate")
+                .call(() -> renderOperationStackMethod(writer))
+                .call(() -> clientScopedFragments().forEach((f) -> f.renderClientScopedMethod(writer, context)))
                 .call(() -> renderApplyMiddlewareMethod(writer))
                 .call(() -> {
                     if (hasStreamingOperation) {
@@ -153,14 +162,59 @@ public class ClientGenerator extends RubyGeneratorBase {
                 .write("@stubs = $T.new", Hearth.STUBS)
                 .write("@retry_quota = $T.new", Hearth.RETRY_QUOTA)
                 .write("@client_rate_limiter = $T.new", Hearth.CLIENT_RATE_LIMITER)
+                .call(() -> clientScopedFragments().forEach((f) -> f.renderInitialize(writer)))
+                .call(() -> renderOperationConstants(writer))
+                .write("@middleware_stacks = {}")
                 .closeBlock("end");
     }
 
-    private void renderOperations(RubyCodeWriter writer) {
-        operations.stream()
+    // Middleware params that only depend on the operation are built once per client.
+    private void renderOperationConstants(RubyCodeWriter writer) {
+        Map<String, Map<String, String>> operationConstants = new LinkedHashMap<>();
+        for (OperationShape operation : clientOperations()) {
+            Map<String, String> constants = middlewareBuilder.operationConstants(context, operation);
+            if (!constants.isEmpty()) {
+                String operationName = RubyFormatter.toSnakeCase(symbolProvider.toSymbol(operation).getName());
+                operationConstants.put(operationName, constants);
+            }
+        }
+        if (operationConstants.isEmpty()) {
+            return;
+        }
+
+        writer.openBlock("@operation_constants = {");
+        Iterator<Map.Entry<String, Map<String, String>>> operationIterator =
+                operationConstants.entrySet().iterator();
+        while (operationIterator.hasNext()) {
+            Map.Entry<String, Map<String, String>> operation = operationIterator.next();
+            writer.openBlock("$L: {", operation.getKey());
+            Iterator<Map.Entry<String, String>> constantIterator = operation.getValue().entrySet().iterator();
+            while (constantIterator.hasNext()) {
+                Map.Entry<String, String> constant = constantIterator.next();
+                writer.write("$L: $L$L", constant.getKey(), constant.getValue(),
+                        constantIterator.hasNext() ? "," : "");
+            }
+            writer.closeBlock("}.freeze$L", operationIterator.hasNext() ? "," : "");
+        }
+        writer.closeBlock("}.freeze");
+    }
+
+    private List<ClientFragment> clientScopedFragments() {
+        ApplicationTransport transport = context.applicationTransport();
+        return Stream.of(transport.getRequest(), transport.getResponse(), transport.getTransportClient())
+                .filter(ClientFragment::isClientScoped)
+                .toList();
+    }
+
+    private List<OperationShape> clientOperations() {
+        return operations.stream()
             .filter((o) -> !Streaming.isEventStreaming(model, o))
             .sorted(Comparator.comparing((o) -> o.getId().getName()))
-            .forEach(o -> renderOperation(writer, o));
+            .toList();
+    }
+
+    private void renderOperations(RubyCodeWriter writer) {
+        clientOperations().forEach(o -> renderOperation(writer, o));
     }
 
     private void renderRbsOperations(RubyCodeWriter writer) {
@@ -183,8 +237,11 @@ public class ClientGenerator extends RubyGeneratorBase {
                 .write("")
                 .writeInline("$L", documentation)
                 .openBlock("def $L(params = {}, options = {}, &block)", operationName)
-                .write("stack = $T.new", Hearth.MIDDLEWARE_STACK)
-                .write("input = Params::$L.build(params)", symbolProvider.toSymbol(inputShape).getName())
+                .call(() -> {
+                    if (!settings.isFusedValidation()) {
+                        writer.write("input = Params::$L.build(params)", symbolProvider.toSymbol(inputShape).getName());
+                    }
+                })
                 .call(() -> {
                     if (outputShape.members().stream()
                             .anyMatch((m) -> m.getMemberTrait(model, StreamingTrait.class).isPresent())) {
@@ -194,9 +251,15 @@ public class ClientGenerator extends RubyGeneratorBase {
                         writer.write("response_body = $T.new", RubyImportContainer.STRING_IO);
                     }
                 })
+                .openBlock("stack = operation_stack(:$L, options) do |stack|", operationName)
                 .call(() -> middlewareBuilder
                         .render(writer, context, operation))
-                .write("apply_middleware(stack, options[:middleware])\n")
+                .closeBlock("end\n")
+                .call(() -> {
+                    if (settings.isFusedValidation()) {
+                        renderFusedParams(writer, inputShape);
+                    }
+                })
                 .openBlock("resp = stack.run(")
                 .write("input: input,")
                 .openBlock("context: $T.new(", Hearth.CONTEXT)
@@ -206,6 +269,16 @@ public class ClientGenerator extends RubyGeneratorBase {
                 .write("response: $L,",
                         context.applicationTransport().getResponse()
                                 .render(context))
+                .call(() -> {
+                    if (streamsPaginatedItems(operation)) {
+                        writer.write("item_handler: options[:item_handler],");
+                    }
+                })
+                .call(() -> {
+                    if (settings.isFusedValidation()) {
+                        writer.write("input_validated: validate,");
+                    }
+                })
                 .write("params: params,")
                 .write("logger: @config.logger,")
                 .write("operation_name: :$L", operationName)
@@ -217,6 +290,17 @@ public class ClientGenerator extends RubyGeneratorBase {
         LOGGER.finer("Generated client operation method " + operationName);
     }
 
+    // Params validate the input as they build it only when the Validate
+    // middleware would be the first middleware to see the input. Otherwise
+    // middleware added before it (or its removal) must apply first, so the
+    // input is built without validation and left to the Validate middleware.
+    private void renderFusedParams(RubyCodeWriter writer, Shape inputShape) {
+        writer
+                .write("validate = @config.validate_input && stack.starts_with?(Hearth::Middleware::Validate)")
+                .write("input = Params::$L.build(params, context: 'input', validate: validate)\n",
+                        symbolProvider.toSymbol(inputShape).getName());
+    }
+
     private void renderRbsOperation(RubyCodeWriter writer, OperationShape operation) {
         Symbol symbol = symbolProvider.toSymbol(operation);
         String operationName =
@@ -226,6 +310,43 @@ public class ClientGenerator extends RubyGeneratorBase {
                 + "{ () -> untyped } -> untyped", operationName);
     }
 
+    // Paginators pass an :item_handler option to operations whose items are
+    // yielded while the response is parsed incrementally.
+    private boolean streamsPaginatedItems(OperationShape operation) {
+        return settings.isStreamingJsonParsers()
+                && PaginatedIndex.of(model).getPaginationInfo(context.service(), operation)
+                        .map((info) -> !info.getItemsMemberPath().isEmpty())
+                        .orElse(false);
+    }
+
+    // Middleware stacks are frozen and cached per operation, unless options
+    // other than :output_stream (or :item_handler) are given for the call. The
+    // cache is keyed on the version of Client.middleware, which changes every
+    // time a handler is registered or removed, so that changes made after the
+    // first call are still applied.
+    private void renderOperationStackMethod(RubyCodeWriter writer) {
+        writer
+                .openBlock("\ndef operation_stack(operation, options)")
+                .call(() -> {
+                    if (settings.isStreamingJsonParsers()) {
+                        writer.write("cacheable = options.each_key.all? "
+                                + "{ |key| %i[output_stream item_handler].include?(key) }");
+                    } else {
+                        writer.write("cacheable = options.each_key.all?(:output_stream)");
+                    }
+                })
+                .write("version = Client.middleware.version")
+                .write("cached = @middleware_stacks[operation] if cacheable")
+                .write("return cached.last if cached && cached.first == version\n")
+                .write("stack = $T.new", Hearth.MIDDLEWARE_STACK)
+                .write("yield stack")
+                .write("apply_middleware(stack, options[:middleware])")
+                .write("return stack unless cacheable\n")
+                .write("@middleware_stacks[operation] = [version, stack.freeze]")
+                .write("stack")
+                .closeBlock("end");
+    }
+
     private void renderApplyMiddlewareMethod(RubyCodeWriter writer) {
         writer
                 .openBlock(
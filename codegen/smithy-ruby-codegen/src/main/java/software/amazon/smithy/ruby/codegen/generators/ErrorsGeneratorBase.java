@@ -123,7 +123,7 @@ public abstract class ErrorsGeneratorBase {
                 .closeBlock("end")
                 .call(() -> renderBaseErrors())
                 .call(() -> renderServiceModelErrors(new ErrorsVisitor()))
-                .write("")
+                .call(() -> renderErrorClasses())
                 .closeBlock("end")
                 .closeBlock("end");
 
@@ -145,6 +145,7 @@ public abstract class ErrorsGeneratorBase {
                 .call(() -> renderRbsBaseErrors())
                 .call(() -> renderServiceModelErrors(new ErrorsRbsVisitor()))
                 .write("")
+                .write("ERROR_CLASSES: Hash[String, singleton(ApiError)]")
                 .closeBlock("end")
                 .closeBlock("end");
 
@@ -213,6 +214,33 @@ public abstract class ErrorsGeneratorBase {
         rbsWriter.write("def self.error_code: (untyped resp) -> untyped");
     }
 
+    /**
+     * Renders a frozen hash of error code to error class so that error
+     * parsing can look up the error class for an error code directly.
+     * Error codes are the names of the modeled error shapes.
+     */
+    private void renderErrorClasses() {
+        writer
+                .write("")
+                .write("# @api private")
+                .call(() -> {
+                    if (errorShapes.isEmpty()) {
+                        writer.write("ERROR_CLASSES = {}.freeze");
+                    } else {
+                        writer.openBlock("ERROR_CLASSES = {");
+                        for (int i = 0; i < errorShapes.size(); i++) {
+                            Shape errorShape = errorShapes.get(i);
+                            // error codes are shape names, which may differ from the Ruby class name
+                            writer.write("'$L' => $L$L", errorShape.getId().getName(),
+                                    symbolProvider.toSymbol(errorShape).getName(),
+                                    i < errorShapes.size() - 1 ? "," : "");
+                        }
+                        writer.closeBlock("}.freeze");
+                    }
+                })
+                .write("");
+    }
+
     private void renderServiceModelErrors(ShapeVisitor<Void> visitor) {
         errorShapes.forEach(error -> error.accept(visitor));
     }
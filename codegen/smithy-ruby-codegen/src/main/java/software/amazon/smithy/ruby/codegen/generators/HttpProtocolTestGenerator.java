@@ -85,6 +85,11 @@ public class HttpProtocolTestGenerator {
                 .includePreamble()
                 .includeRequires()
                 .write("require '$L'\n", settings.getGemName())
+                .call(() -> {
+                    if (settings.isStreamingJsonBuilders()) {
+                        writer.write("require_relative 'builders'\n");
+                    }
+                })
                 .write("")
                 .openBlock("module $L", settings.getModule())
                 .openBlock("describe Client do")
@@ -210,7 +215,7 @@ public class HttpProtocolTestGenerator {
                                     + "receive(:uuid).and_return('00000000-0000-4000-8000-000000000000')");
                         }
                     })
-                    .call(() -> renderRequestMiddleware(testCase))
+                    .call(() -> renderRequestMiddleware(operation, testCase))
                     .write("opts = {middleware: middleware}")
                     .call(() -> {
                         if (testCase.getHost().isPresent()) {
@@ -342,7 +347,7 @@ public class HttpProtocolTestGenerator {
         }
     }
 
-    private void renderRequestMiddleware(HttpRequestTestCase testCase) {
+    private void renderRequestMiddleware(OperationShape operation, HttpRequestTestCase testCase) {
         writer
                 .openBlock("middleware = Hearth::MiddlewareBuilder.before_send do |input, context|")
                 .write("request = context.request")
@@ -356,7 +361,7 @@ public class HttpProtocolTestGenerator {
                 .call(() -> renderRequestMiddlewareHeaders(testCase.getHeaders()))
                 .call(() -> renderRequestMiddlewareForbiddenHeaders(testCase.getForbidHeaders()))
                 .call(() -> renderRequestMiddlewareRequiredHeaders(testCase.getRequireHeaders()))
-                .call(() -> renderRequestMiddlewareBody(testCase.getBody(), testCase.getBodyMediaType()))
+                .call(() -> renderRequestMiddlewareBody(operation, testCase.getBody(), testCase.getBodyMediaType()))
                 .write("Hearth::Output.new")
                 .closeBlock("end");
     }
@@ -367,12 +372,23 @@ public class HttpProtocolTestGenerator {
         }
     }
 
-    private void renderRequestMiddlewareBody(Optional<String> body, Optional<String> bodyMediaType) {
+    private void renderRequestMiddlewareBody(OperationShape operation, Optional<String> body,
+                                             Optional<String> bodyMediaType) {
         if (body.isPresent()) {
             if (bodyMediaType.isPresent()) {
                 switch (bodyMediaType.get()) {
                     case "application/json":
                         writer.write("expect(JSON.parse(request.body.read)).to eq(JSON.parse('$L'))", body.get());
+                        if (settings.isStreamingJsonBuilders()) {
+                            // streamed bodies must have the same bytes as dumping the
+                            // Hash that the Hash builders (spec/builders.rb) build
+                            writer
+                                    .write("request.body.rewind")
+                                    .write("hash_request = Hearth::HTTP::Request.new(url: endpoint)")
+                                    .write("Spec::Builders::$L.build(hash_request, input: input)",
+                                            symbolProvider.toSymbol(operation).getName())
+                                    .write("expect(request.body.read).to eq(hash_request.body.read)");
+                        }
                         break;
                     case "application/xml":
                         if (body.get().length() > 0) {
@@ -38,6 +38,10 @@ public class PaginatorsGenerator extends RubyGeneratorBase {
         super(directive);
     }
 
+    public PaginatorsGenerator(GenerationContext context) {
+        super(context);
+    }
+
     @Override
     String getModule() {
         return "Paginators";
@@ -185,6 +189,11 @@ public class PaginatorsGenerator extends RubyGeneratorBase {
                 .map((member) -> symbolProvider.toMemberName(member))
                 .collect(Collectors.joining("&."));
 
+        if (settings.isStreamingJsonParsers()) {
+            renderStreamingPaginatorItems(writer, items, operationName);
+            return;
+        }
+
         writer
                 .write("")
                 .call(() -> renderPaginatorItemsDocumentation(writer, operationName))
@@ -199,10 +208,41 @@ public class PaginatorsGenerator extends RubyGeneratorBase {
                 .closeBlock("end");
     }
 
+    // Items are yielded by the operation's parser as they are decoded and are
+    // not kept on the page. Items left on the page were not streamed by the
+    // parser and are yielded after it returns.
+    private void renderStreamingPaginatorItems(RubyCodeWriter writer, String items, String operationName) {
+        writer
+                .write("")
+                .call(() -> renderPaginatorItemsDocumentation(writer, operationName))
+                .openBlock("def items")
+                .openBlock("Enumerator.new do |e|")
+                .write("item_handler = proc { |item| e.yield(item) }")
+                .write("options = @options.merge(item_handler: item_handler)")
+                .openBlock("self.class.new(@client, @params, options).pages.each do |page|")
+                .openBlock("page.$L&.each do |item|", items)
+                .write("e.yield(item)")
+                .closeBlock("end")
+                .closeBlock("end")
+                .closeBlock("end")
+                .closeBlock("end");
+    }
+
     private void renderPaginatorItemsDocumentation(RubyCodeWriter writer, String operationName) {
         String snakeOperationName = RubyFormatter.toSnakeCase(operationName);
         writer.writeDocs((w) -> w
                 .write("Iterate all items from pages in the $L operation.", snakeOperationName)
+                .call(() -> {
+                    if (settings.isStreamingJsonParsers()) {
+                        w
+                                .write("")
+                                .write("Items are yielded as they are parsed from a page's response body.")
+                                .write("The body is still read in full before it is parsed. Delivery is")
+                                .write("at least once: if middleware around parsing turns a parsed")
+                                .write("response into a retryable error, the items already yielded for")
+                                .write("that attempt are yielded again by the retried request.");
+                    }
+                })
                 .write("@return [Enumerator]"));
     }
 }
@@ -24,7 +24,6 @@ import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.codegen.core.directed.ContextualDirective;
 import software.amazon.smithy.model.Model;
-import software.amazon.smithy.model.neighbor.Walker;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.BigDecimalShape;
 import software.amazon.smithy.model.shapes.BigIntegerShape;
@@ -53,7 +52,6 @@ import software.amazon.smithy.model.traits.IdempotencyTokenTrait;
 import software.amazon.smithy.model.traits.RequiredTrait;
 import software.amazon.smithy.model.traits.SparseTrait;
 import software.amazon.smithy.model.traits.StreamingTrait;
-import software.amazon.smithy.model.transform.ModelTransformer;
 import software.amazon.smithy.ruby.codegen.GenerationContext;
 import software.amazon.smithy.ruby.codegen.Hearth;
 import software.amazon.smithy.ruby.codegen.RubyCodeWriter;
@@ -71,13 +69,17 @@ public class ParamsGenerator extends RubyGeneratorBase {
         super(directive);
     }
 
+    public ParamsGenerator(GenerationContext context) {
+        super(context);
+    }
+
     @Override
     String getModule() {
         return "Params";
     }
 
     public void render() {
-        write(writer -> {
+        writeTopLevelBlocks(writer -> {
             writer
                 .includePreamble()
                 .includeRequires()
@@ -92,22 +94,28 @@ public class ParamsGenerator extends RubyGeneratorBase {
     }
 
     private void renderParams(RubyCodeWriter writer) {
-        Model modelWithoutTraitShapes = ModelTransformer.create()
-                .getModelWithoutTraitShapes(model);
-
-        new Walker(modelWithoutTraitShapes)
-                .walkShapes(context.service())
+        context.shapeClosureIndex().serviceClosureWithoutTraitShapes()
                 .stream()
+                .filter((shape) -> !shape.isMemberShape())
                 .sorted(Comparator.comparing((o) -> o.getId().getName()))
-                .forEach((shape) -> shape.accept(new Visitor(writer)));
+                .forEach((shape) -> writer.writeTopLevelBlock(symbolProvider.toSymbol(shape).getName(),
+                        (blockWriter) -> shape.accept(new Visitor(blockWriter))));
     }
 
     private final class Visitor extends ShapeVisitor.Default<Void> {
 
         private final RubyCodeWriter writer;
+        private final boolean fused;
 
         private Visitor(RubyCodeWriter writer) {
             this.writer = writer;
+            this.fused = settings.isFusedValidation();
+        }
+
+        private String buildSignature() {
+            return fused
+                    ? "def self.build(params, context: '', validate: false)"
+                    : "def self.build(params, context: '')";
         }
 
         @Override
@@ -120,7 +128,7 @@ public class ParamsGenerator extends RubyGeneratorBase {
             writer
                 .write("")
                 .openBlock("module $L", symbolProvider.toSymbol(structureShape).getName())
-                .openBlock("def self.build(params, context: '')")
+                .openBlock(buildSignature())
                 .call(() -> renderBuilderForStructureMembers(
                         context.symbolProvider().toSymbol(structureShape), structureShape.members()))
                 .closeBlock("end")
@@ -140,14 +148,47 @@ public class ParamsGenerator extends RubyGeneratorBase {
                 String memberSetter = "type." + memberName + " = ";
                 String symbolName = RubyFormatter.asSymbol(memberName);
                 String input = "params[" + symbolName + "]";
-                String contextKey = "\"#{context}[" + symbolName + "]\"";
+                String contextKey = writer.format("$T.new(context, $L)", Hearth.VALIDATOR_PATH, symbolName);
                 target.accept(new MemberBuilder(model, writer, context.symbolProvider(),
-                    memberSetter, input, contextKey, member, true));
+                    memberSetter, input, contextKey, member, true, fused));
             });
 
+            if (fused && members.stream().anyMatch(this::validatesBuiltMember)) {
+                writer.openBlock("if validate");
+                members.forEach(member -> {
+                    Shape target = model.expectShape(member.getTarget());
+                    String memberName = symbolProvider.toMemberName(member);
+                    String input = "type." + memberName;
+                    String contextKey = writer.format("$T.new(context, :$L)", Hearth.VALIDATOR_PATH, memberName);
+                    if (member.hasTrait(RequiredTrait.class)) {
+                        writer.write("$T.validate_required!($L, context: $L)", Hearth.VALIDATOR, input, contextKey);
+                    }
+                    target.accept(new ValidatorsGenerator.Visitor.MemberValidator(
+                            writer, symbolProvider, input, contextKey, false, true));
+                });
+                writer.closeBlock("end");
+            }
+
             writer.write("type");
         }
 
+        // Lists, maps, structures and unions validate themselves as they are built.
+        private boolean validatesBuiltMember(MemberShape member) {
+            Shape target = model.expectShape(member.getTarget());
+            return member.hasTrait(RequiredTrait.class)
+                    || !(isComplexShape(target) || target.isBigIntegerShape());
+        }
+
+        private void renderFusedValidation(Shape target, String input, String contextKey) {
+            if (fused && !isComplexShape(target) && !target.isBigIntegerShape()) {
+                writer
+                    .openBlock("if validate")
+                    .call(() -> target.accept(new ValidatorsGenerator.Visitor.MemberValidator(
+                            writer, symbolProvider, input, contextKey, false, true)))
+                    .closeBlock("end");
+            }
+        }
+
         @Override
         public Void listShape(ListShape listShape) {
             Shape memberTarget =
@@ -156,21 +197,23 @@ public class ParamsGenerator extends RubyGeneratorBase {
             writer
                 .write("")
                 .openBlock("module $L", symbolProvider.toSymbol(listShape).getName())
-                .openBlock("def self.build(params, context: '')")
+                .openBlock(buildSignature())
                 .write("$T.validate_types!(params, ::Array, context: context)", Hearth.VALIDATOR)
                 .write("data = []")
                 .call(() -> {
-                    if (isComplexShape(memberTarget)) {
+                    if (fused || isComplexShape(memberTarget)) {
                         writer.openBlock("params.each_with_index do |element, index|");
                     } else {
                         writer.openBlock("params.each do |element|");
                     }
                 })
+                .call(() -> renderFusedValidation(memberTarget, "element",
+                        writer.format("$T.new(context, index)", Hearth.VALIDATOR_PATH)))
                 .call(() -> memberTarget
                         .accept(new MemberBuilder(model, writer, symbolProvider, "data << ",
-                                "element", "\"#{context}[#{index}]\"",
+                                "element", writer.format("$T.new(context, index)", Hearth.VALIDATOR_PATH),
                                 listShape.getMember(),
-                                !listShape.hasTrait(SparseTrait.class))))
+                                !listShape.hasTrait(SparseTrait.class), fused)))
                 .closeBlock("end")
                 .write("data")
                 .closeBlock("end")
@@ -185,14 +228,23 @@ public class ParamsGenerator extends RubyGeneratorBase {
             writer
                 .write("")
                 .openBlock("module $L", symbolProvider.toSymbol(mapShape).getName())
-                .openBlock("def self.build(params, context: '')")
+                .openBlock(buildSignature())
                 .write("$T.validate_types!(params, ::Hash, context: context)", Hearth.VALIDATOR)
                 .write("data = {}")
                 .openBlock("params.each do |key, value|")
+                .call(() -> {
+                    if (fused) {
+                        writer.write("$T.validate_types!(key, ::String, ::Symbol, context: $T.new(context)) "
+                                + "if validate", Hearth.VALIDATOR, Hearth.VALIDATOR_PATH);
+                    }
+                })
+                .call(() -> renderFusedValidation(valueTarget, "value",
+                        writer.format("$T.new(context, key)", Hearth.VALIDATOR_PATH)))
                 .call(() -> valueTarget
                         .accept(new MemberBuilder(model, writer, context.symbolProvider(), "data[key] = ",
-                                "value", "\"#{context}[:#{key}]\"", mapShape.getValue(),
-                                !mapShape.hasTrait(SparseTrait.class))))
+                                "value", writer.format("$T.new(context, key)", Hearth.VALIDATOR_PATH),
+                                mapShape.getValue(),
+                                !mapShape.hasTrait(SparseTrait.class), fused)))
                 .closeBlock("end")
                 .write("data")
                 .closeBlock("end")
@@ -208,8 +260,18 @@ public class ParamsGenerator extends RubyGeneratorBase {
             writer
                 .write("")
                 .openBlock("module $L", name)
-                .openBlock("def self.build(params, context: '')")
-                .write("return params if params.is_a?($T)", typeSymbol)
+                .openBlock(buildSignature())
+                .call(() -> {
+                    if (fused) {
+                        writer
+                            .openBlock("if params.is_a?($T)", typeSymbol)
+                            .write("Validators::$L.validate!(params, context: context) if validate", name)
+                            .write("return params")
+                            .closeBlock("end");
+                    } else {
+                        writer.write("return params if params.is_a?($T)", typeSymbol);
+                    }
+                })
                 .write("$T.validate_types!(params, ::Hash, $T, context: context)",
                         Hearth.VALIDATOR, typeSymbol)
                 .openBlock("unless params.size == 1")
@@ -225,13 +287,17 @@ public class ParamsGenerator extends RubyGeneratorBase {
                 Shape target = model.expectShape(member.getTarget());
                 String memberClassName = symbolProvider.toMemberName(member);
                 String memberName = RubyFormatter.asSymbol(memberClassName);
+                String input = "params[" + memberName + "]";
+                // Validators validate a union's value in the union's own context
+                String contextString = fused
+                        ? "context"
+                        : writer.format("$T.new(context, $L)", Hearth.VALIDATOR_PATH, memberName);
                 writer.write("when $L", memberName)
                     .indent()
+                    .call(() -> renderFusedValidation(target, input, "context"))
                     .openBlock("$T.new(", context.symbolProvider().toSymbol(member));
-                String input = "params[" + memberName + "]";
-                String contextString = "\"#{context}[" + memberName + "]\"";
                 target.accept(new MemberBuilder(model, writer, symbolProvider, "", input, contextString,
-                        member, false));
+                        member, false, fused));
                 writer.closeBlock(")")
                     .dedent();
             }
@@ -266,6 +332,7 @@ public class ParamsGenerator extends RubyGeneratorBase {
             private final Optional<String> defaultValue;
             private final boolean checkRequired;
             private final String rubySymbol;
+            private final String buildArgs;
 
             MemberBuilder(
                     Model model,
@@ -275,7 +342,8 @@ public class ParamsGenerator extends RubyGeneratorBase {
                     String input,
                     String context,
                     MemberShape memberShape,
-                    boolean checkRequired
+                    boolean checkRequired,
+                    boolean fused
             ) {
                 this.model = model;
                 this.writer = writer;
@@ -285,6 +353,7 @@ public class ParamsGenerator extends RubyGeneratorBase {
                 this.context = context;
                 this.memberShape = memberShape;
                 this.checkRequired = checkRequired;
+                this.buildArgs = fused ? ", validate: validate" : "";
                 this.rubySymbol = RubyFormatter.asSymbol(symbolProvider.toMemberName(memberShape));
 
                 // Note: No need to check for box trait for V1 Smithy models.
@@ -364,23 +433,23 @@ public class ParamsGenerator extends RubyGeneratorBase {
             private void defaultComplex(Shape shape) {
                 if (defaultValue.isPresent()) {
                     if (checkRequired) {
-                        writer.write("$1L$2L.build(params.fetch($3L, $5L), context: $4L)",
+                        writer.write("$1L$2L.build(params.fetch($3L, $5L), context: $4L$6L)",
                                 memberSetter, symbolProvider.toSymbol(shape).getName(), rubySymbol, context,
-                                defaultValue.get());
+                                defaultValue.get(), buildArgs);
                     } else {
-                        writer.write("$1L($2L.build(params.fetch($3L, $5L), context: $4L))",
+                        writer.write("$1L($2L.build(params.fetch($3L, $5L), context: $4L$6L))",
                                 memberSetter, symbolProvider.toSymbol(shape).getName(), rubySymbol, context,
-                                defaultValue.get());
+                                defaultValue.get(), buildArgs);
                     }
                     return;
                 }
 
                 if (checkRequired) {
-                    writer.write("$1L$2L.build($3L, context: $4L) unless $3L.nil?", memberSetter,
-                            symbolProvider.toSymbol(shape).getName(), input, context);
+                    writer.write("$1L$2L.build($3L, context: $4L$5L) unless $3L.nil?", memberSetter,
+                            symbolProvider.toSymbol(shape).getName(), input, context, buildArgs);
                 } else {
-                    writer.write("$1L($2L.build($3L, context: $4L) unless $3L.nil?)", memberSetter,
-                            symbolProvider.toSymbol(shape).getName(), input, context);
+                    writer.write("$1L($2L.build($3L, context: $4L$5L) unless $3L.nil?)", memberSetter,
+                            symbolProvider.toSymbol(shape).getName(), input, context, buildArgs);
                 }
             }
         }
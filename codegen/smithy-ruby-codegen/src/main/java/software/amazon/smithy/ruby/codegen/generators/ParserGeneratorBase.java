@@ -17,7 +17,6 @@ package software.amazon.smithy.ruby.codegen.generators;
 
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Logger;
@@ -25,7 +24,6 @@ import software.amazon.smithy.build.FileManifest;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.knowledge.TopDownIndex;
-import software.amazon.smithy.model.neighbor.Walker;
 import software.amazon.smithy.model.shapes.ListShape;
 import software.amazon.smithy.model.shapes.MapShape;
 import software.amazon.smithy.model.shapes.MemberShape;
@@ -157,7 +155,7 @@ public abstract class ParserGeneratorBase {
      *   def self.parse(map)
      *     data = Types::SimpleStruct.new
      *     data.value = map['value']
-     *     data.timestamp = Time.parse(map['timestamp']) if map['timestamp']
+     *     data.timestamp = Hearth::TimeHelper.from_date_time(map['timestamp']) if map['timestamp']
      *     return data
      *   end
      *   #### END code generated by this method
@@ -216,6 +214,8 @@ public abstract class ParserGeneratorBase {
     protected abstract void renderErrorParseMethod(Shape s);
 
     public void render(FileManifest fileManifest) {
+        writer.configureTopLevelBlocks(settings, fileManifest, "parsers", settings.getModule(), "Parsers");
+
         writer
                 .includePreamble()
                 .includeRequires()
@@ -227,7 +227,7 @@ public abstract class ParserGeneratorBase {
                 .closeBlock("end");
 
         String fileName = settings.getGemName() + "/lib/" + settings.getGemName() + "/parsers.rb";
-        fileManifest.writeFile(fileName, writer.toString());
+        writer.writeTo(fileManifest, fileName);
         LOGGER.fine("Wrote parsers to " + fileName);
     }
 
@@ -244,36 +244,33 @@ public abstract class ParserGeneratorBase {
                     shapesToBeRendered.add(o);
                     generatedParsers.add(o.toShapeId());
                     generatedParsers.add(outputShape.toShapeId());
-                    Iterator<Shape> it = new Walker(model).iterateShapes(outputShape);
-                    while (it.hasNext()) {
-                        Shape s = it.next();
+                    for (Shape s : context.shapeClosureIndex().outputClosure(o)) {
                         if (!generatedParsers.contains(s.getId())) {
                             generatedParsers.add(s.getId());
                             shapesToBeRendered.add(s);
                         }
                     }
 
-                    for (ShapeId errorShapeId : o.getErrors()) {
-                        Iterator<Shape> errIt = new Walker(model).iterateShapes(model.expectShape(errorShapeId));
-                        while (errIt.hasNext()) {
-                            Shape s = errIt.next();
-                            if (!generatedParsers.contains(s.getId())) {
-                                generatedParsers.add(s.getId());
-                                shapesToBeRendered.add(s);
-                            }
+                    for (Shape s : context.shapeClosureIndex().errorClosure(o)) {
+                        if (!generatedParsers.contains(s.getId())) {
+                            generatedParsers.add(s.getId());
+                            shapesToBeRendered.add(s);
                         }
                     }
                 });
 
         shapesToBeRendered.forEach(shape -> {
-            if (shape instanceof OperationShape operation) {
-                Shape outputShape = model.expectShape(operation.getOutputShape());
-                renderParsersForOperation(operation, outputShape);
-            } else if (shape.hasTrait(ErrorTrait.class)) {
-                renderErrorParser(shape);
-            } else {
-                shape.accept(new ParserClassGenerator());
-            }
+            String constant = symbolProvider.toSymbol(shape).getName();
+            writer.writeTopLevelBlock(constant, (blockWriter) -> {
+                if (shape instanceof OperationShape operation) {
+                    Shape outputShape = model.expectShape(operation.getOutputShape());
+                    renderParsersForOperation(operation, outputShape);
+                } else if (shape.hasTrait(ErrorTrait.class)) {
+                    renderErrorParser(shape);
+                } else {
+                    shape.accept(new ParserClassGenerator());
+                }
+            });
         });
     }
 
@@ -15,8 +15,12 @@
 
 package software.amazon.smithy.ruby.codegen.generators;
 
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -61,6 +65,8 @@ public abstract class RestBuilderGeneratorBase extends BuilderGeneratorBase {
     private static final Logger LOGGER =
             Logger.getLogger(RestBuilderGeneratorBase.class.getName());
 
+    private static final Pattern LABEL_PATTERN = Pattern.compile("[{]([a-zA-Z0-9_]+)([+]?)[}]");
+
     public RestBuilderGeneratorBase(GenerationContext context) {
         super(context);
     }
@@ -238,22 +244,17 @@ public abstract class RestBuilderGeneratorBase extends BuilderGeneratorBase {
     }
 
     /**
+     * Renders the request path and any static query string from the
+     * operation's URI template. Labels are interpolated between the literal
+     * segments of the template and static query pairs are escaped at codegen
+     * time, so the request URL is built without parsing it.
+     *
      * @param operation operation to render for
      * @param inputShape inputShape for the operation
      */
     protected void renderUriBuilder(OperationShape operation, Shape inputShape) {
-        String uri = getHttpUri(operation);
-        // need to ensure that static query params in the uri are handled first
-        // get a list of all of HttpLabel members
-        String[] uriParts = uri.split("[?]");
-        if (uriParts.length > 1) {
-            uri = uriParts[0];
-            // TODO this should use append_query_params? interface needs to be changed in Hearth if so
-            writer
-                    .openBlock("CGI.parse('$L').each do |k,v|", uriParts[1])
-                    .write("v.each { |q_v| http_req.append_query_param(k, q_v) }")
-                    .closeBlock("end");
-        }
+        String[] uriParts = getHttpUri(operation).split("[?]", 2);
+        String uri = uriParts[0];
 
         List<MemberShape> labelMembers = inputShape.members()
                 .stream()
@@ -261,31 +262,11 @@ public abstract class RestBuilderGeneratorBase extends BuilderGeneratorBase {
                 .collect(Collectors.toList());
 
         if (labelMembers.size() > 0) {
-            Optional<String> greedyLabel = Optional.empty();
-            Matcher greedyMatch = Pattern.compile("[{]([a-zA-Z0-9_]+)[+][}]").matcher(uri);
-            if (greedyMatch.find()) {
-                greedyLabel = Optional.of(greedyMatch.group(1));
-                uri = greedyMatch.replaceAll("%<$1>s");
-            }
-            String formatUri = uri
-                    .replaceAll("[{]([a-zA-Z0-9_]+)[}]", "%<$1>s");
-            StringBuffer formatArgs = new StringBuffer();
-
+            Map<String, String> labelGetters = new HashMap<>();
             for (MemberShape m : labelMembers) {
                 Shape target = model.expectShape(m.getTarget());
                 String getter = target.accept(new LabelMemberSerializer(m));
-                if (greedyLabel.isPresent() && greedyLabel.get().equals(m.getMemberName())) {
-                    formatArgs.append(
-                            ",\n  " + m.getMemberName() + ": (" + getter
-                                    + ").split('/').map "
-                                    + "{ |s| Hearth::HTTP.uri_escape(s) }.join('/')"
-                    );
-                } else {
-                    formatArgs.append(
-                            ",\n  " + m.getMemberName() + ": Hearth::HTTP.uri_escape("
-                                    + getter + ")"
-                    );
-                }
+                labelGetters.put(m.getMemberName(), getter);
                 writer
                         .openBlock("if $1L.empty?", getter)
                         .write("raise ArgumentError, \"HTTP label :$L cannot be nil or empty.\"",
@@ -293,12 +274,78 @@ public abstract class RestBuilderGeneratorBase extends BuilderGeneratorBase {
                         .closeBlock("end");
                 LOGGER.finest("Generated label for " + m.getMemberName());
             }
-            writer.openBlock("http_req.append_path(format(");
-            writer.write("  '$L'$L\n)", formatUri, formatArgs.toString());
-            writer.closeBlock(")");
+            writer.write("http_req.append_path(\"$L\")", interpolateLabels(uri, labelGetters));
         } else {
             writer.write("http_req.append_path('$L')", uri);
         }
+
+        if (uriParts.length > 1 && !uriParts[1].isEmpty()) {
+            writer.write("http_req.append_query_string('$L')", escapeStaticQuery(uriParts[1]));
+        }
+    }
+
+    /**
+     * @param uri URI template path, without the query string
+     * @param labelGetters label name to ruby expression for the label value
+     * @return contents of a double quoted ruby string that interpolates the escaped label values
+     */
+    private String interpolateLabels(String uri, Map<String, String> labelGetters) {
+        Matcher labelMatch = LABEL_PATTERN.matcher(uri);
+        StringBuilder path = new StringBuilder();
+        int literalStart = 0;
+        while (labelMatch.find()) {
+            path.append(escapeDoubleQuoted(uri.substring(literalStart, labelMatch.start())));
+            // greedy labels keep their '/' separators
+            String escape = labelMatch.group(2).isEmpty() ? "uri_escape" : "uri_escape_path";
+            path.append("#{Hearth::HTTP.").append(escape)
+                    .append("(").append(labelGetters.get(labelMatch.group(1))).append(")}");
+            literalStart = labelMatch.end();
+        }
+        path.append(escapeDoubleQuoted(uri.substring(literalStart)));
+        return path.toString();
+    }
+
+    private static String escapeDoubleQuoted(String literal) {
+        return literal
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("#", "\\#");
+    }
+
+    // Escapes the names and values of a static query string the same way as
+    // Hearth::HTTP.uri_escape. Names without a value are kept as is. Names and
+    // values are decoded first so that percent-encoded values are not escaped twice.
+    static String escapeStaticQuery(String query) {
+        return Arrays.stream(query.split("&"))
+                .filter((pair) -> !pair.isEmpty())
+                .map((pair) -> {
+                    String[] nameValue = pair.split("=", 2);
+                    String name = escapeQueryComponent(nameValue[0]);
+                    return nameValue.length > 1 ? name + "=" + escapeQueryComponent(nameValue[1]) : name;
+                })
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String escapeQueryComponent(String value) {
+        String decoded;
+        try {
+            // '+' is a literal plus in a uri, not an encoded space
+            decoded = URLDecoder.decode(value.replace("+", "%2B"), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // not percent-encoded (e.g. a lone '%'), so escape the raw text
+            decoded = value;
+        }
+        StringBuilder escaped = new StringBuilder();
+        for (byte b : decoded.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '.' || c == '_' || c == '~') {
+                escaped.append(c);
+            } else {
+                escaped.append(String.format("%%%02X", b & 0xFF));
+            }
+        }
+        return escaped.toString();
     }
 
     /**
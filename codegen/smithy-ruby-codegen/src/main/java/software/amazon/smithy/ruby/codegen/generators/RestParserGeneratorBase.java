@@ -117,12 +117,37 @@ public abstract class RestParserGeneratorBase extends ParserGeneratorBase {
      */
     protected abstract void renderBodyParser(Shape outputShape);
 
+    /**
+     * Returns the parameters of an operation's parse method. Protocols that
+     * yield values to a block while parsing may add a block parameter.
+     *
+     * @param operation   the operation the parse method is rendered for
+     * @param outputShape the operation's outputShape
+     * @return the parameter list of the operation's parse method
+     */
+    protected String operationParseParameters(OperationShape operation, Shape outputShape) {
+        return "http_resp";
+    }
+
+    /**
+     * Returns the class of the data an operation's parse method creates.
+     * Protocols that convert members lazily may return a subclass of the
+     * output type.
+     *
+     * @param operation   the operation the parse method is rendered for
+     * @param outputShape the operation's outputShape
+     * @return the class of the data created by the operation's parse method
+     */
+    protected String operationDataClass(OperationShape operation, Shape outputShape) {
+        return writer.format("$T", context.symbolProvider().toSymbol(outputShape));
+    }
+
     @Override
     protected void renderOperationParseMethod(OperationShape operation, Shape outputShape) {
 
         writer
-                .openBlock("def self.parse(http_resp)")
-                .write("data = $T.new", context.symbolProvider().toSymbol(outputShape))
+                .openBlock("def self.parse($L)", operationParseParameters(operation, outputShape))
+                .write("data = $L.new", operationDataClass(operation, outputShape))
                 .call(() -> renderHeaderParsers(outputShape))
                 .call(() -> renderPrefixHeaderParsers(outputShape))
                 .call(() -> renderResponseCodeParser(outputShape))
@@ -33,10 +33,14 @@ abstract class RubyGeneratorBase {
     final GenerationContext context;
 
     RubyGeneratorBase(ContextualDirective<GenerationContext, RubySettings> directive) {
-        this.symbolProvider = directive.symbolProvider();
-        this.settings = directive.settings();
-        this.context = directive.context();
-        this.model = directive.model();
+        this(directive.context());
+    }
+
+    RubyGeneratorBase(GenerationContext context) {
+        this.symbolProvider = context.symbolProvider();
+        this.settings = context.settings();
+        this.context = context;
+        this.model = context.model();
     }
 
     abstract String getModule();
@@ -45,6 +49,26 @@ abstract class RubyGeneratorBase {
         write(rbFile(), nameSpace(), writerConsumer);
     }
 
+    /**
+     * Writes the rb file, which is made of top-level blocks. With streaming
+     * output or per shape files enabled the file is written straight to the
+     * FileManifest rather than through the WriterDelegator, so its blocks
+     * can be written out as they are rendered.
+     *
+     * @param writerConsumer renders the file
+     */
+    public final void writeTopLevelBlocks(Consumer<RubyCodeWriter> writerConsumer) {
+        if (!settings.isStreamingOutput() && !settings.isPerShapeFiles()) {
+            write(writerConsumer);
+            return;
+        }
+        RubyCodeWriter writer = new RubyCodeWriter(nameSpace());
+        writer.configureTopLevelBlocks(settings, context.fileManifest(), getModule().toLowerCase(),
+                settings.getModule(), getModule());
+        writerConsumer.accept(writer);
+        writer.writeTo(context.fileManifest(), rbFile());
+    }
+
     public final void writeRbs(Consumer<RubyCodeWriter> writerConsumer) {
         write(rbsFile(), nameSpace(), writerConsumer);
     }
@@ -83,6 +83,18 @@ public final class StructureGenerator extends RubyGeneratorBase {
                 });
             });
 
+            if (settings.isPlainTypes()) {
+                writer
+                    .openBlock("class $T", symbolProvider.toSymbol(shape))
+                    .write("include $T", Hearth.PLAIN_STRUCTURE)
+                    .call(() -> renderPlainMembers(writer, shape))
+                    .call(() -> renderPlainInitializeMethod(writer, model, shape))
+                    .call(() -> renderStructureToHMethod(writer, model, shape))
+                    .call(() -> renderStructureToSMethod(writer, model, shape))
+                    .closeBlock("end\n");
+                return;
+            }
+
             writer
                 .openBlock("$T = ::Struct.new(", symbolProvider.toSymbol(shape))
                 .write(membersBlock)
@@ -91,6 +103,7 @@ public final class StructureGenerator extends RubyGeneratorBase {
                 .indent()
                 .write("include $T", Hearth.STRUCTURE)
                 .call(() -> renderStructureInitializeMethod(writer, model, shape))
+                .call(() -> renderStructureToHMethod(writer, model, shape))
                 .call(() -> renderStructureToSMethod(writer, model, shape))
                 .closeBlock("end\n");
         });
@@ -98,10 +111,83 @@ public final class StructureGenerator extends RubyGeneratorBase {
         writeRbs(writer -> {
             Symbol symbol = symbolProvider.toSymbol(shape);
             String shapeName = symbol.getName();
-            writer.write(shapeName + ": untyped\n");
+            if (settings.isPlainTypes()) {
+                renderPlainRbs(writer, shapeName);
+            } else {
+                writer.write(shapeName + ": untyped\n");
+            }
         });
     }
 
+    /**
+     * Plain types are classes rather than constants holding a Struct, so
+     * their signature declares the members that steep checks them against.
+     */
+    private void renderPlainRbs(RubyCodeWriter writer, String shapeName) {
+        writer
+            .openBlock("class $L", shapeName)
+            .write("include $T\n", Hearth.PLAIN_STRUCTURE)
+            .write("MEMBERS: Array[Symbol]\n");
+        shape.members().forEach((m) ->
+                writer.write("attr_accessor $L: untyped\n", symbolProvider.toMemberName(m)));
+        if (!shape.members().isEmpty()) {
+            writer.write("def initialize: ($L) -> void\n", shape.members().stream()
+                    .map((m) -> "?" + symbolProvider.toMemberName(m) + ": untyped")
+                    .collect(Collectors.joining(", ")));
+        }
+        writer
+            .write("def to_h: () -> Hash[Symbol, untyped]\n")
+            .write("alias to_hash to_h")
+            .closeBlock("end\n");
+    }
+
+    private void renderPlainMembers(RubyCodeWriter writer, StructureShape structureShape) {
+        if (structureShape.members().isEmpty()) {
+            writer.write("\nMEMBERS = [].freeze");
+            return;
+        }
+        writer
+            .openBlock("\nMEMBERS = %i[")
+            .call(() -> structureShape.members().forEach(
+                    (m) -> writer.write(symbolProvider.toMemberName(m))))
+            .closeBlock("].freeze")
+            .write("\nattr_accessor(*MEMBERS)");
+    }
+
+    /**
+     * Plain types assign members directly to instance variables, which
+     * avoids the keyword argument processing of keyword_init Structs.
+     * Non-nullable members are set to their zero value when not given.
+     */
+    private void renderPlainInitializeMethod(
+        RubyCodeWriter writer,
+        Model model,
+        StructureShape structureShape
+    ) {
+        if (structureShape.members().isEmpty()) {
+            return;
+        }
+        NullableIndex nullableIndex = new NullableIndex(model);
+        writer
+            .openBlock("\ndef initialize(")
+            .write(structureShape.members().stream()
+                    .map((m) -> symbolProvider.toMemberName(m) + ": nil")
+                    .collect(Collectors.joining(",\n")))
+            .closeBlock(")")
+            .indent()
+            .call(() -> structureShape.members().forEach((m) -> {
+                String attribute = symbolProvider.toMemberName(m);
+                if (nullableIndex.isNullable(m)) {
+                    writer.write("@$1L = $1L", attribute);
+                } else {
+                    Shape target = model.expectShape(m.getTarget());
+                    writer.write("@$1L = $1L.nil? ? $2L : $1L", attribute,
+                            target.accept(new MemberDefaultVisitor()));
+                }
+            }))
+            .closeBlock("end");
+    }
+
     private void renderStructureInitializeMethod(
         RubyCodeWriter writer,
         Model model,
@@ -130,6 +216,53 @@ public final class StructureGenerator extends RubyGeneratorBase {
         }
     }
 
+    private void renderStructureToHMethod(
+        RubyCodeWriter writer,
+        Model model,
+        StructureShape structureShape
+    ) {
+        writer.openBlock("\ndef to_h");
+        if (structureShape.members().isEmpty()) {
+            writer.write("{}");
+        } else {
+            writer
+                .write("# @type var hash: Hash[Symbol, untyped]")
+                .write("hash = {}");
+            structureShape.members().forEach(memberShape -> {
+                String attribute = symbolProvider.toMemberName(memberShape);
+                String value;
+                if (settings.isPlainTypes()) {
+                    value = "@" + attribute;
+                } else {
+                    // read through self so members named hash or after a
+                    // keyword (case, end) are not shadowed or misparsed
+                    value = "self." + attribute;
+                }
+                Shape target = model.expectShape(memberShape.getTarget());
+                writer.write("hash[$L] = $L unless $L.nil?",
+                        RubyFormatter.asSymbol(attribute), toHashValue(target, value), value);
+            });
+            writer.write("hash");
+        }
+        writer
+                .closeBlock("end")
+                .write("alias to_hash to_h");
+    }
+
+    /**
+     * Structures and unions are converted by their own to_h. Lists, maps and
+     * documents fall back to {@code Hearth::Structure#to_h}.
+     */
+    static String toHashValue(Shape target, String value) {
+        if (target.isStructureShape() || target.isUnionShape()) {
+            return value + ".to_h";
+        }
+        if (target.isListShape() || target.isMapShape() || target.isDocumentShape()) {
+            return "super(" + value + ")";
+        }
+        return value;
+    }
+
     private void renderStructureToSMethod(
         RubyCodeWriter writer,
         Model model,
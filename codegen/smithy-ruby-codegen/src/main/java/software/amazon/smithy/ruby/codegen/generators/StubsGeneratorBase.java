@@ -17,7 +17,6 @@ package software.amazon.smithy.ruby.codegen.generators;
 
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Logger;
@@ -25,7 +24,6 @@ import software.amazon.smithy.build.FileManifest;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.knowledge.TopDownIndex;
-import software.amazon.smithy.model.neighbor.Walker;
 import software.amazon.smithy.model.shapes.BigDecimalShape;
 import software.amazon.smithy.model.shapes.BigIntegerShape;
 import software.amazon.smithy.model.shapes.BlobShape;
@@ -198,6 +196,8 @@ public abstract class StubsGeneratorBase {
 
     public void render(FileManifest fileManifest) {
 
+        writer.configureTopLevelBlocks(settings, fileManifest, "stubs", settings.getModule(), "Stubs");
+
         writer
                 .includePreamble()
                 .includeRequires()
@@ -209,7 +209,7 @@ public abstract class StubsGeneratorBase {
                 .closeBlock("end");
 
         String fileName = settings.getGemName() + "/lib/" + settings.getGemName() + "/stubs.rb";
-        fileManifest.writeFile(fileName, writer.toString());
+        writer.writeTo(fileManifest, fileName);
 
         LOGGER.fine("Wrote stubs to " + fileName);
     }
@@ -226,9 +226,7 @@ public abstract class StubsGeneratorBase {
                     shapesToBeRendered.add(o);
                     generatedStubs.add(o.toShapeId());
                     generatedStubs.add(outputShape.toShapeId());
-                    Iterator<Shape> it = new Walker(model).iterateShapes(outputShape);
-                    while (it.hasNext()) {
-                        Shape s = it.next();
+                    for (Shape s : context.shapeClosureIndex().outputClosure(o)) {
                         if (!generatedStubs.contains(s.getId())) {
                             generatedStubs.add(s.getId());
                             shapesToBeRendered.add(s);
@@ -237,12 +235,15 @@ public abstract class StubsGeneratorBase {
                 });
 
         shapesToBeRendered.forEach(shape -> {
-            if (shape instanceof OperationShape operation) {
-                Shape outputShape = model.expectShape(operation.getOutputShape());
-                renderStubsForOperation(operation, outputShape);
-            } else {
-                shape.accept(new StubClassGenerator());
-            }
+            String constant = symbolProvider.toSymbol(shape).getName();
+            writer.writeTopLevelBlock(constant, (blockWriter) -> {
+                if (shape instanceof OperationShape operation) {
+                    Shape outputShape = model.expectShape(operation.getOutputShape());
+                    renderStubsForOperation(operation, outputShape);
+                } else {
+                    shape.accept(new StubClassGenerator());
+                }
+            });
         });
     }
 
@@ -19,6 +19,7 @@ import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.directed.GenerateUnionDirective;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.UnionShape;
 import software.amazon.smithy.model.traits.SensitiveTrait;
 import software.amazon.smithy.ruby.codegen.GenerationContext;
@@ -60,8 +61,9 @@ public final class UnionGenerator extends RubyGeneratorBase {
                         .openBlock("class $L < $T",
                                 symbolProvider.toMemberName(memberShape), symbolProvider.toSymbol(shape))
                         .openBlock("def to_h")
-                        .write("{ $L: super(__getobj__) }",
-                                RubyFormatter.toSnakeCase(symbolProvider.toMemberName(memberShape)))
+                        .write("{ $L: $L }",
+                                RubyFormatter.toSnakeCase(symbolProvider.toMemberName(memberShape)),
+                                unionMemberToHashValue(memberShape))
                         .closeBlock("end")
                         .call(() -> renderUnionToSMethod(writer, model, memberShape))
                         .closeBlock("end\n");
@@ -103,6 +105,14 @@ public final class UnionGenerator extends RubyGeneratorBase {
         });
     }
 
+    private String unionMemberToHashValue(MemberShape memberShape) {
+        Shape target = model.expectShape(memberShape.getTarget());
+        if (target.isStructureShape() || target.isUnionShape()) {
+            return "__getobj__&.to_h";
+        }
+        return StructureGenerator.toHashValue(target, "__getobj__");
+    }
+
     private void renderUnionToSMethod(
         RubyCodeWriter writer,
         Model model,
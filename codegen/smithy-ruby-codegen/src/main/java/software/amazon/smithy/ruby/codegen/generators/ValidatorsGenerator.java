@@ -21,8 +21,6 @@ import java.util.logging.Logger;
 import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.codegen.core.directed.ContextualDirective;
-import software.amazon.smithy.model.Model;
-import software.amazon.smithy.model.neighbor.Walker;
 import software.amazon.smithy.model.shapes.BigDecimalShape;
 import software.amazon.smithy.model.shapes.BlobShape;
 import software.amazon.smithy.model.shapes.BooleanShape;
@@ -45,7 +43,6 @@ import software.amazon.smithy.model.shapes.UnionShape;
 import software.amazon.smithy.model.traits.RequiredTrait;
 import software.amazon.smithy.model.traits.RequiresLengthTrait;
 import software.amazon.smithy.model.traits.StreamingTrait;
-import software.amazon.smithy.model.transform.ModelTransformer;
 import software.amazon.smithy.ruby.codegen.GenerationContext;
 import software.amazon.smithy.ruby.codegen.Hearth;
 import software.amazon.smithy.ruby.codegen.RubyCodeWriter;
@@ -62,13 +59,17 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
         super(directive);
     }
 
+    public ValidatorsGenerator(GenerationContext context) {
+        super(context);
+    }
+
     @Override
     String getModule() {
         return "Validators";
     }
 
     public void render() {
-        write(writer -> {
+        writeTopLevelBlocks(writer -> {
             writer
                 .includePreamble()
                 .includeRequires()
@@ -84,17 +85,15 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
     }
 
     private void renderValidators(RubyCodeWriter writer) {
-        Model modelWithoutTraitShapes = ModelTransformer.create()
-                .getModelWithoutTraitShapes(model);
-
-        new Walker(modelWithoutTraitShapes)
-                .walkShapes(context.service())
+        context.shapeClosureIndex().serviceClosureWithoutTraitShapes()
                 .stream()
+                .filter((shape) -> !shape.isMemberShape())
                 .sorted(Comparator.comparing((o) -> o.getId().getName()))
-                .forEach((shape) -> shape.accept(new Visitor(writer)));
+                .forEach((shape) -> writer.writeTopLevelBlock(symbolProvider.toSymbol(shape).getName(),
+                        (blockWriter) -> shape.accept(new Visitor(blockWriter))));
     }
 
-    private final class Visitor extends ShapeVisitor.Default<Void> {
+    final class Visitor extends ShapeVisitor.Default<Void> {
 
         private final RubyCodeWriter writer;
 
@@ -124,7 +123,7 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
                 Shape target = model.expectShape(member.getTarget());
                 String symbolName = ":" + symbolProvider.toMemberName(member);
                 String input = "input[" + symbolName + "]";
-                String context = "\"#{context}[" + symbolName + "]\"";
+                String context = writer.format("$T.new(context, $L)", Hearth.VALIDATOR_PATH, symbolName);
                 if (member.hasTrait(RequiredTrait.class)) {
                     writer.write("$T.validate_required!($L, context: $L)", Hearth.VALIDATOR, input, context);
                 }
@@ -142,9 +141,11 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
                 .openBlock("def self.validate!(input, context:)")
                 .write("$T.validate_types!(input, ::Hash, context: context)", Hearth.VALIDATOR)
                 .openBlock("input.each do |key, value|")
-                .write("$T.validate_types!(key, ::String, ::Symbol, context: \"#{context}.keys\")", Hearth.VALIDATOR)
+                .write("$T.validate_types!(key, ::String, ::Symbol, context: $T.new(context))",
+                        Hearth.VALIDATOR, Hearth.VALIDATOR_PATH)
                 .call(() -> valueTarget
-                    .accept(new MemberValidator(writer, symbolProvider, "value", "\"#{context}[:#{key}]\"", false)))
+                    .accept(new MemberValidator(writer, symbolProvider, "value",
+                            writer.format("$T.new(context, key)", Hearth.VALIDATOR_PATH), false)))
                 .closeBlock("end")
                 .closeBlock("end")
                 .closeBlock("end");
@@ -164,7 +165,8 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
                 .write("$T.validate_types!(input, ::Array, context: context)", Hearth.VALIDATOR)
                 .openBlock("input.each_with_index do |element, index|")
                 .call(() -> memberTarget
-                    .accept(new MemberValidator(writer, symbolProvider, "element", "\"#{context}[#{index}]\"", false)))
+                    .accept(new MemberValidator(writer, symbolProvider, "element",
+                            writer.format("$T.new(context, index)", Hearth.VALIDATOR_PATH), false)))
                 .closeBlock("end")
                 .closeBlock("end")
                 .closeBlock("end");
@@ -218,13 +220,13 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
                 .openBlock("when ::Hash")
                 .write("input.each do |k,v|")
                 .indent()
-                .write("validate!(v, context: \"#{context}[:#{k}]\")")
+                .write("validate!(v, context: $T.new(context, k))", Hearth.VALIDATOR_PATH)
                 .closeBlock("end")
                 .dedent()
                 .write("when ::Array")
                 .indent()
                 .openBlock("input.each_with_index do |v, i|")
-                .write("validate!(v, context: \"#{context}[#{i}]\")")
+                .write("validate!(v, context: $T.new(context, i))", Hearth.VALIDATOR_PATH)
                 .closeBlock("end")
                 .dedent()
                 .write("end")
@@ -255,23 +257,39 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
             return null;
         }
 
-        private static class MemberValidator extends ShapeVisitor.Default<Void> {
+        /**
+         * Renders the validation of a single value. When rendering for fused Params
+         * (see {@link ParamsGenerator}), lists, maps, structures and unions are
+         * skipped because their Params are built with validation.
+         */
+        static class MemberValidator extends ShapeVisitor.Default<Void> {
             private final RubyCodeWriter writer;
             private final SymbolProvider symbolProvider;
             private final String input;
             private final String context;
             private Boolean renderUnionMemberValidator;
+            private final boolean fused;
 
             MemberValidator(RubyCodeWriter writer,
                             SymbolProvider symbolProvider,
                             String input,
                             String context,
                             Boolean renderUnionMemberValidator) {
+                this(writer, symbolProvider, input, context, renderUnionMemberValidator, false);
+            }
+
+            MemberValidator(RubyCodeWriter writer,
+                            SymbolProvider symbolProvider,
+                            String input,
+                            String context,
+                            Boolean renderUnionMemberValidator,
+                            boolean fused) {
                 this.writer = writer;
                 this.symbolProvider = symbolProvider;
                 this.input = input;
                 this.context = context;
                 this.renderUnionMemberValidator = renderUnionMemberValidator;
+                this.fused = fused;
             }
 
             @Override
@@ -309,6 +327,9 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
 
             @Override
             public Void listShape(ListShape shape) {
+                if (fused) {
+                    return null;
+                }
                 String content = "$1L.validate!($2L, context: $3L) unless $2L.nil?";
                 if (renderUnionMemberValidator) {
                     content = "Validators::" + content;
@@ -350,7 +371,7 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
             @Override
             public Void documentShape(DocumentShape shape) {
                 String content = "$1L.validate!($2L, context: $3L) unless $2L.nil?";
-                if (renderUnionMemberValidator) {
+                if (renderUnionMemberValidator || fused) {
                     content = "Validators::" + content;
                 }
                 writer.write(content, symbolProvider.toSymbol(shape).getName(), input, context);
@@ -372,6 +393,9 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
 
             @Override
             public Void mapShape(MapShape shape) {
+                if (fused) {
+                    return null;
+                }
                 String content = "$1L.validate!($2L, context: $3L) unless $2L.nil?";
                 if (renderUnionMemberValidator) {
                     content = "Validators::" + content;
@@ -389,6 +413,9 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
 
             @Override
             public Void structureShape(StructureShape shape) {
+                if (fused) {
+                    return null;
+                }
                 String content = "$1L.validate!($2L, context: $3L) unless $2L.nil?";
                 if (renderUnionMemberValidator) {
                     content = "Validators::" + content;
@@ -399,6 +426,9 @@ public class ValidatorsGenerator extends RubyGeneratorBase {
 
             @Override
             public Void unionShape(UnionShape shape) {
+                if (fused) {
+                    return null;
+                }
                 writer.write("$1L.validate!($2L, context: $3L) unless $2L.nil?",
                     symbolProvider.toSymbol(shape).getName(), input, context);
                 return null;
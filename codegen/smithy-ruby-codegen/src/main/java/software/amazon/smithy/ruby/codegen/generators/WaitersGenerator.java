@@ -44,7 +44,13 @@ import software.amazon.smithy.jmespath.ast.OrExpression;
 import software.amazon.smithy.jmespath.ast.ProjectionExpression;
 import software.amazon.smithy.jmespath.ast.SliceExpression;
 import software.amazon.smithy.jmespath.ast.Subexpression;
+import software.amazon.smithy.model.shapes.CollectionShape;
+import software.amazon.smithy.model.shapes.MapShape;
+import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
 import software.amazon.smithy.ruby.codegen.GenerationContext;
 import software.amazon.smithy.ruby.codegen.Hearth;
 import software.amazon.smithy.ruby.codegen.RubyCodeWriter;
@@ -144,7 +150,7 @@ public class WaitersGenerator extends RubyGeneratorBase {
                 .write("max_delay: $L || options[:max_delay],", waiter.getMaxDelay())
                 .openBlock("poller: $T.new(", Hearth.POLLER)
                 .write("operation_name: :$L,", operationName)
-                .call(() -> renderAcceptors(writer, waiter))
+                .call(() -> renderAcceptors(writer, waiter, operation))
                 .closeBlock(")")
                 .closeBlock("}.merge(options))")
                 .call(() -> renderWaiterTags(writer, waiter))
@@ -187,7 +193,7 @@ public class WaitersGenerator extends RubyGeneratorBase {
         writer.write("@tags = [$L]", tags);
     }
 
-    private void renderAcceptors(RubyCodeWriter writer, Waiter waiter) {
+    private void renderAcceptors(RubyCodeWriter writer, Waiter waiter, OperationShape operation) {
         List<Acceptor> acceptorsList = waiter.getAcceptors();
 
         if (acceptorsList.isEmpty()) {
@@ -205,7 +211,7 @@ public class WaitersGenerator extends RubyGeneratorBase {
                         .write("state: '$L',", state)
                         .openBlock("matcher: {")
                         .call(() -> {
-                            matcher.accept(new AcceptorVisitor(writer));
+                            matcher.accept(new AcceptorVisitor(writer, operation));
                         })
                         .closeBlock("}");
 
@@ -219,6 +225,34 @@ public class WaitersGenerator extends RubyGeneratorBase {
         }
     }
 
+    /**
+     * Compiles an acceptor's JMESPath expression into a Ruby lambda that reads
+     * Types members directly, so that the Poller does not parse the expression
+     * or convert the response with to_h on every poll. Output paths are given
+     * the output data and input output paths are given the input and output.
+     * Expressions that use JMESPath features without a compiled form are
+     * rendered as strings that the Poller searches with the jmespath gem.
+     */
+    private String compilePath(RubyCodeWriter writer, OperationShape operation, String path,
+                               boolean inputOutput) {
+        JmespathExpression expression = JmespathExpression.parse(path);
+        String helper = writer.format("$T", Hearth.PATH_HELPER);
+        Shape input = model.expectShape(operation.getInputShape());
+        Shape output = model.expectShape(operation.getOutputShape());
+        try {
+            if (inputOutput) {
+                PathCompiler compiler = new PathCompiler(helper, input, output, null, PathType.ROOT, 0);
+                return "->(input, output) { " + expression.accept(compiler).ruby + " }";
+            }
+            PathCompiler compiler = new PathCompiler(helper, input, output, "output", PathType.of(output), 0);
+            return "->(output) { " + expression.accept(compiler).ruby + " }";
+        } catch (UnsupportedOperationException e) {
+            LOGGER.warning("Unable to compile waiter path `" + path + "`, it will be searched with "
+                    + "JMESPath at runtime: " + e.getMessage());
+            return writer.format("$S", translatePath(path));
+        }
+    }
+
     private String translatePath(String path) {
         JmespathExpression transformedExpression = JmespathExpression.parse(path).accept(new JmespathTranslator());
         String transformedPath = (new ExpressionSerializer()).serialize(transformedExpression);
@@ -262,15 +296,18 @@ public class WaitersGenerator extends RubyGeneratorBase {
     private final class AcceptorVisitor implements Matcher.Visitor<Void> {
 
         private final RubyCodeWriter writer;
+        private final OperationShape operation;
 
-        private AcceptorVisitor(RubyCodeWriter writer) {
+        private AcceptorVisitor(RubyCodeWriter writer, OperationShape operation) {
             this.writer = writer;
+            this.operation = operation;
         }
 
-        private void renderPathMatcher(String memberName, String path, String comparator, String expected) {
+        private void renderPathMatcher(String memberName, String path, String comparator, String expected,
+                                       boolean inputOutput) {
             writer
                     .openBlock("$L: {", memberName)
-                    .write("path: $S,", translatePath(path))
+                    .write("path: $L,", compilePath(writer, operation, path, inputOutput))
                     .write("comparator: \"$L\",", comparator)
                     .write("expected: '$L'", expected)
                     .closeBlock("}");
@@ -282,7 +319,8 @@ public class WaitersGenerator extends RubyGeneratorBase {
                     outputPath.getMemberName(),
                     outputPath.getValue().getPath(),
                     outputPath.getValue().getComparator().toString(),
-                    outputPath.getValue().getExpected());
+                    outputPath.getValue().getExpected(),
+                    false);
             return null;
         }
 
@@ -292,7 +330,8 @@ public class WaitersGenerator extends RubyGeneratorBase {
                     inputOutputPath.getMemberName(),
                     inputOutputPath.getValue().getPath(),
                     inputOutputPath.getValue().getComparator().toString(),
-                    inputOutputPath.getValue().getExpected());
+                    inputOutputPath.getValue().getExpected(),
+                    true);
             return null;
         }
 
@@ -314,6 +353,277 @@ public class WaitersGenerator extends RubyGeneratorBase {
         }
     }
 
+    /**
+     * The type of a compiled path's value: a modeled shape, a list of values
+     * produced by a projection, the input output root or an unmodeled scalar.
+     */
+    private static final class PathType {
+        private static final PathType ROOT = new PathType(null, null);
+        private static final PathType SCALAR = new PathType(null, null);
+
+        private final Shape shape;
+        private final PathType element;
+
+        private PathType(Shape shape, PathType element) {
+            this.shape = shape;
+            this.element = element;
+        }
+
+        private static PathType of(Shape shape) {
+            return new PathType(shape, null);
+        }
+
+        private static PathType listOf(PathType element) {
+            return new PathType(null, element);
+        }
+    }
+
+    private static final class CompiledPath {
+        private final String ruby;
+        private final PathType type;
+
+        private CompiledPath(String ruby, PathType type) {
+            this.ruby = ruby;
+            this.type = type;
+        }
+    }
+
+    /**
+     * Compiles a JMESPath expression evaluated against the current value into
+     * a Ruby expression. Every expression rendered is safe to chain a method
+     * call onto. Projections yield each item to a block variable named by
+     * depth so that nested projections do not shadow each other.
+     */
+    private final class PathCompiler implements ExpressionVisitor<CompiledPath> {
+
+        private final String helper;
+        private final Shape input;
+        private final Shape output;
+        private final String current;
+        private final PathType type;
+        private final int depth;
+
+        private PathCompiler(String helper, Shape input, Shape output, String current, PathType type, int depth) {
+            this.helper = helper;
+            this.input = input;
+            this.output = output;
+            this.current = current;
+            this.type = type;
+            this.depth = depth;
+        }
+
+        private PathCompiler with(String value, PathType valueType, int valueDepth) {
+            return new PathCompiler(helper, input, output, value, valueType, valueDepth);
+        }
+
+        private PathType shapeType(ShapeId id) {
+            return PathType.of(model.expectShape(id));
+        }
+
+        private PathType elementType(PathType listType, JmespathExpression expression) {
+            if (listType.element != null) {
+                return listType.element;
+            }
+            if (listType.shape instanceof CollectionShape) {
+                return shapeType(((CollectionShape) listType.shape).getMember().getTarget());
+            }
+            throw unsupported("a list is expected", expression);
+        }
+
+        private UnsupportedOperationException unsupported(String reason, JmespathExpression expression) {
+            return new UnsupportedOperationException(reason + " at line " + expression.getLine()
+                    + ", column " + expression.getColumn());
+        }
+
+        private String rubyString(String value) {
+            return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
+        }
+
+        @Override
+        public CompiledPath visitComparator(ComparatorExpression expression) {
+            String left = expression.getLeft().accept(this).ruby;
+            String right = expression.getRight().accept(this).ruby;
+            switch (expression.getComparator()) {
+                case EQUAL:
+                    return new CompiledPath("(" + left + " == " + right + ")", PathType.SCALAR);
+                case NOT_EQUAL:
+                    return new CompiledPath("(" + left + " != " + right + ")", PathType.SCALAR);
+                case LESS_THAN:
+                    return compare(left, "<", right);
+                case LESS_THAN_EQUAL:
+                    return compare(left, "<=", right);
+                case GREATER_THAN:
+                    return compare(left, ">", right);
+                case GREATER_THAN_EQUAL:
+                    return compare(left, ">=", right);
+                default:
+                    throw unsupported("unknown comparator " + expression.getComparator(), expression);
+            }
+        }
+
+        // Ordering comparisons are only defined for numbers in JMESPath.
+        private CompiledPath compare(String left, String operator, String right) {
+            return new CompiledPath(helper + ".compare(" + left + ", :" + operator + ", " + right + ")",
+                    PathType.SCALAR);
+        }
+
+        @Override
+        public CompiledPath visitCurrentNode(CurrentExpression expression) {
+            if (type == PathType.ROOT) {
+                throw unsupported("the input output root can not be selected", expression);
+            }
+            return new CompiledPath(current, type);
+        }
+
+        @Override
+        public CompiledPath visitExpressionType(ExpressionTypeExpression expression) {
+            throw unsupported("expression types are not supported", expression);
+        }
+
+        @Override
+        public CompiledPath visitFlatten(FlattenExpression expression) {
+            CompiledPath list = expression.getExpression().accept(this);
+            PathType element = elementType(list.type, expression);
+            PathType flattened = element.element != null || element.shape instanceof CollectionShape
+                    ? elementType(element, expression)
+                    : element;
+            return new CompiledPath(helper + ".flatten(" + list.ruby + ")", PathType.listOf(flattened));
+        }
+
+        @Override
+        public CompiledPath visitFunction(FunctionExpression expression) {
+            List<String> arguments = expression.getArguments().stream()
+                    .map((e) -> e.accept(this).ruby)
+                    .collect(Collectors.toList());
+            if ((expression.getName().equals("length") && arguments.size() == 1)
+                    || (expression.getName().equals("contains") && arguments.size() == 2)) {
+                return new CompiledPath(helper + "." + expression.getName() + "("
+                        + String.join(", ", arguments) + ")", PathType.SCALAR);
+            }
+            throw unsupported("function " + expression.getName() + " is not supported", expression);
+        }
+
+        @Override
+        public CompiledPath visitField(FieldExpression expression) {
+            String name = expression.getName();
+            if (type == PathType.ROOT) {
+                if (name.equals("input")) {
+                    return new CompiledPath("input", PathType.of(input));
+                } else if (name.equals("output")) {
+                    return new CompiledPath("output", PathType.of(output));
+                }
+                throw unsupported("expected input or output", expression);
+            }
+            if (type.shape instanceof StructureShape) {
+                MemberShape member = type.shape.getMember(name)
+                        .orElseThrow(() -> unsupported("unknown member " + name, expression));
+                return new CompiledPath(current + "&." + symbolProvider.toMemberName(member),
+                        shapeType(member.getTarget()));
+            }
+            if (type.shape instanceof MapShape) {
+                return new CompiledPath(current + "&.[](" + rubyString(name) + ")",
+                        shapeType(((MapShape) type.shape).getValue().getTarget()));
+            }
+            throw unsupported("a structure or map is expected", expression);
+        }
+
+        @Override
+        public CompiledPath visitIndex(IndexExpression expression) {
+            return new CompiledPath(current + "&.[](" + expression.getIndex() + ")",
+                    elementType(type, expression));
+        }
+
+        @Override
+        public CompiledPath visitLiteral(LiteralExpression expression) {
+            if (expression.isStringValue()) {
+                return new CompiledPath(rubyString(expression.expectStringValue()), PathType.SCALAR);
+            } else if (expression.isNumberValue()) {
+                double number = expression.expectNumberValue().doubleValue();
+                String ruby = number == Math.rint(number) && !Double.isInfinite(number)
+                        ? Long.toString((long) number)
+                        : Double.toString(number);
+                return new CompiledPath(ruby, PathType.SCALAR);
+            } else if (expression.isBooleanValue()) {
+                return new CompiledPath(Boolean.toString(expression.expectBooleanValue()), PathType.SCALAR);
+            } else if (expression.isNullValue()) {
+                return new CompiledPath("nil", PathType.SCALAR);
+            }
+            throw unsupported("only scalar literals are supported", expression);
+        }
+
+        @Override
+        public CompiledPath visitMultiSelectList(MultiSelectListExpression expression) {
+            throw unsupported("multi-select lists are not supported", expression);
+        }
+
+        @Override
+        public CompiledPath visitMultiSelectHash(MultiSelectHashExpression expression) {
+            throw unsupported("multi-select hashes are not supported", expression);
+        }
+
+        @Override
+        public CompiledPath visitAnd(AndExpression expression) {
+            return new CompiledPath(helper + ".and_then(" + expression.getLeft().accept(this).ruby + ") { "
+                    + expression.getRight().accept(this).ruby + " }", PathType.SCALAR);
+        }
+
+        @Override
+        public CompiledPath visitOr(OrExpression expression) {
+            return new CompiledPath(helper + ".or_else(" + expression.getLeft().accept(this).ruby + ") { "
+                    + expression.getRight().accept(this).ruby + " }", PathType.SCALAR);
+        }
+
+        @Override
+        public CompiledPath visitNot(NotExpression expression) {
+            return new CompiledPath("(!" + helper + ".truthy?(" + expression.getExpression().accept(this).ruby
+                    + "))", PathType.SCALAR);
+        }
+
+        @Override
+        public CompiledPath visitProjection(ProjectionExpression expression) {
+            CompiledPath list = expression.getLeft().accept(this);
+            return project(list.ruby, elementType(list.type, expression), expression.getRight());
+        }
+
+        @Override
+        public CompiledPath visitFilterProjection(FilterProjectionExpression expression) {
+            CompiledPath list = expression.getLeft().accept(this);
+            PathType element = elementType(list.type, expression);
+            String item = "v" + depth;
+            String comparison = expression.getComparison().accept(with(item, element, depth + 1)).ruby;
+            String filtered = helper + ".filter(" + list.ruby + ") { |" + item + "| " + comparison + " }";
+            return project(filtered, element, expression.getRight());
+        }
+
+        @Override
+        public CompiledPath visitObjectProjection(ObjectProjectionExpression expression) {
+            CompiledPath map = expression.getLeft().accept(this);
+            if (!(map.type.shape instanceof MapShape)) {
+                throw unsupported("a map is expected", expression);
+            }
+            PathType value = shapeType(((MapShape) map.type.shape).getValue().getTarget());
+            return project(map.ruby + "&.values", value, expression.getRight());
+        }
+
+        private CompiledPath project(String list, PathType element, JmespathExpression right) {
+            String item = "v" + depth;
+            CompiledPath projected = right.accept(with(item, element, depth + 1));
+            return new CompiledPath(helper + ".project(" + list + ") { |" + item + "| " + projected.ruby + " }",
+                    PathType.listOf(projected.type));
+        }
+
+        @Override
+        public CompiledPath visitSlice(SliceExpression expression) {
+            throw unsupported("slices are not supported", expression);
+        }
+
+        @Override
+        public CompiledPath visitSubexpression(Subexpression expression) {
+            CompiledPath left = expression.getLeft().accept(this);
+            return expression.getRight().accept(with(left.ruby, left.type, depth));
+        }
+    }
+
     private static class JmespathTranslator implements ExpressionVisitor<JmespathExpression> {
 
         @Override
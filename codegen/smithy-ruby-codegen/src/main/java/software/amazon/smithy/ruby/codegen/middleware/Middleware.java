@@ -37,6 +37,7 @@ import software.amazon.smithy.model.shapes.ServiceShape;
 import software.amazon.smithy.ruby.codegen.GenerationContext;
 import software.amazon.smithy.ruby.codegen.OperationPredicate;
 import software.amazon.smithy.ruby.codegen.RubyCodeWriter;
+import software.amazon.smithy.ruby.codegen.RubyFormatter;
 import software.amazon.smithy.ruby.codegen.ServicePredicate;
 import software.amazon.smithy.ruby.codegen.config.ClientConfig;
 import software.amazon.smithy.utils.SmithyBuilder;
@@ -56,6 +57,7 @@ public final class Middleware {
     private final byte order;
     private final Set<ClientConfig> clientConfig;
     private final OperationParams operationParams;
+    private final OperationParams operationConstantParams;
     private final Map<String, String> additionalParams;
     private final ServicePredicate servicePredicate;
     private final OperationPredicate operationPredicate;
@@ -70,6 +72,7 @@ public final class Middleware {
         this.order = builder.order;
         this.clientConfig = builder.clientConfig;
         this.operationParams = builder.operationParams;
+        this.operationConstantParams = builder.operationConstantParams;
         this.additionalParams = builder.additionalParams;
         this.servicePredicate = builder.servicePredicate;
         this.operationPredicate = builder.operationPredicate;
@@ -112,6 +115,18 @@ public final class Middleware {
         return additionalParams;
     }
 
+    /**
+     * Parameters whose values depend only on the operation. They are built
+     * once when the client is initialized and shared by every call.
+     *
+     * @param context generation context
+     * @param operation operation to get parameters for
+     * @return operation constant parameters of the middleware
+     */
+    public Map<String, String> getOperationConstantParams(GenerationContext context, OperationShape operation) {
+        return operationConstantParams.params(context, operation);
+    }
+
     /**
      * @param model model
      * @param service service to test for
@@ -214,6 +229,12 @@ public final class Middleware {
                     params.putAll(middleware.operationParams
                             .params(context, operation));
 
+                    String operationName = RubyFormatter.toSnakeCase(
+                            context.symbolProvider().toSymbol(operation).getName());
+                    middleware.getOperationConstantParams(context, operation).keySet()
+                            .forEach((name) -> params.put(name,
+                                    "@operation_constants[:" + operationName + "][:" + name + "]"));
+
                     config.stream()
                             .forEach((c) -> {
                                 params.put(c.getName(), c.renderGetConfigValue());
@@ -241,6 +262,8 @@ public final class Middleware {
         private Set<ClientConfig> clientConfig = new HashSet<>();
         private OperationParams operationParams =
                 (context, operation) -> new HashMap<>();
+        private OperationParams operationConstantParams =
+                (context, operation) -> new HashMap<>();
         private Map<String, String> additionalParams = new HashMap<>();
         private ServicePredicate servicePredicate = (model, service) -> true;
         private OperationPredicate operationPredicate =
@@ -402,6 +425,20 @@ public final class Middleware {
             return this;
         }
 
+        /**
+         * Used to add additional parameters to the middleware whose values
+         * depend only on the operation. They are built once when the client
+         * is initialized instead of every time the middleware stack is built.
+         * Their names must be unique among the middleware of an operation.
+         *
+         * @param p Called with the operation to return a map of params/values.
+         * @return Returns the Builder
+         */
+        public Builder operationConstantParams(OperationParams p) {
+            this.operationConstantParams = p;
+            return this;
+        }
+
         /**
          * Used to completely override and fully customize the rendering of
          * adding this middleware to the stack.
@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import software.amazon.smithy.codegen.core.SymbolProvider;
 import software.amazon.smithy.model.Model;
@@ -96,20 +97,37 @@ public class MiddlewareBuilder {
 
     public void render(RubyCodeWriter writer, GenerationContext context,
                        OperationShape operation) {
+        for (Middleware middleware : operationMiddleware(context, operation)) {
+            middleware.renderAdd(writer, context, operation);
+        }
+    }
+
+    /**
+     * @param context generation context
+     * @param operation operation to collect parameters for
+     * @return operation constant parameters of all middleware applied to the operation, sorted by name
+     */
+    public Map<String, String> operationConstants(GenerationContext context, OperationShape operation) {
+        Map<String, String> constants = new TreeMap<>();
+        for (Middleware middleware : operationMiddleware(context, operation)) {
+            constants.putAll(middleware.getOperationConstantParams(context, operation));
+        }
+        return constants;
+    }
+
+    private List<Middleware> operationMiddleware(GenerationContext context, OperationShape operation) {
         Model model = context.model();
         ServiceShape service = context.service();
 
+        List<Middleware> operationMiddleware = new ArrayList<>();
         for (MiddlewareStackStep step : MiddlewareStackStep.values()) {
-            List<Middleware> orderedStepMiddleware = middlewares.get(step)
+            middlewares.get(step)
                     .stream()
                     .filter((m) -> m.includeFor(model, service, operation))
                     .sorted(Comparator.comparing(Middleware::getOrder))
-                    .collect(Collectors.toList());
-
-            for (Middleware middleware : orderedStepMiddleware) {
-                middleware.renderAdd(writer, context, operation);
-            }
+                    .forEach(operationMiddleware::add);
         }
+        return operationMiddleware;
     }
 
     public void addDefaultMiddleware(GenerationContext context) {
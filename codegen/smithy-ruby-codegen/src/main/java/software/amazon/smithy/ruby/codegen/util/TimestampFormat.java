@@ -60,11 +60,12 @@ public final class TimestampFormat {
                                 .orElse(defaultFormat));
         switch (format) {
             case EPOCH_SECONDS:
-                return String.format("Time.at(%s.to_i)", input);
+                return String.format("Hearth::TimeHelper.from_epoch_seconds(%s)", input);
             case HTTP_DATE:
+                return String.format("Hearth::TimeHelper.from_http_date(%s)", input);
             case DATE_TIME:
             default:
-                return String.format("Time.parse(%s)", input);
+                return String.format("Hearth::TimeHelper.from_date_time(%s)", input);
         }
     }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.smithy.build.FileManifest;
+import software.amazon.smithy.model.Model;
+
+public class IncrementalFileManifestTest {
+
+    private static final Map<String, Boolean> OPTIONS = Map.of("incremental", true);
+    private static final FileTime EPOCH = FileTime.fromMillis(0);
+
+    @Test
+    public void noOpRerunLeavesEveryFileUntouched(@TempDir Path outputDir) {
+        Model model = SampleService.model();
+        SampleService.generate(FileManifest.create(outputDir), model, SampleService.settings(OPTIONS));
+        Map<Path, String> firstRun = gemFiles(outputDir);
+        touchAll(outputDir, EPOCH);
+
+        SampleService.generate(FileManifest.create(outputDir), model, SampleService.settings(OPTIONS));
+
+        assertThat(gemFiles(outputDir), equalTo(firstRun));
+        assertThat(modifiedSince(outputDir, EPOCH), equalTo(Map.of()));
+    }
+
+    @Test
+    public void rerunAfterModelChangeMatchesFullGeneration(@TempDir Path outputDir) {
+        SampleService.generate(FileManifest.create(outputDir), SampleService.model(), SampleService.settings(OPTIONS));
+        Map<Path, String> firstRun = gemFiles(outputDir);
+        touchAll(outputDir, EPOCH);
+
+        Model changed = SampleService.model("sample-service-update.smithy");
+        SampleService.generate(FileManifest.create(outputDir), changed, SampleService.settings(OPTIONS));
+
+        Map<Path, String> expected = new TreeMap<>();
+        SampleService.generate(changed, Map.of()).forEach((path, contents) ->
+                expected.put(Path.of("/").relativize(path), contents));
+        Map<Path, String> rerun = gemFiles(outputDir);
+        assertThat(rerun, equalTo(expected));
+        assertThat(rerun, not(equalTo(firstRun)));
+
+        // only files whose contents changed are rewritten
+        Map<Path, String> rewritten = modifiedSince(outputDir, EPOCH);
+        rewritten.forEach((path, contents) -> assertThat(path.toString(), contents, not(equalTo(firstRun.get(path)))));
+        assertThat(rewritten.keySet(), hasItem(Path.of(SampleService.GEM_NAME, "lib", SampleService.GEM_NAME,
+                "types.rb")));
+    }
+
+    @Test
+    public void keepsStateOutsideOfTheGem(@TempDir Path outputDir) {
+        SampleService.generate(FileManifest.create(outputDir), SampleService.model(), SampleService.settings(OPTIONS));
+
+        assertThat(Files.isRegularFile(outputDir.resolve(IncrementalFileManifest.STATE_FILE)), equalTo(true));
+        assertThat(gemFiles(outputDir).keySet().stream()
+                .map((path) -> path.getFileName().toString())
+                .collect(Collectors.toList()), not(hasItem(IncrementalFileManifest.STATE_FILE)));
+    }
+
+    private static Map<Path, String> gemFiles(Path outputDir) {
+        return files(outputDir.resolve(SampleService.GEM_NAME), outputDir, (path) -> true);
+    }
+
+    private static Map<Path, String> modifiedSince(Path outputDir, FileTime time) {
+        return files(outputDir.resolve(SampleService.GEM_NAME), outputDir, (path) -> {
+            try {
+                return Files.getLastModifiedTime(path).compareTo(time) > 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static Map<Path, String> files(Path dir, Path base, Predicate<Path> filter) {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            Map<Path, String> files = new TreeMap<>();
+            walk.filter(Files::isRegularFile).filter(filter).forEach((path) -> {
+                try {
+                    files.put(base.relativize(path), Files.readString(path));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void touchAll(Path dir, FileTime time) {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.filter(Files::isRegularFile).forEach((path) -> {
+                try {
+                    Files.setLastModifiedTime(path, time);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+
+public class ParallelGeneratorTest {
+
+    @Test
+    public void parallelGenerationWritesTheSameFilesAsSequentialGeneration() {
+        Model model = SampleService.model();
+        Map<Path, String> sequential = SampleService.generate(model, Map.of());
+        Map<Path, String> parallel = SampleService.generate(model, Map.of("parallelGeneration", true));
+
+        assertThat(sequential.keySet(), not(empty()));
+        assertThat(parallel.keySet(), equalTo(sequential.keySet()));
+        sequential.forEach((path, contents) -> assertThat(path.toString(), parallel.get(path), equalTo(contents)));
+    }
+}
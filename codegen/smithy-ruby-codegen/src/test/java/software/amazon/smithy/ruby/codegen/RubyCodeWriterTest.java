@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.model.Model;
+
+public class RubyCodeWriterTest {
+
+    @Test
+    public void streamingOutputWritesTheSameFilesAsBufferedOutput() {
+        Model model = SampleService.model();
+        Map<Path, String> buffered = SampleService.generate(model, Map.of());
+        Map<Path, String> streamed = SampleService.generate(model, Map.of("streamingOutput", true));
+
+        assertThat(streamed.keySet(), equalTo(buffered.keySet()));
+        buffered.forEach((path, contents) -> assertThat(path.toString(), streamed.get(path), equalTo(contents)));
+    }
+
+    @Test
+    public void streamsTopLevelBlocksBetweenTheSurroundingModules() {
+        RubyCodeWriter writer = new RubyCodeWriter("Sample")
+                .includeRequires()
+                .streamTopLevelBlocks(2)
+                .openBlock("module Sample")
+                .openBlock("module Builders");
+        for (String name : new String[]{"First", "Second"}) {
+            writer.writeTopLevelBlock(name, (blockWriter) -> blockWriter
+                    .addUseImports(RubyImportContainer.TIME)
+                    .write("")
+                    .openBlock("class $L", name)
+                    .openBlock("def self.build")
+                    .write("Time.now")
+                    .closeBlock("end")
+                    .closeBlock("end"));
+        }
+        writer.closeBlock("end").closeBlock("end");
+        MockManifest manifest = new MockManifest();
+
+        writer.writeTo(manifest, "builders.rb");
+
+        assertThat(manifest.expectFileString("builders.rb"), equalTo("""
+                require 'time'
+
+                module Sample
+                  module Builders
+
+                    class First
+                      def self.build
+                        Time.now
+                      end
+                    end
+
+                    class Second
+                      def self.build
+                        Time.now
+                      end
+                    end
+                  end
+                end
+                """));
+    }
+}
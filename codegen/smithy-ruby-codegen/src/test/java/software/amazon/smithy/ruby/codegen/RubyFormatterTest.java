@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import software.amazon.smithy.model.shapes.Shape;
+
+public class RubyFormatterTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "ListTablesOutput, list_tables_output",
+        "HTTPRequestID, http_request_id",
+        "S3Bucket, s3_bucket",
+        "fooBARBaz, foo_bar_baz",
+        "already_snake, already_snake",
+        "dash-separated, dash_separated",
+        "ABC, abc",
+        "a, a",
+        "EC2InstanceIdV2, ec2_instance_id_v2",
+        "KMSKeyARN, kms_key_arn",
+        "__789BadName, __789_bad_name"
+    })
+    public void convertsToSnakeCase(String input, String expected) {
+        assertThat(RubyFormatter.toSnakeCase(input), equalTo(expected));
+        assertThat(RubyFormatter.toSnakeCase(input), equalTo(expected));
+    }
+
+    @Test
+    public void matchesRegexConversionForModelNames() {
+        List<String> names = new ArrayList<>();
+        for (Shape shape : SampleService.model().toSet()) {
+            names.add(shape.asMemberShape()
+                    .map((member) -> member.getMemberName())
+                    .orElse(shape.getId().getName()));
+        }
+        names.forEach(RubyFormatterTest::assertMatchesRegexConversion);
+    }
+
+    @Test
+    public void matchesRegexConversionForAllShortIdentifiers() {
+        String alphabet = "aAB09-_";
+        List<String> inputs = List.of("");
+        for (int length = 1; length <= 5; length++) {
+            List<String> longer = new ArrayList<>();
+            for (String input : inputs) {
+                for (char c : alphabet.toCharArray()) {
+                    longer.add(input + c);
+                }
+            }
+            longer.forEach(RubyFormatterTest::assertMatchesRegexConversion);
+            inputs = longer;
+        }
+    }
+
+    @Test
+    public void matchesRegexConversionForRandomIdentifiers() {
+        String alphabet = "aAbBzZ09-_.";
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertMatchesRegexConversion(input.toString());
+        }
+    }
+
+    private static void assertMatchesRegexConversion(String input) {
+        assertThat(input, RubyFormatter.toSnakeCase(input), equalTo(regexSnakeCase(input)));
+    }
+
+    // The regex pipeline toSnakeCase used before it was rewritten as a single pass.
+    private static String regexSnakeCase(String s) {
+        return s
+                .replaceAll("([A-Z\\d]+)([A-Z][a-z])", "$1_$2")
+                .replaceAll("([a-z\\d])([A-Z])", "$1_$2")
+                .replace('-', '_')
+                .toLowerCase();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import software.amazon.smithy.build.FileManifest;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.build.PluginContext;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+
+/**
+ * Generates the fake protocol sample service used by the codegen tests.
+ */
+final class SampleService {
+
+    static final String GEM_NAME = "sample_service";
+
+    private SampleService() {
+    }
+
+    /**
+     * @param extraModels additional model files to load, relative to this class
+     * @return the sample service model
+     */
+    static Model model(String... extraModels) {
+        ModelAssembler assembler = Model.assembler()
+                .addImport(SampleService.class.getResource("fake-protocol.smithy"))
+                .addImport(SampleService.class.getResource("sample-service.smithy"));
+        for (String extraModel : extraModels) {
+            assembler.addImport(SampleService.class.getResource(extraModel));
+        }
+        return assembler.discoverModels().assemble().unwrap();
+    }
+
+    /**
+     * @param options codegen options to add to the plugin settings
+     * @return plugin settings for the sample service
+     */
+    static ObjectNode settings(Map<String, Boolean> options) {
+        ObjectNode.Builder settings = Node.objectNodeBuilder()
+                .withMember("service", "smithy.ruby.tests.sample#SampleService")
+                .withMember("module", "SampleService")
+                .withMember("gemspec", Node.objectNodeBuilder()
+                        .withMember("gemName", GEM_NAME)
+                        .withMember("gemVersion", "1.0.0")
+                        .withMember("gemSummary", "Sample Service")
+                        .build());
+        options.forEach(settings::withMember);
+        return settings.build();
+    }
+
+    /**
+     * Runs the ruby-codegen plugin.
+     *
+     * @param fileManifest manifest to generate into
+     * @param model model to generate
+     * @param settings plugin settings
+     */
+    static void generate(FileManifest fileManifest, Model model, ObjectNode settings) {
+        PluginContext context = PluginContext.builder()
+                .fileManifest(fileManifest)
+                .model(model)
+                .settings(settings)
+                .build();
+        new DirectedRubyCodegenPlugin().execute(context);
+    }
+
+    /**
+     * Generates the sample service in memory.
+     *
+     * @param model model to generate
+     * @param options codegen options to add to the plugin settings
+     * @return the contents of every generated file by path
+     */
+    static Map<Path, String> generate(Model model, Map<String, Boolean> options) {
+        MockManifest manifest = new MockManifest();
+        generate(manifest, model, settings(options));
+        Map<Path, String> files = new TreeMap<>();
+        manifest.getFiles().forEach((file) -> files.put(file, manifest.expectFileString(file)));
+        return files;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.ruby.codegen.config;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.ruby.codegen.ClientFragment;
+
+public class DynamicConfigProviderTest {
+
+    @Test
+    public void rejectsClientScopedFragments() {
+        ClientFragment fragment = new ClientFragment.Builder()
+                .render("Hearth::HTTP::Client.new")
+                .clientScoped("transport_client")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> new DynamicConfigProvider(fragment));
+    }
+}
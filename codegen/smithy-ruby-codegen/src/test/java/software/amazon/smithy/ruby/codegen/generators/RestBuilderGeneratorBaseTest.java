@@ -0,0 +1,37 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package software.amazon.smithy.ruby.codegen.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class RestBuilderGeneratorBaseTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "foo=bar|foo=bar",
+            "foo=bar baz&hello|foo=bar%20baz&hello",
+            "a=b%20c&d=e~f|a=b%20c&d=e~f",
+            "a=1+2|a=1%2B2",
+            "a=b&&c=d|a=b&c=d",
+            "a=100%|a=100%25",
+            "a=%zz&b=%41|a=%25zz&b=A"
+    })
+    public void escapesStaticQueryStrings(String query, String expected) {
+        assertEquals(expected, RestBuilderGeneratorBase.escapeStaticQuery(query));
+    }
+}
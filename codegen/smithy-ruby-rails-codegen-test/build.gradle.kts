@@ -56,9 +56,24 @@ tasks.register<Copy>("copyRailsJsonGem") {
     from("$buildDir/smithyprojections/smithy-ruby-rails-codegen-test/railsjson/ruby-codegen")
     into("$buildDir/../../projections/")
 }
-tasks.register<Copy>("copyIntegrationSpecs") {
-    from("./integration-specs")
-    into("$buildDir/smithyprojections/smithy-ruby-rails-codegen-test/railsjson/ruby-codegen/rails_json/spec")
+// Every RailsJson projection runs the shared integration specs, along with
+// the specs in projection-specs/<projection> for its opt-in mode.
+val railsJsonProjections = listOf(
+    "railsjson",
+    "railsjson-streaming-builders",
+    "railsjson-streaming-parsers",
+    "railsjson-lazy-parsers"
+)
+tasks.register("copyIntegrationSpecs") {
+    doLast {
+        railsJsonProjections.forEach { projection ->
+            copy {
+                from("./integration-specs")
+                from("./projection-specs/$projection")
+                into("$buildDir/smithyprojections/smithy-ruby-rails-codegen-test/$projection/ruby-codegen/rails_json/spec")
+            }
+        }
+    }
 }
 tasks["build"].finalizedBy(
     tasks["copyIntegrationSpecs"],
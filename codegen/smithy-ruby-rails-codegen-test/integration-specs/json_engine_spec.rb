@@ -0,0 +1,49 @@
+# frozen_string_literal: true
+
+require 'rails_json'
+
+module RailsJson
+  describe Config do
+    it 'defaults json_engine to the standard library' do
+      expect(Config.new.json_engine).to eq(:stdlib)
+    end
+  end
+
+  describe Client do
+    let(:endpoint) { 'http://127.0.0.1' }
+
+    it 'raises for an unknown json_engine' do
+      config = Config.new(stub_responses: true, endpoint: endpoint, json_engine: :unknown)
+      client = Client.new(config)
+      expect { client.empty_operation }.to raise_error(ArgumentError, /unknown JSON engine/)
+    end
+
+    it 'uses the json_engine while building and parsing' do
+      engine = Module.new do
+        def self.load(_json)
+          { 'string' => 'from engine' }
+        end
+
+        def self.dump(value)
+          Hearth::JSON::Engines::Stdlib.dump(value)
+        end
+      end
+      allow(Hearth::JSON).to receive(:resolve_engine).and_call_original
+      allow(Hearth::JSON).to receive(:resolve_engine).with(:custom).and_return(engine)
+
+      config = Config.new(stub_responses: true, endpoint: endpoint, json_engine: :custom)
+      client = Client.new(config)
+      middleware = Hearth::MiddlewareBuilder.around_send do |_app, _input, context|
+        expect(Hearth::JSON.engine).to be(engine)
+        context.response.status = 200
+        context.response.body = StringIO.new('{}')
+        Hearth::Output.new
+      end
+      middleware.remove_send
+
+      output = client.kitchen_sink_operation({}, middleware: middleware)
+      expect(output.data.string).to eq('from engine')
+      expect(Hearth::JSON.engine).to be(Hearth::JSON::Engines::Stdlib)
+    end
+  end
+end
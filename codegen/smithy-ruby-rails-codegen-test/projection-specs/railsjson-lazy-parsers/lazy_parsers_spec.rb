@@ -0,0 +1,68 @@
+# frozen_string_literal: true
+
+require 'rails_json'
+
+module RailsJson
+  describe Client do
+    let(:config) { Config.new(stub_responses: true, endpoint: 'https://example.com') }
+    let(:client) { Client.new(config) }
+
+    before do
+      client.stub_responses(
+        :paginated_list_operation,
+        { items: [{ value: 'a' }, { value: 'b' }], next_token: 'token' }
+      )
+    end
+
+    # Reads a member with the reader of the generated type, which does not
+    # convert lazy members.
+    def raw_member(data, member)
+      Types::PaginatedListOutput.instance_method(member).bind(data).call
+    end
+
+    describe '#paginated_list_operation' do
+      it 'parses the output as a lazy subclass of its type' do
+        output = client.paginated_list_operation
+        expect(output.data).to be_a(Parsers::PaginatedListOperation::Lazy)
+        expect(output.data).to be_a(Types::PaginatedListOutput)
+        expect(output.data).to be_a(Hearth::LazyStructure)
+      end
+
+      it 'sets scalar members eagerly' do
+        output = client.paginated_list_operation
+        expect(raw_member(output.data, :next_token)).to eq('token')
+      end
+
+      it 'converts lazy members on first read' do
+        output = client.paginated_list_operation
+        expect(raw_member(output.data, :items)).to be_nil
+
+        items = output.data.items
+        expect(items).to all(be_a(Types::SimpleStruct))
+        expect(items.map(&:value)).to eq(%w[a b])
+        expect(raw_member(output.data, :items)).to equal(items)
+      end
+
+      it 'converts all members with to_h' do
+        output = client.paginated_list_operation
+        expect(output.data.to_h).to eq(
+          items: [{ value: 'a' }, { value: 'b' }],
+          next_token: 'token'
+        )
+      end
+
+      it 'hashes equal outputs equally before they are read' do
+        first = client.paginated_list_operation.data
+        second = client.paginated_list_operation.data
+        expect(first.hash).to eq(second.hash)
+        expect(first).to eql(second)
+      end
+
+      it 'keeps members that are written before they are read' do
+        output = client.paginated_list_operation
+        output.data.items = []
+        expect(output.data.items).to eq([])
+      end
+    end
+  end
+end
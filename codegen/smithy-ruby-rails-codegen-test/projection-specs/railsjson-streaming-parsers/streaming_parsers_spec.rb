@@ -0,0 +1,35 @@
+# frozen_string_literal: true
+
+require 'rails_json'
+
+module RailsJson
+  describe Client do
+    let(:config) { Config.new(stub_responses: true, endpoint: 'https://example.com') }
+    let(:client) { Client.new(config) }
+
+    before do
+      client.stub_responses(
+        :paginated_list_operation,
+        { items: [{ value: 'a' }, { value: 'b' }], next_token: 'token' }
+      )
+    end
+
+    describe '#paginated_list_operation' do
+      it 'yields the items to an item handler instead of keeping them' do
+        yielded = []
+        output = client.paginated_list_operation(
+          {}, item_handler: proc { |item| yielded << item }
+        )
+        expect(yielded).to all(be_a(Types::SimpleStruct))
+        expect(yielded.map(&:value)).to eq(%w[a b])
+        expect(output.data.items).to be_nil
+        expect(output.data.next_token).to eq('token')
+      end
+
+      it 'keeps the items on the output without an item handler' do
+        output = client.paginated_list_operation
+        expect(output.data.items.map(&:value)).to eq(%w[a b])
+      end
+    end
+  end
+end
@@ -15,12 +15,24 @@
 
 package software.amazon.smithy.ruby.codegen.protocol.railsjson;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 import software.amazon.smithy.build.FileManifest;
+import software.amazon.smithy.codegen.core.CodegenException;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ServiceShape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.ruby.codegen.ApplicationTransport;
 import software.amazon.smithy.ruby.codegen.GenerationContext;
 import software.amazon.smithy.ruby.codegen.ProtocolGenerator;
+import software.amazon.smithy.ruby.codegen.RubyDependency;
+import software.amazon.smithy.ruby.codegen.RubySettings;
+import software.amazon.smithy.ruby.codegen.config.ClientConfig;
+import software.amazon.smithy.ruby.codegen.middleware.Middleware;
+import software.amazon.smithy.ruby.codegen.middleware.MiddlewareBuilder;
+import software.amazon.smithy.ruby.codegen.middleware.MiddlewareStackStep;
 import software.amazon.smithy.ruby.codegen.protocol.railsjson.generators.BuilderGenerator;
 import software.amazon.smithy.ruby.codegen.protocol.railsjson.generators.ErrorsGenerator;
 import software.amazon.smithy.ruby.codegen.protocol.railsjson.generators.ParserGenerator;
@@ -31,6 +43,7 @@ import software.amazon.smithy.ruby.codegen.protocol.railsjson.generators.StubsGe
  */
 public class RailsJsonGenerator implements ProtocolGenerator {
     private static final Logger LOGGER = Logger.getLogger(RailsJsonGenerator.class.getName());
+    private static final List<String> JSON_ENGINES = List.of("stdlib", "oj");
 
     @Override
     public ShapeId getProtocol() {
@@ -42,10 +55,42 @@ public class RailsJsonGenerator implements ProtocolGenerator {
         return ApplicationTransport.createDefaultHttpApplicationTransport();
     }
 
+    @Override
+    public void modifyClientMiddleware(MiddlewareBuilder middlewareBuilder, GenerationContext context) {
+        ClientConfig jsonEngine = (new ClientConfig.Builder())
+                .name("json_engine")
+                .type("Symbol")
+                .defaultValue(":" + jsonEngine(context.settings()))
+                .documentation(
+                        "The engine used to parse and serialize JSON. Supported engines are `:stdlib` "
+                                + "(the json standard library) and `:oj` (requires the oj gem).")
+                .build();
+
+        Middleware engine = (new Middleware.Builder())
+                .klass("Hearth::JSON::Middleware::Engine")
+                .step(MiddlewareStackStep.INITIALIZE)
+                .addConfig(jsonEngine)
+                .build();
+        middlewareBuilder.register(engine);
+    }
+
+    @Override
+    public Set<RubyDependency> additionalGemDependencies(
+            RubySettings rubySettings, Model finalResolvedModel,
+            ServiceShape service, ShapeId protocol) {
+        if (jsonEngine(rubySettings).equals("oj")) {
+            return Set.of(RubyDependency.OJ);
+        }
+        return Collections.emptySet();
+    }
+
     @Override
     public void generateBuilders(GenerationContext context) {
         BuilderGenerator builderGenerator = new BuilderGenerator(context);
         builderGenerator.render(context.fileManifest());
+        if (context.settings().isStreamingJsonBuilders()) {
+            BuilderGenerator.renderSpecBuilders(context);
+        }
         LOGGER.info("created builders");
     }
 
@@ -71,4 +116,12 @@ public class RailsJsonGenerator implements ProtocolGenerator {
         stubsGenerator.render(context.fileManifest());
         LOGGER.info("created stubs");
     }
+
+    private static String jsonEngine(RubySettings settings) {
+        String engine = settings.getJsonEngine();
+        if (!JSON_ENGINES.contains(engine)) {
+            throw new CodegenException("Unsupported jsonEngine `" + engine + "`, expected one of " + JSON_ENGINES);
+        }
+        return engine;
+    }
 }
@@ -17,6 +17,7 @@ package software.amazon.smithy.ruby.codegen.protocol.railsjson.generators;
 
 import java.util.Optional;
 import java.util.stream.Stream;
+import software.amazon.smithy.build.FileManifest;
 import software.amazon.smithy.codegen.core.Symbol;
 import software.amazon.smithy.model.shapes.BlobShape;
 import software.amazon.smithy.model.shapes.DocumentShape;
@@ -43,6 +44,7 @@ import software.amazon.smithy.model.traits.SparseTrait;
 import software.amazon.smithy.model.traits.StreamingTrait;
 import software.amazon.smithy.model.traits.TimestampFormatTrait;
 import software.amazon.smithy.ruby.codegen.GenerationContext;
+import software.amazon.smithy.ruby.codegen.Hearth;
 import software.amazon.smithy.ruby.codegen.RubyFormatter;
 import software.amazon.smithy.ruby.codegen.RubyImportContainer;
 import software.amazon.smithy.ruby.codegen.generators.RestBuilderGeneratorBase;
@@ -54,11 +56,46 @@ import software.amazon.smithy.ruby.codegen.util.TimestampFormat;
  */
 public class BuilderGenerator extends RestBuilderGeneratorBase {
 
+    private final boolean streaming;
+
     /**
      * @param context generation context
      */
     public BuilderGenerator(GenerationContext context) {
+        this(context, context.settings().isStreamingJsonBuilders());
+    }
+
+    private BuilderGenerator(GenerationContext context, boolean streaming) {
         super(context);
+        this.streaming = streaming;
+    }
+
+    /**
+     * Renders the Hash builders to the gem's spec directory as
+     * {Module}::Spec::Builders. The protocol tests of a gem with streaming
+     * builders use them to check that each streamed request body has the
+     * same bytes as dumping the Hash built for the same input.
+     *
+     * @param context generation context
+     */
+    public static void renderSpecBuilders(GenerationContext context) {
+        new BuilderGenerator(context, false).renderSpecBuilders(context.fileManifest());
+    }
+
+    private void renderSpecBuilders(FileManifest fileManifest) {
+        writer
+                .includePreamble()
+                .includeRequires()
+                .openBlock("module $L", settings.getModule())
+                .openBlock("module Spec")
+                .openBlock("module Builders")
+                .call(() -> renderBuilders())
+                .closeBlock("end")
+                .closeBlock("end")
+                .closeBlock("end");
+
+        String fileName = settings.getGemName() + "/spec/builders.rb";
+        writer.writeTo(fileManifest, fileName);
     }
 
     private void renderMemberBuilders(Shape s) {
@@ -73,6 +110,13 @@ public class BuilderGenerator extends RestBuilderGeneratorBase {
             Shape target = model.expectShape(member.getTarget());
 
             String symbolName = ":" + symbolProvider.toMemberName(member);
+            String inputGetter = "input[" + symbolName + "]";
+            if (streaming) {
+                String jsonWriter = "json.key('" + escapeSingleQuoted(jsonName(member)) + "')";
+                target.accept(new StreamingMemberSerializer(member, jsonWriter, inputGetter, true));
+                return;
+            }
+
             String dataName = RubyFormatter.asSymbol(member.getMemberName());
             if (member.hasTrait(JsonNameTrait.class)) {
                 dataName = "'" + member.expectTrait(JsonNameTrait.class).getValue() + "'";
@@ -82,11 +126,28 @@ public class BuilderGenerator extends RestBuilderGeneratorBase {
             }
 
             String dataSetter = "data[" + dataName + "] = ";
-            String inputGetter = "input[" + symbolName + "]";
             target.accept(new MemberSerializer(member, dataSetter, inputGetter, true));
         });
     }
 
+    /**
+     * @return the JSON object key a structure member is serialized to, the same
+     * key that the Hash builders write.
+     */
+    private String jsonName(MemberShape member) {
+        String name = member.getTrait(JsonNameTrait.class)
+                .map(JsonNameTrait::getValue)
+                .orElseGet(() -> RubyFormatter.toSnakeCase(member.getMemberName()));
+        if (member.hasTrait("smithy.ruby.protocols#nestedAttributes")) {
+            name = name + "_attributes";
+        }
+        return name;
+    }
+
+    private static String escapeSingleQuoted(String value) {
+        return value.replace("\\", "\\\\").replace("'", "\\'");
+    }
+
     @Override
     protected void renderPayloadBodyBuilder(OperationShape operation, Shape inputShape, MemberShape payloadMember,
                                             Shape target) {
@@ -101,6 +162,18 @@ public class BuilderGenerator extends RestBuilderGeneratorBase {
 
     @Override
     protected void renderBodyBuilder(OperationShape operation, Shape inputShape) {
+        if (streaming) {
+            writer
+                    .write("")
+                    .write("http_req.headers['Content-Type'] = 'application/json'")
+                    .write("json = $T.new", Hearth.JSON_WRITER)
+                    .write("json.start_object")
+                    .call(() -> renderMemberBuilders(inputShape))
+                    .write("json.end_object")
+                    .write("http_req.body = StringIO.new(json.to_s)");
+            return;
+        }
+
         writer
                 .write("")
                 .write("http_req.headers['Content-Type'] = 'application/json'")
@@ -111,6 +184,16 @@ public class BuilderGenerator extends RestBuilderGeneratorBase {
 
     @Override
     protected void renderStructureBuildMethod(StructureShape shape) {
+        if (streaming) {
+            writer
+                    .openBlock("def self.build(input, json)")
+                    .write("json.start_object")
+                    .call(() -> renderMemberBuilders(shape))
+                    .write("json.end_object")
+                    .closeBlock("end");
+            return;
+        }
+
         writer
                 .openBlock("def self.build(input)")
                 .write("data = {}")
@@ -121,15 +204,27 @@ public class BuilderGenerator extends RestBuilderGeneratorBase {
 
     @Override
     protected void renderListBuildMethod(ListShape shape) {
+        Shape memberTarget = model.expectShape(shape.getMember().getTarget());
+        boolean checkRequired = !shape.hasTrait(SparseTrait.class);
+        if (streaming) {
+            writer
+                    .openBlock("def self.build(input, json)")
+                    .write("json.start_array")
+                    .openBlock("input.each do |element|")
+                    .call(() -> memberTarget.accept(
+                            new StreamingMemberSerializer(shape.getMember(), "json", "element", checkRequired)))
+                    .closeBlock("end")
+                    .write("json.end_array")
+                    .closeBlock("end");
+            return;
+        }
+
         writer
                 .openBlock("def self.build(input)")
                 .write("data = []")
                 .openBlock("input.each do |element|")
-                .call(() -> {
-                    Shape memberTarget = model.expectShape(shape.getMember().getTarget());
-                    memberTarget.accept(new MemberSerializer(shape.getMember(), "data << ", "element",
-                            !shape.hasTrait(SparseTrait.class)));
-                })
+                .call(() -> memberTarget.accept(
+                        new MemberSerializer(shape.getMember(), "data << ", "element", checkRequired)))
                 .closeBlock("end")
                 .write("data")
                 .closeBlock("end");
@@ -139,8 +234,8 @@ public class BuilderGenerator extends RestBuilderGeneratorBase {
     protected void renderUnionBuildMethod(UnionShape shape) {
         Symbol symbol = symbolProvider.toSymbol(shape);
         writer
-                .openBlock("def self.build(input)")
-                .write("data = {}")
+                .openBlock(streaming ? "def self.build(input, json)" : "def self.build(input)")
+                .write(streaming ? "json.start_object" : "data = {}")
                 .write("case input");
 
         shape.members().forEach((member) -> {
@@ -155,12 +250,19 @@ public class BuilderGenerator extends RestBuilderGeneratorBase {
                         symbol.getName())
                 .closeBlock("end")
                 .write("")
-                .write("data")
+                .write(streaming ? "json.end_object" : "data")
                 .closeBlock("end");
     }
 
     private void renderUnionMemberBuilder(UnionShape shape, MemberShape member) {
         Shape target = model.expectShape(member.getTarget());
+        if (streaming) {
+            String jsonName = RubyFormatter.toSnakeCase(symbolProvider.toMemberName(member));
+            String jsonWriter = "json.key('" + escapeSingleQuoted(jsonName) + "')";
+            target.accept(new StreamingMemberSerializer(member, jsonWriter, "input", false));
+            return;
+        }
+
         String symbolName = RubyFormatter.asSymbol(symbolProvider.toMemberName(member));
         String dataSetter = "data[" + symbolName + "] = ";
         target.accept(new MemberSerializer(member, dataSetter, "input", false));
@@ -168,19 +270,31 @@ public class BuilderGenerator extends RestBuilderGeneratorBase {
 
     @Override
     protected void renderMapBuildMethod(MapShape shape) {
+        Shape valueTarget = model.expectShape(shape.getValue().getTarget());
+        boolean checkRequired = !shape.hasTrait(SparseTrait.class);
+        if (streaming) {
+            writer
+                    .openBlock("def self.build(input, json)")
+                    .write("json.start_object")
+                    .openBlock("input.each do |key, value|")
+                    .call(() -> valueTarget.accept(
+                            new StreamingMemberSerializer(shape.getValue(), "json.key(key)", "value",
+                                    checkRequired)))
+                    .closeBlock("end")
+                    .write("json.end_object")
+                    .closeBlock("end");
+            return;
+        }
+
         writer
                 .openBlock("def self.build(input)")
                 .write("data = {}")
                 .openBlock("input.each do |key, value|")
-                .call(() -> {
-                    Shape valueTarget = model.expectShape(shape.getValue().getTarget());
-                    valueTarget.accept(new MemberSerializer(shape.getValue(), "data[key] = ", "value",
-                            !shape.hasTrait(SparseTrait.class)));
-                })
+                .call(() -> valueTarget.accept(
+                        new MemberSerializer(shape.getValue(), "data[key] = ", "value", checkRequired)))
                 .closeBlock("end")
                 .write("data")
                 .closeBlock("end");
-
     }
 
     private class MemberSerializer extends ShapeVisitor.Default<Void> {
@@ -285,6 +399,112 @@ public class BuilderGenerator extends RestBuilderGeneratorBase {
         }
     }
 
+    /**
+     * Writes a member's value directly to a Hearth::JSON::Writer. Values are
+     * written the same way MemberSerializer sets them on the data Hash, so
+     * the serialized JSON has the same bytes.
+     */
+    private class StreamingMemberSerializer extends ShapeVisitor.Default<Void> {
+
+        private final String inputGetter;
+        private final String jsonWriter;
+        private final MemberShape memberShape;
+        private final boolean checkRequired;
+
+        // jsonWriter is a ruby expression returning the writer, ready for the member's value
+        StreamingMemberSerializer(MemberShape memberShape,
+                                  String jsonWriter, String inputGetter, boolean checkRequired) {
+            this.inputGetter = inputGetter;
+            this.jsonWriter = jsonWriter;
+            this.memberShape = memberShape;
+            this.checkRequired = checkRequired;
+        }
+
+        private String checkRequired() {
+            if (this.checkRequired) {
+                return " unless " + inputGetter + ".nil?";
+            } else {
+                return "";
+            }
+        }
+
+        private void writeValue(String value) {
+            writer.write("$L.value($L)$L", jsonWriter, value, checkRequired());
+        }
+
+        @Override
+        protected Void getDefault(Shape shape) {
+            writeValue(inputGetter);
+            return null;
+        }
+
+        private void rubyFloat() {
+            writeValue("Hearth::NumberHelper.serialize(" + inputGetter + ")");
+        }
+
+        @Override
+        public Void doubleShape(DoubleShape shape) {
+            rubyFloat();
+            return null;
+        }
+
+        @Override
+        public Void floatShape(FloatShape shape) {
+            rubyFloat();
+            return null;
+        }
+
+        @Override
+        public Void blobShape(BlobShape shape) {
+            writeValue(writer.format("$T::encode64($L).strip", RubyImportContainer.BASE64, inputGetter));
+            return null;
+        }
+
+        @Override
+        public Void timestampShape(TimestampShape shape) {
+            writeValue(TimestampFormat.serializeTimestamp(
+                    shape, memberShape, inputGetter, TimestampFormatTrait.Format.DATE_TIME, false));
+            return null;
+        }
+
+        /**
+         * For complex shapes, simply delegate to their builder.
+         */
+        private void defaultComplexSerializer(Shape shape) {
+            if (checkRequired) {
+                writer.write("Builders::$1L.build($2L, $3L) unless $2L.nil?",
+                        symbolProvider.toSymbol(shape).getName(), inputGetter, jsonWriter);
+            } else {
+                writer.write("$2L.nil? ? $3L.value(nil) : Builders::$1L.build($2L, $3L)",
+                        symbolProvider.toSymbol(shape).getName(), inputGetter, jsonWriter);
+            }
+        }
+
+        @Override
+        public Void listShape(ListShape shape) {
+            defaultComplexSerializer(shape);
+            return null;
+        }
+
+        @Override
+        public Void mapShape(MapShape shape) {
+            defaultComplexSerializer(shape);
+            return null;
+        }
+
+        @Override
+        public Void structureShape(StructureShape shape) {
+            defaultComplexSerializer(shape);
+            return null;
+        }
+
+        @Override
+        public Void unionShape(UnionShape shape) {
+            defaultComplexSerializer(shape);
+            return null;
+        }
+    }
+
     private class PayloadMemberSerializer extends ShapeVisitor.Default<Void> {
 
         private final MemberShape memberShape;
@@ -355,6 +575,16 @@ public class BuilderGenerator extends RestBuilderGeneratorBase {
         }
 
         private void defaultComplexSerializer(Shape shape) {
+            if (streaming) {
+                writer
+                        .write("http_req.headers['Content-Type'] = 'application/json'")
+                        .write("json = $T.new", Hearth.JSON_WRITER)
+                        .write("$1L.nil? ? json.value(nil) : Builders::$2L.build($1L, json)", inputGetter,
+                                symbolProvider.toSymbol(shape).getName())
+                        .write("http_req.body = StringIO.new(json.to_s)");
+                return;
+            }
+
             writer
                     .write("http_req.headers['Content-Type'] = 'application/json'")
                     .write("data = Builders::$1L.build($2L) unless $2L.nil?", symbolProvider.toSymbol(shape).getName(),
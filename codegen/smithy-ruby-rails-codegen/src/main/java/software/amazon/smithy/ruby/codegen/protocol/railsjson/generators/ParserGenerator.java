@@ -15,7 +15,16 @@
 
 package software.amazon.smithy.ruby.codegen.protocol.railsjson.generators;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
+import software.amazon.smithy.codegen.core.CodegenException;
+import software.amazon.smithy.codegen.core.Symbol;
+import software.amazon.smithy.model.knowledge.PaginatedIndex;
+import software.amazon.smithy.model.knowledge.PaginationInfo;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
 import software.amazon.smithy.model.shapes.BlobShape;
 import software.amazon.smithy.model.shapes.DocumentShape;
 import software.amazon.smithy.model.shapes.DoubleShape;
@@ -23,13 +32,17 @@ import software.amazon.smithy.model.shapes.FloatShape;
 import software.amazon.smithy.model.shapes.ListShape;
 import software.amazon.smithy.model.shapes.MapShape;
 import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.ShapeVisitor;
 import software.amazon.smithy.model.shapes.StringShape;
 import software.amazon.smithy.model.shapes.StructureShape;
 import software.amazon.smithy.model.shapes.TimestampShape;
 import software.amazon.smithy.model.shapes.UnionShape;
+import software.amazon.smithy.model.traits.ErrorTrait;
 import software.amazon.smithy.model.traits.HttpHeaderTrait;
+import software.amazon.smithy.model.traits.HttpPayloadTrait;
 import software.amazon.smithy.model.traits.HttpPrefixHeadersTrait;
 import software.amazon.smithy.model.traits.HttpQueryParamsTrait;
 import software.amazon.smithy.model.traits.HttpQueryTrait;
@@ -39,6 +52,7 @@ import software.amazon.smithy.model.traits.SparseTrait;
 import software.amazon.smithy.model.traits.StreamingTrait;
 import software.amazon.smithy.model.traits.TimestampFormatTrait;
 import software.amazon.smithy.ruby.codegen.GenerationContext;
+import software.amazon.smithy.ruby.codegen.Hearth;
 import software.amazon.smithy.ruby.codegen.RubyFormatter;
 import software.amazon.smithy.ruby.codegen.RubyImportContainer;
 import software.amazon.smithy.ruby.codegen.generators.RestParserGeneratorBase;
@@ -47,24 +61,126 @@ import software.amazon.smithy.ruby.codegen.util.TimestampFormat;
 
 /**
  * ParserGenerator for RailsJson.
+ *
+ * <p>When the streamingJsonParsers setting is enabled, parsers read the
+ * response body incrementally with a {@code Hearth::JSON::Reader} instead
+ * of loading it into a Hash. Parsers on the items path of a paginated
+ * operation forward a block, and the list at the end of the path yields
+ * each item to it as it is decoded instead of collecting the items.
+ *
+ * <p>When the lazyJsonParsers setting is enabled, structures with nested
+ * list, map, structure, union, timestamp or blob members are parsed into a
+ * {@code Lazy} subclass of their type. The subclass keeps the decoded map
+ * and converts each of those members the first time it is read.
  */
 public class ParserGenerator extends RestParserGeneratorBase {
 
+    private final boolean streaming;
+    private final boolean lazy;
+
+    // members on the items path of a paginated operation
+    private final Set<ShapeId> itemsPathMembers;
+
+    // lists at the end of an items path
+    private final Set<ShapeId> itemsLists;
+
     /**
      * @param context generation context
      */
     public ParserGenerator(GenerationContext context) {
         super(context);
+        this.streaming = settings.isStreamingJsonParsers();
+        this.lazy = settings.isLazyJsonParsers();
+        if (streaming && lazy) {
+            throw new CodegenException("lazyJsonParsers cannot be combined with streamingJsonParsers");
+        }
+        this.itemsPathMembers = new HashSet<>();
+        this.itemsLists = new HashSet<>();
+        if (streaming) {
+            collectItemsPaths();
+        }
+    }
+
+    private void collectItemsPaths() {
+        PaginatedIndex paginatedIndex = PaginatedIndex.of(model);
+        TopDownIndex.of(model).getContainedOperations(context.service()).stream()
+                .map((o) -> paginatedIndex.getPaginationInfo(context.service(), o))
+                .flatMap(Optional::stream)
+                .map(PaginationInfo::getItemsMemberPath)
+                .filter((path) -> !path.isEmpty())
+                .forEach((path) -> {
+                    path.forEach((member) -> itemsPathMembers.add(member.getId()));
+                    Shape items = model.expectShape(path.get(path.size() - 1).getTarget());
+                    if (items.isListShape()) {
+                        itemsLists.add(items.getId());
+                    }
+                });
+    }
+
+    private boolean forwardsItems(Shape s) {
+        return s.members().stream().anyMatch((m) -> itemsPathMembers.contains(m.getId()));
+    }
+
+    private boolean parsesLazily(Shape s) {
+        return lazy
+                && s.members().stream().noneMatch((m) -> m.hasTrait(HttpPayloadTrait.class))
+                && bodyMembers(s).anyMatch(this::isLazyMember);
+    }
+
+    private boolean isLazyMember(MemberShape member) {
+        Shape target = model.expectShape(member.getTarget());
+        return target.isListShape() || target.isMapShape() || target.isStructureShape()
+                || target.isUnionShape() || target.isTimestampShape()
+                || (target.isBlobShape() && !target.hasTrait(StreamingTrait.class));
+    }
+
+    @Override
+    protected String operationDataClass(OperationShape operation, Shape outputShape) {
+        if (parsesLazily(outputShape)) {
+            return "Lazy";
+        }
+        return super.operationDataClass(operation, outputShape);
+    }
+
+    @Override
+    protected void renderOperationParseMethod(OperationShape operation, Shape outputShape) {
+        super.renderOperationParseMethod(operation, outputShape);
+        if (parsesLazily(outputShape)) {
+            renderLazyClass(outputShape);
+        }
+    }
+
+    @Override
+    protected String operationParseParameters(OperationShape operation, Shape outputShape) {
+        if (forwardsItems(outputShape)) {
+            return "http_resp, &block";
+        }
+        return "http_resp";
     }
 
     @Override
     protected void renderBodyParser(Shape outputShape) {
+        if (streaming) {
+            writer.write("reader = $T.new(http_resp.body)", Hearth.JSON_READER);
+            renderStreamingMemberParsers(outputShape);
+            return;
+        }
         writer.write("map = Hearth::JSON.load(http_resp.body)");
-        renderMemberParsers(outputShape);
+        // error parsers render the body of their shape but always create the type itself
+        if (parsesLazily(outputShape) && !outputShape.hasTrait(ErrorTrait.class)) {
+            writer.write("data.defer(map)");
+            renderMemberParsers(outputShape, true);
+        } else {
+            renderMemberParsers(outputShape, false);
+        }
     }
 
     @Override
     protected void renderMapParseMethod(MapShape s) {
+        if (streaming) {
+            renderStreamingMapParseMethod(s);
+            return;
+        }
         writer
                 .openBlock("def self.parse(map)")
                 .write("data = {}")
@@ -83,6 +199,10 @@ public class ParserGenerator extends RestParserGeneratorBase {
 
     @Override
     protected void renderListParseMethod(ListShape s) {
+        if (streaming) {
+            renderStreamingListParseMethod(s);
+            return;
+        }
         writer
                 .openBlock("def self.parse(list)")
                 .openBlock("list.map do |value|")
@@ -100,16 +220,68 @@ public class ParserGenerator extends RestParserGeneratorBase {
 
     @Override
     protected void renderStructureParseMethod(StructureShape s) {
+        if (streaming) {
+            renderStreamingStructureParseMethod(s);
+            return;
+        }
+        if (parsesLazily(s)) {
+            writer
+                    .openBlock("def self.parse(map)")
+                    .write("data = Lazy.new.defer(map)")
+                    .call(() -> renderMemberParsers(s, true))
+                    .write("return data")
+                    .closeBlock("end")
+                    .call(() -> renderLazyClass(s));
+            return;
+        }
         writer
                 .openBlock("def self.parse(map)")
                 .write("data = Types::$L.new", symbolProvider.toSymbol(s).getName())
-                .call(() -> renderMemberParsers(s))
+                .call(() -> renderMemberParsers(s, false))
                 .write("return data")
                 .closeBlock("end");
     }
 
+    private void renderLazyClass(Shape s) {
+        Symbol type = context.symbolProvider().toSymbol(s);
+        List<MemberShape> members = bodyMembers(s).filter(this::isLazyMember).toList();
+        writer
+                .write("")
+                .write("# Converts members of $T from the decoded map the first time they are read.", type)
+                .openBlock("class Lazy < $T", type)
+                .write("include $T", Hearth.LAZY_STRUCTURE)
+                .write("")
+                .openBlock("LAZY_MEMBERS = %i[")
+                .call(() -> members.forEach((m) -> writer.write(symbolProvider.toMemberName(m))))
+                .closeBlock("].freeze")
+                .call(() -> members.forEach((member) -> {
+                    String dataName = symbolProvider.toMemberName(member);
+                    String jsonName = jsonName(member);
+                    writer
+                            .write("")
+                            .openBlock("def $L", dataName)
+                            .openBlock("if @lazy_map&.key?('$L')", jsonName)
+                            .call(() -> model.expectShape(member.getTarget())
+                                    .accept(new MemberDeserializer(member, "self." + dataName + " = ",
+                                            "@lazy_map['" + jsonName + "']", false)))
+                            .closeBlock("end")
+                            .write("super")
+                            .closeBlock("end")
+                            .write("")
+                            .openBlock("def $L=(value)", dataName)
+                            .write("@lazy_map&.delete('$L')", jsonName)
+                            .write("super")
+                            .closeBlock("end");
+                }))
+                .closeBlock("end");
+    }
+
     @Override
     protected void renderUnionParseMethod(UnionShape s) {
+        if (streaming) {
+            renderStreamingUnionParseMethod(s);
+            return;
+        }
         writer
                 .openBlock("def self.parse(map)")
                 .write("key, value = map.flatten")
@@ -159,27 +331,227 @@ public class ParserGenerator extends RestParserGeneratorBase {
     }
 
 
-    private void renderMemberParsers(Shape s) {
+    private Stream<MemberShape> bodyMembers(Shape s) {
         Stream<MemberShape> parseMembers = s.members().stream()
                 .filter((m) -> !m.hasTrait(HttpHeaderTrait.class) && !m.hasTrait(HttpPrefixHeadersTrait.class)
                         && !m.hasTrait(HttpQueryTrait.class) && !m.hasTrait(HttpQueryParamsTrait.class)
                         && !m.hasTrait(HttpResponseCodeTrait.class));
-        parseMembers = parseMembers.filter(NoSerializeTrait.excludeNoSerializeMembers());
+        return parseMembers.filter(NoSerializeTrait.excludeNoSerializeMembers());
+    }
+
+    private String jsonName(MemberShape member) {
+        String jsonName = RubyFormatter.toSnakeCase(member.getMemberName());
+        if (member.hasTrait(JsonNameTrait.class)) {
+            jsonName = member.getTrait(JsonNameTrait.class).get().getValue();
+        }
+        return jsonName;
+    }
 
-        parseMembers.forEach((member) -> {
+    private void renderMemberParsers(Shape s, boolean skipLazyMembers) {
+        bodyMembers(s).filter((m) -> !(skipLazyMembers && isLazyMember(m))).forEach((member) -> {
             Shape target = model.expectShape(member.getTarget());
             String dataName = symbolProvider.toMemberName(member);
             String dataSetter = "data." + dataName + " = ";
-            String jsonName = RubyFormatter.toSnakeCase(member.getMemberName());
-            if (member.hasTrait(JsonNameTrait.class)) {
-                jsonName = member.getTrait(JsonNameTrait.class).get().getValue();
-            }
-
-            String valueGetter = "map['" + jsonName + "']";
+            String valueGetter = "map['" + jsonName(member) + "']";
             target.accept(new MemberDeserializer(member, dataSetter, valueGetter, false));
         });
     }
 
+    private void renderStreamingMemberParsers(Shape s) {
+        List<MemberShape> members = bodyMembers(s).toList();
+        if (members.isEmpty()) {
+            writer
+                    .openBlock("reader.each_pair do |_key|")
+                    .write("reader.skip")
+                    .closeBlock("end");
+            return;
+        }
+
+        writer
+                .openBlock("reader.each_pair do |key|")
+                .write("case key")
+                .call(() -> members.forEach((member) -> {
+                    writer
+                            .write("when '$L'", jsonName(member))
+                            .indent()
+                            .call(() -> model.expectShape(member.getTarget())
+                                    .accept(new StreamingValueDeserializer(member,
+                                            "data." + symbolProvider.toMemberName(member),
+                                            itemsPathMembers.contains(member.getId()))))
+                            .dedent();
+                }))
+                .write("else")
+                .indent()
+                .write("reader.skip")
+                .dedent()
+                .write("end")
+                .closeBlock("end");
+    }
+
+    private void renderStreamingStructureParseMethod(StructureShape s) {
+        writer
+                .openBlock("def self.parse(reader$L)", forwardsItems(s) ? ", &block" : "")
+                .write("data = Types::$L.new", symbolProvider.toSymbol(s).getName())
+                .call(() -> renderStreamingMemberParsers(s))
+                .write("return data")
+                .closeBlock("end");
+    }
+
+    private void renderStreamingListParseMethod(ListShape s) {
+        MemberShape member = s.getMember();
+        boolean yieldsItems = itemsLists.contains(s.getId());
+        writer
+                .openBlock("def self.parse(reader)")
+                .write(yieldsItems ? "data = [] unless block_given?" : "data = []")
+                .openBlock("reader.each_item do")
+                .call(() -> model.expectShape(member.getTarget())
+                        .accept(new StreamingValueDeserializer(member, "value", false)))
+                .call(() -> {
+                    if (yieldsItems) {
+                        writer
+                                .openBlock("if block_given?")
+                                .write("yield value")
+                                .closeBlock("else")
+                                .indent()
+                                .write("data << value")
+                                .closeBlock("end");
+                    } else {
+                        writer.write("data << value");
+                    }
+                })
+                .closeBlock("end")
+                .write("data")
+                .closeBlock("end");
+    }
+
+    private void renderStreamingMapParseMethod(MapShape s) {
+        MemberShape value = s.getValue();
+        writer
+                .openBlock("def self.parse(reader)")
+                .write("data = {}")
+                .openBlock("reader.each_pair do |key|")
+                .call(() -> model.expectShape(value.getTarget())
+                        .accept(new StreamingValueDeserializer(value, "value", false)))
+                .write(s.hasTrait(SparseTrait.class) ? "data[key] = value" : "data[key] = value unless value.nil?")
+                .closeBlock("end")
+                .write("data")
+                .closeBlock("end");
+    }
+
+    private void renderStreamingUnionParseMethod(UnionShape s) {
+        writer
+                .openBlock("def self.parse(reader)")
+                .write("data = nil")
+                .openBlock("reader.each_pair do |key|")
+                .write("case key")
+                .call(() -> s.members().forEach((member) -> {
+                    writer
+                            .write("when '$L'", unionMemberDataName(s, member))
+                            .indent()
+                            .call(() -> model.expectShape(member.getTarget())
+                                    .accept(new StreamingValueDeserializer(member, "value", false)))
+                            .write("data = $T.new(value) if value", context.symbolProvider().toSymbol(member))
+                            .dedent();
+                }))
+                .write("else")
+                .indent()
+                .write("data = $T::Unknown.new({name: key, value: reader.read})",
+                        context.symbolProvider().toSymbol(s))
+                .dedent()
+                .write("end")
+                .closeBlock("end")
+                .write("data")
+                .closeBlock("end");
+    }
+
+    /**
+     * Reads the next value from the reader and assigns it to the target.
+     */
+    private class StreamingValueDeserializer extends ShapeVisitor.Default<Void> {
+
+        private final MemberShape memberShape;
+        private final String target;
+        private final boolean forwardItems;
+
+        StreamingValueDeserializer(MemberShape memberShape, String target, boolean forwardItems) {
+            this.memberShape = memberShape;
+            this.target = target;
+            this.forwardItems = forwardItems;
+        }
+
+        @Override
+        protected Void getDefault(Shape shape) {
+            writer.write("$L = reader.read", target);
+            return null;
+        }
+
+        private void rubyFloat() {
+            writer.write("$L = Hearth::NumberHelper.deserialize(reader.read)", target);
+        }
+
+        @Override
+        public Void doubleShape(DoubleShape shape) {
+            rubyFloat();
+            return null;
+        }
+
+        @Override
+        public Void floatShape(FloatShape shape) {
+            rubyFloat();
+            return null;
+        }
+
+        @Override
+        public Void blobShape(BlobShape shape) {
+            writer
+                    .write("value = reader.read")
+                    .write("$L = $T::decode64(value) unless value.nil?", target, RubyImportContainer.BASE64);
+            return null;
+        }
+
+        @Override
+        public Void timestampShape(TimestampShape shape) {
+            writer
+                    .write("value = reader.read")
+                    .write("$L = $L if value", target,
+                            TimestampFormat.parseTimestamp(
+                                    shape, memberShape, "value", TimestampFormatTrait.Format.DATE_TIME));
+            return null;
+        }
+
+        /**
+         * For complex shapes, simply delegate to their parser.
+         */
+        private void defaultComplexDeserializer(Shape shape) {
+            writer.write("$L = (Parsers::$L.parse(reader$L) unless reader.skip_null)",
+                    target, symbolProvider.toSymbol(shape).getName(), forwardItems ? ", &block" : "");
+        }
+
+        @Override
+        public Void listShape(ListShape shape) {
+            defaultComplexDeserializer(shape);
+            return null;
+        }
+
+        @Override
+        public Void mapShape(MapShape shape) {
+            defaultComplexDeserializer(shape);
+            return null;
+        }
+
+        @Override
+        public Void structureShape(StructureShape shape) {
+            defaultComplexDeserializer(shape);
+            return null;
+        }
+
+        @Override
+        public Void unionShape(UnionShape shape) {
+            defaultComplexDeserializer(shape);
+            return null;
+        }
+    }
+
 
     private class MemberDeserializer extends ShapeVisitor.Default<Void> {
 
@@ -349,6 +721,13 @@ public class ParserGenerator extends RestParserGeneratorBase {
         }
 
         private void defaultComplexDeserializer(Shape shape) {
+            if (streaming) {
+                writer
+                        .write("reader = $T.new(http_resp.body)", Hearth.JSON_READER)
+                        .write("$LParsers::$L.parse(reader$L)", dataSetter, symbolProvider.toSymbol(shape).getName(),
+                                itemsPathMembers.contains(memberShape.getId()) ? ", &block" : "");
+                return;
+            }
             writer
                     .write("json = Hearth::JSON.load(http_resp.body)")
                     .write("$LParsers::$L.parse(json)", dataSetter, symbolProvider.toSymbol(shape).getName());
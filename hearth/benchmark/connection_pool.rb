@@ -0,0 +1,86 @@
+# frozen_string_literal: true
+
+# Compares requests per second of Hearth::HTTP::Client with and without
+# connection pooling against a local keep-alive HTTP server.
+#
+#   bundle exec ruby benchmark/connection_pool.rb [requests]
+
+require 'socket'
+require 'stringio'
+require_relative '../lib/hearth'
+
+# Minimal HTTP/1.1 server that honors keep-alive.
+class KeepAliveServer
+  RESPONSE = "HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok"
+
+  def initialize
+    @server = TCPServer.new('127.0.0.1', 0)
+  end
+
+  def port
+    @server.addr[1]
+  end
+
+  def start
+    Thread.new do
+      loop { serve(@server.accept) }
+    rescue IOError
+      nil
+    end
+  end
+
+  def stop
+    @server.close
+  end
+
+  private
+
+  def serve(socket)
+    Thread.new do
+      while (headers = read_headers(socket))
+        socket.write(RESPONSE)
+        break if headers.include?("connection: close\r\n")
+      end
+    rescue IOError, SystemCallError
+      nil
+    ensure
+      socket.close
+    end
+  end
+
+  def read_headers(socket)
+    headers = +''
+    while (line = socket.gets)
+      return headers if line == "\r\n"
+
+      headers << line.downcase
+    end
+  end
+end
+
+def run(client, url, requests)
+  start = Process.clock_gettime(Process::CLOCK_MONOTONIC)
+  requests.times do
+    request = Hearth::HTTP::Request.new(http_method: :get, url: url)
+    response = Hearth::HTTP::Response.new(body: StringIO.new)
+    client.transmit(request: request, response: response)
+  end
+  requests / (Process.clock_gettime(Process::CLOCK_MONOTONIC) - start)
+end
+
+requests = Integer(ARGV.fetch(0, 2000))
+server = KeepAliveServer.new
+server.start
+url = "http://127.0.0.1:#{server.port}/"
+
+{
+  'without pool (http_max_connections: 0)' => { http_max_connections: 0 },
+  'with pool (default)' => {}
+}.each do |label, options|
+  client = Hearth::HTTP::Client.new(options)
+  run(client, url, 100) # warm up
+  puts format('%-40<label>s %10.1<rps>f requests/sec',
+              label: label, rps: run(client, url, requests))
+end
+
+server.stop
@@ -0,0 +1,98 @@
+# frozen_string_literal: true
+
+# Measures parsing and serializing representative response and request
+# bodies with each available Hearth::JSON engine. `JSON.load` is included
+# as the baseline used before engines were pluggable.
+#
+# The RailsJson protocol-test bodies are read from the generated
+# protocol spec of the rails_json projection, and each iteration loads
+# and dumps all of them.
+#
+#   bundle exec ruby benchmark/json_engine.rb [iterations]
+
+require 'benchmark'
+require 'stringio'
+require_relative '../lib/hearth'
+
+STRUCTURE = {
+  'string' => 'simple string',
+  'integer' => 1_234_567,
+  'double' => 1.5,
+  'boolean' => true,
+  'timestamp' => 1_666_000_000,
+  'blob' => 'c29tZSBiYXNlNjQgZW5jb2RlZCBkYXRh',
+  'list_of_strings' => %w[abc def ghi jkl],
+  'map_of_strings' => { 'a' => 'b', 'c' => 'd' }
+}.freeze
+
+PROTOCOL_SPEC = File.expand_path(
+  '../../codegen/projections/rails_json/spec/protocol_spec.rb', __dir__
+)
+
+# Request bodies are matched with JSON.parse('...') and response bodies
+# with StringIO.new('...').
+def protocol_test_bodies
+  File.read(PROTOCOL_SPEC, encoding: 'UTF-8')
+      .scan(/(?:JSON\.parse|StringIO\.new)\('((?:[^'\\]|\\.)*)'\)/m)
+      .map { |(body)| body.gsub(/\\([\\'])/, '\\1') }
+      .select { |body| body.start_with?('{', '[') }
+      .map { |body| JSON.parse(body) }
+end
+
+PAYLOADS = {
+  'small structure' => [STRUCTURE],
+  'nested structures' => [{
+    'items' => Array.new(100) { |i| STRUCTURE.merge('integer' => i) },
+    'next_token' => 'token'
+  }],
+  'large list of strings' => [{
+    'list' => Array.new(10_000) { |i| "item-#{i}" }
+  }]
+}
+
+if File.exist?(PROTOCOL_SPEC)
+  PAYLOADS['protocol-test bodies'] = protocol_test_bodies
+else
+  warn "#{PROTOCOL_SPEC} not found, skipping the protocol-test bodies"
+end
+
+ENGINES = {
+  'JSON.load' => Module.new do
+    def self.load(io)
+      ::JSON.load(io) # rubocop:disable Security/JSONLoad
+    end
+
+    def self.dump(value)
+      ::JSON.dump(value)
+    end
+  end,
+  'stdlib' => Hearth::JSON::Engines::Stdlib
+}
+
+if Hearth::JSON::Engines::Oj.available?
+  ENGINES['oj'] = Hearth::JSON::Engines::Oj
+else
+  warn 'oj is not installed, skipping the oj engine'
+end
+
+iterations = Integer(ARGV.fetch(0, 1_000))
+
+PAYLOADS.each do |name, payloads|
+  bodies = payloads.map { |payload| JSON.dump(payload) }
+  puts "#{name} (#{bodies.size} bodies, #{bodies.sum(&:bytesize)} bytes)"
+  Benchmark.bmbm(16) do |x|
+    ENGINES.each do |engine_name, engine|
+      x.report("load #{engine_name}") do
+        iterations.times do
+          bodies.each { |json| engine.load(StringIO.new(json)) }
+        end
+      end
+    end
+    ENGINES.each do |engine_name, engine|
+      x.report("dump #{engine_name}") do
+        iterations.times { payloads.each { |payload| engine.dump(payload) } }
+      end
+    end
+  end
+  puts
+end
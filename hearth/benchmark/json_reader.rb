@@ -0,0 +1,63 @@
+# frozen_string_literal: true
+
+# Measures parsing a large paginated list response by loading the whole
+# document with Hearth::JSON.load, compared with reading it incrementally
+# with Hearth::JSON::Reader and handing each item off as it is decoded.
+# Peak live objects are sampled while parsing to show the difference in
+# memory held at once.
+#
+#   bundle exec ruby benchmark/json_reader.rb [items]
+
+require 'benchmark'
+require 'stringio'
+require_relative '../lib/hearth'
+
+count = Integer(ARGV.fetch(0, 100_000))
+JSON_BODY = JSON.dump(
+  'items' => Array.new(count) do |i|
+    { 'id' => i, 'name' => "item-#{i}", 'tags' => %w[a b], 'score' => i / 3.0 }
+  end,
+  'next_token' => 'token'
+).freeze
+
+def live_slots
+  GC.stat(:heap_live_slots)
+end
+
+def load_items
+  peak = 0
+  map = Hearth::JSON.load(StringIO.new(JSON_BODY))
+  map['items'].each do |item|
+    item['id']
+    peak = [peak, live_slots].max
+  end
+  peak
+end
+
+def read_items
+  peak = 0
+  reader = Hearth::JSON::Reader.new(StringIO.new(JSON_BODY))
+  reader.each_pair do |key|
+    next reader.skip unless key == 'items'
+
+    reader.each_item do
+      reader.read['id']
+      peak = [peak, live_slots].max
+    end
+  end
+  peak
+end
+
+puts "#{count} items (#{JSON_BODY.bytesize} bytes)"
+GC.start
+baseline = live_slots
+Benchmark.bm(22) do |x|
+  { 'Hearth::JSON.load' => method(:load_items),
+    'Hearth::JSON::Reader' => method(:read_items) }.each do |name, parse|
+    peak = nil
+    GC.start
+    x.report(name) { peak = parse.call }
+    puts format('%-22<name>s peak live objects: %<peak>d',
+                name: '', peak: peak - baseline)
+  end
+end
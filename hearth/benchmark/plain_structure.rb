@@ -0,0 +1,100 @@
+# frozen_string_literal: true
+
+# Measures parsing JSON responses into generated Types, comparing
+# keyword_init Structs with the plain classes generated when the
+# `plainTypes` codegen setting is enabled.
+#
+# The RailsJson protocol-test bodies are read from the generated
+# protocol spec of the rails_json projection. A type is defined for each
+# JSON object with the shape of the generated code, and each parser
+# creates an empty type and assigns its members, as generated parsers do.
+#
+#   bundle exec ruby benchmark/plain_structure.rb [iterations]
+
+require 'benchmark'
+require_relative '../lib/hearth'
+
+PROTOCOL_SPEC = File.expand_path(
+  '../../codegen/projections/rails_json/spec/protocol_spec.rb', __dir__
+)
+
+abort "#{PROTOCOL_SPEC} not found" unless File.exist?(PROTOCOL_SPEC)
+
+# Request bodies are matched with JSON.parse('...') and response bodies
+# with StringIO.new('...').
+BODIES = File.read(PROTOCOL_SPEC, encoding: 'UTF-8')
+             .scan(/(?:JSON\.parse|StringIO\.new)\('((?:[^'\\]|\\.)*)'\)/m)
+             .map { |(body)| body.gsub(/\\([\\'])/, '\\1') }
+             .select { |body| body.start_with?('{') }
+             .map { |body| JSON.parse(body) }
+             .freeze
+
+# Defines the generated type and parser of each JSON object, keyed by its
+# keys. Parsers assign each member with its writer.
+class Types
+  def initialize(&define)
+    @define = define
+    @parsers = {}
+  end
+
+  def parser(keys)
+    @parsers[keys] ||= begin
+      members = keys.map { |key| :"m_#{key.gsub(/\W/, '_')}" }
+      type = @define.call(members.uniq)
+      assignments = keys.zip(members).map do |key, member|
+        "data.#{member} = parse(types, map[#{key.inspect}])"
+      end
+      eval(<<~RUBY, binding, __FILE__, __LINE__ + 1) # rubocop:disable Security/Eval
+        lambda do |types, map|
+          data = type.new
+          #{assignments.join("\n")}
+          data
+        end
+      RUBY
+    end
+  end
+end
+
+# Types generated without plainTypes.
+STRUCT_TYPES = Types.new do |members|
+  ::Struct.new(*members, keyword_init: true) do
+    include Hearth::Structure
+  end
+end
+
+# Types generated with plainTypes.
+PLAIN_TYPES = Types.new do |members|
+  Class.new do
+    include Hearth::PlainStructure
+
+    const_set(:MEMBERS, members.freeze)
+
+    attr_accessor(*members)
+
+    class_eval <<~RUBY, __FILE__, __LINE__ + 1
+      def initialize(#{members.map { |m| "#{m}: nil" }.join(', ')})
+        #{members.map { |m| "@#{m} = #{m}" }.join("\n")}
+      end
+    RUBY
+  end
+end
+
+def parse(types, value)
+  case value
+  when Hash then types.parser(value.keys).call(types, value)
+  when Array then value.map { |item| parse(types, item) }
+  else value
+  end
+end
+
+iterations = Integer(ARGV.fetch(0, 1_000))
+
+puts "#{BODIES.size} bodies, #{iterations} iterations"
+Benchmark.bmbm(24) do |x|
+  { 'keyword_init Struct' => STRUCT_TYPES,
+    'Hearth::PlainStructure' => PLAIN_TYPES }.each do |name, types|
+    x.report(name) do
+      iterations.times { BODIES.each { |body| parse(types, body) } }
+    end
+  end
+end
@@ -0,0 +1,130 @@
+# frozen_string_literal: true
+
+# Measures building request URLs for a few representative operation
+# shapes, comparing builders that parse the URL after every step with
+# the builders generated from compiled URI templates.
+#
+#   bundle exec ruby benchmark/request_url.rb [iterations]
+
+require 'benchmark'
+require 'cgi'
+require 'uri'
+require_relative '../lib/hearth'
+
+ENDPOINT = 'https://example.com'
+INPUT = {
+  bucket: 'my-bucket',
+  key: 'path/to/my object.txt',
+  hello: 'world',
+  baz: 'qux'
+}.freeze
+
+# Builds URLs the way builders did before URI templates were compiled.
+module ParsedBuilders
+  def self.append_path(url, path)
+    uri = URI.parse(url)
+    uri.path = "#{uri.path.sub(%r{/$}, '')}/#{path.sub(%r{^/}, '')}"
+    uri.to_s
+  end
+
+  def self.append_query(url, query)
+    uri = URI.parse(url)
+    uri.query = uri.query ? "#{uri.query}&#{query}" : query
+    uri.to_s
+  end
+
+  def self.static_query(url, query)
+    CGI.parse(query).each do |k, v|
+      v.each do |q_v|
+        url = append_query(url, "#{Hearth::HTTP.uri_escape(k)}=" \
+                                "#{Hearth::HTTP.uri_escape(q_v)}")
+      end
+    end
+    url
+  end
+
+  OPERATIONS = {
+    'static path' => lambda do |_input|
+      append_path(ENDPOINT, '/operation')
+    end,
+    'labels' => lambda do |input|
+      append_path(ENDPOINT, format(
+        '/buckets/%<bucket>s/%<hello>s',
+        bucket: Hearth::HTTP.uri_escape(input[:bucket].to_s),
+        hello: Hearth::HTTP.uri_escape(input[:hello].to_s)
+      ))
+    end,
+    'greedy label' => lambda do |input|
+      append_path(ENDPOINT, format(
+        '/%<bucket>s/%<key>s',
+        bucket: Hearth::HTTP.uri_escape(input[:bucket].to_s),
+        key: input[:key].to_s.split('/')
+          .map { |s| Hearth::HTTP.uri_escape(s) }.join('/')
+      ))
+    end,
+    'static and variable query' => lambda do |input|
+      url = static_query(ENDPOINT, 'foo=bar&list-type=2')
+      url = append_path(url, '/ConstantAndVariableQueryString')
+      params = Hearth::Query::ParamList.new
+      params['baz'] = input[:baz].to_s
+      append_query(url, params.to_s)
+    end
+  }.freeze
+end
+
+# Builds URLs the way builders generated from compiled URI templates do.
+module CompiledBuilders
+  def self.request
+    Hearth::HTTP::Request.new(url: ENDPOINT)
+  end
+
+  OPERATIONS = {
+    'static path' => lambda do |_input|
+      http_req = request
+      http_req.append_path('/operation')
+      http_req.url
+    end,
+    'labels' => lambda do |input|
+      http_req = request
+      http_req.append_path(
+        "/buckets/#{Hearth::HTTP.uri_escape(input[:bucket].to_s)}/" \
+        "#{Hearth::HTTP.uri_escape(input[:hello].to_s)}"
+      )
+      http_req.url
+    end,
+    'greedy label' => lambda do |input|
+      http_req = request
+      http_req.append_path(
+        "/#{Hearth::HTTP.uri_escape(input[:bucket].to_s)}/" \
+        "#{Hearth::HTTP.uri_escape_path(input[:key].to_s)}"
+      )
+      http_req.url
+    end,
+    'static and variable query' => lambda do |input|
+      http_req = request
+      http_req.append_path('/ConstantAndVariableQueryString')
+      http_req.append_query_string('foo=bar&list-type=2')
+      params = Hearth::Query::ParamList.new
+      params['baz'] = input[:baz].to_s
+      http_req.append_query_params(params)
+      http_req.url
+    end
+  }.freeze
+end
+
+iterations = Integer(ARGV.fetch(0, 100_000))
+
+ParsedBuilders::OPERATIONS.each_key do |operation|
+  parsed = ParsedBuilders::OPERATIONS[operation]
+  compiled = CompiledBuilders::OPERATIONS[operation]
+  unless parsed.call(INPUT) == compiled.call(INPUT)
+    warn "#{operation}: #{parsed.call(INPUT)} != #{compiled.call(INPUT)}"
+  end
+
+  puts operation
+  Benchmark.bm(10) do |x|
+    x.report('parsed') { iterations.times { parsed.call(INPUT) } }
+    x.report('compiled') { iterations.times { compiled.call(INPUT) } }
+  end
+  puts
+end
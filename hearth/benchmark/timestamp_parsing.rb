@@ -0,0 +1,40 @@
+# frozen_string_literal: true
+
+# Measures parsing the timestamps of a timestamp heavy list response with
+# Time.parse, as parsers generated before format specific parsing did,
+# compared with the Hearth::TimeHelper parser for each timestamp format.
+#
+#   bundle exec ruby benchmark/timestamp_parsing.rb [items]
+
+require 'benchmark'
+require_relative '../lib/hearth'
+
+count = Integer(ARGV.fetch(0, 100_000))
+start = Time.utc(2019, 12, 16, 23, 48, 18)
+times = Array.new(count) { |i| start + (i * 1.5) }
+
+FORMATS = {
+  'date-time' => [
+    times.map { |t| t.strftime('%Y-%m-%dT%H:%M:%S.%LZ') },
+    ->(value) { Time.parse(value) },
+    ->(value) { Hearth::TimeHelper.from_date_time(value) }
+  ],
+  'epoch-seconds' => [
+    times.map { |t| Hearth::TimeHelper.to_epoch_seconds(t) },
+    ->(value) { Time.at(value.to_i) },
+    ->(value) { Hearth::TimeHelper.from_epoch_seconds(value) }
+  ],
+  'http-date' => [
+    times.map(&:httpdate),
+    ->(value) { Time.parse(value) },
+    ->(value) { Hearth::TimeHelper.from_http_date(value) }
+  ]
+}.freeze
+
+puts "#{count} timestamps per format"
+Benchmark.bm(36) do |x|
+  FORMATS.each do |format, (values, generic, specialized)|
+    x.report("#{format} Time.parse/Time.at") { values.each(&generic) }
+    x.report("#{format} Hearth::TimeHelper") { values.each(&specialized) }
+  end
+end
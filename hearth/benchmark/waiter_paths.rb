@@ -0,0 +1,31 @@
+# frozen_string_literal: true
+
+# Measures evaluating a waiter acceptor path on each poll with JMESPath,
+# as the Poller does for string paths, compared with the lambda that
+# code generation compiles from the same expression.
+#
+#   bundle exec ruby benchmark/waiter_paths.rb [polls]
+
+require 'benchmark'
+require 'jmespath'
+require_relative '../lib/hearth'
+
+polls = Integer(ARGV.fetch(0, 100_000))
+Instance = Struct.new(:id, :state, keyword_init: true)
+Output = Struct.new(:instances, keyword_init: true)
+output = Output.new(
+  instances: Array.new(20) { |i| Instance.new(id: "i-#{i}", state: 'running') }
+)
+
+JMESPATH = 'instances[].state'
+COMPILED = lambda do |out|
+  Hearth::Waiters::PathHelper.project(
+    Hearth::Waiters::PathHelper.flatten(out&.instances)
+  ) { |v0| v0&.state }
+end
+
+puts "#{polls} polls"
+Benchmark.bm(10) do |x|
+  x.report('JMESPath') { polls.times { JMESPath.search(JMESPATH, output) } }
+  x.report('compiled') { polls.times { COMPILED.call(output) } }
+end
@@ -9,11 +9,13 @@ require_relative 'hearth/config/resolver'
 require_relative 'hearth/context'
 require_relative 'hearth/http'
 require_relative 'hearth/json'
+require_relative 'hearth/lazy_structure'
 require_relative 'hearth/middleware'
 require_relative 'hearth/middleware_builder'
 require_relative 'hearth/middleware_stack'
 require_relative 'hearth/number_helper'
 require_relative 'hearth/output'
+require_relative 'hearth/plain_structure'
 require_relative 'hearth/query/param'
 require_relative 'hearth/query/param_list'
 require_relative 'hearth/retry'
@@ -23,6 +25,7 @@ require_relative 'hearth/stubbing/stubs'
 require_relative 'hearth/time_helper'
 require_relative 'hearth/union'
 require_relative 'hearth/validator'
+require_relative 'hearth/waiters/path_helper'
 require_relative 'hearth/waiters/poller'
 require_relative 'hearth/waiters/waiter'
 require_relative 'hearth/xml'
@@ -12,6 +12,8 @@ module Hearth
       @params = options[:params]
       @signer_params = options[:signer_params] || {}
       @metadata = options[:metadata] || {}
+      @item_handler = options[:item_handler]
+      @input_validated = options.fetch(:input_validated, false)
     end
 
     # @return [Symbol] Name of the API operation called.
@@ -34,5 +36,15 @@ module Hearth
 
     # @return [Hash]
     attr_reader :metadata
+
+    # @return [Proc, nil] Called with each paginated item as it is parsed,
+    #   when the response is parsed incrementally. It is called for every
+    #   attempt whose response is parsed, so items of an attempt that is
+    #   then retried are handled again.
+    attr_reader :item_handler
+
+    # @return [Boolean] true if the input was validated as it was built,
+    #   so {Middleware::Validate} does not validate it again.
+    attr_reader :input_validated
   end
 end
@@ -3,6 +3,7 @@
 require 'cgi'
 require_relative 'http/api_error'
 require_relative 'http/client'
+require_relative 'http/connection_pool'
 require_relative 'http/error_parser'
 require_relative 'http/headers'
 require_relative 'http/middleware/content_length'
@@ -36,6 +36,15 @@ module Hearth
       #   authority files for verifying peer certificates.  If you do
       #   not pass `:ssl_ca_bundle` or `:ssl_ca_directory` the
       #   system default will be used if available.
+      #
+      # @option options [Integer] :http_max_connections (10) The maximum
+      #   number of idle connections kept open per endpoint for reuse by
+      #   later requests. When `0`, or when `:http_wire_trace` is `true`,
+      #   every request opens a new connection and closes it afterwards.
+      #
+      # @option options [Numeric] :http_idle_timeout (5) Number of seconds
+      #   a connection may stay idle before it is closed instead of being
+      #   reused.
       def initialize(options = {})
         @http_wire_trace = options[:http_wire_trace]
         @logger = options[:logger]
@@ -45,6 +54,8 @@ module Hearth
         @ssl_ca_bundle = options[:ssl_ca_bundle]
         @ssl_ca_directory = options[:ssl_ca_directory]
         @ssl_ca_store = options[:ssl_ca_store]
+        @http_idle_timeout = options.fetch(:http_idle_timeout, 5)
+        @connection_pool = connection_pool(options)
       end
 
       # @param [Request] request
@@ -52,16 +63,7 @@ module Hearth
       # @return [Response]
       def transmit(request:, response:)
         uri = URI.parse(request.url)
-        http = create_http(uri)
-        http.set_debug_output(@logger) if @http_wire_trace
-
-        if uri.scheme == 'https'
-          configure_ssl(http)
-        else
-          http.use_ssl = false
-        end
-
-        _transmit(http, request, response)
+        with_session(uri) { |http| _transmit(http, request, response) }
         response.body.rewind if response.body.respond_to?(:rewind)
         response
       rescue ArgumentError => e
@@ -74,17 +76,59 @@ module Hearth
       private
 
       def _transmit(http, request, response)
-        http.start do |conn|
-          conn.request(build_net_request(request)) do |net_resp|
-            response.status = net_resp.code.to_i
-            response.headers = extract_headers(net_resp)
-            net_resp.read_body do |chunk|
-              response.body.write(chunk)
-            end
+        http.request(build_net_request(request)) do |net_resp|
+          response.status = net_resp.code.to_i
+          response.headers = extract_headers(net_resp)
+          net_resp.read_body do |chunk|
+            response.body.write(chunk)
           end
         end
       end
 
+      # Connections are shared by all clients with the same pool settings.
+      # Traced connections write to this client's logger, so they are not
+      # shared.
+      def connection_pool(options)
+        max_connections = options.fetch(:http_max_connections, 10)
+        return if max_connections.zero? || @http_wire_trace
+
+        ConnectionPool.for(
+          max_connections_per_host: max_connections,
+          idle_timeout: @http_idle_timeout
+        )
+      end
+
+      # Yields a started session, from the connection pool if enabled.
+      def with_session(uri, &block)
+        return new_http(uri).start(&block) unless @connection_pool
+
+        new_session = -> { new_http(uri) }
+        @connection_pool.session_for(pool_key(uri), new_session, &block)
+      end
+
+      # Sessions are only reused for the same endpoint and connection
+      # settings.
+      def pool_key(uri)
+        [
+          uri.scheme, uri.host, uri.port, @http_proxy, @ssl_verify_peer,
+          @ssl_ca_bundle, @ssl_ca_directory, @ssl_ca_store
+        ]
+      end
+
+      # Creates an unstarted HTTP session for the endpoint
+      def new_http(uri)
+        http = create_http(uri)
+        http.set_debug_output(@logger) if @http_wire_trace
+        http.keep_alive_timeout = @http_idle_timeout
+
+        if uri.scheme == 'https'
+          configure_ssl(http)
+        else
+          http.use_ssl = false
+        end
+        http
+      end
+
       # Creates an HTTP connection to the endpoint
       # Applies proxy if set
       def create_http(endpoint)
@@ -0,0 +1,202 @@
+# frozen_string_literal: true
+
+module Hearth
+  module HTTP
+    # Keeps started Net::HTTP sessions open between requests so that
+    # requests to the same endpoint reuse their TCP (and TLS) connection.
+    #
+    # Sessions are pooled per endpoint key. A session is only returned to
+    # the pool after its response has been fully read, and any error while
+    # using a session closes it. Sessions that have been idle for longer
+    # than the idle timeout are closed the next time the pool is used.
+    #
+    # Pools are fork safe: a pool used in a forked child process drops the
+    # sessions inherited from its parent without closing them, so the
+    # parent's connections are left untouched.
+    # @api private
+    class ConnectionPool
+      @pools_mutex = Mutex.new
+      @pools = {}
+
+      class << self
+        # Pools are shared by pool settings only. Sessions are keyed by
+        # endpoint and connection settings within a pool. Getting a pool
+        # closes the idle sessions of every pool and drops pools that are
+        # no longer used.
+        #
+        # @param [Hash] options
+        # @option options [Integer] :max_connections_per_host (10)
+        # @option options [Numeric] :idle_timeout (5)
+        # @return [ConnectionPool] The pool shared by all clients created
+        #   with the same pool settings.
+        def for(options = {})
+          key = options.slice(:max_connections_per_host, :idle_timeout)
+          @pools_mutex.synchronize do
+            evict_idle_pools(key)
+            @pools[key] ||= new(key)
+          end
+        end
+
+        # @return [Array<ConnectionPool>]
+        def pools
+          @pools_mutex.synchronize { @pools.values }
+        end
+
+        private
+
+        # Must be called while holding the pools mutex.
+        def evict_idle_pools(key)
+          @pools.delete_if do |pool_key, pool|
+            pool.reap_idle!
+            pool_key != key && pool.unused?
+          end
+        end
+      end
+
+      # @param [Hash] options
+      # @option options [Integer] :max_connections_per_host (10) The
+      #   maximum number of idle connections kept open per endpoint.
+      # @option options [Numeric] :idle_timeout (5) Number of seconds a
+      #   connection may stay idle before it is closed.
+      def initialize(options = {})
+        @max_connections_per_host = options.fetch(:max_connections_per_host,
+                                                  10)
+        @idle_timeout = options.fetch(:idle_timeout, 5)
+        @mutex = Mutex.new
+        @sessions = {}
+        @in_use = 0
+        @pid = Process.pid
+      end
+
+      # @return [Integer]
+      attr_reader :max_connections_per_host
+
+      # @return [Numeric]
+      attr_reader :idle_timeout
+
+      # Yields a started session for the endpoint and returns it to the
+      # pool afterwards.
+      #
+      # @param key Identifies the endpoint, sessions are only reused for
+      #   the same key.
+      # @param [Proc] new_session Returns a new, unstarted Net::HTTP.
+      # @yieldparam [Net::HTTP] session
+      # @return The value returned by the block.
+      def session_for(key, new_session)
+        @mutex.synchronize { @in_use += 1 }
+        session = checkout(key) || start_session(new_session.call)
+        completed = false
+        result = yield session
+        completed = true
+        result
+      ensure
+        if session
+          completed ? checkin(key, session) : finish(session)
+        end
+        @mutex.synchronize { @in_use -= 1 }
+      end
+
+      # @return [Integer] The number of idle sessions in the pool.
+      def size
+        @mutex.synchronize do
+          @sessions.values.sum(&:size)
+        end
+      end
+
+      # @return [Boolean] True if the pool has no sessions, idle or in use.
+      def unused?
+        @mutex.synchronize do
+          @in_use.zero? && @sessions.empty?
+        end
+      end
+
+      # Closes all idle sessions that have exceeded the idle timeout.
+      # @return [void]
+      def reap_idle!
+        idle = @mutex.synchronize { remove_idle }
+        idle.each { |session| finish(session) }
+        nil
+      end
+
+      # Closes all idle sessions.
+      # @return [void]
+      def empty!
+        sessions = @mutex.synchronize do
+          reset_after_fork
+          all = @sessions.values.flatten(1).map(&:first)
+          @sessions = {}
+          all
+        end
+        sessions.each { |session| finish(session) }
+        nil
+      end
+
+      private
+
+      def checkout(key)
+        session, idle = @mutex.synchronize do
+          reset_after_fork
+          idle = remove_idle
+          [@sessions[key]&.pop&.first, idle]
+        end
+        idle.each { |s| finish(s) }
+        session
+      end
+
+      def checkin(key, session)
+        return finish(session) unless session.started?
+
+        pooled = @mutex.synchronize do
+          reset_after_fork
+          sessions = (@sessions[key] ||= [])
+          next false if sessions.size >= @max_connections_per_host
+
+          sessions.push([session, now])
+        end
+        finish(session) unless pooled
+      end
+
+      def start_session(session)
+        session.start
+        session
+      end
+
+      # Removes and returns the sessions that have been idle for too long,
+      # along with the keys that no longer have sessions.
+      # Must be called while holding the mutex.
+      def remove_idle
+        deadline = now - @idle_timeout
+        idle = []
+        @sessions.delete_if do |_key, sessions|
+          # sessions are pushed in order, so the idle ones are first
+          while (oldest = sessions.first) && oldest.last < deadline
+            idle << sessions.shift.first
+          end
+          sessions.empty?
+        end
+        idle
+      end
+
+      # Sessions inherited from a parent process share their sockets with
+      # the parent and must not be used or closed by the child.
+      # Must be called while holding the mutex.
+      def reset_after_fork
+        return if @pid == Process.pid
+
+        @sessions = {}
+        @pid = Process.pid
+      end
+
+      def finish(session)
+        session.finish if session.started?
+        nil
+      rescue IOError, SystemCallError
+        nil
+      end
+
+      def now
+        Process.clock_gettime(Process::CLOCK_MONOTONIC)
+      end
+    end
+  end
+end
@@ -1,5 +1,7 @@
 # frozen_string_literal: true
 
+require 'set'
+
 module Hearth
   module HTTP
     # Uses HTTP specific logic + Protocol defined Errors and
@@ -29,12 +31,13 @@ module Hearth
       #   it has the success_status and does not
       #   have an error code.
       #
-      # @param [Array<Class<ApiError>>] errors Array of Error classes
-      #   modeled for the operation.
+      # @param [Set<Class<ApiError>>, Array<Class<ApiError>>] errors
+      #   Error classes modeled for the operation.
       def initialize(error_module:, success_status:, errors:)
         @error_module = error_module
         @success_status = success_status
-        @errors = errors
+        @errors = errors.to_set
+        @error_classes = error_classes(error_module, @errors)
       end
 
       # Parse and return the error if the response is not successful.
@@ -42,7 +45,10 @@ module Hearth
       # @param [Response] response The HTTP response
       # @param [Hash] metadata The metadata from {Hearth::Output}
       def parse(response, metadata)
-        create_error(response, metadata) if error?(response)
+        error_code = @error_module.error_code(response)
+        return unless error?(response, error_code)
+
+        create_error(response, metadata, error_code)
       end
 
       private
@@ -56,15 +62,14 @@ module Hearth
       # 6. Response code 5xx -> unknown server error
       #   [MODIFIED, 3xx, 4xx, 5xx mapped, everything else is Generic ApiError]
       # 7. Everything else -> unknown client error
-      def error?(http_resp)
-        return true if @error_module.method(:error_code).call(http_resp)
+      def error?(http_resp, error_code)
+        return true if error_code
         return false if http_resp.status == @success_status
 
         !(200..299).cover?(http_resp.status)
       end
 
-      def create_error(http_resp, metadata)
-        error_code = @error_module.method(:error_code).call(http_resp)
+      def create_error(http_resp, metadata, error_code)
         error_class = error_class(error_code) if error_code
 
         error_opts = {
@@ -82,8 +87,18 @@ module Hearth
       end
 
       def error_class(error_code)
-        @errors.find do |e|
-          e.name.include? error_code
+        error_class = @error_classes[error_code]
+        error_class if @errors.include?(error_class)
+      end
+
+      # Generated Errors modules define a frozen ERROR_CLASSES hash of
+      # error code (the modeled error shape name) to error class.
+      # Otherwise, index the modeled errors by class name.
+      def error_classes(error_module, errors)
+        if error_module.const_defined?(:ERROR_CLASSES, false)
+          error_module::ERROR_CLASSES
+        else
+          errors.to_h { |e| [e.name.split('::').last, e] }
         end
       end
 
@@ -64,11 +64,10 @@ module Hearth
       #
       # @param [String] path A URI escaped path.
       def append_path(path)
-        uri = URI.parse(@url)
-        base_path = uri.path.sub(%r{/$}, '') # remove trailing slash
-        path = path.sub(%r{^/}, '')          # remove prefix slash
-        uri.path = "#{base_path}/#{path}"    # join on single slash
-        @url = uri.to_s
+        base_url, query = @url.split('?', 2)
+        # join on single slash
+        url = "#{base_url.chomp('/')}/#{path.delete_prefix('/')}"
+        @url = query ? "#{url}?#{query}" : url
       end
 
       # Append querystring parameter to the HTTP request URL.
@@ -101,9 +100,7 @@ module Hearth
           else raise ArgumentError, 'wrong number of arguments ' \
                                     "(given #{args.size}, expected 1 or 2)"
           end
-        uri = URI.parse(@url)
-        uri.query = uri.query ? "#{uri.query}&#{param}" : param
-        @url = uri.to_s
+        append_query_string(param)
       end
 
       # Append querystring parameters to the HTTP request URL.
@@ -122,9 +119,22 @@ module Hearth
       #   querystring parameters to add. The names and values are URI escaped.
       #
       def append_query_params(param_list)
-        uri = URI.parse(@url)
-        uri.query = uri.query ? "#{uri.query}&#{param_list}" : param_list.to_s
-        @url = uri.to_s
+        append_query_string(param_list.to_s) unless param_list.empty?
+      end
+
+      # Append a URI escaped querystring to the HTTP request URL.
+      #
+      #     http_req.url = "https://example.com?key=value"
+      #     http_req.append_query_string('static&key%202=value%202')
+      #
+      #     http_req.url
+      #     #=> "https://example.com?key=value&static&key%202=value%202"
+      #
+      # @param [String] query A URI escaped querystring, without the
+      #   leading '?'.
+      #
+      def append_query_string(query)
+        @url = "#{@url}#{@url.include?('?') ? '&' : '?'}#{query}"
       end
 
       # Append a host prefix to the HTTP request URL.
@@ -1,29 +1,86 @@
 # frozen_string_literal: true
 
-require_relative 'json/parse_error'
 require 'json'
+require_relative 'json/engines/oj'
+require_relative 'json/engines/stdlib'
+require_relative 'json/middleware/engine'
+require_relative 'json/parse_error'
+require_relative 'json/reader'
+require_relative 'json/writer'
 
 module Hearth
   # Hearth::JSON is a purpose-built set of utilities for working with
   # JSON. It does not support many/most features of generic JSON
   # parsing and serialization.
+  #
+  # Loading and dumping is delegated to a JSON engine, any object that
+  # responds to `#load(json)` and `#dump(value)`. Engines must also dump
+  # scalar values, which {Writer} writes one at a time. The standard
+  # library engine is used by default; clients select an engine with the
+  # `:json_engine` option, which applies to the requests they send.
   # @api private
   module JSON
+    # Registered JSON engines.
+    ENGINES = {
+      stdlib: Engines::Stdlib,
+      oj: Engines::Oj
+    }.freeze
+
+    @engine = Engines::Stdlib
+
     class << self
-      # @param [String] json
+      # @param [String, IO] json
       # @return [Hash]
       def load(json)
-        # rubocop:disable Security/JSONLoad
-        ::JSON.load(json)
-        # rubocop:enable Security/JSONLoad
-      rescue ::JSON::ParserError => e
-        raise ParseError, e
+        engine.load(json)
       end
 
-      # @param [Hash] value
+      # @param [Hash, Array, String, Numeric, Boolean, nil] value
       # @return [String] json
       def dump(value)
-        ::JSON.dump(value)
+        engine.dump(value)
+      end
+
+      # @return [#load, #dump] The engine used on the current thread.
+      def engine
+        Thread.current[:hearth_json_engine] || @engine
+      end
+
+      # Sets the engine used when no engine is set for the current thread.
+      # @param [Symbol, #load] engine
+      def engine=(engine)
+        @engine = resolve_engine(engine)
+      end
+
+      # Uses the engine on the current thread while the block runs.
+      # @param [Symbol, #load] engine
+      # @return The value returned by the block.
+      def with_engine(engine)
+        engine = resolve_engine(engine)
+        previous = Thread.current[:hearth_json_engine]
+        Thread.current[:hearth_json_engine] = engine
+        begin
+          yield
+        ensure
+          Thread.current[:hearth_json_engine] = previous
+        end
+      end
+
+      # @param [Symbol, #load] engine The name of a registered engine, or
+      #   an engine.
+      # @return [#load, #dump]
+      def resolve_engine(engine)
+        return engine unless engine.is_a?(Symbol)
+
+        resolved = ENGINES.fetch(engine) do
+          raise ArgumentError, "unknown JSON engine #{engine.inspect}, " \
+                               "expected one of #{ENGINES.keys.inspect}"
+        end
+        if resolved.respond_to?(:available?) && !resolved.available?
+          raise ArgumentError, "the JSON engine #{engine.inspect} is not " \
+                               'available, add its gem to your Gemfile'
+        end
+        resolved
       end
     end
   end
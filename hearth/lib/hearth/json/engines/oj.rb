@@ -0,0 +1,43 @@
+# frozen_string_literal: true
+
+module Hearth
+  module JSON
+    module Engines
+      # JSON engine using the native Oj gem in its JSON gem compatible
+      # mode. The oj gem is not a dependency of Hearth and is only
+      # required when this engine is selected.
+      # @api private
+      module Oj
+        # @api private
+        OPTIONS = { mode: :compat }.freeze
+
+        class << self
+          # @return [Boolean] true if the oj gem can be loaded.
+          def available?
+            require 'oj'
+            true
+          rescue LoadError
+            false
+          end
+
+          # @param [String, IO] json
+          # @return [Hash, Array, nil] nil for empty input.
+          def load(json)
+            json = json.read if json.respond_to?(:read)
+            return if json.nil? || json.empty?
+
+            ::Oj.load(json, OPTIONS)
+          rescue ::Oj::ParseError, EncodingError => e
+            raise ParseError, e
+          end
+
+          # @param [Hash, Array, String, Numeric, Boolean, nil] value
+          # @return [String] json
+          def dump(value)
+            ::Oj.dump(value, OPTIONS)
+          end
+        end
+      end
+    end
+  end
+end
@@ -0,0 +1,35 @@
+# frozen_string_literal: true
+
+module Hearth
+  module JSON
+    module Engines
+      # JSON engine using the json standard library. Parsing uses
+      # `JSON.parse`, which is faster than `JSON.load` and never creates
+      # objects from JSON additions.
+      # @api private
+      module Stdlib
+        # @api private
+        PARSE_OPTIONS = { allow_nan: true, max_nesting: false }.freeze
+
+        class << self
+          # @param [String, IO] json
+          # @return [Hash, Array, nil] nil for empty input.
+          def load(json)
+            json = json.read if json.respond_to?(:read)
+            return if json.nil? || json.empty?
+
+            ::JSON.parse(json, PARSE_OPTIONS)
+          rescue ::JSON::ParserError => e
+            raise ParseError, e
+          end
+
+          # @param [Hash, Array, String, Numeric, Boolean, nil] value
+          # @return [String] json
+          def dump(value)
+            ::JSON.dump(value)
+          end
+        end
+      end
+    end
+  end
+end
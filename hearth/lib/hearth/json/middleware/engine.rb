@@ -0,0 +1,27 @@
+# frozen_string_literal: true
+
+module Hearth
+  module JSON
+    module Middleware
+      # A middleware that uses the client's JSON engine for every JSON
+      # document built or parsed while handling the request.
+      # @api private
+      class Engine
+        # @param app The next middleware in the stack.
+        # @param [Symbol, #load] json_engine The name of a registered
+        #   engine (see {JSON::ENGINES}) or an engine.
+        def initialize(app, json_engine:)
+          @app = app
+          @json_engine = JSON.resolve_engine(json_engine)
+        end
+
+        # @param input
+        # @param context
+        # @return [Output]
+        def call(input, context)
+          JSON.with_engine(@json_engine) { @app.call(input, context) }
+        end
+      end
+    end
+  end
+end
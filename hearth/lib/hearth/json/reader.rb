@@ -0,0 +1,258 @@
+# frozen_string_literal: true
+
+require 'stringio'
+require 'strscan'
+
+module Hearth
+  module JSON
+    # Reads a JSON document incrementally from an IO, one value at a time,
+    # without first loading the whole document into a Hash. Only the
+    # unread part of the current chunk is buffered, so a large document
+    # can be decoded with bounded memory.
+    #
+    #     reader = Hearth::JSON::Reader.new(StringIO.new(
+    #       '{"name":"value","list":[1,2],"ignored":{"a":1}}'
+    #     ))
+    #     reader.each_pair do |key|
+    #       case key
+    #       when 'name' then name = reader.read
+    #       when 'list' then reader.each_item { list << reader.read }
+    #       else reader.skip
+    #       end
+    #     end
+    #
+    # The blocks given to {#each_pair} and {#each_item} must consume
+    # exactly one value with {#read}, {#skip}, {#skip_null} followed by a
+    # read, or a nested {#each_pair} or {#each_item}.
+    # @api private
+    class Reader
+      # The number of bytes read from the IO at a time.
+      CHUNK_SIZE = 16 * 1024
+
+      # @api private
+      WHITESPACE = /[ \t\r\n]+/
+
+      # @api private
+      STRING = /"((?:[^"\\]++|\\.)*+)"/n
+
+      # A number or literal, followed by a delimiter so that a token split
+      # across chunks is never read as a shorter one.
+      # @api private
+      SCALAR = /
+        (?:
+          -?Infinity|true|false|null|NaN|
+          -?(?:0|[1-9][0-9]*+)(?:\.[0-9]++)?(?:[eE][+-]?[0-9]++)?
+        )(?=[\s,\]}]|\z)
+      /x
+
+      # @api private
+      LITERALS = {
+        'true' => true,
+        'false' => false,
+        'null' => nil,
+        'NaN' => Float::NAN,
+        'Infinity' => Float::INFINITY,
+        '-Infinity' => -Float::INFINITY
+      }.freeze
+
+      # @api private
+      TYPES = {
+        '{' => :object,
+        '[' => :array,
+        '"' => :string,
+        '-' => :number,
+        'N' => :number,
+        'I' => :number,
+        't' => :boolean,
+        'f' => :boolean,
+        'n' => :null
+      }.merge(('0'..'9').to_h { |digit| [digit, :number] }).freeze
+
+      # @param [IO, String] io
+      # @param [Integer] chunk_size
+      def initialize(io, chunk_size: CHUNK_SIZE)
+        @io = io.is_a?(String) ? StringIO.new(io) : io
+        @chunk_size = chunk_size
+        @scanner = StringScanner.new(String.new(encoding: Encoding::BINARY))
+        @eof = false
+        @started = false
+      end
+
+      # @return [Boolean] true if the document has no content.
+      def empty?
+        return false if @started
+
+        @started = !peek_char.nil?
+        !@started
+      end
+
+      # @return [Symbol, nil] The type of the next value: `:object`,
+      #   `:array`, `:string`, `:number`, `:boolean` or `:null`.
+      def peek
+        TYPES[peek_char]
+      end
+
+      # Yields the key of each member of the next object. An empty
+      # document is read as an empty object.
+      # @yieldparam [String] key
+      # @return [nil]
+      def each_pair
+        return if empty?
+
+        expect('{')
+        return if accept('}')
+
+        loop do
+          raise error('expected an object key') unless peek_char == '"'
+
+          key = read_string
+          expect(':')
+          yield key
+          return if accept('}')
+
+          expect(',')
+        end
+      end
+
+      # Yields once for each item of the next array.
+      # @return [nil]
+      def each_item
+        expect('[')
+        return if accept(']')
+
+        loop do
+          yield
+          return if accept(']')
+
+          expect(',')
+        end
+      end
+
+      # Reads the next value. Objects and arrays are read as a whole into
+      # a Hash or Array.
+      # @return [Hash, Array, String, Numeric, Boolean, nil]
+      def read
+        case peek
+        when :object
+          hash = {}
+          each_pair { |key| hash[key] = read }
+          hash
+        when :array
+          array = []
+          each_item { array << read }
+          array
+        when :string then read_string
+        else read_scalar
+        end
+      end
+
+      # Skips the next value.
+      # @return [nil]
+      def skip
+        case peek
+        when :object then each_pair { skip }
+        when :array then each_item { skip }
+        when :string then read_string
+        else read_scalar
+        end
+        nil
+      end
+
+      # Skips the next value if it is null.
+      # @return [Boolean] true if a null was skipped.
+      def skip_null
+        return false unless peek_char == 'n'
+
+        read_scalar
+        true
+      end
+
+      private
+
+      def read_string
+        token = scan(STRING)
+        raise error('unterminated string') unless token
+
+        string = @scanner[1]
+        if string.include?('\\')
+          ::JSON.parse(token.force_encoding(Encoding::UTF_8))
+        else
+          string.force_encoding(Encoding::UTF_8)
+        end
+      end
+
+      def read_scalar
+        token = scan(SCALAR)
+        raise error('unexpected token') unless token
+
+        LITERALS.fetch(token) do
+          token.match?(/[.eE]/) ? Float(token) : Integer(token)
+        end
+      end
+
+      def expect(char)
+        raise error("expected '#{char}'") unless peek_char == char
+
+        @scanner.pos += 1
+      end
+
+      def accept(char)
+        return false unless peek_char == char
+
+        @scanner.pos += 1
+        true
+      end
+
+      # Skips whitespace and returns the next character without
+      # consuming it, or nil at the end of the document.
+      def peek_char
+        loop do
+          @scanner.skip(WHITESPACE)
+          return @scanner.peek(1) unless @scanner.eos?
+          return unless fill(@chunk_size)
+        end
+      end
+
+      # Scans a token, reading more of the IO while the token could
+      # continue past the end of the buffer.
+      def scan(pattern)
+        bytes = @chunk_size
+        loop do
+          token = @scanner.scan(pattern)
+          return token if token && !@scanner.eos?
+
+          @scanner.unscan if token
+          return @scanner.scan(pattern) unless fill(bytes)
+
+          bytes *= 2
+        end
+      end
+
+      def fill(bytes)
+        return false if @eof
+
+        chunk = @io.read(bytes)
+        if chunk.nil? || chunk.empty?
+          @eof = true
+          return false
+        end
+        compact
+        @scanner << chunk.b
+        true
+      end
+
+      # Drops the consumed part of the buffer.
+      def compact
+        return if @scanner.pos < @chunk_size
+
+        @scanner.string = @scanner.rest
+      end
+
+      def error(message)
+        ParseError.new(
+          StandardError.new("#{message} at byte #{@scanner.pos}")
+        )
+      end
+    end
+  end
+end
@@ -0,0 +1,108 @@
+# frozen_string_literal: true
+
+module Hearth
+  module JSON
+    # Writes JSON tokens directly to a String buffer, without first
+    # building a Hash or Array of the document. Keys and values are
+    # encoded by the JSON engine, the same as {JSON.dump}, so a document
+    # written member by member has the same bytes as dumping the
+    # equivalent Hash.
+    #
+    #     json = Hearth::JSON::Writer.new
+    #     json.start_object
+    #     json.key('name').value('value')
+    #     json.key('list').start_array.value(1).value(2).end_array
+    #     json.end_object
+    #     json.to_s
+    #     #=> '{"name":"value","list":[1,2]}'
+    #
+    # All methods return the writer so calls can be chained.
+    # @api private
+    class Writer
+      # @param [String] buffer The buffer to append to.
+      # @param [#dump] engine The JSON engine that encodes keys and values.
+      #   Defaults to the engine used on the current thread.
+      def initialize(buffer = +'', engine: JSON.engine)
+        @buffer = buffer
+        @engine = engine
+        @stdlib = engine.equal?(Engines::Stdlib)
+        @comma = false
+      end
+
+      # @return [Writer]
+      def start_object
+        separate
+        @buffer << '{'
+        @comma = false
+        self
+      end
+
+      # @return [Writer]
+      def end_object
+        @buffer << '}'
+        @comma = true
+        self
+      end
+
+      # @return [Writer]
+      def start_array
+        separate
+        @buffer << '['
+        @comma = false
+        self
+      end
+
+      # @return [Writer]
+      def end_array
+        @buffer << ']'
+        @comma = true
+        self
+      end
+
+      # Writes an object key. The next value written is the key's value.
+      # @param [String, Symbol] name
+      # @return [Writer]
+      def key(name)
+        separate
+        @buffer << encode(name.to_s) << ':'
+        @comma = false
+        self
+      end
+
+      # Writes a scalar value, or a Hash or Array (such as a document)
+      # as a whole.
+      # @param [String, Numeric, Boolean, Hash, Array, nil] value
+      # @return [Writer]
+      def value(value)
+        separate
+        @buffer << encode(value)
+        self
+      end
+
+      # @return [String] The buffer.
+      def to_s
+        @buffer
+      end
+
+      private
+
+      # The stdlib engine dumps with JSON.dump, which creates a generator
+      # state on every call. Scalars are encoded with to_json instead,
+      # which gives the same bytes.
+      def encode(value)
+        return @engine.dump(value) unless @stdlib
+
+        case value
+        when String, Integer, true, false, nil then value.to_json
+        when Float then value.finite? ? value.to_json : @engine.dump(value)
+        else @engine.dump(value)
+        end
+      end
+
+      def separate
+        @buffer << ',' if @comma
+        @comma = true
+      end
+    end
+  end
+end
@@ -0,0 +1,84 @@
+# frozen_string_literal: true
+
+module Hearth
+  # A module mixed into subclasses of generated types that convert their
+  # members from a decoded JSON map the first time they are read. The
+  # subclass defines a frozen `LAZY_MEMBERS` Array of member names and
+  # overrides the reader and writer of each:
+  #
+  #     class Lazy < Types::Person
+  #       include Hearth::LazyStructure
+  #
+  #       LAZY_MEMBERS = %i[address].freeze
+  #
+  #       def address
+  #         if @lazy_map&.key?('address')
+  #           self.address = Parsers::Address.parse(@lazy_map['address'])
+  #         end
+  #         super
+  #       end
+  #
+  #       def address=(value)
+  #         @lazy_map&.delete('address')
+  #         super
+  #       end
+  #     end
+  #
+  # Methods that read all members at once convert the remaining members
+  # first.
+  module LazyStructure
+    # @param [Hash] map The decoded map to convert members from.
+    # @return [self]
+    def defer(map)
+      @lazy_map = map
+      self
+    end
+
+    # Converts all members that have not been read yet.
+    # @return [self]
+    def materialize!
+      return self unless @lazy_map
+
+      self.class::LAZY_MEMBERS.each { |member| public_send(member) }
+      @lazy_map = nil
+      self
+    end
+
+    %i[[] each each_pair to_a values deconstruct deconstruct_keys dig to_h
+       to_hash to_s inspect hash].each do |method|
+      define_method(method) do |*args, &block|
+        materialize!
+        super(*args, &block)
+      end
+    end
+
+    # @return [Boolean] true if other is of the same generated type and has
+    #   equal members.
+    def ==(other)
+      return false unless other.is_a?(Structure) &&
+                          LazyStructure.type(other) == LazyStructure.type(self)
+
+      each_pair.all? { |member, value| value == other[member] }
+    end
+
+    # @return [Boolean] true if other is eql? once both are converted.
+    def eql?(other)
+      materialize!
+      other.materialize! if other.is_a?(LazyStructure)
+      super
+    end
+
+    # @api private
+    def self.type(structure)
+      klass = structure.class
+      klass < LazyStructure ? klass.superclass : klass
+    end
+
+    private
+
+    def initialize_copy(source)
+      super
+      @lazy_map = @lazy_map.dup
+    end
+  end
+end
@@ -11,7 +11,8 @@ module Hearth
       #  response as an argument.
       # @param [Class] data_parser A parser object responsible for parsing the
       #  response if there is data. It must respond to #parse and take the
-      #  response as an argument.
+      #  response as an argument. The context's item handler, if any, is
+      #  given to #parse as a block.
       def initialize(app, error_parser:, data_parser:)
         @app = app
         @error_parser = error_parser
@@ -35,7 +36,8 @@ module Hearth
       end
 
       def parse_data(context, output)
-        output.data = @data_parser.parse(context.response)
+        output.data =
+          @data_parser.parse(context.response, &context.item_handler)
       end
     end
   end
@@ -40,39 +40,43 @@ module Hearth
         @error_inspector_class = error_inspector_class
         @retry_quota = retry_quota
         @client_rate_limiter = client_rate_limiter
-
-        # instance state
-        @capacity_amount = nil
-        @retries = 0
       end
 
       # @param input
       # @param context
       # @return [Output]
-      # rubocop:disable Metrics/AbcSize
       def call(input, context)
+        attempt(input, context, 0, nil)
+      end
+
+      private
+
+      # Per request state is passed along with each attempt so that the
+      # same middleware instance can be used by concurrent requests. The
+      # number of retries is exposed as context.metadata[:retries].
+      # rubocop:disable Metrics/AbcSize
+      def attempt(input, context, retries, capacity_amount)
+        context.metadata[:retries] = retries
         acquire_token
         output = @app.call(input, context)
         error_inspector = @error_inspector_class.new(
           output.error, context.response.status
         )
-        request_bookkeeping(output, error_inspector)
+        request_bookkeeping(output, error_inspector, capacity_amount)
 
         return output unless retryable?(context, output, error_inspector)
 
-        return output if @retries >= @max_attempts - 1
+        return output if retries >= @max_attempts - 1
 
-        @capacity_amount = @retry_quota.checkout_capacity(error_inspector)
-        return output unless @capacity_amount.positive?
+        capacity_amount = @retry_quota.checkout_capacity(error_inspector)
+        return output unless capacity_amount.positive?
 
-        delay = [Kernel.rand * (2**@retries), MAX_BACKOFF].min
+        delay = [Kernel.rand * (2**retries), MAX_BACKOFF].min
         Kernel.sleep(delay)
-        retry_request(input, context, output)
+        retry_request(input, context, output, retries + 1, capacity_amount)
       end
       # rubocop:enable Metrics/AbcSize
 
-      private
-
       def acquire_token
         return if @retry_mode == 'standard'
 
@@ -87,8 +91,8 @@ module Hearth
 
       # max_send_rate is updated if on adaptive mode and based on response
       # retry quota is updated if the request is successful (both modes)
-      def request_bookkeeping(output, error_inspector)
-        @retry_quota.release(@capacity_amount) unless output.error
+      def request_bookkeeping(output, error_inspector, capacity_amount)
+        @retry_quota.release(capacity_amount) unless output.error
 
         return unless @retry_mode == 'adaptive'
 
@@ -104,12 +108,11 @@ module Hearth
           context.response.body.respond_to?(:truncate)
       end
 
-      def retry_request(input, context, output)
-        @retries += 1
+      def retry_request(input, context, output, retries, capacity_amount)
         context.request.body.rewind
         context.response.reset
         output.error = nil
-        call(input, context)
+        attempt(input, context, retries, capacity_amount)
       end
     end
   end
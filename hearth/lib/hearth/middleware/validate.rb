@@ -17,11 +17,15 @@ module Hearth
         @validator = validator
       end
 
+      # Input that was validated as it was built (see
+      # {Context#input_validated}) is not validated again.
       # @param input
       # @param context
       # @return [Output]
       def call(input, context)
-        @validator.validate!(input, context: 'input') if @validate_input
+        if @validate_input && !context.input_validated
+          @validator.validate!(input, context: 'input')
+        end
         @app.call(input, context)
       end
     end
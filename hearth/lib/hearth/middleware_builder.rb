@@ -75,6 +75,16 @@ module Hearth
   #       output
   #     end
   #
+  # ## Shared Handlers
+  #
+  # Clients build the middleware stack for an operation once, freeze it and
+  # reuse it for later calls (see {MiddlewareStack#freeze}). Handlers and the
+  # middleware that wrap them are then shared by all requests made with the
+  # client, including concurrent requests from other threads, so handlers
+  # must keep per request state in the context rather than in instance
+  # variables. Registering or removing a handler on the client class
+  # middleware causes the stacks to be rebuilt.
+  #
   # ## Removing Middleware
   # You may remove existing middleware from the stack using either the class
   # or instance `remove` methods and providing the middleware class to
@@ -107,6 +117,7 @@ module Hearth
     #
     def initialize(middleware = nil)
       @middleware = []
+      @version = 0
       case middleware
       when MiddlewareBuilder then @middleware.concat(middleware.to_a)
       when nil then nil
@@ -129,44 +140,28 @@ module Hearth
       end
     end
 
+    # @return [Integer] a counter that changes every time a handler is
+    #   registered or removed. Clients compare it to decide whether a cached
+    #   middleware stack is still current.
+    attr_reader :version
+
     def before(klass, *args, &block)
-      @middleware << [
-        :use_before,
-        klass,
-        Middleware::RequestHandler,
-        { handler: handler_or_proc!(args, &block) }
-      ]
-      self
+      handler = handler_or_proc!(args, &block)
+      add(:use_before, klass, Middleware::RequestHandler, { handler: handler })
     end
 
     def after(klass, *args, &block)
-      @middleware << [
-        :use_before,
-        klass,
-        Middleware::ResponseHandler,
-        { handler: handler_or_proc!(args, &block) }
-      ]
-      self
+      handler = handler_or_proc!(args, &block)
+      add(:use_before, klass, Middleware::ResponseHandler, { handler: handler })
     end
 
     def around(klass, *args, &block)
-      @middleware << [
-        :use_before,
-        klass,
-        Middleware::AroundHandler,
-        { handler: handler_or_proc!(args, &block) }
-      ]
-      self
+      handler = handler_or_proc!(args, &block)
+      add(:use_before, klass, Middleware::AroundHandler, { handler: handler })
     end
 
     def remove(klass)
-      @middleware << [
-        :remove,
-        klass,
-        nil,
-        nil
-      ]
-      self
+      add(:remove, klass, nil, nil)
     end
 
     # Define convenience methods for chaining
@@ -229,6 +224,12 @@ module Hearth
 
     private
 
+    def add(*handler)
+      @middleware << handler
+      @version += 1
+      self
+    end
+
     def handler_or_proc!(args, &block)
       validate_args!(args, &block)
       callable = args.first || Proc.new(&block)
@@ -53,11 +53,29 @@ module Hearth
       @middleware = new_middleware
     end
 
+    # @param [Class] middleware
+    # @return [Boolean] true if the middleware is the first in the stack,
+    #   the first to be called with the input.
+    def starts_with?(middleware)
+      !@middleware.empty? && @middleware.first.first == middleware
+    end
+
+    # Builds the middleware chain once and prevents further changes to the
+    # stack. A frozen stack reuses the same middleware instances for every
+    # call to {#run}, so all of its middleware must keep per request state
+    # in the context rather than in instance variables.
+    # @return [MiddlewareStack] self
+    def freeze
+      @app = stack
+      @middleware.freeze
+      super
+    end
+
     # @param input
     # @param context
     # @return [Output]
     def run(input:, context:)
-      stack.call(input, context)
+      (@app || stack).call(input, context)
     end
 
     private
@@ -0,0 +1,149 @@
+# frozen_string_literal: true
+
+require_relative 'lazy_structure'
+require_relative 'structure'
+
+module Hearth
+  # A module mixed into generated types that are plain classes instead
+  # of Structs. The class defines a frozen `MEMBERS` Array of member
+  # names, an attribute accessor for each member and a keyword
+  # `initialize`. This module provides the rest of the Struct interface
+  # that generated code and users rely on.
+  #
+  #     class Person
+  #       include Hearth::PlainStructure
+  #
+  #       MEMBERS = %i[name age].freeze
+  #
+  #       attr_accessor :name, :age
+  #
+  #       def initialize(name: nil, age: nil)
+  #         @name = name
+  #         @age = age
+  #       end
+  #     end
+  #
+  module PlainStructure
+    include Structure
+
+    # @return [Array<Symbol>]
+    def members
+      self.class::MEMBERS
+    end
+
+    # @param [Symbol, String, Integer] member
+    # @return [Object] The value of the member.
+    # @raise [NameError] Raises when the member is not defined.
+    def [](member)
+      public_send(member!(member))
+    end
+
+    # @param [Symbol, String, Integer] member
+    # @param [Object] value
+    # @raise [NameError] Raises when the member is not defined.
+    def []=(member, value)
+      public_send(:"#{member!(member)}=", value)
+    end
+
+    # Yields each member value.
+    # @return [self, Enumerator]
+    def each
+      return enum_for(:each) unless block_given?
+
+      members.each { |member| yield public_send(member) }
+      self
+    end
+
+    # Yields each member name and value.
+    # @return [self, Enumerator]
+    def each_pair
+      return enum_for(:each_pair) unless block_given?
+
+      members.each { |member| yield member, public_send(member) }
+      self
+    end
+
+    # @return [Array] The member values.
+    def to_a
+      members.map { |member| public_send(member) }
+    end
+    alias values to_a
+    alias deconstruct to_a
+
+    # @param [Array<Symbol>, nil] keys
+    # @return [Hash<Symbol, Object>] The values of the given members, up to
+    #   the first key that is not a member, or of all members when keys is
+    #   nil.
+    def deconstruct_keys(keys)
+      keys ||= members
+      keys.each_with_object({}) do |key, hash|
+        break hash unless members.include?(key)
+
+        hash[key] = public_send(key)
+      end
+    end
+
+    # @param [Symbol, String, Integer] member
+    # @return [Object] The value at the given path, or nil when a member
+    #   along the path is not defined or is nil.
+    def dig(member, *rest)
+      member = find_member(member)
+      value = public_send(member) if member
+      value.nil? || rest.empty? ? value : value.dig(*rest)
+    end
+
+    # @return [Boolean] true if other is of the same generated type, such
+    #   as a lazily parsed type and the type it subclasses, and has equal
+    #   members.
+    def ==(other)
+      same_type?(other) &&
+        members.all? { |member| public_send(member) == other[member] }
+    end
+
+    # @return [Boolean] true if other is of the same generated type and has
+    #   eql? members.
+    def eql?(other)
+      same_type?(other) &&
+        members.all? { |member| public_send(member).eql?(other[member]) }
+    end
+
+    # @return [Integer]
+    def hash
+      [LazyStructure.type(self), *to_a].hash
+    end
+
+    # @return [String]
+    def to_s
+      values = each_pair.map { |member, value| "#{member}=#{value.inspect}" }
+      "#<struct #{self.class.name} #{values.join(', ')}>"
+    end
+
+    # Uses {#to_s}, so types that mask sensitive members in `#to_s` are
+    # also masked when inspected.
+    # @return [String]
+    def inspect
+      to_s
+    end
+
+    private
+
+    def same_type?(other)
+      other.is_a?(Structure) &&
+        LazyStructure.type(other) == LazyStructure.type(self)
+    end
+
+    def find_member(member)
+      return members[member] if member.is_a?(Integer)
+
+      member = member.to_sym
+      member if members.include?(member)
+    end
+
+    def member!(member)
+      member = members.fetch(member) if member.is_a?(Integer)
+      return member.to_sym if members.include?(member.to_sym)
+
+      raise NameError, "no member '#{member}' in struct"
+    end
+  end
+end
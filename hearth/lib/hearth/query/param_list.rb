@@ -11,6 +11,7 @@ module Hearth
       # @api private
       def initialize
         @params = {}
+        @sorted = nil
       end
 
       # @param [String] param_name
@@ -19,6 +20,7 @@ module Hearth
       def set(param_name, param_value = nil)
         param = Param.new(param_name, param_value)
         @params[param.name] = param
+        @sorted = nil
         param
       end
       alias []= set
@@ -31,12 +33,13 @@ module Hearth
       # @param [String] param_name
       # @return [Param, nil]
       def delete(param_name)
+        @sorted = nil
         @params.delete(param_name)
       end
 
       # @return [Enumerable]
       def each(&block)
-        to_a.each(&block)
+        sorted.each(&block)
       end
 
       # @return [Boolean]
@@ -46,12 +49,19 @@ module Hearth
 
       # @return [Array<Param>] Returns an array of sorted {Param} objects.
       def to_a
-        @params.values.sort
+        sorted.dup
       end
 
       # @return [String]
       def to_s
-        to_a.map(&:to_s).join('&')
+        sorted.map(&:to_s).join('&')
+      end
+
+      private
+
+      # Params are sorted once until the list is modified.
+      def sorted
+        @sorted ||= @params.values.sort
       end
     end
   end
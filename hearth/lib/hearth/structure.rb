@@ -2,38 +2,46 @@
 
 module Hearth
   # A module mixed into Structs that provides utility methods.
+  #
+  # Generated types define their own `#to_h` that converts each member
+  # directly. The methods here convert Structs without one, and are the
+  # fallback for Hash, Array and Set members.
   module Structure
     # Deeply converts the Struct into a hash. Structure members that
     # are `nil` are omitted from the resultant hash.
     #
     # @return [Hash]
     def to_h(obj = self)
+      obj.equal?(self) ? _to_h_struct(obj) : _to_h(obj)
+    end
+    alias to_hash to_h
+
+    private
+
+    def _to_h(obj)
       case obj
+      when Structure
+        obj.to_h
       when Struct
         _to_h_struct(obj)
       when Hash
         _to_h_hash(obj)
       when Array, Set
-        obj.collect { |value| to_hash(value) }
-      when Union
-        obj.to_h
+        obj.collect { |value| _to_h(value) }
       else
         obj
       end
     end
-    alias to_hash to_h
-
-    private
 
     def _to_h_struct(obj)
       obj.each_pair.with_object({}) do |(member, value), hash|
-        hash[member] = to_hash(value) unless value.nil?
+        hash[member] = _to_h(value) unless value.nil?
       end
     end
 
     def _to_h_hash(obj)
       obj.each.with_object({}) do |(key, value), hash|
-        hash[key] = to_hash(value)
+        hash[key] = _to_h(value)
       end
     end
   end
@@ -4,9 +4,28 @@ require 'time'
 
 module Hearth
   # A module that provides helper methods to convert from Time objects to
-  # protocol specific serializable formats.
+  # protocol specific serializable formats and back.
   # @api private
   module TimeHelper
+    # @api private
+    DATE_TIME = /
+      \A(\d{4})-(\d{2})-(\d{2})[Tt](\d{2}):(\d{2}):(\d{2})
+      (?:\.(\d+))?([Zz]|[+-]\d{2}:\d{2})\z
+    /x
+
+    # @api private
+    HTTP_DATE = /
+      \A[A-Z][a-z]{2},\x20(\d{2})\x20([A-Z][a-z]{2})\x20(\d{4})\x20
+      (\d{2}):(\d{2}):(\d{2})\x20GMT\z
+    /x
+
+    # @api private
+    MONTHS = {
+      'Jan' => 1, 'Feb' => 2, 'Mar' => 3, 'Apr' => 4,
+      'May' => 5, 'Jun' => 6, 'Jul' => 7, 'Aug' => 8,
+      'Sep' => 9, 'Oct' => 10, 'Nov' => 11, 'Dec' => 12
+    }.freeze
+
     class << self
       # @param [Time] time
       # @return [String<Date Time>] The time as an ISO8601 string.
@@ -30,6 +49,53 @@ module Hearth
       def to_http_date(time)
         time.utc.httpdate
       end
+
+      # Parses an RFC 3339 date time without sniffing its format. Other
+      # formats fall back to `Time.parse`.
+      # @param [String] value
+      # @return [Time]
+      def from_date_time(value)
+        match = DATE_TIME.match(value)
+        return Time.parse(value) unless match
+
+        *fields, fraction, offset = match.captures
+        fields.map! { |field| Integer(field, 10) }
+        if fraction
+          fields[-1] += Rational(Integer(fraction, 10), 10**fraction.size)
+        end
+        offset.casecmp?('Z') ? Time.utc(*fields) : Time.new(*fields, offset)
+      end
+
+      # Converts epoch seconds to a Time, keeping any fraction of a
+      # second. Strings may have a fraction or an exponent, such as
+      # `1.5e9`.
+      # @param [Integer, Float, String] value
+      # @return [Time]
+      def from_epoch_seconds(value)
+        case value
+        when Integer then Time.at(value)
+        when Float
+          Time.at(value.floor, (value % 1 * 1000).round, :millisecond)
+        else
+          value = value.to_s
+          return Time.at(Integer(value, 10)) unless value.match?(/[.eE]/)
+
+          Time.at(Rational(value))
+        end
+      end
+
+      # Parses an RFC 7231 IMF-fixdate. Obsolete HTTP date formats fall
+      # back to `Time.parse`.
+      # @param [String] value
+      # @return [Time]
+      def from_http_date(value)
+        match = HTTP_DATE.match(value)
+        return Time.parse(value) unless match && MONTHS.key?(match[2])
+
+        day, month, year, *clock = match.captures
+        Time.utc(Integer(year, 10), MONTHS[month], Integer(day, 10),
+                 *clock.map { |field| Integer(field, 10) })
+      end
     end
   end
 end
@@ -1,10 +1,13 @@
 # frozen_string_literal: true
 
+require_relative 'validator/path'
+
 module Hearth
   # Utility module for working with request parameters.
   #
   # * Validate structure of parameters against the expected type.
-  # * Raise errors with context when validation fails.
+  # * Raise errors with context when validation fails. The context is
+  #   formatted only when raising, so it may be a {Path}.
   # @api private
   module Validator
     # Validate the given value is of the given type(s).
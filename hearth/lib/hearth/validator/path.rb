@@ -0,0 +1,36 @@
+# frozen_string_literal: true
+
+module Hearth
+  module Validator
+    # The location of a value within request parameters, used as the
+    # `context:` of validation errors. The path is only formatted into a
+    # String when a validation fails, so validating a large list or map
+    # does not build a context String for every element.
+    #
+    #     path = Path.new(Path.new('input', :items), 2)
+    #     path.to_s #=> "input[:items][2]"
+    #
+    # @api private
+    class Path
+      # @api private
+      KEYS = Object.new.freeze
+
+      # @param [#to_s] parent The path of the enclosing value.
+      # @param [Symbol, String, Integer] key A member name, map key or list
+      #   index. When omitted, the path refers to the keys of a map.
+      def initialize(parent, key = KEYS)
+        @parent = parent
+        @key = key
+      end
+
+      # @return [String]
+      def to_s
+        case @key
+        when KEYS then "#{@parent}.keys"
+        when Integer then "#{@parent}[#{@key}]"
+        else "#{@parent}[:#{@key}]"
+        end
+      end
+    end
+  end
+end
@@ -0,0 +1,92 @@
+# frozen_string_literal: true
+
+module Hearth
+  module Waiters
+    # Helper methods used by waiter acceptor paths that are compiled from
+    # JMESPath expressions into lambdas. They implement the parts of
+    # JMESPath that are not a plain member read, on values that are
+    # already types, lists, hashes or scalars.
+    # @api private
+    module PathHelper
+      class << self
+        # Maps each item of a list projection, dropping nil results.
+        # @param [Array, nil] list
+        # @yieldparam [Object] item
+        # @return [Array, nil] nil when the value is not a list.
+        def project(list, &block)
+          return unless list.is_a?(Array)
+
+          list.map(&block).compact
+        end
+
+        # Selects the items of a list for which the block is truthy.
+        # @param [Array, nil] list
+        # @yieldparam [Object] item
+        # @return [Array, nil] nil when the value is not a list.
+        def filter(list)
+          return unless list.is_a?(Array)
+
+          list.select { |item| truthy?(yield(item)) }
+        end
+
+        # Flattens nested lists by one level.
+        # @param [Array, nil] list
+        # @return [Array, nil] nil when the value is not a list.
+        def flatten(list)
+          return unless list.is_a?(Array)
+
+          list.flatten(1)
+        end
+
+        # @return [Boolean] false for nil, false and empty strings, lists
+        #   and hashes.
+        def truthy?(value)
+          case value
+          when nil, false then false
+          when String, Array, Hash then !value.empty?
+          else true
+          end
+        end
+
+        # @return The left value if it is falsey, otherwise the block's.
+        def and_then(left)
+          truthy?(left) ? yield : left
+        end
+
+        # @return The left value if it is truthy, otherwise the block's.
+        def or_else(left)
+          truthy?(left) ? left : yield
+        end
+
+        # Compares two numbers with an ordering operator.
+        # @param [Numeric] left
+        # @param [Symbol] operator One of `:<`, `:<=`, `:>` or `:>=`.
+        # @param [Numeric] right
+        # @return [Boolean, nil] nil unless both values are numbers.
+        def compare(left, operator, right)
+          return unless left.is_a?(Numeric) && right.is_a?(Numeric)
+
+          left.public_send(operator, right)
+        end
+
+        # @param [String, Array, Hash] value
+        # @return [Integer, nil]
+        def length(value)
+          case value
+          when String, Array, Hash then value.size
+          end
+        end
+
+        # @param [String, Array] subject
+        # @param [Object] search
+        # @return [Boolean, nil]
+        def contains(subject, search)
+          case subject
+          when Array then subject.include?(search)
+          when String then search.is_a?(String) && subject.include?(search)
+          end
+        end
+      end
+    end
+  end
+end
@@ -1,7 +1,5 @@
 # frozen_string_literal: true
 
-require 'jmespath'
-
 module Hearth
   module Waiters
     # Abstract Poller used by generated service Waiters. This class handles
@@ -87,25 +85,47 @@ module Hearth
         error.class.to_s.include?(matcher) || error.error_code == matcher
       end
 
+      # Paths are lambdas compiled from the acceptor's JMESPath expression,
+      # or JMESPath strings for expressions that could not be compiled.
       def input_output_matcher?(matcher, response, error)
         return false if error
 
-        data = { input: @input, output: response }
-        send(
-          "matches_#{matcher[:comparator]}?",
-          JMESPath.search(matcher[:path], data),
-          matcher[:expected]
-        )
+        path = matcher[:path]
+        output = output_data(response)
+        value =
+          if path.respond_to?(:call)
+            path.call(@input, output)
+          else
+            search(path, { input: @input, output: output })
+          end
+        matches?(matcher, value)
       end
 
       def output_matcher?(matcher, response, error)
         return false if error
 
-        send(
-          "matches_#{matcher[:comparator]}?",
-          JMESPath.search(matcher[:path], response),
-          matcher[:expected]
-        )
+        path = matcher[:path]
+        output = output_data(response)
+        value =
+          if path.respond_to?(:call)
+            path.call(output)
+          else
+            search(path, output)
+          end
+        matches?(matcher, value)
+      end
+
+      def output_data(response)
+        response.is_a?(Hearth::Output) ? response.data : response
+      end
+
+      def search(path, data)
+        require 'jmespath'
+        JMESPath.search(path, data)
+      end
+
+      def matches?(matcher, value)
+        send("matches_#{matcher[:comparator]}?", value, matcher[:expected])
       end
 
       # rubocop:disable Naming/MethodName
@@ -32,6 +32,19 @@ module Hearth
         expect(context.params).to be_nil
         expect(context.signer_params).to eq({})
         expect(context.metadata).to eq({})
+        expect(context.item_handler).to be_nil
+        expect(context.input_validated).to be(false)
+      end
+
+      it 'sets the item handler' do
+        item_handler = proc { |item| item }
+        context = Context.new(item_handler: item_handler)
+        expect(context.item_handler).to be(item_handler)
+      end
+
+      it 'sets whether the input was validated' do
+        context = Context.new(input_validated: true)
+        expect(context.input_validated).to be(true)
       end
     end
 
@@ -6,6 +6,7 @@ module Hearth
   module HTTP
     describe Client do
       before { WebMock.disable_net_connect! }
+      after { ConnectionPool.pools.each(&:empty!) }
 
       let(:wire_trace) { false }
       let(:logger) { double('logger') }
@@ -285,6 +286,83 @@ module Hearth
             subject.transmit(request: request, response: response)
           end
         end
+
+        context 'connection pooling' do
+          subject do
+            Client.new(logger: logger, http_max_connections: max_connections)
+          end
+
+          let(:max_connections) { 10 }
+
+          it 'reuses connections for the same endpoint' do
+            stub_request(:any, url)
+            expect(Net::HTTP).to receive(:new).once.and_call_original
+
+            2.times do
+              subject.transmit(request: request, response: Response.new)
+            end
+          end
+
+          it 'shares connections between clients with the same settings' do
+            stub_request(:any, url)
+            other = Client.new(logger: Logger.new(nil),
+                               http_max_connections: 10)
+            expect(Net::HTTP).to receive(:new).once.and_call_original
+
+            subject.transmit(request: request, response: Response.new)
+            other.transmit(request: request, response: Response.new)
+          end
+
+          it 'does not share connections with other connection settings' do
+            stub_request(:any, url)
+            other = Client.new(logger: logger, http_max_connections: 10,
+                               ssl_verify_peer: false)
+            expect(Net::HTTP).to receive(:new).twice.and_call_original
+
+            subject.transmit(request: request, response: Response.new)
+            other.transmit(request: request, response: Response.new)
+          end
+
+          it 'closes the connection on errors' do
+            stub_request(:any, url).to_raise(StandardError)
+            expect_any_instance_of(Net::HTTP)
+              .to receive(:finish).and_call_original
+
+            expect do
+              subject.transmit(request: request, response: response)
+            end.to raise_error(NetworkingError)
+          end
+
+          context 'http_wire_trace: true' do
+            subject do
+              Client.new(logger: logger, http_wire_trace: true)
+            end
+
+            it 'opens a new connection for every request' do
+              stub_request(:any, url)
+              expect(ConnectionPool).not_to receive(:for)
+              expect(Net::HTTP).to receive(:new).twice.and_call_original
+
+              2.times do
+                subject.transmit(request: request, response: Response.new)
+              end
+            end
+          end
+
+          context 'http_max_connections: 0' do
+            let(:max_connections) { 0 }
+
+            it 'opens a new connection for every request' do
+              stub_request(:any, url)
+              expect(ConnectionPool).not_to receive(:for)
+              expect(Net::HTTP).to receive(:new).twice.and_call_original
+
+              2.times do
+                subject.transmit(request: request, response: Response.new)
+              end
+            end
+          end
+        end
       end
     end
   end
@@ -0,0 +1,203 @@
+# frozen_string_literal: true
+
+module Hearth
+  module HTTP
+    describe ConnectionPool do
+      subject { ConnectionPool.new(options) }
+
+      let(:options) { { max_connections_per_host: 2, idle_timeout: 5 } }
+      let(:key) { 'https://example.com:443' }
+      let(:now) { 100.0 }
+
+      before do
+        allow(Process).to receive(:clock_gettime)
+          .with(Process::CLOCK_MONOTONIC) { now }
+      end
+
+      def new_session
+        session = double('session', started?: true)
+        allow(session).to receive(:start) { session }
+        allow(session).to receive(:finish)
+        session
+      end
+
+      describe '.for' do
+        it 'returns the same pool for the same options' do
+          expect(ConnectionPool.for(options))
+            .to be(ConnectionPool.for(options.dup))
+        end
+
+        it 'returns different pools for different options' do
+          expect(ConnectionPool.for(options))
+            .not_to be(ConnectionPool.for(options.merge(idle_timeout: 1)))
+        end
+
+        it 'ignores options other than the pool settings' do
+          expect(ConnectionPool.for(options))
+            .to be(ConnectionPool.for(options.merge(logger: Logger.new(nil))))
+        end
+
+        it 'closes idle sessions and drops unused pools' do
+          pool = ConnectionPool.for(options)
+          session = new_session
+          pool.session_for(key, -> { session }) { nil }
+
+          allow(Process).to receive(:clock_gettime)
+            .with(Process::CLOCK_MONOTONIC) { now + 6 }
+          expect(session).to receive(:finish)
+          ConnectionPool.for(options.merge(idle_timeout: 1))
+          expect(ConnectionPool.pools).not_to include(pool)
+        end
+
+        it 'keeps pools with sessions in use' do
+          pool = ConnectionPool.for(options)
+          pool.session_for(key, -> { new_session }) do
+            ConnectionPool.for(options.merge(idle_timeout: 1))
+            expect(ConnectionPool.pools).to include(pool)
+          end
+        end
+      end
+
+      describe '#initialize' do
+        it 'defaults the options' do
+          pool = ConnectionPool.new
+          expect(pool.max_connections_per_host).to eq(10)
+          expect(pool.idle_timeout).to eq(5)
+        end
+      end
+
+      describe '#session_for' do
+        it 'starts a new session and yields it' do
+          session = new_session
+          expect(session).to receive(:start)
+
+          result = subject.session_for(key, -> { session }) do |s|
+            expect(s).to be(session)
+            :result
+          end
+          expect(result).to eq(:result)
+          expect(subject.size).to eq(1)
+        end
+
+        it 'reuses sessions for the same key' do
+          session = new_session
+          subject.session_for(key, -> { session }) { nil }
+
+          subject.session_for(key, -> { raise 'new session' }) do |s|
+            expect(s).to be(session)
+          end
+        end
+
+        it 'does not reuse sessions for other keys' do
+          session = new_session
+          other = new_session
+          subject.session_for(key, -> { session }) { nil }
+
+          subject.session_for('http://example.com:80', -> { other }) do |s|
+            expect(s).to be(other)
+          end
+          expect(subject.size).to eq(2)
+        end
+
+        it 'closes sessions beyond max_connections_per_host' do
+          sessions = Array.new(3) { new_session }
+          expect(sessions.last).to receive(:finish)
+
+          subject.session_for(key, -> { sessions[0] }) do
+            subject.session_for(key, -> { sessions[1] }) do
+              subject.session_for(key, -> { sessions[2] }) { nil }
+            end
+          end
+          expect(subject.size).to eq(2)
+        end
+
+        it 'closes the session and raises when the block raises' do
+          session = new_session
+          expect(session).to receive(:finish)
+
+          expect do
+            subject.session_for(key, -> { session }) { raise 'failed' }
+          end.to raise_error('failed')
+          expect(subject.size).to eq(0)
+        end
+
+        it 'does not pool sessions that are not started' do
+          session = new_session
+          allow(session).to receive(:started?).and_return(false)
+
+          subject.session_for(key, -> { session }) { nil }
+          expect(subject.size).to eq(0)
+        end
+
+        it 'closes idle sessions instead of reusing them' do
+          session = new_session
+          other = new_session
+          subject.session_for(key, -> { session }) { nil }
+
+          allow(Process).to receive(:clock_gettime)
+            .with(Process::CLOCK_MONOTONIC) { now + 6 }
+          expect(session).to receive(:finish)
+          subject.session_for(key, -> { other }) do |s|
+            expect(s).to be(other)
+          end
+        end
+
+        it 'drops sessions inherited from a parent process' do
+          session = new_session
+          other = new_session
+          subject.session_for(key, -> { session }) { nil }
+
+          allow(Process).to receive(:pid).and_return(Process.pid + 1)
+          expect(session).not_to receive(:finish)
+          subject.session_for(key, -> { other }) do |s|
+            expect(s).to be(other)
+          end
+          expect(subject.size).to eq(1)
+        end
+      end
+
+      describe '#unused?' do
+        it 'is true when the pool has no sessions' do
+          expect(subject.unused?).to be true
+        end
+
+        it 'is false while a session is in use' do
+          subject.session_for(key, -> { new_session }) do
+            expect(subject.unused?).to be false
+          end
+        end
+
+        it 'is false while the pool has idle sessions' do
+          subject.session_for(key, -> { new_session }) { nil }
+          expect(subject.unused?).to be false
+        end
+      end
+
+      describe '#reap_idle!' do
+        it 'closes sessions idle for longer than the idle timeout' do
+          session = new_session
+          subject.session_for(key, -> { session }) { nil }
+          subject.reap_idle!
+          expect(subject.size).to eq(1)
+
+          allow(Process).to receive(:clock_gettime)
+            .with(Process::CLOCK_MONOTONIC) { now + 6 }
+          expect(session).to receive(:finish)
+          subject.reap_idle!
+          expect(subject.size).to eq(0)
+        end
+      end
+
+      describe '#empty!' do
+        it 'closes all sessions' do
+          session = new_session
+          subject.session_for(key, -> { session }) { nil }
+
+          expect(session).to receive(:finish)
+          subject.empty!
+          expect(subject.size).to eq(0)
+        end
+      end
+    end
+  end
+end
@@ -116,6 +116,73 @@ module Hearth
               expect(error).to be_a(TestErrors::TestModeledError)
             end
           end
+
+          it 'computes the error code once' do
+            expect(TestErrors).to receive(:error_code).once
+            subject.parse(http_resp, metadata)
+          end
+
+          context 'errors is a Set' do
+            let(:errors) { Set[TestErrors::TestModeledError].freeze }
+
+            it 'returns the modeled error' do
+              error = subject.parse(http_resp, metadata)
+              expect(error).to be_a(TestErrors::TestModeledError)
+            end
+          end
+
+          context 'error code partially matches a modeled error' do
+            before do
+              allow(TestErrors).to receive(:error_code)
+                .with(http_resp).and_return('Modeled')
+            end
+
+            it 'returns the generic APIError' do
+              error = subject.parse(http_resp, metadata)
+              expect(error).to be_a(TestErrors::ApiError)
+              expect(error).not_to be_a(TestErrors::TestModeledError)
+            end
+          end
+
+          context 'error module defines ERROR_CLASSES' do
+            before do
+              stub_const(
+                'Hearth::HTTP::TestErrors::ERROR_CLASSES',
+                { 'TestModeledError' => TestErrors::TestModeledError }.freeze
+              )
+            end
+
+            it 'looks up the error class by error code' do
+              error = subject.parse(http_resp, metadata)
+              expect(error).to be_a(TestErrors::TestModeledError)
+            end
+
+            context 'error code differs from the class name' do
+              before do
+                stub_const(
+                  'Hearth::HTTP::TestErrors::ERROR_CLASSES',
+                  { 'testModeledError' => TestErrors::TestModeledError }.freeze
+                )
+                allow(TestErrors).to receive(:error_code)
+                  .with(http_resp).and_return('testModeledError')
+              end
+
+              it 'looks up the error class by error code' do
+                error = subject.parse(http_resp, metadata)
+                expect(error).to be_a(TestErrors::TestModeledError)
+              end
+            end
+
+            context 'Modeled error not in errors' do
+              let(:errors) { [] }
+
+              it 'returns the generic APIError' do
+                error = subject.parse(http_resp, metadata)
+                expect(error).to be_a(TestErrors::ApiError)
+                expect(error).not_to be_a(TestErrors::TestModeledError)
+              end
+            end
+          end
         end
       end
     end
@@ -43,6 +43,18 @@ module Hearth
           subject.append_path('/test')
           expect(subject.url).to eq('http://example.com/test')
         end
+
+        it 'joins to an existing path' do
+          subject.url += '/prefix/'
+          subject.append_path('/test')
+          expect(subject.url).to eq('http://example.com/prefix/test')
+        end
+
+        it 'preserves the querystring' do
+          subject.url += '/prefix?key=value'
+          subject.append_path('/test')
+          expect(subject.url).to eq('http://example.com/prefix/test?key=value')
+        end
       end
 
       describe '#append_query_param' do
@@ -91,6 +103,24 @@ module Hearth
           subject.append_query_params(params)
           expect(subject.url).to eq('http://example.com?original&key%201=&key%202=value%202')
         end
+
+        it 'does not change the url for an empty param list' do
+          subject.append_query_params(Hearth::Query::ParamList.new)
+          expect(subject.url).to eq('http://example.com')
+        end
+      end
+
+      describe '#append_query_string' do
+        it 'appends the querystring as is' do
+          subject.append_query_string('key%201=value&static')
+          expect(subject.url).to eq('http://example.com?key%201=value&static')
+        end
+
+        it 'appends to existing query params' do
+          subject.append_query_param('original')
+          subject.append_query_string('static')
+          expect(subject.url).to eq('http://example.com?original&static')
+        end
       end
 
       describe '#prefix_host' do
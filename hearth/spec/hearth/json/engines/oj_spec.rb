@@ -0,0 +1,39 @@
+# frozen_string_literal: true
+
+module Hearth
+  module JSON
+    module Engines
+      describe Oj do
+        before do
+          skip 'the oj gem is not installed' unless Oj.available?
+        end
+
+        describe '.load' do
+          it 'parses json' do
+            expect(Oj.load('{"a":[1,2.5,"b",null,true]}'))
+              .to eq('a' => [1, 2.5, 'b', nil, true])
+          end
+
+          it 'reads IO' do
+            expect(Oj.load(StringIO.new('{"a":1}'))).to eq('a' => 1)
+          end
+
+          it 'returns nil for empty input' do
+            expect(Oj.load('')).to be_nil
+          end
+
+          it 'raises a ParseError for invalid json' do
+            expect { Oj.load('{') }.to raise_error(ParseError)
+          end
+        end
+
+        describe '.dump' do
+          it 'dumps the same as JSON.dump' do
+            value = { 'a' => [1, 2.5, 'b', nil, true] }
+            expect(Oj.dump(value)).to eq(::JSON.dump(value))
+          end
+        end
+      end
+    end
+  end
+end
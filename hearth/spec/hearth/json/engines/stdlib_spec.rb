@@ -0,0 +1,42 @@
+# frozen_string_literal: true
+
+module Hearth
+  module JSON
+    module Engines
+      describe Stdlib do
+        describe '.load' do
+          it 'parses json' do
+            expect(Stdlib.load('{"a":[1,2.5,"b",null,true]}'))
+              .to eq('a' => [1, 2.5, 'b', nil, true])
+          end
+
+          it 'reads IO' do
+            expect(Stdlib.load(StringIO.new('{"a":1}'))).to eq('a' => 1)
+          end
+
+          it 'returns nil for empty input' do
+            expect(Stdlib.load('')).to be_nil
+            expect(Stdlib.load(nil)).to be_nil
+          end
+
+          it 'does not create objects from JSON additions' do
+            json = '{"json_class":"String","raw":[97]}'
+            expect(Stdlib.load(json))
+              .to eq('json_class' => 'String', 'raw' => [97])
+          end
+
+          it 'raises a ParseError for invalid json' do
+            expect { Stdlib.load('{') }.to raise_error(ParseError)
+          end
+        end
+
+        describe '.dump' do
+          it 'dumps the same as JSON.dump' do
+            value = { 'a' => [1, 2.5, 'b', nil, true] }
+            expect(Stdlib.dump(value)).to eq(::JSON.dump(value))
+          end
+        end
+      end
+    end
+  end
+end
@@ -0,0 +1,33 @@
+# frozen_string_literal: true
+
+module Hearth
+  module JSON
+    module Middleware
+      describe Engine do
+        let(:app) { double('app') }
+        let(:input) { double('input') }
+        let(:context) { double('context') }
+        let(:output) { double('output') }
+
+        subject { Engine.new(app, json_engine: :stdlib) }
+
+        it 'resolves the engine' do
+          expect { Engine.new(app, json_engine: :unknown) }
+            .to raise_error(ArgumentError)
+        end
+
+        it 'uses the engine while calling the next middleware' do
+          engine = double('engine')
+          subject = Engine.new(app, json_engine: engine)
+          expect(app).to receive(:call).with(input, context) do
+            expect(JSON.engine).to be(engine)
+            output
+          end
+
+          expect(subject.call(input, context)).to be(output)
+          expect(JSON.engine).to be(Engines::Stdlib)
+        end
+      end
+    end
+  end
+end
@@ -0,0 +1,184 @@
+# frozen_string_literal: true
+
+module Hearth
+  module JSON
+    describe Reader do
+      let(:json) do
+        <<~JSON
+          {
+            "string": "value",
+            "escaped": "a \\"quoted\\" \\u00e9 \\n",
+            "unicode": "café",
+            "integer": -42,
+            "float": 1.5e3,
+            "true": true,
+            "false": false,
+            "null": null,
+            "nan": NaN,
+            "infinity": -Infinity,
+            "list": [1, [2, 3], {"a": "b"}],
+            "object": {"nested": {"list": []}, "empty": {}}
+          }
+        JSON
+      end
+
+      let(:io) { StringIO.new(json) }
+
+      subject { Reader.new(io) }
+
+      def read_all(reader)
+        data = {}
+        reader.each_pair { |key| data[key] = reader.read }
+        data
+      end
+
+      it 'reads the same values as JSON.parse' do
+        expected = ::JSON.parse(json, allow_nan: true)
+        actual = read_all(subject)
+        expect(actual.except('nan')).to eq(expected.except('nan'))
+        expect(actual['nan']).to be_nan
+      end
+
+      it 'reads strings as UTF-8' do
+        data = read_all(subject)
+        expect(data['unicode']).to eq('café')
+        expect(data['unicode'].encoding).to eq(Encoding::UTF_8)
+        expect(data['escaped']).to eq("a \"quoted\" é \n")
+      end
+
+      it 'reads tokens split across chunks' do
+        expected = ::JSON.parse(json, allow_nan: true)
+        (1..8).each do |chunk_size|
+          reader = Reader.new(StringIO.new(json), chunk_size: chunk_size)
+          data = read_all(reader)
+          expect(data.except('nan')).to eq(expected.except('nan'))
+        end
+      end
+
+      it 'reads numbers split across chunks' do
+        reader = Reader.new(StringIO.new('[12.5e2,100]'), chunk_size: 1)
+        values = []
+        reader.each_item { values << reader.read }
+        expect(values).to eq([1250.0, 100])
+      end
+
+      it 'reads a String' do
+        expect(read_all(Reader.new('{"a":1}'))).to eq('a' => 1)
+      end
+
+      describe '#peek' do
+        it 'returns the type of the next value' do
+          types = {}
+          subject.each_pair do |key|
+            types[key] = subject.peek
+            subject.skip
+          end
+          expect(types).to include(
+            'string' => :string, 'integer' => :number, 'float' => :number,
+            'true' => :boolean, 'null' => :null, 'nan' => :number,
+            'infinity' => :number, 'list' => :array, 'object' => :object
+          )
+        end
+      end
+
+      describe '#each_pair' do
+        it 'yields each key' do
+          keys = []
+          subject.each_pair do |key|
+            keys << key
+            subject.skip
+          end
+          expect(keys).to eq(::JSON.parse(json, allow_nan: true).keys)
+        end
+
+        it 'reads an empty document as an empty object' do
+          reader = Reader.new(StringIO.new(" \n"))
+          expect { |b| reader.each_pair(&b) }.not_to yield_control
+        end
+
+        it 'raises a ParseError when the value is not an object' do
+          reader = Reader.new('[]')
+          expect { reader.each_pair { reader.skip } }
+            .to raise_error(ParseError, /expected '{'/)
+        end
+
+        it 'raises a ParseError for a truncated object' do
+          reader = Reader.new('{"a":1')
+          expect { reader.each_pair { reader.skip } }
+            .to raise_error(ParseError)
+        end
+      end
+
+      describe '#each_item' do
+        it 'yields once for each item' do
+          reader = Reader.new('[1, "two", [3], {"four": 4}, null]')
+          items = []
+          reader.each_item { items << reader.read }
+          expect(items).to eq([1, 'two', [3], { 'four' => 4 }, nil])
+        end
+
+        it 'reads an empty array' do
+          reader = Reader.new('[ ]')
+          expect { |b| reader.each_item(&b) }.not_to yield_control
+        end
+      end
+
+      describe '#skip' do
+        it 'skips nested values' do
+          values = {}
+          subject.each_pair do |key|
+            if %w[list object].include?(key)
+              subject.skip
+            else
+              values[key] = subject.read
+            end
+          end
+          expect(values.keys).not_to include('list', 'object')
+          expect(values['string']).to eq('value')
+        end
+      end
+
+      describe '#skip_null' do
+        it 'skips null values only' do
+          reader = Reader.new('[null, 1]')
+          values = []
+          reader.each_item do
+            values << (reader.skip_null ? :skipped : reader.read)
+          end
+          expect(values).to eq([:skipped, 1])
+        end
+      end
+
+      describe '#empty?' do
+        it 'returns true for a document without content' do
+          expect(Reader.new('').empty?).to be(true)
+          expect(Reader.new(' ').empty?).to be(true)
+        end
+
+        it 'returns false for a document with content' do
+          expect(Reader.new('{}').empty?).to be(false)
+        end
+      end
+
+      it 'raises a ParseError for unexpected tokens' do
+        reader = Reader.new('{"a": nope}')
+        expect { reader.each_pair { reader.read } }
+          .to raise_error(ParseError, /unexpected token/)
+      end
+
+      it 'buffers a bounded number of bytes' do
+        items = Array.new(10_000) { |i| { 'id' => i, 'name' => "item-#{i}" } }
+        io = StringIO.new(::JSON.dump('items' => items))
+        reader = Reader.new(io, chunk_size: 1024)
+        buffer_sizes = []
+        reader.each_pair do
+          reader.each_item do
+            reader.skip
+            buffer_sizes << reader.instance_variable_get(:@scanner).string.size
+          end
+        end
+        expect(buffer_sizes.max).to be < 4096
+      end
+    end
+  end
+end
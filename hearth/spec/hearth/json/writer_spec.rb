@@ -0,0 +1,131 @@
+# frozen_string_literal: true
+
+module Hearth
+  module JSON
+    describe Writer do
+      subject { Writer.new }
+
+      describe '#to_s' do
+        it 'returns the buffer' do
+          buffer = +''
+          writer = Writer.new(buffer)
+          writer.value(1)
+          expect(writer.to_s).to be(buffer)
+          expect(buffer).to eq('1')
+        end
+      end
+
+      describe '#start_object' do
+        it 'writes an empty object' do
+          subject.start_object.end_object
+          expect(subject.to_s).to eq('{}')
+        end
+
+        it 'separates keys and values' do
+          subject.start_object
+          subject.key('a').value(1)
+          subject.key('b').value('c')
+          subject.end_object
+          expect(subject.to_s).to eq('{"a":1,"b":"c"}')
+        end
+
+        it 'writes nested objects' do
+          subject.start_object
+          subject.key('a').start_object.key('b').value(nil).end_object
+          subject.key('c').start_object.end_object
+          subject.end_object
+          expect(subject.to_s).to eq('{"a":{"b":null},"c":{}}')
+        end
+      end
+
+      describe '#start_array' do
+        it 'writes an empty array' do
+          subject.start_array.end_array
+          expect(subject.to_s).to eq('[]')
+        end
+
+        it 'separates values' do
+          subject.start_array.value(1).value(true).value(nil).end_array
+          expect(subject.to_s).to eq('[1,true,null]')
+        end
+
+        it 'writes nested arrays and objects' do
+          subject.start_array
+          subject.start_array.value(1).end_array
+          subject.start_object.key('a').value(2).end_object
+          subject.end_array
+          expect(subject.to_s).to eq('[[1],{"a":2}]')
+        end
+      end
+
+      describe '#key' do
+        it 'escapes the key' do
+          subject.start_object.key("a\"b\n").value(1).end_object
+          expect(subject.to_s).to eq('{"a\"b\n":1}')
+        end
+      end
+
+      describe '#value' do
+        [
+          'string',
+          "quotes \" and \\ backslashes",
+          "control \n\t\u0001 characters",
+          'unicode ✓ and slashes /',
+          0,
+          -12_345_678_901_234_567_890,
+          1.5,
+          1.0e+20,
+          Float::NAN,
+          Float::INFINITY,
+          true,
+          false,
+          nil,
+          { 'document' => [1, 'two', { 'three' => nil }] },
+          [1, 2.5, 'three']
+        ].each do |value|
+          it "writes #{value.inspect} the same as JSON.dump" do
+            subject.value(value)
+            expect(subject.to_s).to eq(::JSON.dump(value))
+          end
+        end
+      end
+
+      describe 'engine' do
+        let(:engine) { double('engine') }
+
+        it 'encodes keys and values with the given engine' do
+          expect(engine).to receive(:dump).with('a').and_return('"A"')
+          expect(engine).to receive(:dump).with(1).and_return('one')
+          writer = Writer.new(engine: engine)
+          writer.start_object.key('a').value(1).end_object
+          expect(writer.to_s).to eq('{"A":one}')
+        end
+
+        it 'defaults to the engine used on the current thread' do
+          expect(engine).to receive(:dump).with('value').and_return('v')
+          Hearth::JSON.with_engine(engine) do
+            expect(Writer.new.value('value').to_s).to eq('v')
+          end
+        end
+      end
+
+      it 'writes the same bytes as dumping the equivalent Hash' do
+        data = {
+          'string' => 'value',
+          'list' => [1, nil, 'two'],
+          'map' => { 'key' => { 'nested' => 1.5 } },
+          'document' => { 'a' => [true, false] }
+        }
+        subject.start_object
+        subject.key('string').value('value')
+        subject.key('list').start_array.value(1).value(nil).value('two')
+               .end_array
+        subject.key('map').start_object.key('key').start_object
+               .key('nested').value(1.5).end_object.end_object
+        subject.key('document').value({ 'a' => [true, false] })
+        subject.end_object
+        expect(subject.to_s).to eq(Hearth::JSON.dump(data))
+      end
+    end
+  end
+end
@@ -10,6 +10,17 @@ module Hearth
         it 'loads the json' do
           expect(subject.load(hash.to_json)).to eq hash
         end
+
+        it 'loads json from an IO' do
+          expect(subject.load(StringIO.new(hash.to_json))).to eq hash
+        end
+      end
+
+      context 'empty json' do
+        it 'returns nil' do
+          expect(subject.load('')).to be_nil
+          expect(subject.load(StringIO.new)).to be_nil
+        end
       end
 
       context 'invalid json' do
@@ -18,12 +29,91 @@ module Hearth
           expect { subject.load(value) }.to raise_error(JSON::ParseError)
         end
       end
+
+      it 'uses the engine' do
+        engine = double('engine')
+        expect(engine).to receive(:load).with('json').and_return(hash)
+        subject.with_engine(engine) do
+          expect(subject.load('json')).to eq(hash)
+        end
+      end
     end
 
     describe '.dump' do
       it 'dumps the values to JSON' do
         expect(subject.dump(hash)).to eq hash.to_json
       end
+
+      it 'uses the engine' do
+        engine = double('engine')
+        expect(engine).to receive(:dump).with(hash).and_return('json')
+        subject.with_engine(engine) do
+          expect(subject.dump(hash)).to eq('json')
+        end
+      end
+    end
+
+    describe '.engine' do
+      it 'defaults to the stdlib engine' do
+        expect(subject.engine).to be(JSON::Engines::Stdlib)
+      end
+    end
+
+    describe '.engine=' do
+      after { subject.engine = :stdlib }
+
+      it 'sets the default engine' do
+        engine = double('engine')
+        subject.engine = engine
+        expect(subject.engine).to be(engine)
+        expect(Thread.new { subject.engine }.value).to be(engine)
+      end
+    end
+
+    describe '.with_engine' do
+      let(:engine) { double('engine') }
+
+      it 'uses the engine on the current thread within the block' do
+        subject.with_engine(engine) do
+          expect(subject.engine).to be(engine)
+          expect(Thread.new { subject.engine }.value)
+            .to be(JSON::Engines::Stdlib)
+        end
+        expect(subject.engine).to be(JSON::Engines::Stdlib)
+      end
+
+      it 'restores the previous engine when the block raises' do
+        expect do
+          subject.with_engine(engine) { raise 'error' }
+        end.to raise_error('error')
+        expect(subject.engine).to be(JSON::Engines::Stdlib)
+      end
+
+      it 'returns the value of the block' do
+        expect(subject.with_engine(engine) { :value }).to eq(:value)
+      end
+    end
+
+    describe '.resolve_engine' do
+      it 'resolves registered engines by name' do
+        expect(subject.resolve_engine(:stdlib)).to be(JSON::Engines::Stdlib)
+      end
+
+      it 'returns engines as is' do
+        engine = double('engine')
+        expect(subject.resolve_engine(engine)).to be(engine)
+      end
+
+      it 'raises for unknown engines' do
+        expect { subject.resolve_engine(:unknown) }
+          .to raise_error(ArgumentError, /unknown JSON engine :unknown/)
+      end
+
+      it 'raises when the engine is not available' do
+        allow(JSON::Engines::Oj).to receive(:available?).and_return(false)
+        expect { subject.resolve_engine(:oj) }
+          .to raise_error(ArgumentError, /:oj is not available/)
+      end
     end
   end
 end
@@ -0,0 +1,100 @@
+# frozen_string_literal: true
+
+module Hearth
+  describe LazyStructure do
+    let(:type) do
+      Struct.new(:name, :tags, keyword_init: true) do
+        include Hearth::Structure
+      end
+    end
+
+    let(:lazy) do
+      Class.new(type) do
+        include Hearth::LazyStructure
+
+        const_set(:LAZY_MEMBERS, %i[tags].freeze)
+
+        def tags
+          if @lazy_map&.key?('tags')
+            self.tags = @lazy_map['tags'].map(&:upcase)
+          end
+          super
+        end
+
+        def tags=(value)
+          @lazy_map&.delete('tags')
+          super
+        end
+      end
+    end
+
+    let(:map) { { 'name' => 'name', 'tags' => %w[a b] } }
+
+    subject do
+      data = lazy.new.defer(map)
+      data.name = map['name']
+      data
+    end
+
+    it 'converts members when they are first read' do
+      expect(subject.tags).to eq(%w[A B])
+      expect(map).not_to include('tags')
+      expect(subject.tags).to eq(%w[A B])
+    end
+
+    it 'does not convert members that are written first' do
+      subject.tags = ['c']
+      expect(subject.tags).to eq(['c'])
+    end
+
+    it 'converts remaining members when reading all members' do
+      expect(subject.to_h).to eq(name: 'name', tags: %w[A B])
+      expect(subject[:tags]).to eq(%w[A B])
+      expect(lazy.new.defer('tags' => ['c']).each_pair.to_a)
+        .to eq([[:name, nil], [:tags, ['C']]])
+    end
+
+    describe '#materialize!' do
+      it 'converts all members and releases the map' do
+        subject.materialize!
+        expect(subject.instance_variable_get(:@lazy_map)).to be_nil
+        expect(subject.tags).to eq(%w[A B])
+      end
+    end
+
+    describe '#==' do
+      it 'compares members with the generated type' do
+        expect(subject).to eq(type.new(name: 'name', tags: %w[A B]))
+        expect(subject).not_to eq(type.new(name: 'name'))
+        other = lazy.new.defer('tags' => %w[a b])
+        other.name = 'name'
+        expect(subject).to eq(other)
+      end
+    end
+
+    describe '#hash' do
+      it 'is equal for equal structures before they are converted' do
+        other = lazy.new.defer('name' => 'name', 'tags' => %w[a b])
+        other.name = 'name'
+        expect(subject.hash).to eq(other.hash)
+      end
+    end
+
+    describe '#eql?' do
+      it 'converts both structures before comparing' do
+        other = lazy.new.defer('tags' => %w[a b])
+        other.name = 'name'
+        expect(subject).to eql(other)
+        expect([subject, other].uniq.size).to eq(1)
+      end
+    end
+
+    describe '#dup' do
+      it 'converts members of the copy independently' do
+        copy = subject.dup
+        expect(subject.tags).to eq(%w[A B])
+        expect(copy.tags).to eq(%w[A B])
+      end
+    end
+  end
+end
@@ -78,6 +78,32 @@ module Hearth
             expect(resp).to be output
             expect(resp.data).to eq data
           end
+
+          context 'context has an item handler' do
+            let(:item_handler) { proc { |item| item } }
+            let(:context) do
+              Context.new(
+                request: request,
+                response: response,
+                item_handler: item_handler
+              )
+            end
+
+            it 'passes the item handler to the data parser' do
+              expect(app).to receive(:call)
+                .with(input, context).ordered
+              expect(error_parser).to receive(:parse)
+                .with(response, metadata).ordered
+              expect(data_parser).to receive(:parse)
+                .with(response) do |_response, &block|
+                expect(block).to be(item_handler)
+                data
+              end
+
+              resp = subject.call(input, context)
+              expect(resp.data).to eq data
+            end
+          end
         end
       end
     end
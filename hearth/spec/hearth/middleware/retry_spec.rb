@@ -14,12 +14,9 @@ def handle_with_retry(test_cases, middleware_args = {})
   end
 
   i = 0
-  # The expectations need a reference to subject, but we cannot create it
-  # until we define the expectations proc.
-  subject = nil
   # The proc becomes the middleware's @app
   app = proc do |_input, context|
-    apply_expectations(subject, test_cases[i - 1]) if i > 0
+    apply_expectations(context, test_cases[i - 1]) if i > 0
 
     # Setup the next response
     output = setup_next_response(context, test_cases[i])
@@ -47,17 +44,17 @@ def handle_with_retry(test_cases, middleware_args = {})
   )
 
   # Handle has finished called. Apply final expectations.
-  apply_expectations(subject, test_cases[i - 1])
+  apply_expectations(context, test_cases[i - 1])
 end
 
-def apply_expectations(retry_class, test_case)
+def apply_expectations(context, test_case)
   expected = test_case[:expect]
 
   # Don't actually sleep
   allow(Kernel).to receive(:sleep)
 
   if expected[:retries]
-    expect(retry_class.instance_variable_get(:@retries))
+    expect(context.metadata[:retries])
       .to eq(expected[:retries])
   end
   if expected[:available_capacity]
@@ -247,6 +244,35 @@ module Hearth
 
           handle_with_retry(test_cases, middleware_args.merge(max_attempts: 5))
         end
+
+        it 'keeps retry state per request' do
+          allow(Kernel).to receive(:sleep)
+          statuses = [500, 200, 500, 500, 200]
+          app = proc do |_input, ctx|
+            ctx.response.status = statuses.shift
+            Hearth::Output.new(error: (error if ctx.response.status == 500))
+          end
+          middleware = Retry.new(
+            app,
+            **middleware_args,
+            error_inspector_class: Hearth::Retry::ErrorInspector,
+            retry_quota: retry_quota,
+            client_rate_limiter: client_rate_limiter
+          )
+          first = Hearth::Context.new(
+            request: Hearth::HTTP::Request.new,
+            response: Hearth::HTTP::Response.new
+          )
+          second = Hearth::Context.new(
+            request: Hearth::HTTP::Request.new,
+            response: Hearth::HTTP::Response.new
+          )
+
+          expect(middleware.call(input, first).error).to be_nil
+          expect(middleware.call(input, second).error).to be_nil
+          expect(first.metadata[:retries]).to eq(1)
+          expect(second.metadata[:retries]).to eq(2)
+        end
       end
 
       context 'adaptive mode' do
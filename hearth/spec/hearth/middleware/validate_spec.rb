@@ -18,7 +18,7 @@ module Hearth
 
       describe '#call' do
         let(:request) { Hearth::HTTP::Request.new }
-        let(:context) { {} }
+        let(:context) { Hearth::Context.new }
 
         context 'validate_input is true' do
           let(:validate_input) { true }
@@ -42,6 +42,18 @@ module Hearth
             subject.call(input, context)
           end
         end
+
+        context 'input was validated as it was built' do
+          let(:validate_input) { true }
+          let(:context) { Hearth::Context.new(input_validated: true) }
+
+          it 'calls the next middleware' do
+            expect(validator).not_to receive(:validate!)
+            expect(app).to receive(:call).with(input, context)
+
+            subject.call(input, context)
+          end
+        end
       end
     end
   end
@@ -132,6 +132,21 @@ module Hearth
       end
     end
 
+    describe '#version' do
+      it 'changes whenever a handler is registered or removed' do
+        versions = [subject.version]
+        subject.before(middleware_class, handler)
+        versions << subject.version
+        subject.after(middleware_class, handler)
+        versions << subject.version
+        subject.around(middleware_class, handler)
+        versions << subject.version
+        subject.remove(middleware_class)
+        versions << subject.version
+        expect(versions.uniq.size).to eq(versions.size)
+      end
+    end
+
     describe '.before' do
       it 'adds the handler to the middleware list with a RequestHandler' do
         builder = MiddlewareBuilder.before(middleware_class, handler)
@@ -111,6 +111,20 @@ module Hearth
       end
     end
 
+    describe '#starts_with?' do
+      it 'returns true for the first middleware' do
+        subject.use(build_middleware, **builder_params)
+        subject.use(parse_middleware, **parser_params)
+
+        expect(subject.starts_with?(build_middleware)).to be(true)
+        expect(subject.starts_with?(parse_middleware)).to be(false)
+      end
+
+      it 'returns false for an empty stack' do
+        expect(subject.starts_with?(build_middleware)).to be(false)
+      end
+    end
+
     describe '#run' do
       let(:parser) { double('parser') }
       let(:builder) { double('builder') }
@@ -130,5 +144,33 @@ module Hearth
         subject.run(input: input, context: context)
       end
     end
+
+    describe '#freeze' do
+      let(:builder) { double('builder') }
+      let(:input) { double('input') }
+      let(:context) { double('context') }
+
+      before { subject.use(build_middleware, **builder_params) }
+
+      it 'builds the middleware once and reuses it for every run' do
+        expect(build_middleware).to receive(:new)
+          .with(nil, builder_params).once.and_return(builder)
+        expect(builder).to receive(:call).twice
+
+        subject.freeze
+        subject.run(input: input, context: context)
+        subject.run(input: input, context: context)
+      end
+
+      it 'prevents changes to the stack' do
+        subject.freeze
+        expect do
+          subject.use(parse_middleware, **parser_params)
+        end.to raise_error(FrozenError)
+        expect do
+          subject.remove(build_middleware)
+        end.to raise_error(FrozenError)
+      end
+    end
   end
 end
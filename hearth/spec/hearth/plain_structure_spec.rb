@@ -0,0 +1,178 @@
+# frozen_string_literal: true
+
+module Hearth
+  describe PlainStructure do
+    let(:klass) do
+      Class.new do
+        include Hearth::PlainStructure
+
+        const_set(:MEMBERS, %i[name age].freeze)
+
+        attr_accessor :name, :age
+
+        def initialize(name: nil, age: nil)
+          @name = name
+          @age = age
+        end
+
+        def self.name
+          'Person'
+        end
+      end
+    end
+
+    let(:lazy_klass) do
+      Class.new(klass) do
+        include Hearth::LazyStructure
+
+        const_set(:LAZY_MEMBERS, %i[age].freeze)
+
+        def age
+          @age = @lazy_map.delete('age') if @lazy_map&.key?('age')
+          super
+        end
+      end
+    end
+
+    subject { klass.new(name: 'name', age: 1) }
+
+    it 'is a hearth structure' do
+      expect(subject).to be_a(Hearth::Structure)
+    end
+
+    describe '#members' do
+      it 'returns the member names' do
+        expect(subject.members).to eq(%i[name age])
+      end
+    end
+
+    describe '#[]' do
+      it 'reads members by symbol, string or index' do
+        expect(subject[:name]).to eq('name')
+        expect(subject['age']).to eq(1)
+        expect(subject[1]).to eq(1)
+      end
+
+      it 'raises for unknown members' do
+        expect { subject[:foo] }
+          .to raise_error(NameError, "no member 'foo' in struct")
+        expect { subject[:freeze] }.to raise_error(NameError)
+      end
+    end
+
+    describe '#[]=' do
+      it 'sets members' do
+        subject[:name] = 'other'
+        expect(subject.name).to eq('other')
+      end
+    end
+
+    describe '#each_pair' do
+      it 'yields members and values' do
+        expect(subject.each_pair.to_a).to eq([[:name, 'name'], [:age, 1]])
+      end
+    end
+
+    describe '#each' do
+      it 'yields values' do
+        expect(subject.each.to_a).to eq(['name', 1])
+      end
+    end
+
+    describe '#to_a' do
+      it 'returns the values' do
+        expect(subject.to_a).to eq(['name', 1])
+        expect(subject.values).to eq(['name', 1])
+        expect(subject.deconstruct).to eq(['name', 1])
+      end
+    end
+
+    describe '#deconstruct_keys' do
+      it 'returns the given members' do
+        expect(subject.deconstruct_keys(%i[age])).to eq(age: 1)
+        expect(subject.deconstruct_keys(nil)).to eq(name: 'name', age: 1)
+      end
+
+      it 'stops at the first unknown member' do
+        expect(subject.deconstruct_keys(%i[age foo name])).to eq(age: 1)
+      end
+
+      it 'supports pattern matching' do
+        matched =
+          case subject
+          in { name: String => name, age: 1 } then name
+          end
+        expect(matched).to eq('name')
+      end
+    end
+
+    describe '#dig' do
+      it 'digs into members' do
+        subject.name = { list: [1, 2] }
+        expect(subject.dig(:name, :list, 1)).to eq(2)
+        expect(subject.dig(0, :list, 0)).to eq(1)
+      end
+
+      it 'returns nil for unknown or nil members' do
+        expect(subject.dig(:foo)).to be_nil
+        expect(subject.dig(5)).to be_nil
+        expect(klass.new.dig(:name, :list)).to be_nil
+      end
+    end
+
+    describe '#==' do
+      it 'compares members' do
+        expect(subject).to eq(klass.new(name: 'name', age: 1))
+        expect(subject).not_to eq(klass.new(name: 'name'))
+        expect(subject).not_to eq(name: 'name', age: 1)
+      end
+
+      it 'is symmetric with lazily parsed types' do
+        lazy = lazy_klass.new(name: 'name').defer('age' => 1)
+        expect(subject == lazy).to be(true)
+        expect(lazy == subject).to be(true)
+      end
+
+      it 'is symmetric with other subclasses' do
+        other = Class.new(klass).new(name: 'name', age: 1)
+        expect(subject == other).to be(false)
+        expect(other == subject).to be(false)
+      end
+    end
+
+    describe '#eql?' do
+      it 'compares members with eql?' do
+        expect(subject).to eql(klass.new(name: 'name', age: 1))
+        expect(subject).not_to eql(klass.new(name: 'name', age: 1.0))
+      end
+
+      it 'is symmetric with lazily parsed types' do
+        lazy = lazy_klass.new(name: 'name').defer('age' => 1)
+        expect(subject.eql?(lazy)).to be(true)
+        expect(lazy.eql?(subject)).to be(true)
+      end
+    end
+
+    describe '#hash' do
+      it 'is equal for eql? types' do
+        lazy = lazy_klass.new(name: 'name').defer('age' => 1)
+        expect(subject.hash).to eq(klass.new(name: 'name', age: 1).hash)
+        expect(subject.hash).to eq(lazy.hash)
+        expect({ subject => true }[lazy]).to be(true)
+      end
+    end
+
+    describe '#to_h' do
+      it 'converts members, omitting nil' do
+        expect(klass.new(name: 'name').to_h).to eq(name: 'name')
+      end
+    end
+
+    describe '#to_s' do
+      it 'formats like a struct' do
+        expect(subject.to_s).to eq('#<struct Person name="name", age=1>')
+        expect(subject.inspect).to eq(subject.to_s)
+      end
+    end
+  end
+end
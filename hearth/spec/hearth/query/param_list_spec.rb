@@ -67,6 +67,21 @@ module Hearth
           p2 = subject.set('name1', 'value')
           expect(subject.to_a).to eq([p2, p1])
         end
+
+        it 'reflects params set or deleted after it was called' do
+          p1 = subject.set('name2')
+          expect(subject.to_a).to eq([p1])
+          p2 = subject.set('name1', 'value')
+          expect(subject.to_a).to eq([p2, p1])
+          subject.delete('name2')
+          expect(subject.to_a).to eq([p2])
+        end
+
+        it 'returns a copy' do
+          subject.set('name')
+          subject.to_a.clear
+          expect(subject.to_a.size).to eq(1)
+        end
       end
 
       describe '#to_s' do
@@ -60,6 +60,26 @@ module Hearth
         }
         expect(subject.to_h).to eq expected
       end
+
+      it 'uses the to_h defined by nested structures' do
+        specialized = Struct.new(:value, keyword_init: true) do
+          include Hearth::Structure
+
+          def to_h
+            { specialized: value }
+          end
+        end
+        subject.array_value = [specialized.new(value: 'foo')]
+        subject.hash_value = { key: specialized.new(value: 'bar') }
+
+        expect(subject.to_h[:array_value]).to eq([{ specialized: 'foo' }])
+        expect(subject.to_h[:hash_value]).to eq(key: { specialized: 'bar' })
+      end
+
+      it 'converts a given value' do
+        expect(subject.to_h([struct.new(value: 'foo')]))
+          .to eq([{ value: 'foo' }])
+      end
     end
   end
 end
@@ -21,5 +21,83 @@ module Hearth
         expect(subject.to_http_date(time)).to eq 'Thu, 01 Jan 1970 00:00:00 GMT'
       end
     end
+
+    describe '.from_date_time' do
+      it 'parses a UTC date time' do
+        expect(subject.from_date_time('2019-12-16T23:48:18Z'))
+          .to eq Time.utc(2019, 12, 16, 23, 48, 18)
+      end
+
+      it 'parses fractional seconds exactly' do
+        time = subject.from_date_time('2019-12-16T23:48:18.123456789Z')
+        expect(time.nsec).to eq 123_456_789
+        expect(time).to be_utc
+      end
+
+      it 'parses a date time with an offset' do
+        time = subject.from_date_time('2019-12-17T01:48:18+02:00')
+        expect(time).to eq Time.utc(2019, 12, 16, 23, 48, 18)
+        expect(time.utc_offset).to eq 7200
+      end
+
+      it 'falls back to Time.parse for other formats' do
+        expect(subject.from_date_time('2019-12-16 23:48:18 UTC'))
+          .to eq Time.utc(2019, 12, 16, 23, 48, 18)
+      end
+
+      it 'raises for an invalid date' do
+        expect { subject.from_date_time('2019-13-16T23:48:18Z') }
+          .to raise_error(ArgumentError)
+      end
+    end
+
+    describe '.from_epoch_seconds' do
+      it 'converts integers' do
+        expect(subject.from_epoch_seconds(1_576_540_098))
+          .to eq Time.utc(2019, 12, 16, 23, 48, 18)
+      end
+
+      it 'converts floats with millisecond precision' do
+        time = subject.from_epoch_seconds(1_576_540_098.123)
+        expect(time.to_i).to eq 1_576_540_098
+        expect(time.nsec).to eq 123_000_000
+      end
+
+      it 'converts negative floats' do
+        expect(subject.from_epoch_seconds(-1.5).to_r).to eq(-1.5r)
+      end
+
+      it 'converts strings' do
+        expect(subject.from_epoch_seconds('1576540098'))
+          .to eq Time.utc(2019, 12, 16, 23, 48, 18)
+        expect(subject.from_epoch_seconds('1576540098.5').to_r)
+          .to eq 1_576_540_098.5r
+      end
+
+      it 'converts strings with an exponent' do
+        expect(subject.from_epoch_seconds('1.5e9'))
+          .to eq Time.at(1_500_000_000)
+        expect(subject.from_epoch_seconds('1.5765400985E9').to_r)
+          .to eq 1_576_540_098.5r
+        expect(subject.from_epoch_seconds('15e-1').to_r).to eq 1.5r
+      end
+
+      it 'raises for invalid strings' do
+        expect { subject.from_epoch_seconds('1.5e') }
+          .to raise_error(ArgumentError)
+      end
+    end
+
+    describe '.from_http_date' do
+      it 'parses an IMF-fixdate' do
+        expect(subject.from_http_date('Mon, 16 Dec 2019 23:48:18 GMT'))
+          .to eq Time.utc(2019, 12, 16, 23, 48, 18)
+      end
+
+      it 'falls back to Time.parse for obsolete formats' do
+        expect(subject.from_http_date('Monday, 16-Dec-19 23:48:18 GMT'))
+          .to eq Time.utc(2019, 12, 16, 23, 48, 18)
+      end
+    end
   end
 end
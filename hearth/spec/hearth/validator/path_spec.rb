@@ -0,0 +1,38 @@
+# frozen_string_literal: true
+
+module Hearth
+  module Validator
+    describe Path do
+      describe '#to_s' do
+        it 'formats member names and map keys as symbols' do
+          expect(Path.new('input', :foo).to_s).to eq('input[:foo]')
+          expect(Path.new('input', 'key').to_s).to eq('input[:key]')
+        end
+
+        it 'formats list indexes' do
+          expect(Path.new('input', 1).to_s).to eq('input[1]')
+        end
+
+        it 'formats map keys' do
+          expect(Path.new('input').to_s).to eq('input.keys')
+        end
+
+        it 'formats nested paths' do
+          path = Path.new(Path.new(Path.new('input', :list), 0), :foo)
+          expect(path.to_s).to eq('input[:list][0][:foo]')
+        end
+
+        it 'is formatted in error messages' do
+          expect do
+            Validator.validate_types!(
+              1, String, context: Path.new('input', :foo)
+            )
+          end.to raise_error(
+            ArgumentError,
+            'Expected input[:foo] to be in [String], got Integer.'
+          )
+        end
+      end
+    end
+  end
+end
@@ -0,0 +1,110 @@
+# frozen_string_literal: true
+
+module Hearth
+  module Waiters
+    describe PathHelper do
+      describe '.project' do
+        it 'maps items and drops nil results' do
+          expect(subject.project([1, 2, 3]) { |v| v * 2 unless v == 2 })
+            .to eq([2, 6])
+        end
+
+        it 'keeps false results' do
+          expect(subject.project([1, 2], &:even?)).to eq([false, true])
+        end
+
+        it 'returns nil for values that are not lists' do
+          expect(subject.project(nil) { |v| v }).to be_nil
+          expect(subject.project({ 'a' => 1 }) { |v| v }).to be_nil
+        end
+      end
+
+      describe '.filter' do
+        it 'selects truthy items' do
+          expect(subject.filter(['a', '', 'b']) { |v| v }).to eq(%w[a b])
+        end
+
+        it 'returns nil for values that are not lists' do
+          expect(subject.filter('a') { |v| v }).to be_nil
+        end
+      end
+
+      describe '.flatten' do
+        it 'flattens one level' do
+          expect(subject.flatten([1, [2, [3]]])).to eq([1, 2, [3]])
+        end
+
+        it 'returns nil for values that are not lists' do
+          expect(subject.flatten(nil)).to be_nil
+        end
+      end
+
+      describe '.truthy?' do
+        it 'follows JMESPath truthiness' do
+          [nil, false, '', [], {}].each do |value|
+            expect(subject.truthy?(value)).to be(false)
+          end
+          [true, 0, 'a', [nil], { 'a' => nil }].each do |value|
+            expect(subject.truthy?(value)).to be(true)
+          end
+        end
+      end
+
+      describe '.and_then' do
+        it 'returns the falsey left value' do
+          expect(subject.and_then('') { 'right' }).to eq('')
+        end
+
+        it 'returns the right value when the left is truthy' do
+          expect(subject.and_then('left') { 'right' }).to eq('right')
+        end
+      end
+
+      describe '.or_else' do
+        it 'returns the truthy left value' do
+          expect(subject.or_else('left') { 'right' }).to eq('left')
+        end
+
+        it 'returns the right value when the left is falsey' do
+          expect(subject.or_else(nil) { 'right' }).to eq('right')
+        end
+      end
+
+      describe '.compare' do
+        it 'compares numbers' do
+          expect(subject.compare(1, :<, 2.5)).to be(true)
+          expect(subject.compare(2, :>=, 3)).to be(false)
+        end
+
+        it 'returns nil unless both values are numbers' do
+          expect(subject.compare('a', :<, 'b')).to be_nil
+          expect(subject.compare(nil, :<, 1)).to be_nil
+        end
+      end
+
+      describe '.length' do
+        it 'returns the size of strings, lists and hashes' do
+          expect(subject.length('abc')).to eq(3)
+          expect(subject.length([1, 2])).to eq(2)
+          expect(subject.length({ 'a' => 1 })).to eq(1)
+        end
+
+        it 'returns nil for other values' do
+          expect(subject.length(nil)).to be_nil
+        end
+      end
+
+      describe '.contains' do
+        it 'searches lists and strings' do
+          expect(subject.contains(%w[a b], 'b')).to be(true)
+          expect(subject.contains('abc', 'bc')).to be(true)
+          expect(subject.contains('abc', 1)).to be(false)
+        end
+
+        it 'returns nil for other values' do
+          expect(subject.contains(nil, 'a')).to be_nil
+        end
+      end
+    end
+  end
+end
@@ -310,6 +310,50 @@ module Hearth
           end
         end
 
+        context 'compiled paths' do
+          let(:acceptors) do
+            [
+              {
+                state: 'failure',
+                matcher: {
+                  inputOutput: {
+                    path: ->(input, output) { input.string == output.boolean },
+                    expected: 'true',
+                    comparator: 'booleanEquals'
+                  }
+                }
+              },
+              {
+                state: 'success',
+                matcher: {
+                  output: {
+                    path: ->(output) { output&.any_string },
+                    expected: 'foo',
+                    comparator: 'anyStringEquals'
+                  }
+                }
+              }
+            ]
+          end
+
+          it 'calls path lambdas with the input and output' do
+            expect(client).to receive(:test_operation)
+              .with({}, { middleware: input_output_middleware })
+              .and_return(struct)
+
+            expect(subject.call(client, {}, {})).to eq [:success, struct]
+          end
+
+          it 'calls path lambdas with the data of an output' do
+            output = Hearth::Output.new(data: struct)
+            expect(client).to receive(:test_operation)
+              .with({}, { middleware: input_output_middleware })
+              .and_return(output)
+
+            expect(subject.call(client, {}, {})).to eq [:success, output]
+          end
+        end
+
         context 'multiple matchers' do
           let(:acceptors) do
             [